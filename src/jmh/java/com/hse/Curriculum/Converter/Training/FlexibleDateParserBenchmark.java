@@ -0,0 +1,89 @@
+package com.hse.Curriculum.Converter.Training;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FlexibleDateParser frente al deserializador anterior, que probaba cada formato en orden
+ * y descartaba los que no coincidían capturando DateTimeParseException
+ *
+ * Casos: ISO (antes costaba dos excepciones), día/mes, mes/día, compacto, nombre de mes
+ * y entradas inválidas, con letras y solo dígitos (antes recorrían los doce formatos).
+ *
+ * Ejecutar: mvn -Pjmh test-compile exec:exec -Djmh.args="FlexibleDateParserBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlexibleDateParserBenchmark {
+
+    @Param({"2024-12-25", "25/12/2024", "12/25/2024", "25122024", "25 Dec 2024", "fecha-invalida", "99/99/9999"})
+    public String input;
+
+    @Benchmark
+    public LocalDate singlePass() {
+        return FlexibleDateParser.parse(input);
+    }
+
+    @Benchmark
+    public LocalDate tryEachFormat() {
+        return LegacyParser.parse(input);
+    }
+
+    /**
+     * Copia de la lógica de FlexibleDateDeserializer antes del cambio a FlexibleDateParser
+     */
+    static final class LegacyParser {
+
+        private static final List<DateTimeFormatter> FORMATTERS = Arrays.asList(
+                DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+                DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+                DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+                DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+                DateTimeFormatter.ofPattern("dd.MM.yyyy"),
+                DateTimeFormatter.ofPattern("ddMMyyyy"),
+                DateTimeFormatter.ofPattern("yyyyMMdd"),
+                DateTimeFormatter.ofPattern("dd MMM yyyy"),
+                DateTimeFormatter.ofPattern("dd MMMM yyyy"),
+                DateTimeFormatter.ofPattern("MM/dd/yyyy"),
+                DateTimeFormatter.ofPattern("MM-dd-yyyy"),
+                DateTimeFormatter.ISO_LOCAL_DATE
+        );
+
+        private LegacyParser() {
+        }
+
+        static LocalDate parse(String text) {
+            String dateString = text.trim();
+            if (dateString.isEmpty()) {
+                return null;
+            }
+            for (DateTimeFormatter formatter : FORMATTERS) {
+                try {
+                    return LocalDate.parse(dateString, formatter);
+                } catch (DateTimeParseException e) {
+                    // Continuar con el siguiente formato
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.hse.Curriculum.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Habilita los listeners asíncronos (@Async)
+ *
+ * Los índices en memoria (candidatos, candidatos similares, facetas y búsqueda) se actualizan
+ * después del commit en este executor para no alargar la petición que hizo la escritura.
+ * Un solo hilo procesa los eventos en el orden en que se confirmaron; cada actualización lee
+ * el estado vigente de la base de datos, así que la última siempre deja el índice al día.
+ * Si la cola se llena, el hilo que publica el evento hace la actualización él mismo.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Executor de los listeners que actualizan índices en memoria
+     */
+    public static final String INDEX_REFRESH_EXECUTOR = "indexRefreshExecutor";
+
+    @Bean(name = INDEX_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor indexRefreshExecutor(@Value("${app.index-refresh.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("index-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
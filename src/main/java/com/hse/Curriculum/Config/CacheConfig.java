@@ -0,0 +1,38 @@
+package com.hse.Curriculum.Config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Habilita la caché de Spring (@Cacheable / @CacheEvict)
+ *
+ * Las claves incluyen rangos de fechas arbitrarios enviados por el cliente, por lo que la
+ * caché es Caffeine con tamaño máximo (desalojo por frecuencia de uso) y expiración por tiempo;
+ * solo existen las cachés declaradas aquí.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Agregaciones de horas de capacitación (se invalida con cada escritura de capacitaciones)
+     */
+    public static final String TRAINING_HOURS_CACHE = "trainingHours";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.training-hours.cache-max-entries:500}") long maxEntries,
+                                     @Value("${app.training-hours.cache-ttl-minutes:30}") long ttlMinutes) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TRAINING_HOURS_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes)));
+        return cacheManager;
+    }
+}
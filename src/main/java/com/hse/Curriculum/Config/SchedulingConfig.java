@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (@Scheduled)
+ * Ej: escaneo diario de vencimiento de certificaciones
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,12 @@
 package com.hse.Curriculum.Config;
 
 import com.hse.Curriculum.Security.JwtAuthenticationFilter;
+import com.hse.Curriculum.Security.RolePermissionEvaluator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -67,6 +70,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Habilita hasPermission(...) en @PreAuthorize con los permisos compilados por rol
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(RolePermissionEvaluator permissionEvaluator) {
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(permissionEvaluator);
+        return handler;
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -7,7 +7,6 @@ import com.hse.Curriculum.Models.Users;
 import com.hse.Curriculum.Service.AuditService;
 import com.hse.Curriculum.Service.ProfilesService;
 import com.hse.Curriculum.Service.UsersService;
-import com.hse.Curriculum.Exception.Users.UnauthorizedRoleException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,6 +18,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -29,7 +29,7 @@ import java.util.stream.Collectors;
 /**
  * Controlador para gestión de usuarios por parte del Administrador
  *
- * REQUIERE ROL: ADMIN
+ * REQUIERE PERMISO: USERS_MANAGE
  *
  * Funcionalidades:
  * - Crear usuarios con rol y cargo asignado
@@ -43,6 +43,7 @@ import java.util.stream.Collectors;
  */
 
 @RestController
+@PreAuthorize("hasPermission(null, 'USERS_MANAGE')")
 @RequestMapping("admin/users")
 @Tag(name = "Admin - User Management", description = "Gestión completa de usuarios (solo Admin)")
 @RequiredArgsConstructor
@@ -54,23 +55,12 @@ public class AdminUsersController {
     private final AuditService auditService;
 
     /**
-     * Validar que el usuario autenticado sea Admin
+     * Usuario autenticado (el permiso lo valida @PreAuthorize)
      */
-    private Users validateAdminUser() {
+    private Users getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String authenticatedEmail = authentication.getName();
-
-        Users authenticatedUser = usersService.findByEmail(authenticatedEmail)
+        return usersService.findByEmail(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
-
-        if (!authenticatedUser.isAdmin()) {
-            throw new UnauthorizedRoleException(
-                    "Esta acción requiere rol ADMIN pero el usuario tiene rol " +
-                            authenticatedUser.getRole().getName()
-            );
-        }
-
-        return authenticatedUser;
     }
 
     // ==================== CREATE ====================
@@ -86,15 +76,15 @@ public class AdminUsersController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Usuario creado exitosamente"),
             @ApiResponse(responseCode = "400", description = "Datos inválidos"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - requiere rol Admin"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso USERS_MANAGE"),
             @ApiResponse(responseCode = "409", description = "Email ya registrado")
     })
     public ResponseEntity<ApiResponseDTO<UserDetailResponseDTO>> createUser(
             @Valid @RequestBody UserCreateByAdminDTO createDTO,
             HttpServletRequest request) {
         try {
-            // 1. Validar que sea Admin
-            Users adminUser = validateAdminUser();
+            // Usuario autenticado para la auditoría (el permiso lo valida @PreAuthorize)
+            Users adminUser = getAuthenticatedUser();
 
             // 2. Crear usuario
             Users newUser = usersService.createUserByAdmin(createDTO);
@@ -143,13 +133,6 @@ public class AdminUsersController {
                     )
             );
 
-        } catch (UnauthorizedRoleException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    ApiResponseDTO.error(
-                            e.getMessage(),
-                            HttpStatus.FORBIDDEN.value()
-                    )
-            );
         } catch (RuntimeException e) {
             if (e.getMessage() != null && e.getMessage().contains("email")) {
                 return ResponseEntity.status(HttpStatus.CONFLICT).body(
@@ -188,9 +171,6 @@ public class AdminUsersController {
             @Parameter(description = "ID del usuario", example = "1")
             @PathVariable Integer id) {
         try {
-            // Validar Admin
-            validateAdminUser();
-
             // Buscar usuario
             Users user = usersService.getById(id);
             UserDetailResponseDTO response = new UserDetailResponseDTO(user);
@@ -203,13 +183,6 @@ public class AdminUsersController {
                     )
             );
 
-        } catch (UnauthorizedRoleException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    ApiResponseDTO.error(
-                            e.getMessage(),
-                            HttpStatus.FORBIDDEN.value()
-                    )
-            );
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                     ApiResponseDTO.error(
@@ -233,31 +206,18 @@ public class AdminUsersController {
             @ApiResponse(responseCode = "403", description = "No autorizado")
     })
     public ResponseEntity<ApiResponseDTO<List<UserListResponseDTO>>> getAllUsers() {
-        try {
-            // Validar Admin
-            validateAdminUser();
-
-            // Obtener usuarios
-            List<UserListResponseDTO> users = usersService.getAllUsers().stream()
-                    .map(UserListResponseDTO::new)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(
-                    ApiResponseDTO.success(
-                            "Usuarios obtenidos exitosamente",
-                            HttpStatus.OK.value(),
-                            users
-                    )
-            );
-
-        } catch (UnauthorizedRoleException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    ApiResponseDTO.error(
-                            e.getMessage(),
-                            HttpStatus.FORBIDDEN.value()
-                    )
-            );
-        }
+        // Obtener usuarios
+        List<UserListResponseDTO> users = usersService.getAllUsers().stream()
+                .map(UserListResponseDTO::new)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Usuarios obtenidos exitosamente",
+                        HttpStatus.OK.value(),
+                        users
+                )
+        );
     }
 
     /**
@@ -273,31 +233,18 @@ public class AdminUsersController {
             @ApiResponse(responseCode = "403", description = "No autorizado")
     })
     public ResponseEntity<ApiResponseDTO<List<UserListResponseDTO>>> getActiveUsers() {
-        try {
-            // Validar Admin
-            validateAdminUser();
-
-            // Obtener usuarios activos
-            List<UserListResponseDTO> users = usersService.getActiveUsers().stream()
-                    .map(UserListResponseDTO::new)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(
-                    ApiResponseDTO.success(
-                            "Usuarios activos obtenidos exitosamente",
-                            HttpStatus.OK.value(),
-                            users
-                    )
-            );
-
-        } catch (UnauthorizedRoleException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    ApiResponseDTO.error(
-                            e.getMessage(),
-                            HttpStatus.FORBIDDEN.value()
-                    )
-            );
-        }
+        // Obtener usuarios activos
+        List<UserListResponseDTO> users = usersService.getActiveUsers().stream()
+                .map(UserListResponseDTO::new)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Usuarios activos obtenidos exitosamente",
+                        HttpStatus.OK.value(),
+                        users
+                )
+        );
     }
 
     /**
@@ -315,31 +262,18 @@ public class AdminUsersController {
     public ResponseEntity<ApiResponseDTO<List<UserListResponseDTO>>> getUsersByRole(
             @Parameter(description = "ID del rol", example = "1")
             @PathVariable Integer roleId) {
-        try {
-            // Validar Admin
-            validateAdminUser();
-
-            // Obtener usuarios por rol
-            List<UserListResponseDTO> users = usersService.getUsersByRole(roleId).stream()
-                    .map(UserListResponseDTO::new)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(
-                    ApiResponseDTO.success(
-                            "Usuarios obtenidos exitosamente",
-                            HttpStatus.OK.value(),
-                            users
-                    )
-            );
-
-        } catch (UnauthorizedRoleException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    ApiResponseDTO.error(
-                            e.getMessage(),
-                            HttpStatus.FORBIDDEN.value()
-                    )
-            );
-        }
+        // Obtener usuarios por rol
+        List<UserListResponseDTO> users = usersService.getUsersByRole(roleId).stream()
+                .map(UserListResponseDTO::new)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Usuarios obtenidos exitosamente",
+                        HttpStatus.OK.value(),
+                        users
+                )
+        );
     }
 
 
@@ -367,8 +301,8 @@ public class AdminUsersController {
             @Valid @RequestBody UserUpdateByAdminDTO updateDTO,
             HttpServletRequest request) {
         try {
-            // 1. Validar Admin
-            Users adminUser = validateAdminUser();
+            // Usuario autenticado para la auditoría (el permiso lo valida @PreAuthorize)
+            Users adminUser = getAuthenticatedUser();
 
             // 2. Obtener estado anterior para auditoría
             Users oldUser = usersService.getById(id);
@@ -401,13 +335,6 @@ public class AdminUsersController {
                     )
             );
 
-        } catch (UnauthorizedRoleException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    ApiResponseDTO.error(
-                            e.getMessage(),
-                            HttpStatus.FORBIDDEN.value()
-                    )
-            );
         } catch (RuntimeException e) {
             if (e.getMessage().contains("no encontrado")) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
@@ -453,8 +380,8 @@ public class AdminUsersController {
             @PathVariable Integer id,
             HttpServletRequest request) {
         try {
-            // 1. Validar Admin
-            Users adminUser = validateAdminUser();
+            // Usuario autenticado para la auditoría (el permiso lo valida @PreAuthorize)
+            Users adminUser = getAuthenticatedUser();
 
             // 2. Deshabilitar
             usersService.disableUser(id);
@@ -481,13 +408,6 @@ public class AdminUsersController {
                     )
             );
 
-        } catch (UnauthorizedRoleException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    ApiResponseDTO.error(
-                            e.getMessage(),
-                            HttpStatus.FORBIDDEN.value()
-                    )
-            );
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
                     ApiResponseDTO.error(
@@ -516,8 +436,8 @@ public class AdminUsersController {
             @PathVariable Integer id,
             HttpServletRequest request) {
         try {
-            // 1. Validar Admin
-            Users adminUser = validateAdminUser();
+            // Usuario autenticado para la auditoría (el permiso lo valida @PreAuthorize)
+            Users adminUser = getAuthenticatedUser();
 
             // 2. Habilitar
             usersService.enableUser(id);
@@ -544,13 +464,6 @@ public class AdminUsersController {
                     )
             );
 
-        } catch (UnauthorizedRoleException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    ApiResponseDTO.error(
-                            e.getMessage(),
-                            HttpStatus.FORBIDDEN.value()
-                    )
-            );
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
                     ApiResponseDTO.error(
@@ -0,0 +1,352 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.AttachmentDTO.AttachmentResponseDTO;
+import com.hse.Curriculum.Enum.PermissionEnum;
+import com.hse.Curriculum.Exception.Attachment.AttachmentNotFoundException;
+import com.hse.Curriculum.Exception.Attachment.InvalidAttachmentException;
+import com.hse.Curriculum.Exception.Attachment.InvalidRangeException;
+import com.hse.Curriculum.Exception.Attachment.UnauthorizedAttachmentAccessException;
+import com.hse.Curriculum.Exception.Education.EducationNotFoundException;
+import com.hse.Curriculum.Exception.Training.TrainingNotFoundException;
+import com.hse.Curriculum.Models.Attachment;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Security.RolePermissionEvaluator;
+import com.hse.Curriculum.Service.AttachmentService;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Controlador REST para los certificados adjuntos de capacitaciones y educación
+ * El propietario del registro puede ver y modificar sus adjuntos; sobre registros ajenos
+ * ver requiere el permiso CURRICULUM_VIEW_ALL y cargar o eliminar CURRICULUM_EDIT_ALL
+ *
+ * Formatos permitidos: PDF, PNG y JPEG
+ */
+@RestController
+@Tag(name = "Attachments", description = "Certificados adjuntos a capacitaciones y educación")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+    private final RolePermissionEvaluator rolePermissionEvaluator;
+
+    /**
+     * POST - Adjuntar certificado a una capacitación
+     */
+    @PostMapping(value = "/trainings/{trainingId}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Adjuntar certificado a una capacitación",
+            description = "Si el mismo archivo ya está adjunto se devuelve el registro existente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Certificado adjuntado"),
+            @ApiResponse(responseCode = "400", description = "Archivo inválido"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos sobre el registro"),
+            @ApiResponse(responseCode = "404", description = "Capacitación no encontrada")
+    })
+    public ResponseEntity<ApiResponseDTO<AttachmentResponseDTO>> attachToTraining(
+            @Parameter(description = "ID de la capacitación")
+            @PathVariable Integer trainingId,
+            @RequestParam("file") MultipartFile file,
+            HttpServletRequest request) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            AttachmentResponseDTO response = attachmentService.attachToTraining(
+                    trainingId, authenticatedUser.getUserId(), canEditOthers(), file);
+
+            logUpload(authenticatedUser, response, request);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(
+                    ApiResponseDTO.success("Certificado adjuntado exitosamente", HttpStatus.CREATED.value(), response)
+            );
+
+        } catch (InvalidAttachmentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        } catch (UnauthorizedAttachmentAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.FORBIDDEN.value())
+            );
+        } catch (TrainingNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Adjuntar certificado a un registro de educación
+     */
+    @PostMapping(value = "/education/{educationId}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Adjuntar certificado a un registro de educación",
+            description = "Si el mismo archivo ya está adjunto se devuelve el registro existente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Certificado adjuntado"),
+            @ApiResponse(responseCode = "400", description = "Archivo inválido"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos sobre el registro"),
+            @ApiResponse(responseCode = "404", description = "Registro de educación no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<AttachmentResponseDTO>> attachToEducation(
+            @Parameter(description = "ID del registro de educación")
+            @PathVariable Integer educationId,
+            @RequestParam("file") MultipartFile file,
+            HttpServletRequest request) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            AttachmentResponseDTO response = attachmentService.attachToEducation(
+                    educationId, authenticatedUser.getUserId(), canEditOthers(), file);
+
+            logUpload(authenticatedUser, response, request);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(
+                    ApiResponseDTO.success("Certificado adjuntado exitosamente", HttpStatus.CREATED.value(), response)
+            );
+
+        } catch (InvalidAttachmentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        } catch (UnauthorizedAttachmentAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.FORBIDDEN.value())
+            );
+        } catch (EducationNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Listar certificados de una capacitación
+     */
+    @GetMapping("/trainings/{trainingId}/attachments")
+    @Operation(summary = "Listar certificados de una capacitación")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Adjuntos obtenidos"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos sobre el registro"),
+            @ApiResponse(responseCode = "404", description = "Capacitación no encontrada")
+    })
+    public ResponseEntity<ApiResponseDTO<List<AttachmentResponseDTO>>> getTrainingAttachments(
+            @Parameter(description = "ID de la capacitación")
+            @PathVariable Integer trainingId) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Adjuntos obtenidos exitosamente",
+                            HttpStatus.OK.value(),
+                            attachmentService.getTrainingAttachments(
+                                    trainingId, authenticatedUser.getUserId(), canViewOthers())
+                    )
+            );
+
+        } catch (UnauthorizedAttachmentAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.FORBIDDEN.value())
+            );
+        } catch (TrainingNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Listar certificados de un registro de educación
+     */
+    @GetMapping("/education/{educationId}/attachments")
+    @Operation(summary = "Listar certificados de un registro de educación")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Adjuntos obtenidos"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos sobre el registro"),
+            @ApiResponse(responseCode = "404", description = "Registro de educación no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<List<AttachmentResponseDTO>>> getEducationAttachments(
+            @Parameter(description = "ID del registro de educación")
+            @PathVariable Integer educationId) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Adjuntos obtenidos exitosamente",
+                            HttpStatus.OK.value(),
+                            attachmentService.getEducationAttachments(
+                                    educationId, authenticatedUser.getUserId(), canViewOthers())
+                    )
+            );
+
+        } catch (UnauthorizedAttachmentAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.FORBIDDEN.value())
+            );
+        } catch (EducationNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Descargar el contenido de un certificado
+     * El cuerpo se escribe directamente en la respuesta (sendfile o FileChannel.transferTo)
+     */
+    @RequestMapping(value = "/attachments/{attachmentId}/content", method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "Descargar certificado",
+            description = "Soporta descargas parciales con Range / If-Range y validación con If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archivo completo"),
+            @ApiResponse(responseCode = "206", description = "Rango parcial"),
+            @ApiResponse(responseCode = "304", description = "Sin cambios"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos sobre el registro"),
+            @ApiResponse(responseCode = "404", description = "Adjunto no encontrado"),
+            @ApiResponse(responseCode = "416", description = "Rango no válido")
+    })
+    public ResponseEntity<?> downloadContent(
+            @Parameter(description = "ID del adjunto")
+            @PathVariable Integer attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            Attachment attachment = attachmentService.getAttachmentForDownload(
+                    attachmentId, authenticatedUser.getUserId(), canViewOthers());
+            attachmentService.streamContent(attachment, request, response);
+
+            // La respuesta ya fue escrita
+            return null;
+
+        } catch (UnauthorizedAttachmentAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.FORBIDDEN.value())
+            );
+        } catch (AttachmentNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (InvalidRangeException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + e.getContentLength())
+                    .body(ApiResponseDTO.error(e.getMessage(), HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()));
+        }
+    }
+
+    /**
+     * DELETE - Eliminar un certificado adjunto
+     */
+    @DeleteMapping("/attachments/{attachmentId}")
+    @Operation(summary = "Eliminar certificado adjunto")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Adjunto eliminado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos sobre el registro"),
+            @ApiResponse(responseCode = "404", description = "Adjunto no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<Void>> deleteAttachment(
+            @Parameter(description = "ID del adjunto")
+            @PathVariable Integer attachmentId,
+            HttpServletRequest request) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            attachmentService.deleteAttachment(
+                    attachmentId, authenticatedUser.getUserId(), canEditOthers());
+
+            auditService.logAction(
+                    authenticatedUser.getUserId(),
+                    authenticatedUser.getEmail(),
+                    authenticatedUser.getFirstName() + " " + authenticatedUser.getLastName(),
+                    "attachments",
+                    attachmentId,
+                    AuditLog.AuditAction.DELETE,
+                    null,
+                    null,
+                    "Eliminación de certificado adjunto",
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success("Adjunto eliminado exitosamente", HttpStatus.OK.value(), null)
+            );
+
+        } catch (UnauthorizedAttachmentAccessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.FORBIDDEN.value())
+            );
+        } catch (AttachmentNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    private void logUpload(Users authenticatedUser, AttachmentResponseDTO response, HttpServletRequest request) {
+        auditService.logAction(
+                authenticatedUser.getUserId(),
+                authenticatedUser.getEmail(),
+                authenticatedUser.getFirstName() + " " + authenticatedUser.getLastName(),
+                "attachments",
+                response.getAttachmentId(),
+                AuditLog.AuditAction.INSERT,
+                null,
+                response,
+                "Certificado adjuntado: " + response.getOriginalFilename(),
+                request
+        );
+    }
+
+    /**
+     * Helper para obtener el usuario autenticado desde el contexto de seguridad
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("Usuario no autenticado");
+        }
+
+        String email = authentication.getName();
+        return usersService.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+
+    /**
+     * Permiso para ver los adjuntos de registros ajenos
+     */
+    private boolean canViewOthers() {
+        return rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_VIEW_ALL);
+    }
+
+    /**
+     * Permiso para cargar o eliminar adjuntos de registros ajenos
+     */
+    private boolean canEditOthers() {
+        return rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_EDIT_ALL);
+    }
+}
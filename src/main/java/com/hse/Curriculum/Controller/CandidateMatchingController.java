@@ -0,0 +1,271 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.CandidateMatchDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.ChargeMatchProfileDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.ChargeMatchProfileResponseDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.MatchingRebuildDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.SimilarCandidateDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.SimilarityRebuildDTO;
+import com.hse.Curriculum.Exception.Post.ChargeMatchProfileNotFoundException;
+import com.hse.Curriculum.Exception.Post.ChargeNotFoundException;
+import com.hse.Curriculum.Exception.Post.InvalidChargeProfileException;
+import com.hse.Curriculum.Exception.Users.UserNotFoundException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.CandidateMatchingService;
+import com.hse.Curriculum.Service.SimilarCandidatesService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador para buscar candidatos a un cargo según su perfil de requisitos
+ * y candidatos con hojas de vida similares a la de un usuario
+ *
+ * REQUIERE PERMISO: CANDIDATES_VIEW para consultar, CHARGES_MANAGE para definir el perfil
+ * de un cargo y SYSTEM_MAINTENANCE para recalcular
+ */
+@RestController
+@RequestMapping("admin/matching")
+@Tag(name = "Admin - Matching", description = "Perfiles de requisitos por cargo y ranking de candidatos")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class CandidateMatchingController {
+
+    private final CandidateMatchingService candidateMatchingService;
+    private final SimilarCandidatesService similarCandidatesService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+
+    /**
+     * GET - Perfil de requisitos de un cargo
+     */
+    @PreAuthorize("hasPermission(null, 'CANDIDATES_VIEW')")
+    @GetMapping("/charges/{chargeId}/profile")
+    @Operation(summary = "Perfil de requisitos de un cargo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Perfil obtenido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CANDIDATES_VIEW"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado o sin perfil")
+    })
+    public ResponseEntity<ApiResponseDTO<ChargeMatchProfileResponseDTO>> getProfile(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Perfil de requisitos obtenido",
+                            HttpStatus.OK.value(),
+                            candidateMatchingService.getProfile(chargeId)
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (ChargeMatchProfileNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * PUT - Crear o reemplazar el perfil de requisitos de un cargo
+     */
+    @PreAuthorize("hasPermission(null, 'CHARGES_MANAGE')")
+    @PutMapping("/charges/{chargeId}/profile")
+    @Operation(summary = "Definir perfil de requisitos de un cargo",
+            description = "Nivel educativo, años de experiencia y municipio preferido. " +
+                    "Las capacitaciones requeridas son las obligatorias del cargo (admin/compliance)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Perfil guardado"),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CHARGES_MANAGE"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<ChargeMatchProfileResponseDTO>> saveProfile(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId,
+            @Valid @RequestBody ChargeMatchProfileDTO dto,
+            HttpServletRequest request) {
+        try {
+            Users adminUser = getAuthenticatedUser();
+
+            ChargeMatchProfileResponseDTO response =
+                    candidateMatchingService.saveProfile(chargeId, dto, adminUser.getUserId());
+
+            auditService.logAction(
+                    adminUser.getUserId(),
+                    adminUser.getEmail(),
+                    adminUser.getFirstName() + " " + adminUser.getLastName(),
+                    "charge_match_profiles",
+                    chargeId,
+                    AuditLog.AuditAction.UPDATE,
+                    null,
+                    dto,
+                    "Perfil de requisitos del cargo actualizado",
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Perfil de requisitos guardado",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (InvalidChargeProfileException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Mejores candidatos para un cargo
+     */
+    @PreAuthorize("hasPermission(null, 'CANDIDATES_VIEW')")
+    @GetMapping("/charges/{chargeId}/candidates")
+    @Operation(summary = "Candidatos para un cargo",
+            description = "Usuarios activos ordenados por puntaje (0-100) contra el perfil del cargo; " +
+                    "no incluye a quienes ya tienen el cargo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candidatos obtenidos"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CANDIDATES_VIEW"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado o sin perfil")
+    })
+    public ResponseEntity<ApiResponseDTO<List<CandidateMatchDTO>>> getCandidates(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId,
+            @Parameter(description = "Cantidad de candidatos (máximo app.matching.top-k)")
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Candidatos del cargo obtenidos",
+                            HttpStatus.OK.value(),
+                            candidateMatchingService.getCandidates(chargeId, limit)
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (ChargeMatchProfileNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Volver a puntuar todos los cargos desde la base de datos
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/rebuild")
+    @Operation(summary = "Recalcular candidatos de todos los cargos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candidatos recalculados"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<MatchingRebuildDTO>> rebuild() {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Candidatos recalculados",
+                        HttpStatus.OK.value(),
+                        candidateMatchingService.rebuild()
+                )
+        );
+    }
+
+    /**
+     * GET - Usuarios con hoja de vida similar a la de un usuario ("más como este")
+     */
+    @PreAuthorize("hasPermission(null, 'CANDIDATES_VIEW')")
+    @GetMapping("/users/{userId}/similar")
+    @Operation(summary = "Candidatos similares a un usuario",
+            description = "Similitud coseno entre vectores TF-IDF de tipos de capacitación, cursos, niveles y " +
+                    "títulos educativos y cargos desempeñados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candidatos similares obtenidos"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CANDIDATES_VIEW"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<List<SimilarCandidateDTO>>> getSimilar(
+            @Parameter(description = "ID del usuario de referencia")
+            @PathVariable Integer userId,
+            @Parameter(description = "Cantidad de resultados (máximo app.similarity.max-results)")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Solo usuarios activos")
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @Parameter(description = "Excluir a quienes ya tienen este cargo")
+            @RequestParam(required = false) Integer excludeChargeId) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Candidatos similares obtenidos",
+                            HttpStatus.OK.value(),
+                            similarCandidatesService.findSimilar(userId, limit, activeOnly, excludeChargeId)
+                    )
+            );
+
+        } catch (UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Recalcular los vectores de hojas de vida desde la base de datos
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/similar/rebuild")
+    @Operation(summary = "Recalcular vectores de candidatos similares")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vectores recalculados"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<SimilarityRebuildDTO>> rebuildSimilarity() {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Vectores de hojas de vida recalculados",
+                        HttpStatus.OK.value(),
+                        similarCandidatesService.rebuild()
+                )
+        );
+    }
+
+    /**
+     * Usuario autenticado (el permiso lo valida @PreAuthorize)
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
@@ -0,0 +1,163 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.CatalogDTO.CatalogClusterResultDTO;
+import com.hse.Curriculum.Dto.CatalogDTO.CatalogTermDTO;
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import com.hse.Curriculum.Exception.Catalog.CatalogTermNotFoundException;
+import com.hse.Curriculum.Exception.Catalog.InvalidCatalogMergeException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.CatalogService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador del diccionario de instituciones, cursos y tipos de capacitación
+ *
+ * El autocompletado está disponible para cualquier usuario autenticado;
+ * la migración y la fusión de términos requieren rol ADMIN.
+ */
+@RestController
+@Tag(name = "Catalog", description = "Diccionario de nombres normalizados y autocompletado")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class CatalogController {
+
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final CatalogService catalogService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+
+    /**
+     * GET - Autocompletado por prefijo
+     */
+    @GetMapping("/catalog/{category}/suggest")
+    @Operation(
+            summary = "Autocompletar nombres",
+            description = "Sugerencias sin distinguir mayúsculas, tildes ni puntuación " +
+                    "(ej: 'sena' encuentra 'S.E.N.A.'). Categorías: INSTITUTION, COURSE, TRAINING_TYPE"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas"),
+            @ApiResponse(responseCode = "401", description = "No autenticado")
+    })
+    public ResponseEntity<ApiResponseDTO<List<CatalogTermDTO>>> suggest(
+            @Parameter(description = "Categoría del diccionario")
+            @PathVariable CatalogCategoryEnum category,
+            @Parameter(description = "Texto escrito por el usuario")
+            @RequestParam("q") String query,
+            @Parameter(description = "Máximo de sugerencias (1-50)")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Sugerencias obtenidas",
+                        HttpStatus.OK.value(),
+                        catalogService.suggest(category, query, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)))
+                )
+        );
+    }
+
+    /**
+     * POST - Agrupar los nombres existentes en el diccionario
+     */
+    @PreAuthorize("hasPermission(null, 'CATALOG_MANAGE')")
+    @PostMapping("/admin/catalog/cluster")
+    @Operation(
+            summary = "Migrar nombres existentes al diccionario (Admin)",
+            description = "Agrupa las variantes de escritura de los registros sin término y les asigna su término"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Migración ejecutada"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CATALOG_MANAGE")
+    })
+    public ResponseEntity<ApiResponseDTO<CatalogClusterResultDTO>> cluster() {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Nombres agrupados en el diccionario",
+                        HttpStatus.OK.value(),
+                        catalogService.cluster()
+                )
+        );
+    }
+
+    /**
+     * POST - Fusionar un término en otro
+     */
+    @PreAuthorize("hasPermission(null, 'CATALOG_MANAGE')")
+    @PostMapping("/admin/catalog/terms/{sourceId}/merge/{targetId}")
+    @Operation(
+            summary = "Fusionar términos (Admin)",
+            description = "Mueve las variantes y los registros del término origen al destino y elimina el origen"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Términos fusionados"),
+            @ApiResponse(responseCode = "400", description = "Fusión inválida"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CATALOG_MANAGE"),
+            @ApiResponse(responseCode = "404", description = "Término no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<CatalogTermDTO>> merge(
+            @Parameter(description = "Término que desaparece")
+            @PathVariable Integer sourceId,
+            @Parameter(description = "Término que se conserva")
+            @PathVariable Integer targetId,
+            HttpServletRequest request) {
+        try {
+            Users adminUser = getAuthenticatedUser();
+
+            CatalogTermDTO response = catalogService.merge(sourceId, targetId);
+
+            auditService.logAction(
+                    adminUser.getUserId(),
+                    adminUser.getEmail(),
+                    adminUser.getFirstName() + " " + adminUser.getLastName(),
+                    "catalog_terms",
+                    sourceId,
+                    AuditLog.AuditAction.DELETE,
+                    null,
+                    response,
+                    "Término " + sourceId + " fusionado en " + targetId,
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success("Términos fusionados", HttpStatus.OK.value(), response)
+            );
+
+        } catch (InvalidCatalogMergeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        } catch (CatalogTermNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * Usuario autenticado (el permiso lo valida @PreAuthorize)
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
@@ -0,0 +1,248 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.CertificationDTO.CertificationScanResultDTO;
+import com.hse.Curriculum.Dto.CertificationDTO.ExpiringCertificationDTO;
+import com.hse.Curriculum.Dto.CertificationDTO.TrainingValidityRequestDTO;
+import com.hse.Curriculum.Dto.CertificationDTO.TrainingValidityResponseDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
+import com.hse.Curriculum.Exception.Training.TrainingValidityNotFoundException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.CertificationExpiryService;
+import com.hse.Curriculum.Service.TrainingValidityService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controlador para el seguimiento de vencimiento de certificaciones HSE
+ *
+ * REQUIERE PERMISO: ANALYTICS_VIEW para consultar, CERTIFICATIONS_MANAGE para editar vigencias
+ * y SYSTEM_MAINTENANCE para ejecutar el escaneo
+ *
+ * - Vigencias por tipo de capacitación
+ * - Certificaciones próximas a vencer por cargo (paginación por cursor)
+ * - Ejecución manual del escaneo diario
+ */
+@RestController
+@RequestMapping("admin/certifications")
+@Tag(name = "Admin - Certifications", description = "Vencimiento de certificaciones")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class CertificationExpiryController {
+
+    private final CertificationExpiryService certificationExpiryService;
+    private final TrainingValidityService trainingValidityService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+
+    /**
+     * GET - Certificaciones próximas a vencer
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping("/expiring")
+    @Operation(
+            summary = "Certificaciones próximas a vencer",
+            description = "Lista paginada por cursor, ordenada por fecha de vencimiento. Se puede filtrar por cargo"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página obtenida"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<ExpiringCertificationDTO>>> getExpiringCertifications(
+            @Parameter(description = "ID del cargo (opcional)")
+            @RequestParam(required = false) Integer chargeId,
+            @Parameter(description = "Días hacia adelante a considerar")
+            @RequestParam(defaultValue = "30") int days,
+            @Parameter(description = "Incluir certificaciones vencidas recientemente")
+            @RequestParam(defaultValue = "true") boolean includeOverdue,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 200)")
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPageDTO<ExpiringCertificationDTO> response = certificationExpiryService
+                    .getExpiringCertifications(chargeId, days, includeOverdue, cursor, size);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Certificaciones próximas a vencer",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Ejecutar el escaneo de vencimientos
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/scan")
+    @Operation(
+            summary = "Ejecutar escaneo de vencimientos",
+            description = "Registra las notificaciones de certificaciones próximas a vencer y vencidas (normalmente lo ejecuta la tarea diaria)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Escaneo terminado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<CertificationScanResultDTO>> runScan() {
+        CertificationScanResultDTO response = certificationExpiryService.scan(LocalDate.now());
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Escaneo de vencimientos terminado",
+                        HttpStatus.OK.value(),
+                        response
+                )
+        );
+    }
+
+    /**
+     * GET - Vigencias por tipo de capacitación
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping("/validities")
+    @Operation(summary = "Listar vigencias por tipo de capacitación")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vigencias obtenidas"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<List<TrainingValidityResponseDTO>>> getValidities() {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Vigencias obtenidas",
+                        HttpStatus.OK.value(),
+                        trainingValidityService.getAll()
+                )
+        );
+    }
+
+    /**
+     * POST - Crear o actualizar la vigencia de un tipo de capacitación
+     */
+    @PreAuthorize("hasPermission(null, 'CERTIFICATIONS_MANAGE')")
+    @PostMapping("/validities")
+    @Operation(
+            summary = "Crear o actualizar vigencia",
+            description = "Define los meses de vigencia de un tipo de capacitación y recalcula el vencimiento de los registros existentes"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vigencia guardada"),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CERTIFICATIONS_MANAGE")
+    })
+    public ResponseEntity<ApiResponseDTO<TrainingValidityResponseDTO>> saveValidity(
+            @Valid @RequestBody TrainingValidityRequestDTO dto,
+            HttpServletRequest request) {
+        Users adminUser = getAuthenticatedUser();
+
+        TrainingValidityResponseDTO response = trainingValidityService.save(dto);
+
+        auditService.logAction(
+                adminUser.getUserId(),
+                adminUser.getEmail(),
+                adminUser.getFirstName() + " " + adminUser.getLastName(),
+                "training_validity",
+                response.getValidityId(),
+                AuditLog.AuditAction.UPDATE,
+                null,
+                response,
+                "Vigencia de capacitación guardada: " + response.getTrainingType(),
+                request
+        );
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Vigencia guardada",
+                        HttpStatus.OK.value(),
+                        response
+                )
+        );
+    }
+
+    /**
+     * DELETE - Eliminar la vigencia de un tipo de capacitación
+     */
+    @PreAuthorize("hasPermission(null, 'CERTIFICATIONS_MANAGE')")
+    @DeleteMapping("/validities/{validityId}")
+    @Operation(
+            summary = "Eliminar vigencia",
+            description = "El tipo de capacitación deja de vencer y se limpia la fecha de vencimiento de sus registros"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vigencia eliminada"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CERTIFICATIONS_MANAGE"),
+            @ApiResponse(responseCode = "404", description = "Vigencia no encontrada")
+    })
+    public ResponseEntity<ApiResponseDTO<TrainingValidityResponseDTO>> deleteValidity(
+            @Parameter(description = "ID de la vigencia")
+            @PathVariable Integer validityId,
+            HttpServletRequest request) {
+        try {
+            Users adminUser = getAuthenticatedUser();
+
+            TrainingValidityResponseDTO response = trainingValidityService.delete(validityId);
+
+            auditService.logAction(
+                    adminUser.getUserId(),
+                    adminUser.getEmail(),
+                    adminUser.getFirstName() + " " + adminUser.getLastName(),
+                    "training_validity",
+                    validityId,
+                    AuditLog.AuditAction.DELETE,
+                    response,
+                    null,
+                    "Vigencia de capacitación eliminada: " + response.getTrainingType(),
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Vigencia eliminada",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (TrainingValidityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * Usuario autenticado (el permiso lo valida @PreAuthorize)
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
@@ -0,0 +1,243 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.ComplianceDTO.ChargeComplianceDTO;
+import com.hse.Curriculum.Dto.ComplianceDTO.ChargeRequirementsDTO;
+import com.hse.Curriculum.Dto.ComplianceDTO.UserComplianceGapDTO;
+import com.hse.Curriculum.Exception.Post.ChargeNotFoundException;
+import com.hse.Curriculum.Exception.Users.UserNotFoundException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.ChargeComplianceService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador para la matriz de cumplimiento de capacitaciones obligatorias por cargo
+ *
+ * REQUIERE PERMISO: ANALYTICS_VIEW para consultar y CHARGES_MANAGE para definir requisitos;
+ * la reconstrucción de la matriz requiere SYSTEM_MAINTENANCE
+ */
+@RestController
+@RequestMapping("admin/compliance")
+@Tag(name = "Admin - Compliance", description = "Cumplimiento de capacitaciones obligatorias por cargo")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class ChargeComplianceController {
+
+    private final ChargeComplianceService chargeComplianceService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+
+    /**
+     * GET - Matriz de cumplimiento de toda la organización
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping("/matrix")
+    @Operation(
+            summary = "Matriz de cumplimiento",
+            description = "Porcentaje de cumplimiento y cobertura por capacitación de cada cargo con requisitos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matriz obtenida"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<List<ChargeComplianceDTO>>> getMatrix() {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Matriz de cumplimiento obtenida",
+                        HttpStatus.OK.value(),
+                        chargeComplianceService.getMatrix()
+                )
+        );
+    }
+
+    /**
+     * GET - Cumplimiento de un cargo
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping("/charges/{chargeId}")
+    @Operation(summary = "Cumplimiento de un cargo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cumplimiento obtenido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<ChargeComplianceDTO>> getChargeCompliance(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Cumplimiento del cargo obtenido",
+                            HttpStatus.OK.value(),
+                            chargeComplianceService.getChargeCompliance(chargeId)
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Usuarios de un cargo con capacitaciones obligatorias faltantes
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping("/charges/{chargeId}/gaps")
+    @Operation(summary = "Brechas de capacitación de un cargo",
+            description = "Lista los usuarios del cargo que no cumplen y las capacitaciones que les faltan")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Brechas obtenidas"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<List<UserComplianceGapDTO>>> getChargeGaps(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Brechas del cargo obtenidas",
+                            HttpStatus.OK.value(),
+                            chargeComplianceService.getChargeGaps(chargeId)
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Capacitaciones obligatorias faltantes de un usuario
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping("/users/{userId}")
+    @Operation(summary = "Brechas de capacitación de un usuario")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Brechas obtenidas"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<UserComplianceGapDTO>> getUserGaps(
+            @Parameter(description = "ID del usuario")
+            @PathVariable Integer userId) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Brechas del usuario obtenidas",
+                            HttpStatus.OK.value(),
+                            chargeComplianceService.getUserGaps(userId)
+                    )
+            );
+
+        } catch (UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * PUT - Definir las capacitaciones obligatorias de un cargo
+     */
+    @PreAuthorize("hasPermission(null, 'CHARGES_MANAGE')")
+    @PutMapping("/charges/{chargeId}/requirements")
+    @Operation(summary = "Definir capacitaciones obligatorias de un cargo",
+            description = "Reemplaza la lista de tipos de capacitación obligatorios del cargo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Requisitos guardados"),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CHARGES_MANAGE"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<ChargeComplianceDTO>> setRequirements(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId,
+            @Valid @RequestBody ChargeRequirementsDTO dto,
+            HttpServletRequest request) {
+        try {
+            Users adminUser = getAuthenticatedUser();
+
+            ChargeComplianceDTO response = chargeComplianceService.setRequirements(chargeId, dto);
+
+            auditService.logAction(
+                    adminUser.getUserId(),
+                    adminUser.getEmail(),
+                    adminUser.getFirstName() + " " + adminUser.getLastName(),
+                    "charge_required_trainings",
+                    chargeId,
+                    AuditLog.AuditAction.UPDATE,
+                    null,
+                    dto,
+                    "Capacitaciones obligatorias del cargo actualizadas",
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Capacitaciones obligatorias guardadas",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Reconstruir la matriz desde la base de datos
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/rebuild")
+    @Operation(summary = "Reconstruir matriz de cumplimiento")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matriz reconstruida"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<Void>> rebuild() {
+        chargeComplianceService.rebuild();
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Matriz de cumplimiento reconstruida",
+                        HttpStatus.OK.value(),
+                        null
+                )
+        );
+    }
+
+    /**
+     * Usuario autenticado (los permisos los valida @PreAuthorize)
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
@@ -8,6 +8,7 @@ import com.hse.Curriculum.Models.Charge;
 import com.hse.Curriculum.Models.Users;
 import com.hse.Curriculum.Service.AuditService;
 import com.hse.Curriculum.Service.ChargeService;
+import com.hse.Curriculum.Service.ReferencePayloadCache;
 import com.hse.Curriculum.Service.UsersService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,9 +21,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -37,10 +40,12 @@ public class ChargeController {
     private final ChargeService postService;
     private final AuditService auditService;
     private final UsersService usersService;
+    private final ReferencePayloadCache referencePayloadCache;
 
     /**
      * POST - Registrar nuevo cargo
      */
+    @PreAuthorize("hasPermission(null, 'CHARGES_MANAGE')")
     @PostMapping("/register")
     @Operation(
             summary = "Registrar cargo",
@@ -50,7 +55,8 @@ public class ChargeController {
             @ApiResponse(responseCode = "201", description = "Cargo registrado exitosamente"),
             @ApiResponse(responseCode = "400", description = "Datos inválidos"),
             @ApiResponse(responseCode = "409", description = "Nombre de cargo ya existe"),
-            @ApiResponse(responseCode = "401", description = "No autenticado")
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CHARGES_MANAGE")
     })
     public ResponseEntity<ApiResponseDTO<ChargeResponseDTO>> register(
             @Valid @RequestBody ChargeRegisterDTO registerDTO,
@@ -168,14 +174,12 @@ public class ChargeController {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
             @ApiResponse(responseCode = "401", description = "No autenticado")
     })
-    public ResponseEntity<ApiResponseDTO<List<ChargeResponseDTO>>> getAllActive() {
-        List<ChargeResponseDTO> posts = postService.getAllActive();
-
-        return ResponseEntity.ok(
-                ApiResponseDTO.success(
+    public ResponseEntity<byte[]> getAllActive(WebRequest webRequest) {
+        return referencePayloadCache.respond(ReferencePayloadCache.Group.CHARGES, "active", webRequest,
+                () -> ApiResponseDTO.success(
                         "Cargos activos obtenidos exitosamente",
                         HttpStatus.OK.value(),
-                        posts
+                        postService.getAllActive()
                 )
         );
     }
@@ -230,6 +234,7 @@ public class ChargeController {
     /**
      * PATCH - Actualizar cargo
      */
+    @PreAuthorize("hasPermission(null, 'CHARGES_MANAGE')")
     @PatchMapping("/{id}")
     @Operation(summary = "Actualizar cargo",
             description = "Actualiza los datos de un cargo existente")
@@ -237,7 +242,8 @@ public class ChargeController {
             @ApiResponse(responseCode = "200", description = "Cargo actualizado exitosamente"),
             @ApiResponse(responseCode = "404", description = "Cargo no encontrado"),
             @ApiResponse(responseCode = "409", description = "Nombre de cargo ya existe"),
-            @ApiResponse(responseCode = "401", description = "No autenticado")
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CHARGES_MANAGE")
     })
     public ResponseEntity<ApiResponseDTO<ChargeResponseDTO>> update(
             @Parameter(description = "ID del cargo", example = "1")
@@ -318,13 +324,15 @@ public class ChargeController {
     /**
      * PATCH - Deshabilitar cargo
      */
+    @PreAuthorize("hasPermission(null, 'CHARGES_MANAGE')")
     @PatchMapping("/{id}/disable")
     @Operation(summary = "Deshabilitar cargo",
             description = "Deshabilita un cargo del sistema")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cargo deshabilitado exitosamente"),
             @ApiResponse(responseCode = "404", description = "Cargo no encontrado"),
-            @ApiResponse(responseCode = "401", description = "No autenticado")
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CHARGES_MANAGE")
     })
     public ResponseEntity<ApiResponseDTO<Void>> disable(
             @Parameter(description = "ID del cargo", example = "1")
@@ -375,13 +383,15 @@ public class ChargeController {
     /**
      * PATCH - Habilitar cargo
      */
+    @PreAuthorize("hasPermission(null, 'CHARGES_MANAGE')")
     @PatchMapping("/{id}/enable")
     @Operation(summary = "Habilitar cargo",
             description = "Reactiva un cargo deshabilitado")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cargo habilitado exitosamente"),
             @ApiResponse(responseCode = "404", description = "Cargo no encontrado"),
-            @ApiResponse(responseCode = "401", description = "No autenticado")
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CHARGES_MANAGE")
     })
     public ResponseEntity<ApiResponseDTO<Void>> enable(
             @Parameter(description = "ID del cargo", example = "1")
@@ -0,0 +1,237 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.ChargeDTO.ChargeHeadcountDTO;
+import com.hse.Curriculum.Dto.ChargeDTO.ChargeHierarchyDTO;
+import com.hse.Curriculum.Dto.ChargeDTO.ChargeParentDTO;
+import com.hse.Curriculum.Dto.ChargeDTO.ChargeSubtreeUserDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
+import com.hse.Curriculum.Exception.Post.ChargeNotFoundException;
+import com.hse.Curriculum.Exception.Post.InvalidChargeHierarchyException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.ChargeHierarchyService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador del organigrama de cargos (líneas de reporte)
+ *
+ * Las consultas requieren autenticación; mover cargos requiere el permiso CHARGES_MANAGE.
+ */
+@RestController
+@RequestMapping("charges/hierarchy")
+@Tag(name = "Charge Hierarchy", description = "Organigrama de cargos: líneas de reporte y personal por subárbol")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class ChargeHierarchyController {
+
+    private final ChargeHierarchyService chargeHierarchyService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+
+    /**
+     * GET - Posición de un cargo en el organigrama
+     */
+    @GetMapping("/{chargeId}")
+    @Operation(summary = "Obtener posición de un cargo",
+            description = "Línea de reporte completa (ancestros) y cargos que le reportan directamente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Posición obtenida exitosamente"),
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<ChargeHierarchyDTO>> getHierarchy(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId) {
+        try {
+            getAuthenticatedUser();
+
+            ChargeHierarchyDTO response = chargeHierarchyService.getHierarchy(chargeId);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Posición en el organigrama obtenida exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.UNAUTHORIZED.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Personal activo bajo un cargo
+     */
+    @GetMapping("/{chargeId}/headcount")
+    @Operation(summary = "Obtener personal del subárbol",
+            description = "Usuarios activos con el cargo y con cualquier cargo que le reporte, directa o indirectamente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Personal obtenido exitosamente"),
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<ChargeHeadcountDTO>> getHeadcount(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId) {
+        try {
+            getAuthenticatedUser();
+
+            ChargeHeadcountDTO response = chargeHierarchyService.getHeadcount(chargeId);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Personal del cargo obtenido exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.UNAUTHORIZED.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Usuarios activos bajo un cargo
+     */
+    @GetMapping("/{chargeId}/users")
+    @Operation(summary = "Listar usuarios del subárbol",
+            description = "Usuarios activos del cargo y de los cargos que le reportan, ordenados por ID (paginación por cursor)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usuarios obtenidos exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<ChargeSubtreeUserDTO>>> getSubtreeUsers(
+            @Parameter(description = "ID del cargo")
+            @PathVariable Integer chargeId,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 200)")
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            getAuthenticatedUser();
+
+            CursorPageDTO<ChargeSubtreeUserDTO> response =
+                    chargeHierarchyService.getSubtreeUsers(chargeId, cursor, size);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Usuarios del cargo obtenidos exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.UNAUTHORIZED.value())
+            );
+        }
+    }
+
+    /**
+     * PUT - Cambiar el cargo al que reporta un cargo (mueve todo su subárbol)
+     */
+    @PreAuthorize("hasPermission(null, 'CHARGES_MANAGE')")
+    @PutMapping("/{chargeId}/parent")
+    @Operation(summary = "Mover cargo en el organigrama",
+            description = "Asigna el cargo superior; los cargos que le reportan se mueven con él. " +
+                    "parentChargeId null lo deja como raíz")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cargo movido exitosamente"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CHARGES_MANAGE"),
+            @ApiResponse(responseCode = "404", description = "Cargo no encontrado"),
+            @ApiResponse(responseCode = "409", description = "El movimiento formaría un ciclo")
+    })
+    public ResponseEntity<ApiResponseDTO<ChargeHierarchyDTO>> moveCharge(
+            @Parameter(description = "ID del cargo a mover")
+            @PathVariable Integer chargeId,
+            @RequestBody ChargeParentDTO dto,
+            HttpServletRequest request) {
+        try {
+            Users user = getAuthenticatedUser();
+
+            Integer oldParentId = chargeHierarchyService.getParentChargeId(chargeId);
+            ChargeHierarchyDTO response = chargeHierarchyService.moveCharge(chargeId, dto);
+
+            auditService.logAction(
+                    user.getUserId(),
+                    user.getEmail(),
+                    user.getFirstName() + " " + user.getLastName(),
+                    "charge_hierarchy",
+                    chargeId,
+                    AuditLog.AuditAction.UPDATE,
+                    new ChargeParentDTO(oldParentId),
+                    dto,
+                    "Cambio de superior del cargo: " + response.getNameCharge(),
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Cargo movido exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (ChargeNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (InvalidChargeHierarchyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.CONFLICT.value())
+            );
+        }
+    }
+
+    // ── Helper JWT ───────────────────────────────────────────────
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("Usuario no autenticado");
+        }
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
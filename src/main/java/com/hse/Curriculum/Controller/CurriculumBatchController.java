@@ -0,0 +1,116 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.CurriculumDTO.CurriculumBatchRequestDTO;
+import com.hse.Curriculum.Dto.CurriculumDTO.UserCurriculumDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Enum.PermissionEnum;
+import com.hse.Curriculum.Exception.Curriculum.InvalidCurriculumBatchException;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Security.RolePermissionEvaluator;
+import com.hse.Curriculum.Service.CurriculumBatchService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador para la lectura por lotes de hojas de vida
+ * Reemplaza las llamadas de perfil, educación y capacitaciones por cada persona
+ *
+ * REQUIERE PERMISO: CURRICULUM_VIEW_ALL, o CURRICULUM_VIEW_TEAM para el personal del
+ * subárbol del cargo propio
+ */
+@RestController
+@RequestMapping("/curricula")
+@Tag(name = "Curriculum Batch", description = "Hojas de vida de varios usuarios en una sola solicitud")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class CurriculumBatchController {
+
+    private final CurriculumBatchService curriculumBatchService;
+    private final UsersService usersService;
+    private final RolePermissionEvaluator rolePermissionEvaluator;
+
+    /**
+     * POST - Obtener las hojas de vida de varios usuarios
+     */
+    @PreAuthorize("hasPermission(null, 'CURRICULUM_VIEW_ALL') or hasPermission(null, 'CURRICULUM_VIEW_TEAM')")
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Hojas de vida por lotes",
+            description = "Devuelve perfil, educación (con país) y capacitaciones de hasta 100 usuarios " +
+                    "indicados por ID, o de los usuarios de un cargo/rol en páginas de hasta 100 " +
+                    "(enviar nextCursor en 'cursor' para la siguiente página). Sin CURRICULUM_VIEW_ALL " +
+                    "solo se incluyen los usuarios del subárbol del cargo del solicitante"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hojas de vida obtenidas"),
+            @ApiResponse(responseCode = "400", description = "Solicitud sin usuarios ni filtro, supera el máximo de IDs o cursor inválido"),
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CURRICULUM_VIEW_ALL o CURRICULUM_VIEW_TEAM (con cargo asignado)")
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<UserCurriculumDTO>>> getCurricula(
+            @Valid @RequestBody CurriculumBatchRequestDTO dto) {
+        try {
+            Integer scopeChargeId = null;
+            if (!rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_VIEW_ALL)) {
+                Users authenticatedUser = getAuthenticatedUser();
+                if (authenticatedUser.getCharge() == null) {
+                    return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                            ApiResponseDTO.error(
+                                    "No autorizado - el usuario no tiene cargo asignado",
+                                    HttpStatus.FORBIDDEN.value()
+                            )
+                    );
+                }
+                scopeChargeId = authenticatedUser.getCharge().getChargeId();
+            }
+
+            CursorPageDTO<UserCurriculumDTO> curricula = curriculumBatchService.getCurricula(dto, scopeChargeId);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Hojas de vida obtenidas exitosamente",
+                            HttpStatus.OK.value(),
+                            curricula
+                    )
+            );
+
+        } catch (InvalidCurriculumBatchException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.BAD_REQUEST.value()
+                    )
+            );
+
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.BAD_REQUEST.value()
+                    )
+            );
+        }
+    }
+
+    /**
+     * Usuario autenticado (el permiso lo valida @PreAuthorize)
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
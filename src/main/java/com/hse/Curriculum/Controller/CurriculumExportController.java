@@ -0,0 +1,202 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.ExportDTO.CurriculumExportRequestDTO;
+import com.hse.Curriculum.Dto.ExportDTO.CurriculumExportStatusDTO;
+import com.hse.Curriculum.Exception.Export.ExportJobNotFoundException;
+import com.hse.Curriculum.Exception.Export.ExportNotReadyException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.CurriculumExportService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+
+/**
+ * Controlador para la exportación masiva de hojas de vida (auditorías)
+ *
+ * REQUIERE PERMISO: CURRICULUM_EXPORT
+ *
+ * Flujo:
+ * - POST crea el trabajo con los filtros y responde 202 con el jobId
+ * - GET /{jobId} consulta el progreso (polling)
+ * - GET /{jobId}/download descarga el ZIP; soporta el header Range para reanudar
+ * - Solo el administrador que creó el trabajo puede consultarlo o descargarlo
+ */
+@RestController
+@PreAuthorize("hasPermission(null, 'CURRICULUM_EXPORT')")
+@RequestMapping("admin/curriculum-exports")
+@Tag(name = "Admin - Curriculum Export", description = "Exportación masiva de hojas de vida en ZIP (solo Admin)")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class CurriculumExportController {
+
+    private final CurriculumExportService curriculumExportService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+
+    /**
+     * POST - Iniciar una exportación masiva
+     */
+    @PostMapping
+    @Operation(
+            summary = "Iniciar exportación de hojas de vida (Admin)",
+            description = "Genera en segundo plano un ZIP con las hojas de vida de los usuarios que cumplen el filtro"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Exportación iniciada"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CURRICULUM_EXPORT")
+    })
+    public ResponseEntity<ApiResponseDTO<CurriculumExportStatusDTO>> startExport(
+            @RequestBody(required = false) CurriculumExportRequestDTO filter,
+            HttpServletRequest request) {
+        Users adminUser = getAuthenticatedUser();
+
+        CurriculumExportStatusDTO response = curriculumExportService.startExport(
+                filter != null ? filter : new CurriculumExportRequestDTO(),
+                adminUser.getUserId()
+        );
+
+        auditService.logAction(
+                adminUser.getUserId(),
+                adminUser.getEmail(),
+                adminUser.getFirstName() + " " + adminUser.getLastName(),
+                "users",
+                null,
+                AuditLog.AuditAction.EXPORT,
+                null,
+                filter,
+                "Exportación masiva de hojas de vida: " + response.getTotal() + " usuarios",
+                request
+        );
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ApiResponseDTO.success(
+                        "Exportación iniciada",
+                        HttpStatus.ACCEPTED.value(),
+                        response
+                )
+        );
+    }
+
+    /**
+     * GET - Consultar progreso de una exportación
+     */
+    @GetMapping("/{jobId}")
+    @Operation(
+            summary = "Consultar progreso de exportación (Admin)",
+            description = "Retorna el estado, el avance y, si terminó, la URL de descarga"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estado obtenido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado"),
+            @ApiResponse(responseCode = "404", description = "Exportación no encontrada o de otro usuario")
+    })
+    public ResponseEntity<ApiResponseDTO<CurriculumExportStatusDTO>> getExportStatus(
+            @Parameter(description = "ID del trabajo de exportación")
+            @PathVariable String jobId) {
+        try {
+            CurriculumExportStatusDTO response = curriculumExportService.getStatus(
+                    jobId,
+                    getAuthenticatedUser().getUserId()
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Estado de la exportación",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (ExportJobNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.NOT_FOUND.value()
+                    )
+            );
+        }
+    }
+
+    /**
+     * GET - Descargar el ZIP de una exportación terminada
+     * Spring atiende automáticamente el header Range sobre un Resource (descarga reanudable)
+     */
+    @GetMapping("/{jobId}/download")
+    @Operation(
+            summary = "Descargar exportación (Admin)",
+            description = "Descarga el ZIP generado. Soporta descargas parciales con el header Range"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "ZIP completo"),
+            @ApiResponse(responseCode = "206", description = "Rango parcial del ZIP"),
+            @ApiResponse(responseCode = "403", description = "No autorizado"),
+            @ApiResponse(responseCode = "404", description = "Exportación no encontrada o de otro usuario"),
+            @ApiResponse(responseCode = "409", description = "La exportación aún no termina")
+    })
+    public ResponseEntity<?> downloadExport(
+            @Parameter(description = "ID del trabajo de exportación")
+            @PathVariable String jobId) {
+        try {
+            Path file = curriculumExportService.getExportFile(
+                    jobId,
+                    getAuthenticatedUser().getUserId()
+            );
+            Resource resource = new FileSystemResource(file);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/zip"))
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .eTag("\"" + jobId + "\"")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("hojas_de_vida_" + jobId + ".zip")
+                            .build()
+                            .toString())
+                    .body(resource);
+
+        } catch (ExportJobNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.NOT_FOUND.value()
+                    )
+            );
+        } catch (ExportNotReadyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.CONFLICT.value()
+                    )
+            );
+        }
+    }
+
+    /**
+     * Usuario autenticado (el permiso lo valida @PreAuthorize)
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.CurriculumDTO.CurriculumReindexDTO;
+import com.hse.Curriculum.Dto.CurriculumDTO.CurriculumSearchHitDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Exception.Curriculum.InvalidSearchQueryException;
+import com.hse.Curriculum.Exception.Curriculum.SearchIndexUnavailableException;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
+import com.hse.Curriculum.Service.CurriculumSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador de búsqueda de texto completo sobre las hojas de vida
+ *
+ * Buscar requiere el permiso CURRICULUM_SEARCH; reconstruir el índice requiere SYSTEM_MAINTENANCE.
+ */
+@RestController
+@RequestMapping("curriculum/search")
+@Tag(name = "Curriculum Search", description = "Búsqueda de hojas de vida por texto libre")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class CurriculumSearchController {
+
+    private final CurriculumSearchService curriculumSearchService;
+
+    /**
+     * GET - Buscar hojas de vida
+     */
+    @PreAuthorize("hasPermission(null, 'CURRICULUM_SEARCH')")
+    @GetMapping
+    @Operation(summary = "Buscar hojas de vida",
+            description = "Busca en nombre, cargo, resumen, logros, capacitaciones, estudios, experiencia y ubicación. " +
+                    "Todas las palabras deben aparecer; admite \"frases\", exclusiones con - y prefijos con *. " +
+                    "Ej: \"trabajo en alturas\" enfermería Cali")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultados obtenidos"),
+            @ApiResponse(responseCode = "400", description = "Texto de búsqueda o cursor inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CURRICULUM_SEARCH"),
+            @ApiResponse(responseCode = "503", description = "Índice de búsqueda no disponible")
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<CurriculumSearchHitDTO>>> search(
+            @Parameter(description = "Texto a buscar")
+            @RequestParam String q,
+            @Parameter(description = "Incluir usuarios inactivos")
+            @RequestParam(defaultValue = "false") boolean includeInactive,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 50)")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPageDTO<CurriculumSearchHitDTO> response =
+                    curriculumSearchService.search(q, includeInactive, cursor, size);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Búsqueda realizada exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (InvalidSearchQueryException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        } catch (SearchIndexUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Reconstruir el índice de búsqueda desde la base de datos
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/reindex")
+    @Operation(summary = "Reindexar hojas de vida",
+            description = "Reconstruye el índice en paralelo; las búsquedas siguen respondiendo mientras tanto")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Índice reconstruido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE"),
+            @ApiResponse(responseCode = "503", description = "Índice de búsqueda no disponible")
+    })
+    public ResponseEntity<ApiResponseDTO<CurriculumReindexDTO>> reindex() {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Índice de búsqueda reconstruido",
+                            HttpStatus.OK.value(),
+                            curriculumSearchService.reindex()
+                    )
+            );
+
+        } catch (SearchIndexUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value())
+            );
+        }
+    }
+}
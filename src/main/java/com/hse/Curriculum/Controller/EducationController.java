@@ -1,11 +1,17 @@
 package com.hse.Curriculum.Controller;
 import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
 import com.hse.Curriculum.Dto.EducationDTO.EducationCreateDTO;
 import com.hse.Curriculum.Dto.EducationDTO.EducationResponseDTO;
 import com.hse.Curriculum.Dto.EducationDTO.EducationUpdateDTO;
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Enum.GraduateStatusEnum;
+import com.hse.Curriculum.Enum.PermissionEnum;
 import com.hse.Curriculum.Exception.Education.*;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
 import com.hse.Curriculum.Models.AuditLog;
 import com.hse.Curriculum.Models.Education;
+import com.hse.Curriculum.Security.RolePermissionEvaluator;
 import com.hse.Curriculum.Service.AuditService;
 import com.hse.Curriculum.Service.EducationService;
 import com.hse.Curriculum.Service.UsersService;
@@ -18,12 +24,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -36,6 +45,7 @@ public class EducationController {
     private final EducationService educationService;
     private final UsersService usersService;
     private final AuditService auditService;
+    private final RolePermissionEvaluator rolePermissionEvaluator;
 
     /**
      * POST - Crear un nuevo registro de educación
@@ -107,18 +117,35 @@ public class EducationController {
     @GetMapping
     @Operation(
             summary = "Obtener registros educativos",
-            description = "Obtiene todos los registros educativos del usuario autenticado"
+            description = "Obtiene los registros educativos del usuario autenticado paginados por cursor, " +
+                    "ordenados por fecha de último nivel. Admite filtros opcionales"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registros obtenidos exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
             @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
     })
-    public ResponseEntity<ApiResponseDTO<List<EducationResponseDTO>>> getMyEducations() {
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<EducationResponseDTO>>> getMyEducations(
+            @Parameter(description = "Filtrar por estado de graduación")
+            @RequestParam(required = false) GraduateStatusEnum graduateStatus,
+            @Parameter(description = "Filtrar por tipo de educación")
+            @RequestParam(required = false) EducationTypeEnum typeEducation,
+            @Parameter(description = "Texto contenido en la institución")
+            @RequestParam(required = false) String institution,
+            @Parameter(description = "Fecha de último nivel desde (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "Fecha de último nivel hasta (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 200)")
+            @RequestParam(defaultValue = "50") int size) {
         try {
             var authenticatedUser = getAuthenticatedUser();
             Integer userId = authenticatedUser.getUserId();
 
-            List<EducationResponseDTO> educations = educationService.getEducationsByUserId(userId);
+            CursorPageDTO<EducationResponseDTO> educations = educationService.getEducationsByUserId(
+                    userId, graduateStatus, typeEducation, institution, fromDate, toDate, cursor, size);
 
             return ResponseEntity.ok(
                     ApiResponseDTO.success(
@@ -128,6 +155,14 @@ public class EducationController {
                     )
             );
 
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.BAD_REQUEST.value()
+                    )
+            );
+
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                     ApiResponseDTO.error(
@@ -144,7 +179,7 @@ public class EducationController {
     @GetMapping("/{educationId}")
     @Operation(
             summary = "Obtener registro educativo por ID",
-            description = "Obtiene un registro educativo específico. Usuarios pueden ver solo los suyos, ADMIN puede ver todos"
+            description = "Obtiene un registro educativo específico. Usuarios pueden ver solo los suyos; con permiso CURRICULUM_VIEW_ALL se ven todos"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registro obtenido exitosamente"),
@@ -157,9 +192,8 @@ public class EducationController {
         try {
             var authenticatedUser = getAuthenticatedUser();
             Integer userId = authenticatedUser.getUserId();
-            boolean isAdmin = authenticatedUser.isAdmin();
 
-            EducationResponseDTO response = educationService.getEducationById(educationId, userId, isAdmin);
+            EducationResponseDTO response = educationService.getEducationById(educationId, userId, canViewOthers());
 
             return ResponseEntity.ok(
                     ApiResponseDTO.success(
@@ -273,7 +307,7 @@ public class EducationController {
     @DeleteMapping("/{educationId}")
     @Operation(
             summary = "Eliminar registro educativo",
-            description = "Elimina un registro educativo. El propietario y ADMIN pueden eliminar"
+            description = "Elimina un registro educativo. El propietario o quien tenga permiso CURRICULUM_EDIT_ALL puede eliminar"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registro eliminado exitosamente"),
@@ -287,23 +321,13 @@ public class EducationController {
         try {
             var authenticatedUser = getAuthenticatedUser();
             Integer userId = authenticatedUser.getUserId();
-            // ✅ VALIDACIÓN SEGURA: Verificar que el usuario tenga rol
-            if (authenticatedUser.getRole() == null) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "Usuario sin rol asignado. Contacte al administrador.",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
-
-            boolean isAdmin = authenticatedUser.getRole().getName().equals("ADMIN");
+            boolean canEditOthers = canEditOthers();
 
             // Obtener datos antes de eliminar (para auditoría)
             Education education = educationService.getEducationEntityById(educationId);
 
-            // Verificar autorización: propietario o admin
-            if (!isAdmin && !education.getUser().getUserId().equals(userId)) {
+            // Verificar autorización: propietario o permiso sobre registros ajenos
+            if (!canEditOthers && !education.getUser().getUserId().equals(userId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
                         ApiResponseDTO.error(
                                 "No autorizado para eliminar este registro",
@@ -313,7 +337,7 @@ public class EducationController {
             }
 
             // Eliminar
-            educationService.deleteEducation(educationId, userId, isAdmin);
+            educationService.deleteEducation(educationId, userId, canEditOthers);
 
             // Registrar en auditoría
             auditService.logAction(
@@ -348,35 +372,41 @@ public class EducationController {
     }
 
     /**
-     * GET - Obtener todos los registros de educación de un usuario (solo ADMIN)
+     * GET - Obtener todos los registros de educación de un usuario
+     * REQUIERE PERMISO: CURRICULUM_VIEW_ALL
      */
+    @PreAuthorize("hasPermission(null, 'CURRICULUM_VIEW_ALL')")
     @GetMapping("/user/{userId}")
     @Operation(
-            summary = "Obtener registros educativos de un usuario (ADMIN)",
-            description = "Obtiene todos los registros educativos de cualquier usuario. Solo accesible por ADMIN"
+            summary = "Obtener registros educativos de un usuario",
+            description = "Obtiene los registros educativos de cualquier usuario paginados por cursor"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registros obtenidos exitosamente"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CURRICULUM_VIEW_ALL"),
             @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
     })
-    public ResponseEntity<ApiResponseDTO<List<EducationResponseDTO>>> getUserEducations(
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<EducationResponseDTO>>> getUserEducations(
             @Parameter(description = "ID del usuario", example = "1")
-            @PathVariable Integer userId) {
+            @PathVariable Integer userId,
+            @Parameter(description = "Filtrar por estado de graduación")
+            @RequestParam(required = false) GraduateStatusEnum graduateStatus,
+            @Parameter(description = "Filtrar por tipo de educación")
+            @RequestParam(required = false) EducationTypeEnum typeEducation,
+            @Parameter(description = "Texto contenido en la institución")
+            @RequestParam(required = false) String institution,
+            @Parameter(description = "Fecha de último nivel desde (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "Fecha de último nivel hasta (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 200)")
+            @RequestParam(defaultValue = "50") int size) {
         try {
-            var authenticatedUser = getAuthenticatedUser();
-            boolean isAdmin = authenticatedUser.isAdmin();
-
-            if (!isAdmin) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
-
-            List<EducationResponseDTO> educations = educationService.getEducationsByUserId(userId);
+            CursorPageDTO<EducationResponseDTO> educations = educationService.getEducationsByUserId(
+                    userId, graduateStatus, typeEducation, institution, fromDate, toDate, cursor, size);
 
             return ResponseEntity.ok(
                     ApiResponseDTO.success(
@@ -386,6 +416,14 @@ public class EducationController {
                     )
             );
 
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.BAD_REQUEST.value()
+                    )
+            );
+
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                     ApiResponseDTO.error(
@@ -409,4 +447,18 @@ public class EducationController {
         return usersService.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
     }
+
+    /**
+     * Permiso para consultar registros de otros usuarios
+     */
+    private boolean canViewOthers() {
+        return rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_VIEW_ALL);
+    }
+
+    /**
+     * Permiso para modificar o eliminar registros de otros usuarios
+     */
+    private boolean canEditOthers() {
+        return rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_EDIT_ALL);
+    }
 }
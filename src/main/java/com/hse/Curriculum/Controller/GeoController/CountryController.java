@@ -8,6 +8,8 @@ import com.hse.Curriculum.Exception.Country.CountryNotFoundException;
 import com.hse.Curriculum.Models.AuditLog;
 import com.hse.Curriculum.Service.AuditService;
 import com.hse.Curriculum.Service.CountryService;
+import com.hse.Curriculum.Service.GeoCatalog;
+import com.hse.Curriculum.Service.ReferencePayloadCache;
 import com.hse.Curriculum.Service.UsersService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,9 +24,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -39,6 +43,8 @@ public class CountryController {
     private final CountryService countryService;
     private final UsersService usersService;
     private final AuditService auditService;
+    private final GeoCatalog geoCatalog;
+    private final ReferencePayloadCache referencePayloadCache;
 
     /**
      * GET - Obtener todos los países
@@ -51,14 +57,12 @@ public class CountryController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Países obtenidos exitosamente")
     })
-    public ResponseEntity<ApiResponseDTO<List<CountryResponseDTO>>> getAllCountries() {
-        log.info("GET /api/countries - Obteniendo todos los países");
-        List<CountryResponseDTO> countries = countryService.getAllCountries();
-        return ResponseEntity.ok(
-                ApiResponseDTO.success(
+    public ResponseEntity<byte[]> getAllCountries(WebRequest webRequest) {
+        return referencePayloadCache.respond(ReferencePayloadCache.Group.GEO, "countries", webRequest,
+                () -> ApiResponseDTO.success(
                         "Países obtenidos exitosamente",
                         HttpStatus.OK.value(),
-                        countries
+                        countryService.getAllCountries()
                 )
         );
     }
@@ -108,11 +112,16 @@ public class CountryController {
     })
     public ResponseEntity<ApiResponseDTO<CountryResponseDTO>> getCountryById(
             @Parameter(description = "ID del país", example = "1")
-            @PathVariable Integer id) {
+            @PathVariable Integer id,
+            WebRequest webRequest) {
         try {
+            String etag = geoCatalog.getETag();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             log.info("GET /api/countries/{} - Obteniendo país por ID", id);
             CountryResponseDTO country = countryService.getCountryById(id);
-            return ResponseEntity.ok(
+            return ResponseEntity.ok().eTag(etag).body(
                     ApiResponseDTO.success(
                             "País obtenido exitosamente",
                             HttpStatus.OK.value(),
@@ -145,10 +154,15 @@ public class CountryController {
     })
     public ResponseEntity<ApiResponseDTO<List<CountryResponseDTO>>> searchCountriesByName(
             @Parameter(description = "Texto a buscar en el nombre del país", example = "col")
-            @RequestParam String name) {
+            @RequestParam String name,
+            WebRequest webRequest) {
+        String etag = geoCatalog.getETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         log.info("GET /api/countries/search?name={}", name);
         List<CountryResponseDTO> countries = countryService.searchCountriesByName(name);
-        return ResponseEntity.ok(
+        return ResponseEntity.ok().eTag(etag).body(
                 ApiResponseDTO.success(
                         "Búsqueda realizada exitosamente",
                         HttpStatus.OK.value(),
@@ -160,17 +174,18 @@ public class CountryController {
 
 
     /**
-     * POST - Crear un nuevo país (SOLO ADMIN)
+     * POST - Crear un nuevo país
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @PostMapping
     @Operation(
-            summary = "Crear nuevo país (ADMIN)",
-            description = "Crea un nuevo país en el sistema. Solo accesible por administradores"
+            summary = "Crear nuevo país",
+            description = "Crea un nuevo país en el sistema"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "País creado exitosamente"),
             @ApiResponse(responseCode = "400", description = "Datos inválidos"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "409", description = "País ya existe")
     })
     public ResponseEntity<ApiResponseDTO<CountryResponseDTO>> createCountry(
@@ -179,16 +194,6 @@ public class CountryController {
         try {
             var authenticatedUser = getAuthenticatedUser();
 
-            // Verificar que sea ADMIN
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores pueden crear países",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
-
             log.info("POST /api/countries - Creando nuevo país: {}", dto.getCountryName());
             CountryResponseDTO country = countryService.createCountry(dto);
 
@@ -225,17 +230,18 @@ public class CountryController {
     }
 
     /**
-     * PATCH - Actualizar un país (SOLO ADMIN)
+     * PATCH - Actualizar un país
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @PatchMapping("/{id}")
     @Operation(
-            summary = "Actualizar país (ADMIN)",
-            description = "Actualiza parcialmente un país existente. Solo accesible por administradores"
+            summary = "Actualizar país",
+            description = "Actualiza parcialmente un país existente"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "País actualizado exitosamente"),
             @ApiResponse(responseCode = "400", description = "Datos inválidos"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "404", description = "País no encontrado"),
             @ApiResponse(responseCode = "409", description = "Conflicto con datos existentes")
     })
@@ -247,16 +253,6 @@ public class CountryController {
         try {
             var authenticatedUser = getAuthenticatedUser();
 
-            // Verificar que sea ADMIN
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores pueden actualizar países",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
-
             // Obtener datos anteriores para auditoría
             CountryResponseDTO oldCountry = countryService.getCountryById(id);
 
@@ -304,16 +300,17 @@ public class CountryController {
     }
 
     /**
-     * DELETE - Eliminar un país (SOLO ADMIN)
+     * DELETE - Eliminar un país
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @DeleteMapping("/{id}")
     @Operation(
-            summary = "Eliminar país (ADMIN)",
-            description = "Elimina un país del sistema. Solo accesible por administradores"
+            summary = "Eliminar país",
+            description = "Elimina un país del sistema"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "País eliminado exitosamente"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "404", description = "País no encontrado"),
             @ApiResponse(responseCode = "409", description = "País en uso, no se puede eliminar")
     })
@@ -324,16 +321,6 @@ public class CountryController {
         try {
             var authenticatedUser = getAuthenticatedUser();
 
-            // Verificar que sea ADMIN
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores pueden eliminar países",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
-
             // Obtener datos antes de eliminar (para auditoría)
             CountryResponseDTO country = countryService.getCountryById(id);
 
@@ -0,0 +1,126 @@
+package com.hse.Curriculum.Controller.GeoController;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.ImportDTO.DaneImportResultDTO;
+import com.hse.Curriculum.Exception.Import.InvalidImportFileException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.DaneImportService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Controlador para la importación del catálogo geográfico DANE (DIVIPOLA)
+ *
+ * REQUIERE PERMISO: GEO_IMPORT
+ *
+ * La importación se puede repetir: los registros se identifican por su código DANE
+ * y solo se escriben los que cambiaron.
+ */
+@RestController
+@PreAuthorize("hasPermission(null, 'GEO_IMPORT')")
+@RequestMapping("admin/geo/import")
+@Tag(name = "Admin - Geo Import", description = "Importación del catálogo DANE de departamentos y municipios (solo Admin)")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class DaneImportController {
+
+    private final DaneImportService daneImportService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+
+    /**
+     * POST - Importar departamentos y municipios desde el CSV del DANE
+     */
+    @PostMapping(value = "/dane", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Importar catálogo DANE desde CSV (Admin)",
+            description = "Columnas por posición: código departamento, nombre departamento, código municipio, " +
+                    "nombre municipio (las demás columnas del archivo DIVIPOLA se ignoran). " +
+                    "Inserta o actualiza por código DANE y marca como capital el municipio XX001"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importación procesada"),
+            @ApiResponse(responseCode = "400", description = "Archivo inválido o país no encontrado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_IMPORT")
+    })
+    public ResponseEntity<ApiResponseDTO<DaneImportResultDTO>> importDane(
+            @Parameter(description = "Archivo CSV con encabezado")
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Separador de columnas (por defecto coma)")
+            @RequestParam(defaultValue = ",") String delimiter,
+            @Parameter(description = "ID del país de los departamentos (por defecto Colombia)")
+            @RequestParam(required = false) Integer countryId,
+            HttpServletRequest request) {
+        try {
+            Users adminUser = getAuthenticatedUser();
+
+            if (file.isEmpty()) {
+                throw new InvalidImportFileException("El archivo está vacío");
+            }
+            char separator = "\\t".equals(delimiter) ? '\t' : delimiter.length() == 1 ? delimiter.charAt(0) : 0;
+
+            DaneImportResultDTO result;
+            try (InputStream csv = file.getInputStream()) {
+                result = daneImportService.importCsv(csv, separator, countryId);
+            } catch (IOException e) {
+                throw new InvalidImportFileException("No fue posible leer el archivo", e);
+            }
+
+            auditService.logAction(
+                    adminUser.getUserId(),
+                    adminUser.getEmail(),
+                    adminUser.getFirstName() + " " + adminUser.getLastName(),
+                    "municipality",
+                    null,
+                    AuditLog.AuditAction.UPDATE,
+                    null,
+                    result,
+                    "Importación del catálogo DANE: " + file.getOriginalFilename(),
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Importación procesada: " + result.getMunicipalitiesInserted() + " municipios nuevos, " +
+                                    result.getMunicipalitiesUpdated() + " actualizados, " +
+                                    result.getMunicipalitiesUnchanged() + " sin cambios",
+                            HttpStatus.OK.value(),
+                            result
+                    )
+            );
+
+        } catch (InvalidImportFileException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * Usuario autenticado (el permiso lo valida @PreAuthorize)
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
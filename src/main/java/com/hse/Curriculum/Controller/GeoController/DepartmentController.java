@@ -4,6 +4,8 @@ import com.hse.Curriculum.Dto.GeoDTO.Department.DepartmentCreateDTO;
 import com.hse.Curriculum.Dto.GeoDTO.Department.DepartmentResponseDTO;
 import com.hse.Curriculum.Dto.GeoDTO.Department.DepartmentUpdateDTO;
 import com.hse.Curriculum.Service.GeoService;
+import com.hse.Curriculum.Service.ReferencePayloadCache;
+import com.hse.Curriculum.Service.GeoCatalog;
 import com.hse.Curriculum.Service.UsersService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,9 +17,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,34 +35,28 @@ public class DepartmentController {
 
     private final GeoService   geoService;
     private final UsersService usersService;
+    private final GeoCatalog   geoCatalog;
+    private final ReferencePayloadCache referencePayloadCache;
 
     /**
-     * POST - Crear departamento (solo ADMIN)
+     * POST - Crear departamento
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @PostMapping
     @Operation(
             summary     = "Crear departamento",
-            description = "Crea un nuevo departamento asociado a un país. Solo accesible por ADMIN"
+            description = "Crea un nuevo departamento asociado a un país"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Departamento creado exitosamente"),
             @ApiResponse(responseCode = "400", description = "Datos inválidos o departamento duplicado"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "404", description = "País no encontrado")
     })
     public ResponseEntity<ApiResponseDTO<DepartmentResponseDTO>> createDepartment(
             @Valid @RequestBody DepartmentCreateDTO dto) {
         try {
-            var authenticatedUser = getAuthenticatedUser();
-
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
+            getAuthenticatedUser();
 
             DepartmentResponseDTO response = geoService.createDepartment(dto);
 
@@ -90,20 +88,19 @@ public class DepartmentController {
             @ApiResponse(responseCode = "401", description = "No autenticado"),
             @ApiResponse(responseCode = "404", description = "País no encontrado")
     })
-    public ResponseEntity<ApiResponseDTO<List<DepartmentResponseDTO>>> getDepartmentsByCountry(
+    public ResponseEntity<?> getDepartmentsByCountry(
             @Parameter(description = "ID del país", example = "39")
-            @PathVariable Integer countryId) {
+            @PathVariable Integer countryId,
+            WebRequest webRequest) {
         try {
             getAuthenticatedUser();
 
-            List<DepartmentResponseDTO> response =
-                    geoService.getDepartmentsByCountry(countryId);
-
-            return ResponseEntity.ok(
-                    ApiResponseDTO.success(
+            return referencePayloadCache.respond(
+                    ReferencePayloadCache.Group.GEO, "departments:" + countryId, webRequest,
+                    () -> ApiResponseDTO.success(
                             "Departamentos obtenidos exitosamente",
                             HttpStatus.OK.value(),
-                            response
+                            geoService.getDepartmentsByCountry(countryId)
                     )
             );
 
@@ -129,14 +126,20 @@ public class DepartmentController {
     })
     public ResponseEntity<ApiResponseDTO<DepartmentResponseDTO>> getDepartmentById(
             @Parameter(description = "ID del departamento", example = "1")
-            @PathVariable Integer departmentId) {
+            @PathVariable Integer departmentId,
+            WebRequest webRequest) {
         try {
             getAuthenticatedUser();
 
+            String etag = geoCatalog.getETag();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
             DepartmentResponseDTO response =
                     geoService.getDepartmentById(departmentId);
 
-            return ResponseEntity.ok(
+            return ResponseEntity.ok().eTag(etag).body(
                     ApiResponseDTO.success(
                             "Departamento obtenido exitosamente",
                             HttpStatus.OK.value(),
@@ -152,17 +155,18 @@ public class DepartmentController {
     }
 
     /**
-     * PATCH - Actualizar departamento (solo ADMIN)
+     * PATCH - Actualizar departamento
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @PatchMapping("/{departmentId}")
     @Operation(
             summary     = "Actualizar departamento",
-            description = "Actualiza parcialmente un departamento. Solo accesible por ADMIN"
+            description = "Actualiza parcialmente un departamento"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Departamento actualizado exitosamente"),
             @ApiResponse(responseCode = "400", description = "Datos inválidos"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "404", description = "Departamento no encontrado")
     })
     public ResponseEntity<ApiResponseDTO<DepartmentResponseDTO>> updateDepartment(
@@ -170,16 +174,7 @@ public class DepartmentController {
             @PathVariable Integer departmentId,
             @Valid @RequestBody DepartmentUpdateDTO dto) {
         try {
-            var authenticatedUser = getAuthenticatedUser();
-
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
+            getAuthenticatedUser();
 
             DepartmentResponseDTO response =
                     geoService.updateDepartment(departmentId, dto);
@@ -200,32 +195,24 @@ public class DepartmentController {
     }
 
     /**
-     * DELETE - Eliminar departamento (solo ADMIN)
+     * DELETE - Eliminar departamento
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @DeleteMapping("/{departmentId}")
     @Operation(
             summary     = "Eliminar departamento",
-            description = "Elimina un departamento por ID. Solo accesible por ADMIN"
+            description = "Elimina un departamento por ID"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Departamento eliminado exitosamente"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "404", description = "Departamento no encontrado")
     })
     public ResponseEntity<ApiResponseDTO<Void>> deleteDepartment(
             @Parameter(description = "ID del departamento", example = "1")
             @PathVariable Integer departmentId) {
         try {
-            var authenticatedUser = getAuthenticatedUser();
-
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
+            getAuthenticatedUser();
 
             geoService.deleteDepartment(departmentId);
 
@@ -0,0 +1,93 @@
+package com.hse.Curriculum.Controller.GeoController;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Suggest.GeoSuggestionDTO;
+import com.hse.Curriculum.Enum.GeoLevelEnum;
+import com.hse.Curriculum.Service.GeoCatalog;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+
+@RestController
+@RequestMapping("geo")
+@Tag(name = "Geo Suggest", description = "Autocompletado de países, departamentos y municipios")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class GeoSuggestController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final GeoCatalog   geoCatalog;
+    private final UsersService usersService;
+
+    /**
+     * GET - Sugerencias de lugares por prefijo
+     */
+    @GetMapping("/suggest")
+    @Operation(
+            summary     = "Autocompletar lugares",
+            description = "Busca por prefijo sin distinguir tildes ni mayúsculas (\"bogo\" → Bogotá). " +
+                    "Primero las coincidencias exactas y las capitales"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado"),
+            @ApiResponse(responseCode = "401", description = "No autenticado")
+    })
+    public ResponseEntity<ApiResponseDTO<List<GeoSuggestionDTO>>> suggest(
+            @Parameter(description = "Texto escrito por el usuario", example = "medel")
+            @RequestParam String q,
+            @Parameter(description = "Nivel a buscar (todos si se omite)")
+            @RequestParam(required = false) GeoLevelEnum level,
+            @Parameter(description = "Máximo de sugerencias (1-50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
+        try {
+            getAuthenticatedUser();
+
+            String etag = geoCatalog.getETag();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
+            List<GeoSuggestionDTO> response =
+                    geoCatalog.suggest(q, level, Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+            return ResponseEntity.ok().eTag(etag).body(
+                    ApiResponseDTO.success(
+                            "Sugerencias obtenidas exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.UNAUTHORIZED.value())
+            );
+        }
+    }
+
+    // ── Helper JWT ───────────────────────────────────────────────
+    private com.hse.Curriculum.Models.Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("Usuario no autenticado");
+        }
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
@@ -2,6 +2,8 @@ package com.hse.Curriculum.Controller.GeoController;
 import com.hse.Curriculum.Dto.ApiResponseDTO;
 import com.hse.Curriculum.Dto.GeoDTO.Municipality.*;
 import com.hse.Curriculum.Service.GeoService;
+import com.hse.Curriculum.Service.ReferencePayloadCache;
+import com.hse.Curriculum.Service.GeoCatalog;
 import com.hse.Curriculum.Service.UsersService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,9 +15,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,34 +32,28 @@ import java.util.List;
 public class MunicipalityController {
     private final GeoService   geoService;
     private final UsersService usersService;
+    private final GeoCatalog   geoCatalog;
+    private final ReferencePayloadCache referencePayloadCache;
 
     /**
-     * POST - Crear municipio (solo ADMIN)
+     * POST - Crear municipio
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @PostMapping
     @Operation(
             summary     = "Crear municipio",
-            description = "Crea un nuevo municipio asociado a un departamento. Solo accesible por ADMIN"
+            description = "Crea un nuevo municipio asociado a un departamento"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Municipio creado exitosamente"),
             @ApiResponse(responseCode = "400", description = "Datos inválidos o municipio duplicado"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "404", description = "Departamento no encontrado")
     })
     public ResponseEntity<ApiResponseDTO<MunicipalityResponseDTO>> createMunicipality(
             @Valid @RequestBody MunicipalityCreateDTO dto) {
         try {
-            var authenticatedUser = getAuthenticatedUser();
-
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
+            getAuthenticatedUser();
 
             MunicipalityResponseDTO response = geoService.createMunicipality(dto);
 
@@ -87,20 +85,19 @@ public class MunicipalityController {
             @ApiResponse(responseCode = "401", description = "No autenticado"),
             @ApiResponse(responseCode = "404", description = "Departamento no encontrado")
     })
-    public ResponseEntity<ApiResponseDTO<List<MunicipalityResponseDTO>>> getMunicipalitiesByDepartment(
+    public ResponseEntity<?> getMunicipalitiesByDepartment(
             @Parameter(description = "ID del departamento", example = "1")
-            @PathVariable Integer departmentId) {
+            @PathVariable Integer departmentId,
+            WebRequest webRequest) {
         try {
             getAuthenticatedUser();
 
-            List<MunicipalityResponseDTO> response =
-                    geoService.getMunicipalitiesByDepartment(departmentId);
-
-            return ResponseEntity.ok(
-                    ApiResponseDTO.success(
+            return referencePayloadCache.respond(
+                    ReferencePayloadCache.Group.GEO, "municipalities:" + departmentId, webRequest,
+                    () -> ApiResponseDTO.success(
                             "Municipios obtenidos exitosamente",
                             HttpStatus.OK.value(),
-                            response
+                            geoService.getMunicipalitiesByDepartment(departmentId)
                     )
             );
 
@@ -126,14 +123,20 @@ public class MunicipalityController {
     })
     public ResponseEntity<ApiResponseDTO<MunicipalityResponseDTO>> getMunicipalityById(
             @Parameter(description = "ID del municipio", example = "1")
-            @PathVariable Integer municipalityId) {
+            @PathVariable Integer municipalityId,
+            WebRequest webRequest) {
         try {
             getAuthenticatedUser();
 
+            String etag = geoCatalog.getETag();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
             MunicipalityResponseDTO response =
                     geoService.getMunicipalityById(municipalityId);
 
-            return ResponseEntity.ok(
+            return ResponseEntity.ok().eTag(etag).body(
                     ApiResponseDTO.success(
                             "Municipio obtenido exitosamente",
                             HttpStatus.OK.value(),
@@ -163,14 +166,20 @@ public class MunicipalityController {
     })
     public ResponseEntity<ApiResponseDTO<MunicipalityResponseDTO>> getCapitalByDepartment(
             @Parameter(description = "ID del departamento", example = "1")
-            @PathVariable Integer departmentId) {
+            @PathVariable Integer departmentId,
+            WebRequest webRequest) {
         try {
             getAuthenticatedUser();
 
+            String etag = geoCatalog.getETag();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
             MunicipalityResponseDTO response =
                     geoService.getCapitalByDepartment(departmentId);
 
-            return ResponseEntity.ok(
+            return ResponseEntity.ok().eTag(etag).body(
                     ApiResponseDTO.success(
                             "Capital obtenida exitosamente",
                             HttpStatus.OK.value(),
@@ -186,17 +195,18 @@ public class MunicipalityController {
     }
 
     /**
-     * PATCH - Actualizar municipio (solo ADMIN)
+     * PATCH - Actualizar municipio
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @PatchMapping("/{municipalityId}")
     @Operation(
             summary     = "Actualizar municipio",
-            description = "Actualiza parcialmente un municipio. Si se cambia la capital se desmarca la anterior. Solo accesible por ADMIN"
+            description = "Actualiza parcialmente un municipio. Si se cambia la capital se desmarca la anterior"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Municipio actualizado exitosamente"),
             @ApiResponse(responseCode = "400", description = "Datos inválidos"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "404", description = "Municipio no encontrado")
     })
     public ResponseEntity<ApiResponseDTO<MunicipalityResponseDTO>> updateMunicipality(
@@ -204,16 +214,7 @@ public class MunicipalityController {
             @PathVariable Integer municipalityId,
             @Valid @RequestBody MunicipalityUpdateDTO dto) {
         try {
-            var authenticatedUser = getAuthenticatedUser();
-
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
+            getAuthenticatedUser();
 
             MunicipalityResponseDTO response =
                     geoService.updateMunicipality(municipalityId, dto);
@@ -234,32 +235,24 @@ public class MunicipalityController {
     }
 
     /**
-     * DELETE - Eliminar municipio (solo ADMIN)
+     * DELETE - Eliminar municipio
      */
+    @PreAuthorize("hasPermission(null, 'GEO_MANAGE')")
     @DeleteMapping("/{municipalityId}")
     @Operation(
             summary     = "Eliminar municipio",
-            description = "Elimina un municipio por ID. Solo accesible por ADMIN"
+            description = "Elimina un municipio por ID"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Municipio eliminado exitosamente"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso GEO_MANAGE"),
             @ApiResponse(responseCode = "404", description = "Municipio no encontrado")
     })
     public ResponseEntity<ApiResponseDTO<Void>> deleteMunicipality(
             @Parameter(description = "ID del municipio", example = "1")
             @PathVariable Integer municipalityId) {
         try {
-            var authenticatedUser = getAuthenticatedUser();
-
-            if (!authenticatedUser.isAdmin()) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
+            getAuthenticatedUser();
 
             geoService.deleteMunicipality(municipalityId);
 
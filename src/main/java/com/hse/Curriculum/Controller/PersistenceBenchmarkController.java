@@ -0,0 +1,63 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.PersistenceDTO.BatchBenchmarkDTO;
+import com.hse.Curriculum.Enum.BatchBenchmarkScenarioEnum;
+import com.hse.Curriculum.Service.PersistenceBenchmarkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador de diagnóstico de la capa de persistencia
+ *
+ * REQUIERE PERMISO: SYSTEM_MAINTENANCE
+ * Solo se registra con el perfil "benchmark" (ver PersistenceBenchmarkService)
+ */
+@RestController
+@Profile("benchmark")
+@RequestMapping("admin/persistence")
+@Tag(name = "Admin - Persistence", description = "Diagnóstico de escrituras por lotes JDBC")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class PersistenceBenchmarkController {
+
+    private final PersistenceBenchmarkService persistenceBenchmarkService;
+
+    /**
+     * POST - Comparar escritura fila por fila contra lotes JDBC
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/benchmark/batch")
+    @Operation(
+            summary = "Benchmark de escritura por lotes",
+            description = "Persiste filas del escenario elegido (auditoría, registro de usuario con perfil o " +
+                    "importación de capacitaciones) sin lotes y con lotes, cuenta los INSERT y las llamadas " +
+                    "a la secuencia de cada pasada y revierte ambas transacciones"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Benchmark ejecutado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<BatchBenchmarkDTO>> batchBenchmark(
+            @Parameter(description = "Escritura a medir")
+            @RequestParam(defaultValue = "AUDIT") BatchBenchmarkScenarioEnum scenario,
+            @Parameter(description = "Filas por pasada (máximo app.persistence.benchmark.max-rows)")
+            @RequestParam(defaultValue = "2000") int rows) {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Benchmark de escritura ejecutado",
+                        HttpStatus.OK.value(),
+                        persistenceBenchmarkService.runBenchmark(scenario, rows)
+                )
+        );
+    }
+}
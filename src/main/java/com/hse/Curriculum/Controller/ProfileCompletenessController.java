@@ -0,0 +1,98 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Dto.ProfileDTO.ProfileCompletenessDTO;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
+import com.hse.Curriculum.Service.ProfileCompletenessService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador para el seguimiento de completitud de hojas de vida
+ *
+ * REQUIERE PERMISO: ANALYTICS_VIEW para consultar y SYSTEM_MAINTENANCE para recalcular
+ */
+@RestController
+@RequestMapping("admin/profiles/completeness")
+@Tag(name = "Admin - Profile Completeness", description = "Seguimiento de completitud de hojas de vida")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class ProfileCompletenessController {
+
+    private final ProfileCompletenessService profileCompletenessService;
+
+    /**
+     * GET - Cola de usuarios con menor completitud
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping
+    @Operation(
+            summary = "Usuarios con menor completitud",
+            description = "Lista paginada por cursor, ordenada de menor a mayor puntaje de completitud"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página obtenida"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<ProfileCompletenessDTO>>> getCompletenessQueue(
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 200)")
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPageDTO<ProfileCompletenessDTO> response =
+                    profileCompletenessService.getCompletenessQueue(cursor, size);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Cola de completitud obtenida",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.BAD_REQUEST.value()
+                    )
+            );
+        }
+    }
+
+    /**
+     * POST - Recalcular la completitud de todos los perfiles
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/backfill")
+    @Operation(
+            summary = "Recalcular completitud de todos los perfiles",
+            description = "Recalcula en bloques paralelos el puntaje de completitud de todos los perfiles"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recálculo terminado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<Integer>> backfill() {
+        int updated = profileCompletenessService.backfill();
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Recálculo terminado: " + updated + " perfiles actualizados",
+                        HttpStatus.OK.value(),
+                        updated
+                )
+        );
+    }
+}
@@ -1,12 +1,17 @@
 package com.hse.Curriculum.Controller;
 import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.RoleDTO.PermissionDTO;
 import com.hse.Curriculum.Dto.RoleDTO.RoleCreateDTO;
 import com.hse.Curriculum.Dto.RoleDTO.RoleResponseDTO;
+import com.hse.Curriculum.Dto.RoleDTO.RolePermissionsDTO;
+import com.hse.Curriculum.Dto.RoleDTO.RolePermissionsResponseDTO;
 import com.hse.Curriculum.Dto.RoleDTO.RoleUpdateDTO;
 import com.hse.Curriculum.Exception.Role.*;
 import com.hse.Curriculum.Models.AuditLog;
 import com.hse.Curriculum.Models.Roles;
 import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.PermissionService;
+import com.hse.Curriculum.Service.ReferencePayloadCache;
 import com.hse.Curriculum.Service.RoleService;
 import com.hse.Curriculum.Service.UsersService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,9 +25,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -41,11 +48,14 @@ public class RoleController {
     private final RoleService roleService;
     private final UsersService usersService;
     private final AuditService auditService;
+    private final ReferencePayloadCache referencePayloadCache;
+    private final PermissionService permissionService;
 
     /**
      * POST - Crear un nuevo rol
      * Solo ADMIN puede crear roles
      */
+    @PreAuthorize("hasPermission(null, 'ROLES_MANAGE')")
     @PostMapping
     @Operation(
             summary = "Crear rol",
@@ -62,16 +72,8 @@ public class RoleController {
             @Valid @RequestBody RoleCreateDTO dto,
             HttpServletRequest request) {
         try {
-            // Obtener usuario autenticado y verificar que sea ADMIN
+            // Usuario autenticado para la auditoría (el permiso lo valida @PreAuthorize)
             var authenticatedUser = getAuthenticatedUser();
-            if (!isAdmin(authenticatedUser)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
 
             // Crear rol
             RoleResponseDTO response = roleService.createRole(dto);
@@ -163,15 +165,13 @@ public class RoleController {
             @ApiResponse(responseCode = "200", description = "Roles activos obtenidos exitosamente"),
             @ApiResponse(responseCode = "401", description = "No autenticado")
     })
-    public ResponseEntity<ApiResponseDTO<List<RoleResponseDTO>>> getActiveRoles() {
+    public ResponseEntity<?> getActiveRoles(WebRequest webRequest) {
         try {
-            List<RoleResponseDTO> roles = roleService.getActiveRoles();
-
-            return ResponseEntity.ok(
-                    ApiResponseDTO.success(
+            return referencePayloadCache.respond(ReferencePayloadCache.Group.ROLES, "active", webRequest,
+                    () -> ApiResponseDTO.success(
                             "Roles activos obtenidos exitosamente",
                             HttpStatus.OK.value(),
-                            roles
+                            roleService.getActiveRoles()
                     )
             );
 
@@ -300,6 +300,7 @@ public class RoleController {
      * Solo ADMIN puede actualizar roles
      * No se pueden actualizar roles del sistema (ADMIN, USER)
      */
+    @PreAuthorize("hasPermission(null, 'ROLES_MANAGE')")
     @PatchMapping("/{roleId}")
     @Operation(
             summary = "Actualizar rol",
@@ -319,16 +320,8 @@ public class RoleController {
             @Valid @RequestBody RoleUpdateDTO dto,
             HttpServletRequest request) {
         try {
-            // Obtener usuario autenticado y verificar que sea ADMIN
+            // Usuario autenticado para la auditoría (el permiso lo valida @PreAuthorize)
             var authenticatedUser = getAuthenticatedUser();
-            if (!isAdmin(authenticatedUser)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
 
             // Obtener datos anteriores para auditoría
             Roles oldRole = roleService.getRoleEntityById(roleId);
@@ -389,6 +382,7 @@ public class RoleController {
      * Solo ADMIN puede cambiar estados
      * No se pueden desactivar roles del sistema
      */
+    @PreAuthorize("hasPermission(null, 'ROLES_MANAGE')")
     @PatchMapping("/{roleId}/status")
     @Operation(
             summary = "Cambiar estado de rol",
@@ -407,16 +401,8 @@ public class RoleController {
             @RequestParam Boolean status,
             HttpServletRequest request) {
         try {
-            // Obtener usuario autenticado y verificar que sea ADMIN
+            // Usuario autenticado para la auditoría (el permiso lo valida @PreAuthorize)
             var authenticatedUser = getAuthenticatedUser();
-            if (!isAdmin(authenticatedUser)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
 
             // Obtener datos anteriores para auditoría
             Roles oldRole = roleService.getRoleEntityById(roleId);
@@ -469,6 +455,7 @@ public class RoleController {
      * Solo ADMIN puede eliminar roles
      * No se pueden eliminar roles del sistema ni roles en uso
      */
+    @PreAuthorize("hasPermission(null, 'ROLES_MANAGE')")
     @DeleteMapping("/{roleId}")
     @Operation(
             summary = "Eliminar rol",
@@ -486,16 +473,8 @@ public class RoleController {
             @PathVariable Integer roleId,
             HttpServletRequest request) {
         try {
-            // Obtener usuario autenticado y verificar que sea ADMIN
+            // Usuario autenticado para la auditoría (el permiso lo valida @PreAuthorize)
             var authenticatedUser = getAuthenticatedUser();
-            if (!isAdmin(authenticatedUser)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
 
             // Obtener datos antes de eliminar (para auditoría)
             Roles role = roleService.getRoleEntityById(roleId);
@@ -551,6 +530,132 @@ public class RoleController {
         }
     }
 
+    /**
+     * GET - Catálogo de permisos disponibles
+     */
+    @GetMapping("/permissions")
+    @Operation(
+            summary = "Obtener catálogo de permisos",
+            description = "Lista los permisos que se pueden asignar a un rol"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Permisos obtenidos exitosamente"),
+            @ApiResponse(responseCode = "401", description = "No autenticado")
+    })
+    public ResponseEntity<ApiResponseDTO<List<PermissionDTO>>> getPermissionCatalog() {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Permisos obtenidos exitosamente",
+                        HttpStatus.OK.value(),
+                        permissionService.getPermissionCatalog()
+                )
+        );
+    }
+
+    /**
+     * GET - Obtener los permisos de un rol
+     */
+    @GetMapping("/{roleId}/permissions")
+    @Operation(
+            summary = "Obtener permisos de un rol",
+            description = "Obtiene los permisos efectivos de un rol (ADMIN siempre tiene todos)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Permisos obtenidos exitosamente"),
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "404", description = "Rol no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<RolePermissionsResponseDTO>> getRolePermissions(
+            @Parameter(description = "ID del rol", example = "3")
+            @PathVariable Integer roleId) {
+        try {
+            RolePermissionsResponseDTO response = permissionService.getRolePermissions(roleId);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Permisos obtenidos exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.NOT_FOUND.value()
+                    )
+            );
+        }
+    }
+
+    /**
+     * PUT - Reemplazar los permisos de un rol
+     * Requiere el permiso ROLES_MANAGE; el rol ADMIN no se puede modificar
+     */
+    @PreAuthorize("hasPermission(null, 'ROLES_MANAGE')")
+    @PutMapping("/{roleId}/permissions")
+    @Operation(
+            summary = "Asignar permisos a un rol",
+            description = "Reemplaza la lista de permisos del rol. Los cambios aplican desde la siguiente solicitud"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Permisos actualizados exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "401", description = "No autenticado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado o rol ADMIN"),
+            @ApiResponse(responseCode = "404", description = "Rol no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<RolePermissionsResponseDTO>> setRolePermissions(
+            @Parameter(description = "ID del rol", example = "3")
+            @PathVariable Integer roleId,
+            @Valid @RequestBody RolePermissionsDTO dto,
+            HttpServletRequest request) {
+        try {
+            var authenticatedUser = getAuthenticatedUser();
+
+            RolePermissionsResponseDTO oldPermissions = permissionService.getRolePermissions(roleId);
+            RolePermissionsResponseDTO response = permissionService.setRolePermissions(roleId, dto);
+
+            auditService.logAction(
+                    authenticatedUser.getUserId(),
+                    authenticatedUser.getEmail(),
+                    authenticatedUser.getFirstName() + " " + authenticatedUser.getLastName(),
+                    "role_permissions",
+                    roleId,
+                    AuditLog.AuditAction.UPDATE,
+                    oldPermissions,
+                    response,
+                    "Actualización de permisos del rol: " + response.getRoleName(),
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Permisos actualizados exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.NOT_FOUND.value()
+                    )
+            );
+
+        } catch (RoleOperationNotAllowedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.FORBIDDEN.value()
+                    )
+            );
+        }
+    }
+
     /**
      * Helper para obtener el usuario autenticado desde el contexto de seguridad
      *
@@ -568,16 +673,4 @@ public class RoleController {
                 .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
     }
 
-    /**
-     * Helper para verificar si el usuario tiene rol de ADMIN
-     *
-     * @param user Usuario a verificar
-     * @return true si es ADMIN, false en caso contrario
-     */
-    private boolean isAdmin(com.hse.Curriculum.Models.Users user) {
-        if (user.getRole() == null) {
-            return false;
-        }
-        return "ADMIN".equals(user.getRole().getName());
-    }
 }
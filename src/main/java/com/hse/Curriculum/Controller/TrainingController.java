@@ -1,11 +1,15 @@
 package com.hse.Curriculum.Controller;
 import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
 import com.hse.Curriculum.Dto.TrainingDTO.TrainingCreateDTO;
 import com.hse.Curriculum.Dto.TrainingDTO.TrainingResponseDTO;
 import com.hse.Curriculum.Dto.TrainingDTO.TrainingUpdateDTO;
+import com.hse.Curriculum.Enum.PermissionEnum;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
 import com.hse.Curriculum.Exception.Training.*;
 import com.hse.Curriculum.Models.AuditLog;
 import com.hse.Curriculum.Models.Training;
+import com.hse.Curriculum.Security.RolePermissionEvaluator;
 import com.hse.Curriculum.Service.AuditService;
 import com.hse.Curriculum.Service.TrainingService;
 import com.hse.Curriculum.Service.UsersService;
@@ -18,12 +22,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -40,6 +47,7 @@ public class TrainingController{
     private final TrainingService trainingService;
     private final UsersService usersService;
     private final AuditService auditService;
+    private final RolePermissionEvaluator rolePermissionEvaluator;
 
     /**
      * POST - Crear un nuevo registro de capacitación
@@ -121,19 +129,36 @@ public class TrainingController{
     @GetMapping
     @Operation(
             summary = "Obtener mis capacitaciones",
-            description = "Obtiene todos los registros de capacitación del usuario autenticado, ordenados por fecha de finalización"
+            description = "Obtiene los registros de capacitación del usuario autenticado paginados por cursor, " +
+                    "ordenados por fecha de finalización (en curso primero). Admite filtros opcionales"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registros obtenidos exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor o filtros inválidos"),
             @ApiResponse(responseCode = "401", description = "No autenticado"),
             @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
     })
-    public ResponseEntity<ApiResponseDTO<List<TrainingResponseDTO>>> getMyTrainings() {
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<TrainingResponseDTO>>> getMyTrainings(
+            @Parameter(description = "Filtrar por estado de finalización")
+            @RequestParam(required = false) Boolean completed,
+            @Parameter(description = "Filtrar por tipo de capacitación")
+            @RequestParam(required = false) String trainingType,
+            @Parameter(description = "Texto contenido en la institución")
+            @RequestParam(required = false) String institution,
+            @Parameter(description = "Fecha de finalización desde (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "Fecha de finalización hasta (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 200)")
+            @RequestParam(defaultValue = "50") int size) {
         try {
             var authenticatedUser = getAuthenticatedUser();
             Integer userId = authenticatedUser.getUserId();
 
-            List<TrainingResponseDTO> trainings = trainingService.getTrainingsByUserId(userId);
+            CursorPageDTO<TrainingResponseDTO> trainings = trainingService.getTrainingsByUserId(
+                    userId, completed, trainingType, institution, fromDate, toDate, cursor, size);
 
             return ResponseEntity.ok(
                     ApiResponseDTO.success(
@@ -143,6 +168,14 @@ public class TrainingController{
                     )
             );
 
+        } catch (InvalidCursorException | InvalidTrainingDataException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.BAD_REQUEST.value()
+                    )
+            );
+
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                     ApiResponseDTO.error(
@@ -230,12 +263,12 @@ public class TrainingController{
     /**
      * GET - Obtener un registro específico de capacitación por ID
      * Usuarios pueden ver solo sus propios registros
-     * ADMIN y SUPPORT pueden ver todos los registros
+     * Con permiso CURRICULUM_VIEW_ALL se ven todos los registros
      */
     @GetMapping("/{trainingId}")
     @Operation(
             summary = "Obtener capacitación por ID",
-            description = "Obtiene un registro específico de capacitación. Usuarios ven solo los suyos, ADMIN y SUPPORT pueden ver todos"
+            description = "Obtiene un registro específico de capacitación. Usuarios ven solo los suyos; con permiso CURRICULUM_VIEW_ALL se ven todos"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registro obtenido exitosamente"),
@@ -249,9 +282,8 @@ public class TrainingController{
         try {
             var authenticatedUser = getAuthenticatedUser();
             Integer userId = authenticatedUser.getUserId();
-            boolean isAdmin = isAdminOrSupport(authenticatedUser);
 
-            TrainingResponseDTO response = trainingService.getTrainingById(trainingId, userId, isAdmin);
+            TrainingResponseDTO response = trainingService.getTrainingById(trainingId, userId, canViewOthers());
 
             return ResponseEntity.ok(
                     ApiResponseDTO.success(
@@ -281,13 +313,13 @@ public class TrainingController{
 
     /**
      * PATCH - Actualizar un registro de capacitación
-     * El propietario, ADMIN y SUPPORT pueden actualizar registros
+     * El propietario o quien tenga permiso CURRICULUM_EDIT_ALL puede actualizar registros
      * Actualización parcial: solo se modifican los campos enviados
      */
     @PatchMapping("/{trainingId}")
     @Operation(
             summary = "Actualizar capacitación",
-            description = "Actualiza parcialmente un registro de capacitación. El propietario, ADMIN y SUPPORT pueden editar registros"
+            description = "Actualiza parcialmente un registro de capacitación. El propietario o quien tenga permiso CURRICULUM_EDIT_ALL puede editar registros"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registro actualizado exitosamente"),
@@ -306,23 +338,14 @@ public class TrainingController{
             var authenticatedUser = getAuthenticatedUser();
             Integer userId = authenticatedUser.getUserId();
 
-            // Validación segura: Verificar que el usuario tenga rol asignado
-            if (authenticatedUser.getRole() == null) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "Usuario sin rol asignado. Contacte al administrador.",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
 
-            boolean isAdmin = isAdminOrSupport(authenticatedUser);
+            boolean canEditOthers = canEditOthers();
 
             // Obtener datos anteriores para auditoría
             Training oldTraining = trainingService.getTrainingEntityById(trainingId);
 
-            // Verificar autorización: propietario, admin o support
-            if (!isAdmin && !oldTraining.getUser().getUserId().equals(userId)) {
+            // Verificar autorización: propietario o permiso sobre registros ajenos
+            if (!canEditOthers && !oldTraining.getUser().getUserId().equals(userId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
                         ApiResponseDTO.error(
                                 "No autorizado para actualizar este registro",
@@ -332,7 +355,7 @@ public class TrainingController{
             }
 
             // Actualizar registro
-            TrainingResponseDTO response = trainingService.updateTraining(trainingId, userId, isAdmin, dto);
+            TrainingResponseDTO response = trainingService.updateTraining(trainingId, userId, canEditOthers, dto);
 
             // Registrar en auditoría
             auditService.logAction(
@@ -384,12 +407,12 @@ public class TrainingController{
 
     /**
      * DELETE - Eliminar un registro de capacitación
-     * El propietario, ADMIN y SUPPORT pueden eliminar registros
+     * El propietario o quien tenga permiso CURRICULUM_EDIT_ALL puede eliminar registros
      */
     @DeleteMapping("/{trainingId}")
     @Operation(
             summary = "Eliminar capacitación",
-            description = "Elimina un registro de capacitación. El propietario, ADMIN y SUPPORT pueden eliminar"
+            description = "Elimina un registro de capacitación. El propietario o quien tenga permiso CURRICULUM_EDIT_ALL puede eliminar"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registro eliminado exitosamente"),
@@ -405,23 +428,14 @@ public class TrainingController{
             var authenticatedUser = getAuthenticatedUser();
             Integer userId = authenticatedUser.getUserId();
 
-            // Validación segura: Verificar que el usuario tenga rol asignado
-            if (authenticatedUser.getRole() == null) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "Usuario sin rol asignado. Contacte al administrador.",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
 
-            boolean isAdmin = isAdminOrSupport(authenticatedUser);
+            boolean canEditOthers = canEditOthers();
 
             // Obtener datos antes de eliminar (para auditoría)
             Training training = trainingService.getTrainingEntityById(trainingId);
 
-            // Verificar autorización: propietario, admin o support
-            if (!isAdmin && !training.getUser().getUserId().equals(userId)) {
+            // Verificar autorización: propietario o permiso sobre registros ajenos
+            if (!canEditOthers && !training.getUser().getUserId().equals(userId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
                         ApiResponseDTO.error(
                                 "No autorizado para eliminar este registro",
@@ -431,7 +445,7 @@ public class TrainingController{
             }
 
             // Eliminar registro
-            trainingService.deleteTraining(trainingId, userId, isAdmin);
+            trainingService.deleteTraining(trainingId, userId, canEditOthers);
 
             // Registrar en auditoría
             auditService.logAction(
@@ -475,38 +489,42 @@ public class TrainingController{
 
     /**
      * GET - Obtener todos los registros de capacitación de cualquier usuario
-     * Solo accesible por ADMIN y SUPPORT
+     * REQUIERE PERMISO: CURRICULUM_VIEW_ALL
      * Requiere enviar el userId como parámetro
      */
+    @PreAuthorize("hasPermission(null, 'CURRICULUM_VIEW_ALL')")
     @GetMapping("/user/{userId}")
     @Operation(
-            summary = "Obtener capacitaciones de un usuario (ADMIN/SUPPORT)",
-            description = "Obtiene todos los registros de capacitación de cualquier usuario. Solo accesible por ADMIN y SUPPORT"
+            summary = "Obtener capacitaciones de un usuario",
+            description = "Obtiene los registros de capacitación de cualquier usuario paginados por cursor"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registros obtenidos exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor o filtros inválidos"),
             @ApiResponse(responseCode = "401", description = "No autenticado"),
-            @ApiResponse(responseCode = "403", description = "No autorizado - Solo ADMIN y SUPPORT"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CURRICULUM_VIEW_ALL"),
             @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
     })
-    public ResponseEntity<ApiResponseDTO<List<TrainingResponseDTO>>> getUserTrainings(
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<TrainingResponseDTO>>> getUserTrainings(
             @Parameter(description = "ID del usuario", example = "5")
-            @PathVariable Integer userId) {
+            @PathVariable Integer userId,
+            @Parameter(description = "Filtrar por estado de finalización")
+            @RequestParam(required = false) Boolean completed,
+            @Parameter(description = "Filtrar por tipo de capacitación")
+            @RequestParam(required = false) String trainingType,
+            @Parameter(description = "Texto contenido en la institución")
+            @RequestParam(required = false) String institution,
+            @Parameter(description = "Fecha de finalización desde (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "Fecha de finalización hasta (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 200)")
+            @RequestParam(defaultValue = "50") int size) {
         try {
-            var authenticatedUser = getAuthenticatedUser();
-            boolean isAdmin = isAdminOrSupport(authenticatedUser);
-
-            // Verificar que el usuario sea ADMIN o SUPPORT
-            if (!isAdmin) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                        ApiResponseDTO.error(
-                                "No autorizado - Solo administradores y soporte",
-                                HttpStatus.FORBIDDEN.value()
-                        )
-                );
-            }
-
-            List<TrainingResponseDTO> trainings = trainingService.getTrainingsByUserId(userId);
+            CursorPageDTO<TrainingResponseDTO> trainings = trainingService.getTrainingsByUserId(
+                    userId, completed, trainingType, institution, fromDate, toDate, cursor, size);
 
             return ResponseEntity.ok(
                     ApiResponseDTO.success(
@@ -516,6 +534,14 @@ public class TrainingController{
                     )
             );
 
+        } catch (InvalidCursorException | InvalidTrainingDataException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(
+                            e.getMessage(),
+                            HttpStatus.BAD_REQUEST.value()
+                    )
+            );
+
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                     ApiResponseDTO.error(
@@ -544,16 +570,16 @@ public class TrainingController{
     }
 
     /**
-     * Helper para verificar si el usuario tiene rol de ADMIN o SUPPORT
-     *
-     * @param user Usuario a verificar
-     * @return true si es ADMIN o SUPPORT, false en caso contrario
+     * Permiso para consultar registros de otros usuarios
      */
-    private boolean isAdminOrSupport(com.hse.Curriculum.Models.Users user) {
-        if (user.getRole() == null) {
-            return false;
-        }
-        String roleName = user.getRole().getName();
-        return "ADMIN".equals(roleName) || "SUPPORT".equals(roleName);
+    private boolean canViewOthers() {
+        return rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_VIEW_ALL);
+    }
+
+    /**
+     * Permiso para modificar o eliminar registros de otros usuarios
+     */
+    private boolean canEditOthers() {
+        return rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_EDIT_ALL);
     }
 }
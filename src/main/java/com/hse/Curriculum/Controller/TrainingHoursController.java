@@ -0,0 +1,142 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.TrainingHoursDTO.MonthlyTrainingHoursDTO;
+import com.hse.Curriculum.Dto.TrainingHoursDTO.TrainingHoursDTO;
+import com.hse.Curriculum.Enum.TrainingHoursGroupEnum;
+import com.hse.Curriculum.Exception.Training.InvalidTrainingDataException;
+import com.hse.Curriculum.Service.TrainingHoursService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controlador de indicadores de horas de capacitación
+ *
+ * REQUIERE PERMISO: ANALYTICS_VIEW para consultar; el recálculo requiere SYSTEM_MAINTENANCE
+ *
+ * Si no se envía rango de fechas se usa desde el 1 de enero del año actual hasta hoy
+ */
+@RestController
+@RequestMapping("admin/training-hours")
+@Tag(name = "Admin - Training Hours", description = "Indicadores de horas de capacitación")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class TrainingHoursController {
+
+    private final TrainingHoursService trainingHoursService;
+
+    /**
+     * GET - Horas de capacitación agrupadas
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping
+    @Operation(
+            summary = "Horas de capacitación agrupadas",
+            description = "Suma las horas de capacitaciones completadas por usuario, cargo, tipo o institución"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Horas obtenidas"),
+            @ApiResponse(responseCode = "400", description = "Rango de fechas inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<List<TrainingHoursDTO>>> getHours(
+            @Parameter(description = "Agrupación: USER, CHARGE, TRAINING_TYPE o INSTITUTION")
+            @RequestParam(defaultValue = "CHARGE") TrainingHoursGroupEnum groupBy,
+            @Parameter(description = "Fecha inicial (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Fecha final (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate toDate = to != null ? to : LocalDate.now();
+            LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Horas de capacitación obtenidas",
+                            HttpStatus.OK.value(),
+                            trainingHoursService.getHours(groupBy, fromDate, toDate)
+                    )
+            );
+
+        } catch (InvalidTrainingDataException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Indicador mensual de horas de capacitación
+     */
+    @PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+    @GetMapping("/monthly")
+    @Operation(
+            summary = "Indicador mensual de horas",
+            description = "Capacitaciones, personas capacitadas y horas por mes"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Indicador obtenido"),
+            @ApiResponse(responseCode = "400", description = "Rango de fechas inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<List<MonthlyTrainingHoursDTO>>> getMonthlyIndicator(
+            @Parameter(description = "Fecha inicial (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Fecha final (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate toDate = to != null ? to : LocalDate.now();
+            LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Indicador mensual obtenido",
+                            HttpStatus.OK.value(),
+                            trainingHoursService.getMonthlyIndicator(fromDate, toDate)
+                    )
+            );
+
+        } catch (InvalidTrainingDataException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Normalizar la duración de los registros existentes
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/backfill")
+    @Operation(
+            summary = "Normalizar duración de registros existentes",
+            description = "Calcula duration_minutes para las capacitaciones que aún no lo tienen"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Registros normalizados"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<Integer>> backfill() {
+        int updated = trainingHoursService.backfillDurationMinutes();
+
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Duración normalizada en " + updated + " capacitaciones",
+                        HttpStatus.OK.value(),
+                        updated
+                )
+        );
+    }
+}
@@ -0,0 +1,160 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.ImportDTO.TrainingImportResultDTO;
+import com.hse.Curriculum.Exception.Import.ImportReportNotFoundException;
+import com.hse.Curriculum.Exception.Import.InvalidImportFileException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.TrainingImportService;
+import com.hse.Curriculum.Service.UsersService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Controlador para la importación masiva de capacitaciones desde CSV
+ *
+ * REQUIERE PERMISO: TRAINING_IMPORT
+ *
+ * Las filas válidas se insertan y las inválidas se devuelven en un reporte CSV
+ * descargable con el número de fila y el motivo del rechazo.
+ */
+@RestController
+@PreAuthorize("hasPermission(null, 'TRAINING_IMPORT')")
+@RequestMapping("admin/trainings/import")
+@Tag(name = "Admin - Training Import", description = "Importación masiva de capacitaciones (solo Admin)")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class TrainingImportController {
+
+    private final TrainingImportService trainingImportService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+
+    /**
+     * POST - Importar capacitaciones desde un CSV
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Importar capacitaciones desde CSV (Admin)",
+            description = "Columnas: email, document_number, course_name, training_type, institution, " +
+                    "is_completed, duration_value, duration_unit, completion_date. " +
+                    "El usuario se busca por email o, si está vacío, por número de documento"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importación procesada"),
+            @ApiResponse(responseCode = "400", description = "Archivo inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso TRAINING_IMPORT")
+    })
+    public ResponseEntity<ApiResponseDTO<TrainingImportResultDTO>> importTrainings(
+            @Parameter(description = "Archivo CSV con encabezado")
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Separador de columnas (por defecto coma)")
+            @RequestParam(defaultValue = ",") String delimiter,
+            HttpServletRequest request) {
+        try {
+            Users adminUser = getAuthenticatedUser();
+
+            if (file.isEmpty()) {
+                throw new InvalidImportFileException("El archivo está vacío");
+            }
+            char separator = "\\t".equals(delimiter) ? '\t' : delimiter.length() == 1 ? delimiter.charAt(0) : 0;
+
+            TrainingImportResultDTO result;
+            try (InputStream csv = file.getInputStream()) {
+                result = trainingImportService.importCsv(csv, separator);
+            } catch (IOException e) {
+                throw new InvalidImportFileException("No fue posible leer el archivo", e);
+            }
+
+            auditService.logAction(
+                    adminUser.getUserId(),
+                    adminUser.getEmail(),
+                    adminUser.getFirstName() + " " + adminUser.getLastName(),
+                    "trainings",
+                    null,
+                    AuditLog.AuditAction.INSERT,
+                    null,
+                    result,
+                    "Importación masiva de capacitaciones: " + file.getOriginalFilename(),
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Importación procesada: " + result.getInsertedRows() + " insertadas, " +
+                                    result.getRejectedRows() + " rechazadas",
+                            HttpStatus.OK.value(),
+                            result
+                    )
+            );
+
+        } catch (InvalidImportFileException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Descargar el reporte de filas rechazadas
+     */
+    @GetMapping("/{importId}/rejects")
+    @Operation(summary = "Descargar filas rechazadas (Admin)",
+            description = "CSV con el número de fila, los valores originales y el motivo del rechazo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reporte de rechazos"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso TRAINING_IMPORT"),
+            @ApiResponse(responseCode = "404", description = "Reporte no encontrado o expirado")
+    })
+    public ResponseEntity<?> downloadRejects(
+            @Parameter(description = "ID de la importación")
+            @PathVariable String importId) {
+        try {
+            Path report = trainingImportService.getRejectReport(importId);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("rechazos_" + importId + ".csv")
+                            .build()
+                            .toString())
+                    .body(new FileSystemResource(report));
+
+        } catch (ImportReportNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * Usuario autenticado (el permiso lo valida @PreAuthorize)
+     */
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
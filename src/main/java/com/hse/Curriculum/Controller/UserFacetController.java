@@ -0,0 +1,88 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.FacetDTO.UserFacetQueryDTO;
+import com.hse.Curriculum.Dto.FacetDTO.UserFacetResultDTO;
+import com.hse.Curriculum.Dto.FacetDTO.UserFacetStatsDTO;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
+import com.hse.Curriculum.Service.UserFacetIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador de filtrado de usuarios por facetas (rol, cargo, estado, educación,
+ * capacitaciones, experiencia y completitud)
+ *
+ * REQUIERE PERMISO: CANDIDATES_VIEW para consultar y SYSTEM_MAINTENANCE para reconstruir
+ *
+ * Los filtros y conteos se resuelven sobre bitmaps en memoria; solo la página de usuarios
+ * se lee de la base de datos
+ */
+@RestController
+@RequestMapping("admin/users/facets")
+@Tag(name = "Admin - User Facets", description = "Filtrado de usuarios por facetas con conteos")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class UserFacetController {
+
+    private final UserFacetIndexService userFacetIndexService;
+
+    /**
+     * POST - Filtrar usuarios y contar cada valor de faceta
+     */
+    @PreAuthorize("hasPermission(null, 'CANDIDATES_VIEW')")
+    @PostMapping("/query")
+    @Operation(
+            summary = "Filtrar usuarios por facetas",
+            description = "Valores de una faceta con O, facetas entre sí con Y. Devuelve el total, los conteos de " +
+                    "cada faceta (sin aplicar su propio filtro) y una página de usuarios ordenados por ID"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usuarios filtrados"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CANDIDATES_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<UserFacetResultDTO>> query(@RequestBody UserFacetQueryDTO dto) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Usuarios filtrados exitosamente",
+                            HttpStatus.OK.value(),
+                            userFacetIndexService.query(dto)
+                    )
+            );
+
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Reconstruir el índice de facetas desde la base de datos
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/rebuild")
+    @Operation(summary = "Reconstruir índice de facetas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Índice reconstruido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<UserFacetStatsDTO>> rebuild() {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Índice de facetas reconstruido",
+                        HttpStatus.OK.value(),
+                        userFacetIndexService.rebuild()
+                )
+        );
+    }
+}
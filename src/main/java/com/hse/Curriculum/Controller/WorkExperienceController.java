@@ -0,0 +1,420 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Dto.WorkExperienceDTO.*;
+import com.hse.Curriculum.Enum.PermissionEnum;
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
+import com.hse.Curriculum.Exception.WorkExperience.InvalidWorkExperienceDateException;
+import com.hse.Curriculum.Exception.WorkExperience.InvalidWorkExperienceLocationException;
+import com.hse.Curriculum.Exception.WorkExperience.WorkExperienceNotFoundException;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Security.RolePermissionEvaluator;
+import com.hse.Curriculum.Service.AuditService;
+import com.hse.Curriculum.Service.UsersService;
+import com.hse.Curriculum.Service.WorkExperienceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("work-experience")
+@Tag(name = "Work Experience Management", description = "Gestión de la experiencia laboral de usuarios")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class WorkExperienceController {
+    private final WorkExperienceService workExperienceService;
+    private final UsersService usersService;
+    private final AuditService auditService;
+    private final RolePermissionEvaluator rolePermissionEvaluator;
+
+    /**
+     * POST - Crear una experiencia laboral
+     */
+    @PostMapping
+    @Operation(
+            summary = "Crear experiencia laboral",
+            description = "Crea una experiencia laboral para el usuario autenticado y actualiza su total de experiencia"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Experiencia creada exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos (fechas o ubicación)"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<WorkExperienceResponseDTO>> createWorkExperience(
+            @Valid @RequestBody WorkExperienceCreateDTO dto,
+            HttpServletRequest request) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+            Integer userId = authenticatedUser.getUserId();
+
+            WorkExperienceResponseDTO response = workExperienceService.createWorkExperience(userId, dto);
+
+            auditService.logAction(
+                    userId,
+                    authenticatedUser.getEmail(),
+                    authenticatedUser.getFirstName() + " " + authenticatedUser.getLastName(),
+                    "work_experience",
+                    response.getWorkExperienceId(),
+                    AuditLog.AuditAction.INSERT,
+                    null,
+                    response,
+                    "Creación de experiencia laboral",
+                    request
+            );
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(
+                    ApiResponseDTO.success(
+                            "Experiencia laboral creada exitosamente",
+                            HttpStatus.CREATED.value(),
+                            response
+                    )
+            );
+
+        } catch (InvalidWorkExperienceDateException | InvalidWorkExperienceLocationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Experiencias laborales del usuario autenticado
+     */
+    @GetMapping
+    @Operation(
+            summary = "Obtener experiencias laborales",
+            description = "Experiencias del usuario autenticado: trabajos actuales primero, luego por fecha de inicio"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Experiencias obtenidas exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<List<WorkExperienceResponseDTO>>> getMyWorkExperiences() {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Experiencias laborales obtenidas exitosamente",
+                            HttpStatus.OK.value(),
+                            workExperienceService.getWorkExperiencesByUserId(authenticatedUser.getUserId())
+                    )
+            );
+
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Total de experiencia del usuario autenticado
+     */
+    @GetMapping("/summary")
+    @Operation(
+            summary = "Total de experiencia laboral",
+            description = "Días y años de experiencia del usuario autenticado; los periodos solapados se cuentan una vez"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Total obtenido exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<ExperienceSummaryDTO>> getMyExperienceSummary() {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Total de experiencia obtenido exitosamente",
+                            HttpStatus.OK.value(),
+                            workExperienceService.getExperienceSummary(authenticatedUser.getUserId())
+                    )
+            );
+
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Obtener una experiencia laboral
+     */
+    @GetMapping("/{workExperienceId}")
+    @Operation(
+            summary = "Obtener experiencia laboral por ID",
+            description = "Usuarios pueden ver solo las suyas; con el permiso CURRICULUM_VIEW_ALL se ven todas"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Experiencia obtenida exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Experiencia no encontrada")
+    })
+    public ResponseEntity<ApiResponseDTO<WorkExperienceResponseDTO>> getWorkExperienceById(
+            @Parameter(description = "ID de la experiencia laboral", example = "1")
+            @PathVariable Integer workExperienceId) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+
+            WorkExperienceResponseDTO response = workExperienceService.getWorkExperienceById(
+                    workExperienceId, authenticatedUser.getUserId(),
+                    rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_VIEW_ALL));
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Experiencia laboral obtenida exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (WorkExperienceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * PATCH - Actualizar una experiencia laboral
+     */
+    @PatchMapping("/{workExperienceId}")
+    @Operation(
+            summary = "Actualizar experiencia laboral",
+            description = "Actualiza parcialmente una experiencia laboral. Solo el propietario puede editar"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Experiencia actualizada exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos (fechas o ubicación)"),
+            @ApiResponse(responseCode = "404", description = "Experiencia no encontrada o no autorizada")
+    })
+    public ResponseEntity<ApiResponseDTO<WorkExperienceResponseDTO>> updateWorkExperience(
+            @Parameter(description = "ID de la experiencia laboral", example = "1")
+            @PathVariable Integer workExperienceId,
+            @Valid @RequestBody WorkExperienceUpdateDTO dto,
+            HttpServletRequest request) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+            Integer userId = authenticatedUser.getUserId();
+
+            // Datos anteriores para auditoría (también verifica que el registro sea del usuario)
+            WorkExperienceResponseDTO oldWorkExperience =
+                    workExperienceService.getWorkExperienceById(workExperienceId, userId, false);
+
+            WorkExperienceResponseDTO response =
+                    workExperienceService.updateWorkExperience(workExperienceId, userId, dto);
+
+            auditService.logAction(
+                    userId,
+                    authenticatedUser.getEmail(),
+                    authenticatedUser.getFirstName() + " " + authenticatedUser.getLastName(),
+                    "work_experience",
+                    workExperienceId,
+                    AuditLog.AuditAction.UPDATE,
+                    oldWorkExperience,
+                    response,
+                    "Actualización de experiencia laboral",
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Experiencia laboral actualizada exitosamente",
+                            HttpStatus.OK.value(),
+                            response
+                    )
+            );
+
+        } catch (WorkExperienceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        } catch (InvalidWorkExperienceDateException | InvalidWorkExperienceLocationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * DELETE - Eliminar una experiencia laboral
+     */
+    @DeleteMapping("/{workExperienceId}")
+    @Operation(
+            summary = "Eliminar experiencia laboral",
+            description = "Elimina una experiencia laboral. Pueden eliminar el propietario y quien tenga el permiso CURRICULUM_EDIT_ALL"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Experiencia eliminada exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Experiencia no encontrada o no autorizada")
+    })
+    public ResponseEntity<ApiResponseDTO<Void>> deleteWorkExperience(
+            @Parameter(description = "ID de la experiencia laboral", example = "1")
+            @PathVariable Integer workExperienceId,
+            HttpServletRequest request) {
+        try {
+            Users authenticatedUser = getAuthenticatedUser();
+            Integer userId = authenticatedUser.getUserId();
+            boolean canEditOthers = rolePermissionEvaluator.currentUserHas(PermissionEnum.CURRICULUM_EDIT_ALL);
+
+            // Datos antes de eliminar (para auditoría)
+            WorkExperienceResponseDTO workExperience =
+                    workExperienceService.getWorkExperienceById(workExperienceId, userId, canEditOthers);
+
+            workExperienceService.deleteWorkExperience(workExperienceId, userId, canEditOthers);
+
+            auditService.logAction(
+                    userId,
+                    authenticatedUser.getEmail(),
+                    authenticatedUser.getFirstName() + " " + authenticatedUser.getLastName(),
+                    "work_experience",
+                    workExperienceId,
+                    AuditLog.AuditAction.DELETE,
+                    workExperience,
+                    null,
+                    "Eliminación de experiencia laboral",
+                    request
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Experiencia laboral eliminada exitosamente",
+                            HttpStatus.OK.value(),
+                            null
+                    )
+            );
+
+        } catch (WorkExperienceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Experiencias laborales de un usuario
+     */
+    @PreAuthorize("hasPermission(null, 'CURRICULUM_VIEW_ALL')")
+    @GetMapping("/user/{userId}")
+    @Operation(
+            summary = "Obtener experiencias laborales de un usuario",
+            description = "Obtiene las experiencias laborales de cualquier usuario"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Experiencias obtenidas exitosamente"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CURRICULUM_VIEW_ALL"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    })
+    public ResponseEntity<ApiResponseDTO<List<WorkExperienceResponseDTO>>> getUserWorkExperiences(
+            @Parameter(description = "ID del usuario", example = "1")
+            @PathVariable Integer userId) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Experiencias laborales obtenidas exitosamente",
+                            HttpStatus.OK.value(),
+                            workExperienceService.getWorkExperiencesByUserId(userId)
+                    )
+            );
+
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.NOT_FOUND.value())
+            );
+        }
+    }
+
+    /**
+     * GET - Usuarios ordenados por experiencia
+     */
+    @PreAuthorize("hasPermission(null, 'CANDIDATES_VIEW')")
+    @GetMapping("/ranking")
+    @Operation(
+            summary = "Usuarios por experiencia laboral",
+            description = "Usuarios activos ordenados por años de experiencia (mayor primero), con filtro " +
+                    "opcional de años mínimos y máximos. Paginación por cursor"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usuarios obtenidos exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso CANDIDATES_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<ExperienceRankingDTO>>> getExperienceRanking(
+            @Parameter(description = "Años mínimos de experiencia", example = "3")
+            @RequestParam(required = false) Double minYears,
+            @Parameter(description = "Años máximos de experiencia", example = "10")
+            @RequestParam(required = false) Double maxYears,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 200)")
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDTO.success(
+                            "Usuarios por experiencia obtenidos exitosamente",
+                            HttpStatus.OK.value(),
+                            workExperienceService.getExperienceRanking(minYears, maxYears, cursor, size)
+                    )
+            );
+
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    ApiResponseDTO.error(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+            );
+        }
+    }
+
+    /**
+     * POST - Recalcular el total de experiencia de todos los usuarios
+     */
+    @PreAuthorize("hasPermission(null, 'SYSTEM_MAINTENANCE')")
+    @PostMapping("/recalculate")
+    @Operation(
+            summary = "Recalcular experiencia laboral",
+            description = "Recalcula el total de experiencia de todos los usuarios con experiencias registradas. " +
+                    "Se usa una vez después de crear la columna experience_days"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recálculo terminado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso SYSTEM_MAINTENANCE")
+    })
+    public ResponseEntity<ApiResponseDTO<ExperienceRecalculationDTO>> recalculate() {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Experiencia laboral recalculada",
+                        HttpStatus.OK.value(),
+                        workExperienceService.recalculateAll()
+                )
+        );
+    }
+
+    // ── Helper JWT ───────────────────────────────────────────────
+    private Users getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("Usuario no autenticado");
+        }
+        return usersService.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+    }
+}
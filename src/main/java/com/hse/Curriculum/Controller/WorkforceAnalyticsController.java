@@ -0,0 +1,85 @@
+package com.hse.Curriculum.Controller;
+import com.hse.Curriculum.Dto.AnalyticsDTO.WorkforceCubeMemberDTO;
+import com.hse.Curriculum.Dto.AnalyticsDTO.WorkforceCubeQueryDTO;
+import com.hse.Curriculum.Dto.AnalyticsDTO.WorkforceCubeResultDTO;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Enum.WorkforceDimensionEnum;
+import com.hse.Curriculum.Service.WorkforceCubeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador de analítica de personal (cruces de nivel educativo, cargo, rol, municipio y estado)
+ *
+ * REQUIERE PERMISO: ANALYTICS_VIEW
+ *
+ * Las consultas se responden desde el cubo en memoria, sin consultar la base de datos
+ */
+@RestController
+@PreAuthorize("hasPermission(null, 'ANALYTICS_VIEW')")
+@RequestMapping("admin/analytics/workforce")
+@Tag(name = "Admin - Workforce Analytics", description = "Cruces de personal desde el cubo en memoria (solo Admin)")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class WorkforceAnalyticsController {
+
+    private final WorkforceCubeService workforceCubeService;
+
+    /**
+     * POST - Consultar el cubo
+     */
+    @PostMapping("/query")
+    @Operation(
+            summary = "Consultar cruce de personal (Admin)",
+            description = "Agrupa por cualquier combinación de dimensiones (EDUCATION_TYPE, GRADUATE_STATUS, CHARGE, " +
+                    "ROLE, MUNICIPALITY, ACTIVE) y filtra por las claves de cada dimensión"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cruce calculado"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<WorkforceCubeResultDTO>> query(@RequestBody WorkforceCubeQueryDTO dto) {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Cruce de personal calculado",
+                        HttpStatus.OK.value(),
+                        workforceCubeService.query(dto)
+                )
+        );
+    }
+
+    /**
+     * GET - Valores de una dimensión
+     */
+    @GetMapping("/dimensions/{dimension}")
+    @Operation(
+            summary = "Valores de una dimensión (Admin)",
+            description = "Lista las claves y nombres conocidos de la dimensión, para construir filtros"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Valores obtenidos"),
+            @ApiResponse(responseCode = "403", description = "No autorizado - requiere permiso ANALYTICS_VIEW")
+    })
+    public ResponseEntity<ApiResponseDTO<List<WorkforceCubeMemberDTO>>> getMembers(
+            @Parameter(description = "Dimensión del cubo")
+            @PathVariable WorkforceDimensionEnum dimension) {
+        return ResponseEntity.ok(
+                ApiResponseDTO.success(
+                        "Valores de la dimensión obtenidos",
+                        HttpStatus.OK.value(),
+                        workforceCubeService.getMembers(dimension)
+                )
+        );
+    }
+}
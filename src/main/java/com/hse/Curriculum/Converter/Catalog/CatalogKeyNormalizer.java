@@ -0,0 +1,37 @@
+package com.hse.Curriculum.Converter.Catalog;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Clave de comparación para el diccionario de nombres
+ *
+ * "SENA", "Sena ", "S.E.N.A." y "séna" producen la misma clave ("sena"):
+ * sin tildes, en minúsculas, sin puntos ni apóstrofos y con cualquier otro símbolo
+ * reducido a un espacio. Es la única implementación de la regla: el agrupamiento de
+ * variantes existentes también se hace en Java con esta clase, no en SQL.
+ */
+public final class CatalogKeyNormalizer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}");
+    private static final Pattern ABBREVIATION = Pattern.compile("[.'´`]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private CatalogKeyNormalizer() {
+    }
+
+    /**
+     * @param value Nombre en texto libre
+     * @return Clave normalizada (vacía si el nombre no tiene letras ni dígitos)
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String key = Normalizer.normalize(value, Normalizer.Form.NFD);
+        key = MARKS.matcher(key).replaceAll("").toLowerCase(Locale.ROOT);
+        key = ABBREVIATION.matcher(key).replaceAll("");
+        return SEPARATORS.matcher(key).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,64 @@
+package com.hse.Curriculum.Converter.Catalog;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Búsqueda por prefijo sobre claves normalizadas con CatalogKeyNormalizer
+ *
+ * Cada nombre se indexa completo y desde cada palabra significativa ("san jose del guaviare",
+ * "jose del guaviare", "guaviare") en un arreglo ordenado; un prefijo se resuelve con
+ * búsqueda binaria y un recorrido del rango limitado a MAX_SCAN claves.
+ * Lo usan el diccionario de nombres y el autocompletado geográfico.
+ */
+public final class PrefixSearch {
+
+    /** Máximo de claves recorridas por consulta */
+    public static final int MAX_SCAN = 5000;
+
+    private static final Set<String> STOPWORDS = Set.of("de", "del", "la", "las", "los", "el", "y", "en", "para");
+
+    private PrefixSearch() {
+    }
+
+    /**
+     * Entregar la clave completa (fromStart = true) y cada sufijo que empieza en una
+     * palabra significativa (fromStart = false); una clave vacía no produce nada
+     *
+     * @param key Clave normalizada
+     * @param sink Recibe cada clave a indexar y si corresponde al inicio del nombre
+     */
+    public static void tokenize(String key, BiConsumer<String, Boolean> sink) {
+        if (key.isEmpty()) {
+            return;
+        }
+        sink.accept(key, true);
+        int position = key.indexOf(' ');
+        while (position >= 0) {
+            int wordStart = position + 1;
+            int wordEnd = key.indexOf(' ', wordStart);
+            String word = wordEnd < 0 ? key.substring(wordStart) : key.substring(wordStart, wordEnd);
+            if (!STOPWORDS.contains(word)) {
+                sink.accept(key.substring(wordStart), false);
+            }
+            position = wordEnd;
+        }
+    }
+
+    /**
+     * Primera posición cuya clave es mayor o igual al prefijo (las claves pueden repetirse)
+     */
+    public static int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,96 @@
+package com.hse.Curriculum.Converter.Matching;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Selección en paralelo de los mejores k resultados de un arreglo de candidatos
+ *
+ * El rango se divide en un ForkJoinPool hasta tramos de splitThreshold; cada hoja llena un
+ * heap acotado a k (el peor en la cima) y los heaps se combinan al unir las tareas, así que
+ * la memoria es O(k) por tramo sin importar cuántos candidatos haya.
+ * Lo usan el motor de candidatos por cargo y el recomendador de candidatos similares.
+ */
+public final class BoundedTopK {
+
+    private BoundedTopK() {
+    }
+
+    /**
+     * Puntúa los candidatos [from, to) y entrega cada resultado que deba competir
+     */
+    @FunctionalInterface
+    public interface RangeScorer<T> {
+        void score(int from, int to, Consumer<T> sink);
+    }
+
+    /**
+     * Mejores k resultados, ordenados del mejor al peor
+     *
+     * @param pool Pool donde se ejecutan las tareas
+     * @param size Cantidad de candidatos
+     * @param k Máximo de resultados
+     * @param splitThreshold Tamaño de tramo a partir del cual ya no se divide
+     * @param bestFirst Orden de los resultados (el primero es el mejor; debe ser total)
+     * @param scorer Puntuación de un tramo
+     */
+    public static <T> List<T> select(ForkJoinPool pool, int size, int k, int splitThreshold,
+                                     Comparator<T> bestFirst, RangeScorer<T> scorer) {
+        PriorityQueue<T> heap = pool.invoke(new SelectTask<>(0, size, k, splitThreshold, bestFirst, scorer));
+        List<T> top = new ArrayList<>(heap);
+        top.sort(bestFirst);
+        return top;
+    }
+
+    private static final class SelectTask<T> extends RecursiveTask<PriorityQueue<T>> {
+
+        private final int from;
+        private final int to;
+        private final int k;
+        private final int splitThreshold;
+        private final Comparator<T> bestFirst;
+        private final RangeScorer<T> scorer;
+
+        private SelectTask(int from, int to, int k, int splitThreshold, Comparator<T> bestFirst, RangeScorer<T> scorer) {
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.splitThreshold = splitThreshold;
+            this.bestFirst = bestFirst;
+            this.scorer = scorer;
+        }
+
+        @Override
+        protected PriorityQueue<T> compute() {
+            if (to - from <= splitThreshold) {
+                PriorityQueue<T> top = new PriorityQueue<>(k + 1, bestFirst.reversed());
+                scorer.score(from, to, result -> offer(top, result));
+                return top;
+            }
+
+            int middle = (from + to) >>> 1;
+            SelectTask<T> left = new SelectTask<>(from, middle, k, splitThreshold, bestFirst, scorer);
+            left.fork();
+            PriorityQueue<T> right = new SelectTask<>(middle, to, k, splitThreshold, bestFirst, scorer).compute();
+            PriorityQueue<T> merged = left.join();
+            for (T result : right) {
+                offer(merged, result);
+            }
+            return merged;
+        }
+
+        private void offer(PriorityQueue<T> top, T result) {
+            if (top.size() < k) {
+                top.add(result);
+            } else if (bestFirst.compare(result, top.peek()) < 0) {
+                top.poll();
+                top.add(result);
+            }
+        }
+    }
+}
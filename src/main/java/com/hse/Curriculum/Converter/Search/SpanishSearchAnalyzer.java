@@ -0,0 +1,44 @@
+package com.hse.Curriculum.Converter.Search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.es.SpanishAnalyzer;
+import org.apache.lucene.analysis.es.SpanishLightStemFilter;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * Analizador de texto en español para el índice de hojas de vida
+ *
+ * Minúsculas, palabras vacías del español ("en", "de", "la"...), raíz liviana
+ * ("enfermera" y "enfermeras" coinciden) y sin tildes, para que "Bogotá" y "bogota"
+ * produzcan el mismo término. Los valores de un campo multivaluado (una capacitación por
+ * valor) se separan con un salto de posiciones para que una frase no cruce dos registros.
+ */
+public final class SpanishSearchAnalyzer extends Analyzer {
+
+    private static final int VALUE_GAP = 100;
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer source = new StandardTokenizer();
+        TokenStream result = new LowerCaseFilter(source);
+        result = new StopFilter(result, SpanishAnalyzer.getDefaultStopSet());
+        result = new SpanishLightStemFilter(result);
+        result = new ASCIIFoldingFilter(result);
+        return new TokenStreamComponents(source, result);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+    }
+
+    @Override
+    public int getPositionIncrementGap(String fieldName) {
+        return VALUE_GAP;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hse.Curriculum.Converter.Training;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Normaliza la duración de una capacitación (valor + unidad en texto libre) a minutos
+ *
+ * Equivalencias usadas para horas de formación:
+ * - 1 día = 8 horas
+ * - 1 semana = 40 horas
+ * - 1 mes = 160 horas
+ * - 1 año = 1920 horas
+ */
+public final class DurationNormalizer {
+
+    private static final Map<String, Integer> MINUTES_PER_UNIT = new HashMap<>();
+
+    static {
+        register(1, "minuto", "minutos", "min", "mins");
+        register(60, "hora", "horas", "h", "hr", "hrs");
+        register(8 * 60, "dia", "dias", "d");
+        register(40 * 60, "semana", "semanas", "sem");
+        register(160 * 60, "mes", "meses");
+        register(1920 * 60, "ano", "anos");
+    }
+
+    private DurationNormalizer() {
+    }
+
+    private static void register(int minutes, String... aliases) {
+        for (String alias : aliases) {
+            MINUTES_PER_UNIT.put(alias, minutes);
+        }
+    }
+
+    /**
+     * Minutos equivalentes a una unidad de duración
+     *
+     * @param durationUnit Unidad en texto libre (ej: "Horas", "Días", "semanas")
+     * @return Minutos por unidad o null si la unidad no se reconoce
+     */
+    public static Integer minutesPerUnit(String durationUnit) {
+        if (durationUnit == null || durationUnit.isBlank()) {
+            return null;
+        }
+        String key = Normalizer.normalize(durationUnit.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replace(".", "");
+        return MINUTES_PER_UNIT.get(key);
+    }
+
+    /**
+     * Duración normalizada en minutos
+     *
+     * @return Minutos o null si falta el valor o la unidad no se reconoce
+     */
+    public static Integer toMinutes(Integer durationValue, String durationUnit) {
+        if (durationValue == null) {
+            return null;
+        }
+        Integer factor = minutesPerUnit(durationUnit);
+        return factor != null ? durationValue * factor : null;
+    }
+}
@@ -0,0 +1,238 @@
+package com.hse.Curriculum.Converter.Training;
+
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Parser de fechas en múltiples formatos en una sola pasada
+ *
+ * Clasifica la entrada por su forma (longitud, separadores y si trae nombre de mes) y
+ * convierte los dígitos directamente, sin crear subcadenas ni depender de excepciones
+ * para descartar formatos.
+ *
+ * Formatos aceptados:
+ * - dd/MM/yyyy, dd-MM-yyyy, dd.MM.yyyy (día y mes de 1 o 2 dígitos)
+ * - yyyy-MM-dd, yyyy/MM/dd
+ * - MM/dd/yyyy, MM-dd-yyyy (solo cuando no es válida como día/mes)
+ * - ddMMyyyy, yyyyMMdd (ddMMyyyy tiene prioridad)
+ * - dd MMM yyyy, dd MMMM yyyy y "25 de diciembre de 2024", en español o inglés
+ */
+public final class FlexibleDateParser {
+
+    /**
+     * Nombres y abreviaturas de meses (español e inglés); los nombres largos van primero
+     * para que "septiembre" no se detenga en "sep"
+     */
+    private static final String[] MONTH_NAMES = {
+            "septiembre", "noviembre", "diciembre", "setiembre", "february", "november", "december",
+            "september", "febrero", "octubre", "january", "october", "agosto", "august", "marzo", "abril",
+            "enero", "junio", "julio", "march", "april", "sept", "mayo", "june", "july",
+            "ene", "jan", "feb", "mar", "abr", "apr", "may", "jun", "jul", "ago", "aug",
+            "sep", "oct", "nov", "dic", "dec"
+    };
+
+    private static final int[] MONTH_NUMBERS = {
+            9, 11, 12, 9, 2, 11, 12,
+            9, 2, 10, 1, 10, 8, 8, 3, 4,
+            1, 6, 7, 3, 4, 9, 5, 6, 7,
+            1, 1, 2, 3, 4, 4, 5, 6, 7, 8, 8,
+            9, 10, 11, 12, 12
+    };
+
+    private FlexibleDateParser() {
+    }
+
+    /**
+     * Convertir el texto en fecha
+     *
+     * @param text Texto de entrada (se ignoran espacios al inicio y al final)
+     * @return Fecha, o null si no coincide con ningún formato o la fecha no existe
+     */
+    public static LocalDate parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        for (int i = start; i < end; i++) {
+            if (Character.isLetter(text.charAt(i))) {
+                return parseWithMonthName(text, start, end);
+            }
+        }
+
+        if (end - start == 8 && scanDigits(text, start, end) == end) {
+            return parseCompact(text, start);
+        }
+        return parseSeparated(text, start, end);
+    }
+
+    /**
+     * ddMMyyyy o yyyyMMdd
+     */
+    private static LocalDate parseCompact(String text, int start) {
+        LocalDate dayFirst = of(digits(text, start + 4, 4), digits(text, start + 2, 2), digits(text, start, 2));
+        if (dayFirst != null) {
+            return dayFirst;
+        }
+        return of(digits(text, start, 4), digits(text, start + 4, 2), digits(text, start + 6, 2));
+    }
+
+    /**
+     * Tres grupos de dígitos separados por el mismo carácter ('/', '-' o '.')
+     */
+    private static LocalDate parseSeparated(String text, int start, int end) {
+        int firstEnd = scanDigits(text, start, end);
+        int firstLength = firstEnd - start;
+        if (firstLength == 0 || firstEnd >= end) {
+            return null;
+        }
+
+        char separator = text.charAt(firstEnd);
+        if (separator != '/' && separator != '-' && separator != '.') {
+            return null;
+        }
+
+        int secondStart = firstEnd + 1;
+        int secondEnd = scanDigits(text, secondStart, end);
+        int secondLength = secondEnd - secondStart;
+        if (secondLength < 1 || secondLength > 2 || secondEnd >= end || text.charAt(secondEnd) != separator) {
+            return null;
+        }
+
+        int thirdStart = secondEnd + 1;
+        int thirdEnd = scanDigits(text, thirdStart, end);
+        int thirdLength = thirdEnd - thirdStart;
+        if (thirdEnd != end || thirdLength == 0) {
+            return null;
+        }
+
+        int first = digits(text, start, firstLength);
+        int second = digits(text, secondStart, secondLength);
+
+        // yyyy-MM-dd / yyyy/MM/dd
+        if (firstLength == 4 && thirdLength <= 2 && separator != '.') {
+            return of(first, second, digits(text, thirdStart, thirdLength));
+        }
+
+        // dd/MM/yyyy y, si no es válida, MM/dd/yyyy
+        if (firstLength <= 2 && thirdLength == 4) {
+            int year = digits(text, thirdStart, 4);
+            LocalDate dayFirst = of(year, second, first);
+            if (dayFirst != null || separator == '.') {
+                return dayFirst;
+            }
+            return of(year, first, second);
+        }
+        return null;
+    }
+
+    /**
+     * "25 dic 2024", "25-Dec-2024", "25 de diciembre de 2024"
+     */
+    private static LocalDate parseWithMonthName(String text, int start, int end) {
+        int dayEnd = scanDigits(text, start, end);
+        int dayLength = dayEnd - start;
+        if (dayLength < 1 || dayLength > 2) {
+            return null;
+        }
+        int day = digits(text, start, dayLength);
+
+        int i = skipFiller(text, dayEnd, end);
+
+        int month = 0;
+        int monthEnd = i;
+        for (int m = 0; m < MONTH_NAMES.length; m++) {
+            String name = MONTH_NAMES[m];
+            int candidateEnd = i + name.length();
+            if (candidateEnd <= end
+                    && text.regionMatches(true, i, name, 0, name.length())
+                    && (candidateEnd == end || !Character.isLetter(text.charAt(candidateEnd)))) {
+                month = MONTH_NUMBERS[m];
+                monthEnd = candidateEnd;
+                break;
+            }
+        }
+        if (month == 0) {
+            return null;
+        }
+
+        int yearStart = skipFiller(text, monthEnd, end);
+        int yearEnd = scanDigits(text, yearStart, end);
+        if (yearEnd != end || yearEnd - yearStart != 4) {
+            return null;
+        }
+        return of(digits(text, yearStart, 4), month, day);
+    }
+
+    /**
+     * Saltar separadores (espacio, '-', '/', '.', ',') y la palabra "de"
+     */
+    private static int skipFiller(String text, int i, int end) {
+        boolean skipped = true;
+        while (skipped) {
+            skipped = false;
+            while (i < end && isFiller(text.charAt(i))) {
+                i++;
+                skipped = true;
+            }
+            if (i + 2 <= end
+                    && text.regionMatches(true, i, "de", 0, 2)
+                    && (i + 2 == end || !Character.isLetter(text.charAt(i + 2)))) {
+                i += 2;
+                skipped = true;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isFiller(char c) {
+        return c == ' ' || c == '-' || c == '/' || c == '.' || c == ',' || Character.isWhitespace(c);
+    }
+
+    private static int scanDigits(String text, int i, int end) {
+        while (i < end && isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int digits(String text, int from, int length) {
+        int value = 0;
+        for (int i = from; i < from + length; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Construir la fecha solo si existe (no ajusta 31/02 a 28/02)
+     */
+    private static LocalDate of(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        int lengthOfMonth = switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+        if (day > lengthOfMonth) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+}
@@ -0,0 +1,94 @@
+package com.hse.Curriculum.Converter.WorkExperience;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Calcula el tiempo total de experiencia laboral sin contar dos veces los periodos
+ * en que el usuario tuvo más de un trabajo al mismo tiempo
+ *
+ * Los intervalos se ordenan por fecha de inicio y se fusionan los que se solapan o son
+ * contiguos; el total es la suma de días de los intervalos fusionados.
+ * Un trabajo actual (o sin fecha de fin) cuenta hasta la fecha de referencia.
+ */
+public final class ExperienceIntervals {
+
+    /**
+     * Días promedio de un mes (365.25 / 12)
+     */
+    private static final double DAYS_PER_MONTH = 30.4375;
+
+    /**
+     * Días promedio de un año
+     */
+    private static final double DAYS_PER_YEAR = 365.25;
+
+    private final List<LocalDate[]> intervals = new ArrayList<>();
+
+    /**
+     * Convertir días de experiencia a años con un decimal
+     */
+    public static double toYears(long days) {
+        return Math.round(days * 10.0 / DAYS_PER_YEAR) / 10.0;
+    }
+
+    /**
+     * Días mínimos para completar una cantidad de años (redondeo hacia arriba)
+     */
+    public static int toDays(double years) {
+        return (int) Math.ceil(years * DAYS_PER_YEAR);
+    }
+
+    /**
+     * Agregar un trabajo; se ignora si no tiene fecha de inicio o si termina antes de empezar
+     */
+    public ExperienceIntervals add(LocalDate startDate, LocalDate endDate, Boolean currentlyWorking, LocalDate today) {
+        if (startDate == null || startDate.isAfter(today)) {
+            return this;
+        }
+        LocalDate end = Boolean.TRUE.equals(currentlyWorking) || endDate == null || endDate.isAfter(today)
+                ? today
+                : endDate;
+        if (!end.isBefore(startDate)) {
+            intervals.add(new LocalDate[]{startDate, end});
+        }
+        return this;
+    }
+
+    /**
+     * Días de experiencia con los intervalos fusionados (ambas fechas inclusive)
+     */
+    public long totalDays() {
+        if (intervals.isEmpty()) {
+            return 0;
+        }
+        intervals.sort(Comparator.comparing(interval -> interval[0]));
+
+        long days = 0;
+        LocalDate start = intervals.get(0)[0];
+        LocalDate end = intervals.get(0)[1];
+        for (int i = 1; i < intervals.size(); i++) {
+            LocalDate[] next = intervals.get(i);
+            if (!next[0].isAfter(end.plusDays(1))) {
+                if (next[1].isAfter(end)) {
+                    end = next[1];
+                }
+            } else {
+                days += ChronoUnit.DAYS.between(start, end) + 1;
+                start = next[0];
+                end = next[1];
+            }
+        }
+        return days + ChronoUnit.DAYS.between(start, end) + 1;
+    }
+
+    /**
+     * Meses completos de experiencia
+     */
+    public int totalMonths() {
+        return (int) (totalDays() / DAYS_PER_MONTH);
+    }
+}
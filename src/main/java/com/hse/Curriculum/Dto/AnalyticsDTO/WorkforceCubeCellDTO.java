@@ -0,0 +1,26 @@
+package com.hse.Curriculum.Dto.AnalyticsDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con una celda del resultado (combinación de valores agrupados y su conteo)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Celda del resultado del cubo")
+public class WorkforceCubeCellDTO {
+
+    @Schema(description = "Valores de las dimensiones agrupadas, en el orden de groupBy")
+    private List<WorkforceCubeMemberDTO> members;
+
+    @Schema(description = "Cantidad de personas", example = "27")
+    private Long count;
+}
@@ -0,0 +1,28 @@
+package com.hse.Curriculum.Dto.AnalyticsDTO;
+
+import com.hse.Curriculum.Enum.WorkforceDimensionEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con un valor de una dimensión del cubo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Valor de una dimensión del cubo")
+public class WorkforceCubeMemberDTO {
+
+    @Schema(description = "Dimensión", example = "CHARGE")
+    private WorkforceDimensionEnum dimension;
+
+    @Schema(description = "Clave usada en los filtros", example = "3")
+    private String key;
+
+    @Schema(description = "Nombre para mostrar", example = "Inspector HSE")
+    private String label;
+}
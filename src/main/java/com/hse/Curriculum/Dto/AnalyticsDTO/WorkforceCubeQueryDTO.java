@@ -0,0 +1,31 @@
+package com.hse.Curriculum.Dto.AnalyticsDTO;
+
+import com.hse.Curriculum.Enum.WorkforceDimensionEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO de consulta al cubo de analítica de personal
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Consulta al cubo de analítica de personal")
+public class WorkforceCubeQueryDTO {
+
+    @Schema(description = "Dimensiones por las que se agrupa (vacío = solo el total)",
+            example = "[\"CHARGE\", \"EDUCATION_TYPE\"]")
+    private List<WorkforceDimensionEnum> groupBy;
+
+    @Schema(description = "Filtros: dimensión -> claves permitidas (ID para cargo, rol y municipio; " +
+            "nombre del enum para educación; TRUE/FALSE para ACTIVE; NONE = sin dato)",
+            example = "{\"ACTIVE\": [\"TRUE\"], \"GRADUATE_STATUS\": [\"GRADUADO\", \"EN_CURSO\"]}")
+    private Map<WorkforceDimensionEnum, List<String>> filters;
+}
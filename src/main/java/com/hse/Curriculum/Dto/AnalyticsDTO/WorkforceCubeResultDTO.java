@@ -0,0 +1,33 @@
+package com.hse.Curriculum.Dto.AnalyticsDTO;
+
+import com.hse.Curriculum.Enum.WorkforceDimensionEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de una consulta al cubo de analítica de personal
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado de una consulta al cubo de analítica de personal")
+public class WorkforceCubeResultDTO {
+
+    @Schema(description = "Dimensiones agrupadas")
+    private List<WorkforceDimensionEnum> groupBy;
+
+    @Schema(description = "Total de personas que cumplen los filtros", example = "312")
+    private Long total;
+
+    @Schema(description = "Celdas ordenadas por cantidad descendente")
+    private List<WorkforceCubeCellDTO> cells;
+
+    @Schema(description = "Tiempo de cálculo en microsegundos", example = "85")
+    private Long elapsedMicros;
+}
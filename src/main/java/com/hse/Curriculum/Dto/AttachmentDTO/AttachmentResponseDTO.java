@@ -0,0 +1,48 @@
+package com.hse.Curriculum.Dto.AttachmentDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con los metadatos de un certificado adjunto
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Metadatos de un certificado adjunto a una capacitación o educación")
+public class AttachmentResponseDTO {
+
+    @Schema(description = "ID del adjunto", example = "15")
+    private Integer attachmentId;
+
+    @Schema(description = "ID de la capacitación (null si pertenece a educación)", example = "42")
+    private Integer trainingId;
+
+    @Schema(description = "ID del registro de educación (null si pertenece a una capacitación)")
+    private Integer educationId;
+
+    @Schema(description = "Nombre original del archivo", example = "certificado_alturas.pdf")
+    private String originalFilename;
+
+    @Schema(description = "Tipo de contenido detectado", example = "application/pdf")
+    private String contentType;
+
+    @Schema(description = "Tamaño en bytes", example = "248731")
+    private Long sizeBytes;
+
+    @Schema(description = "Hash SHA-256 del contenido", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String sha256;
+
+    @Schema(description = "URL de descarga", example = "/attachments/15/content")
+    private String downloadUrl;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,32 @@
+package com.hse.Curriculum.Dto.CatalogDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO con el resultado de agrupar los nombres existentes en el diccionario
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado de la migración de nombres al diccionario")
+public class CatalogClusterResultDTO {
+
+    @Schema(description = "Variantes de escritura distintas encontradas", example = "1840")
+    private Integer variantsFound;
+
+    @Schema(description = "Términos nuevos creados", example = "312")
+    private Integer termsCreated;
+
+    @Schema(description = "Registros asignados por campo", example = "{\"trainings.institution\": 10450}")
+    private Map<String, Integer> rowsAssigned;
+
+    @Schema(description = "Duración en milisegundos", example = "950")
+    private Long durationMs;
+}
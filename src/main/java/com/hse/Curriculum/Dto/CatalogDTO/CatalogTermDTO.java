@@ -0,0 +1,28 @@
+package com.hse.Curriculum.Dto.CatalogDTO;
+
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de un término del diccionario de nombres (sugerencias de autocompletado)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Término normalizado del diccionario de instituciones, cursos y tipos")
+public class CatalogTermDTO {
+
+    @Schema(description = "ID del término", example = "7")
+    private Integer termId;
+
+    @Schema(description = "Categoría", example = "INSTITUTION")
+    private CatalogCategoryEnum category;
+
+    @Schema(description = "Nombre canónico", example = "SENA")
+    private String name;
+}
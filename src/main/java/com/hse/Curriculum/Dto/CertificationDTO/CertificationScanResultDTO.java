@@ -0,0 +1,39 @@
+package com.hse.Curriculum.Dto.CertificationDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO con el resultado de un escaneo de vencimientos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado del escaneo de vencimientos de certificaciones")
+public class CertificationScanResultDTO {
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    @Schema(description = "Fecha del escaneo", example = "01/03/2025")
+    private LocalDate scanDate;
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    @Schema(description = "Inicio del rango escaneado", example = "22/02/2025")
+    private LocalDate fromDate;
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    @Schema(description = "Fin del rango escaneado", example = "31/03/2025")
+    private LocalDate toDate;
+
+    @Schema(description = "Notificaciones nuevas registradas", example = "42")
+    private Integer notificationsCreated;
+
+    @Schema(description = "Duración del escaneo en milisegundos", example = "18")
+    private Long durationMs;
+}
@@ -0,0 +1,62 @@
+package com.hse.Curriculum.Dto.CertificationDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO con una certificación próxima a vencer o vencida
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Certificación próxima a vencer o vencida")
+public class ExpiringCertificationDTO {
+
+    @Schema(description = "ID de la capacitación", example = "120")
+    private Integer trainingId;
+
+    @Schema(description = "ID del usuario", example = "15")
+    private Integer userId;
+
+    @Schema(description = "Nombre completo del usuario", example = "Juan Pérez")
+    private String fullName;
+
+    @Schema(description = "Email del usuario", example = "juan.perez@empresa.com")
+    private String email;
+
+    @Schema(description = "ID del cargo", example = "3")
+    private Integer chargeId;
+
+    @Schema(description = "Nombre del cargo", example = "Inspector HSE")
+    private String chargeName;
+
+    @Schema(description = "Nombre del curso", example = "Trabajo seguro en alturas - nivel avanzado")
+    private String courseName;
+
+    @Schema(description = "Tipo de capacitación", example = "Trabajo en Alturas")
+    private String trainingType;
+
+    @Schema(description = "Institución", example = "SENA")
+    private String institution;
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    @Schema(description = "Fecha de finalización", example = "15/01/2024")
+    private LocalDate completionDate;
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    @Schema(description = "Fecha de vencimiento", example = "15/07/2025")
+    private LocalDate expiresAt;
+
+    @Schema(description = "Días restantes (negativo si ya venció)", example = "12")
+    private Long daysRemaining;
+
+    @Schema(description = "Estado del vencimiento", example = "DUE", allowableValues = {"DUE", "OVERDUE"})
+    private String status;
+}
@@ -0,0 +1,35 @@
+package com.hse.Curriculum.Dto.CertificationDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para crear o actualizar la vigencia de un tipo de capacitación
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Vigencia de un tipo de capacitación")
+public class TrainingValidityRequestDTO {
+
+    @NotBlank(message = "El tipo de capacitación es obligatorio")
+    @Size(max = 100, message = "El tipo de capacitación no puede exceder 100 caracteres")
+    @Schema(description = "Tipo de capacitación", example = "Trabajo en Alturas", required = true)
+    private String trainingType;
+
+    @NotNull(message = "Los meses de vigencia son obligatorios")
+    @Min(value = 1, message = "La vigencia debe ser de al menos 1 mes")
+    @Max(value = 240, message = "La vigencia no puede exceder 240 meses")
+    @Schema(description = "Meses de vigencia desde la fecha de finalización", example = "18", required = true)
+    private Integer validityMonths;
+
+    @Min(value = 0, message = "Los días de aviso no pueden ser negativos")
+    @Max(value = 365, message = "Los días de aviso no pueden exceder 365")
+    @Schema(description = "Días de anticipación para notificar el vencimiento", example = "30")
+    private Integer warningDays;
+}
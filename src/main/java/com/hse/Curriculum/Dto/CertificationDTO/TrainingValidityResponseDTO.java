@@ -0,0 +1,33 @@
+package com.hse.Curriculum.Dto.CertificationDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta con la vigencia de un tipo de capacitación
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Vigencia configurada para un tipo de capacitación")
+public class TrainingValidityResponseDTO {
+
+    @Schema(description = "ID de la vigencia", example = "1")
+    private Integer validityId;
+
+    @Schema(description = "Tipo de capacitación", example = "Trabajo en Alturas")
+    private String trainingType;
+
+    @Schema(description = "Meses de vigencia", example = "18")
+    private Integer validityMonths;
+
+    @Schema(description = "Días de aviso antes del vencimiento", example = "30")
+    private Integer warningDays;
+
+    @Schema(description = "Capacitaciones cuya fecha de vencimiento se recalculó", example = "1250")
+    private Integer recalculatedTrainings;
+}
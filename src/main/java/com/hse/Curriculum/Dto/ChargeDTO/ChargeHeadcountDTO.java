@@ -0,0 +1,33 @@
+package com.hse.Curriculum.Dto.ChargeDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el personal bajo un cargo del organigrama
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Personal activo bajo un cargo")
+public class ChargeHeadcountDTO {
+
+    @Schema(description = "ID del cargo", example = "4")
+    private Integer chargeId;
+
+    @Schema(description = "Nombre del cargo", example = "Coordinador HSE")
+    private String nameCharge;
+
+    @Schema(description = "Usuarios activos con este cargo", example = "2")
+    private Long directUsers;
+
+    @Schema(description = "Usuarios activos en este cargo y todos los que le reportan", example = "18")
+    private Long subtreeUsers;
+
+    @Schema(description = "Cargos en el subárbol, incluido este", example = "5")
+    private Integer subtreeCharges;
+}
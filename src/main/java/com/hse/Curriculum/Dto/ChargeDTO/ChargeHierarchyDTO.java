@@ -0,0 +1,35 @@
+package com.hse.Curriculum.Dto.ChargeDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con la posición de un cargo en el organigrama
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Posición de un cargo en el organigrama")
+public class ChargeHierarchyDTO {
+
+    @Schema(description = "ID del cargo", example = "7")
+    private Integer chargeId;
+
+    @Schema(description = "Nombre del cargo", example = "Inspector HSE")
+    private String nameCharge;
+
+    @Schema(description = "ID del cargo al que reporta directamente (null si es raíz)", example = "4")
+    private Integer parentChargeId;
+
+    @Schema(description = "Línea de reporte, del cargo más alto al superior directo")
+    private List<ChargeNodeDTO> ancestors;
+
+    @Schema(description = "Cargos que reportan directamente a este cargo")
+    private List<ChargeNodeDTO> children;
+}
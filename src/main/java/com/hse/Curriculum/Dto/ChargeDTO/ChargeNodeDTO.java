@@ -0,0 +1,27 @@
+package com.hse.Curriculum.Dto.ChargeDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de un cargo dentro del organigrama
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cargo dentro del organigrama")
+public class ChargeNodeDTO {
+
+    @Schema(description = "ID del cargo", example = "4")
+    private Integer chargeId;
+
+    @Schema(description = "Nombre del cargo", example = "Coordinador HSE")
+    private String nameCharge;
+
+    @Schema(description = "Niveles de distancia respecto al cargo consultado", example = "1")
+    private Integer depth;
+}
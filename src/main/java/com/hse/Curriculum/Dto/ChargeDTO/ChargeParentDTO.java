@@ -0,0 +1,21 @@
+package com.hse.Curriculum.Dto.ChargeDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para cambiar el cargo al que reporta otro cargo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cargo superior (null para dejarlo como raíz)")
+public class ChargeParentDTO {
+
+    @Schema(description = "ID del cargo al que reporta (null = sin superior)", example = "2")
+    private Integer parentChargeId;
+}
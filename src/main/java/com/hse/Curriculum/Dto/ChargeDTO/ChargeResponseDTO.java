@@ -39,4 +39,7 @@ public class ChargeResponseDTO {
 
     @Schema(description = "ID del usuario que actualizó el cargo", example = "1")
     private Integer updatedBy;
+
+    @Schema(description = "Cantidad de usuarios con este cargo", example = "5")
+    private Long userCount;
 }
@@ -0,0 +1,39 @@
+package com.hse.Curriculum.Dto.ChargeDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de un usuario dentro del subárbol de un cargo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Usuario activo bajo un cargo del organigrama")
+public class ChargeSubtreeUserDTO {
+
+    @Schema(description = "ID del usuario", example = "15")
+    private Integer userId;
+
+    @Schema(description = "Nombre", example = "Juan")
+    private String firstName;
+
+    @Schema(description = "Apellido", example = "Pérez")
+    private String lastName;
+
+    @Schema(description = "Email", example = "juan.perez@email.com")
+    private String email;
+
+    @Schema(description = "ID del cargo del usuario", example = "7")
+    private Integer chargeId;
+
+    @Schema(description = "Nombre del cargo del usuario", example = "Inspector HSE")
+    private String nameCharge;
+
+    @Schema(description = "Niveles entre el cargo consultado y el del usuario (0 = mismo cargo)", example = "1")
+    private Integer depth;
+}
@@ -0,0 +1,41 @@
+package com.hse.Curriculum.Dto.ComplianceDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el cumplimiento de capacitaciones obligatorias de un cargo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cumplimiento de capacitaciones obligatorias de un cargo")
+public class ChargeComplianceDTO {
+
+    @Schema(description = "ID del cargo", example = "3")
+    private Integer chargeId;
+
+    @Schema(description = "Nombre del cargo", example = "Inspector HSE")
+    private String chargeName;
+
+    @Schema(description = "Capacitaciones obligatorias del cargo")
+    private List<String> requiredTrainings;
+
+    @Schema(description = "Usuarios activos en el cargo", example = "20")
+    private Integer totalUsers;
+
+    @Schema(description = "Usuarios que cumplen todas las capacitaciones obligatorias", example = "15")
+    private Integer compliantUsers;
+
+    @Schema(description = "Porcentaje de cumplimiento del cargo", example = "75.0")
+    private Double compliancePercentage;
+
+    @Schema(description = "Cobertura por capacitación obligatoria")
+    private List<TrainingCoverageDTO> coverage;
+}
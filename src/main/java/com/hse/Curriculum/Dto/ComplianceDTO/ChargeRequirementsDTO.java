@@ -0,0 +1,30 @@
+package com.hse.Curriculum.Dto.ComplianceDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para definir las capacitaciones obligatorias de un cargo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Capacitaciones obligatorias de un cargo")
+public class ChargeRequirementsDTO {
+
+    @NotNull(message = "La lista de capacitaciones es obligatoria")
+    @Size(max = 100, message = "Un cargo no puede tener más de 100 capacitaciones obligatorias")
+    @Schema(description = "Tipos de capacitación obligatorios (reemplaza la lista actual)",
+            example = "[\"Trabajo en Alturas\", \"Primeros Auxilios\"]")
+    private List<@NotBlank(message = "El tipo de capacitación no puede estar vacío")
+            @Size(max = 100, message = "El tipo de capacitación no puede exceder 100 caracteres") String> trainingTypes;
+}
@@ -0,0 +1,27 @@
+package com.hse.Curriculum.Dto.ComplianceDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con la cobertura de una capacitación obligatoria dentro de un cargo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cobertura de una capacitación obligatoria en un cargo")
+public class TrainingCoverageDTO {
+
+    @Schema(description = "Tipo de capacitación", example = "Trabajo en Alturas")
+    private String trainingType;
+
+    @Schema(description = "Usuarios del cargo que la tienen vigente", example = "18")
+    private Integer usersCompleted;
+
+    @Schema(description = "Porcentaje de usuarios del cargo que la tienen vigente", example = "90.0")
+    private Double percentage;
+}
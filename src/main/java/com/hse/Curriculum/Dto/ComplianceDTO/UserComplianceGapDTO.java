@@ -0,0 +1,41 @@
+package com.hse.Curriculum.Dto.ComplianceDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con las capacitaciones obligatorias que le faltan a un usuario
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Brechas de capacitación de un usuario frente a su cargo")
+public class UserComplianceGapDTO {
+
+    @Schema(description = "ID del usuario", example = "15")
+    private Integer userId;
+
+    @Schema(description = "Nombre completo", example = "Juan Pérez")
+    private String fullName;
+
+    @Schema(description = "Email", example = "juan.perez@empresa.com")
+    private String email;
+
+    @Schema(description = "ID del cargo", example = "3")
+    private Integer chargeId;
+
+    @Schema(description = "Capacitaciones obligatorias del cargo", example = "4")
+    private Integer requiredCount;
+
+    @Schema(description = "Capacitaciones obligatorias faltantes o vencidas")
+    private List<String> missingTrainings;
+
+    @Schema(description = "Indica si cumple todas las capacitaciones obligatorias", example = "false")
+    private Boolean compliant;
+}
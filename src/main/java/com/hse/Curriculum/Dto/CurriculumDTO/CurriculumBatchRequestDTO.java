@@ -0,0 +1,41 @@
+package com.hse.Curriculum.Dto.CurriculumDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para solicitar las hojas de vida de varios usuarios
+ * Se envían los IDs o, en su lugar, un filtro por cargo y/o rol (paginado por cursor)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Solicitud de hojas de vida por lotes")
+public class CurriculumBatchRequestDTO {
+
+    @Size(max = 100, message = "No se pueden solicitar más de 100 usuarios por lote")
+    @Schema(description = "IDs de los usuarios (máximo 100)", example = "[5, 8, 13]")
+    private List<Integer> userIds;
+
+    @Schema(description = "ID del cargo (se usa si no se envían IDs)", example = "3")
+    private Integer chargeId;
+
+    @Schema(description = "ID del rol (se usa si no se envían IDs)", example = "2")
+    private Integer roleId;
+
+    @Schema(description = "Estado del usuario para el filtro (true = activo)", example = "true")
+    private Boolean status;
+
+    @Schema(description = "Cursor de la página anterior del filtro (null para la primera)", example = "MTI4")
+    private String cursor;
+
+    @Schema(description = "Tamaño de página del filtro (máximo 100)", example = "100")
+    private Integer size;
+}
@@ -0,0 +1,24 @@
+package com.hse.Curriculum.Dto.CurriculumDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de reconstruir el índice de búsqueda de hojas de vida
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado de la reindexación de hojas de vida")
+public class CurriculumReindexDTO {
+
+    @Schema(description = "Hojas de vida indexadas", example = "100000")
+    private Integer indexed;
+
+    @Schema(description = "Tiempo total en milisegundos", example = "25400")
+    private Long elapsedMillis;
+}
@@ -0,0 +1,42 @@
+package com.hse.Curriculum.Dto.CurriculumDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO de un resultado de la búsqueda de hojas de vida
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Hoja de vida encontrada por la búsqueda de texto")
+public class CurriculumSearchHitDTO {
+
+    @Schema(description = "ID del usuario", example = "128")
+    private Integer userId;
+
+    @Schema(description = "Nombre completo", example = "Laura Gómez")
+    private String fullName;
+
+    @Schema(description = "Correo electrónico", example = "laura.gomez@empresa.com")
+    private String email;
+
+    @Schema(description = "Cargo actual", example = "Auxiliar de enfermería")
+    private String chargeName;
+
+    @Schema(description = "Usuario activo", example = "true")
+    private Boolean active;
+
+    @Schema(description = "Relevancia del resultado", example = "7.42")
+    private Float score;
+
+    @Schema(description = "Fragmentos resaltados por sección (name, charge, summary, trainings, educations, experience)",
+            example = "{\"trainings\": \"Curso <b>trabajo</b> en <b>alturas</b> - SENA\"}")
+    private Map<String, String> highlights;
+}
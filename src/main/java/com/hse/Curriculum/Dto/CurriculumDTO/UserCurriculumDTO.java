@@ -0,0 +1,79 @@
+package com.hse.Curriculum.Dto.CurriculumDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hse.Curriculum.Dto.EducationDTO.EducationResponseDTO;
+import com.hse.Curriculum.Dto.TrainingDTO.TrainingResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO con la hoja de vida de un usuario: datos básicos, perfil, educación y capacitaciones
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Hoja de vida de un usuario")
+public class UserCurriculumDTO {
+
+    @Schema(description = "ID del usuario", example = "5")
+    private Integer userId;
+
+    @Schema(description = "Nombre completo", example = "Ana Gómez")
+    private String fullName;
+
+    @Schema(description = "Email", example = "ana.gomez@empresa.com")
+    private String email;
+
+    @Schema(description = "Usuario activo", example = "true")
+    private Boolean status;
+
+    @Schema(description = "Rol", example = "USER")
+    private String roleName;
+
+    @Schema(description = "ID del cargo", example = "3")
+    private Integer chargeId;
+
+    @Schema(description = "Cargo", example = "Inspector HSE")
+    private String chargeName;
+
+    @Schema(description = "Tipo de documento", example = "CC")
+    private String documentType;
+
+    @Schema(description = "Número de documento", example = "1020304050")
+    private String documentNumber;
+
+    @Schema(description = "Teléfono", example = "3001234567")
+    private String phoneNumber;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "Fecha de nacimiento", example = "1990-05-14")
+    private LocalDate birthDate;
+
+    @Schema(description = "Dirección residencial")
+    private String residentialAddress;
+
+    @Schema(description = "Resumen profesional")
+    private String professionalSummary;
+
+    @Schema(description = "Logros profesionales")
+    private String careerAchievements;
+
+    @Schema(description = "Perfil completo", example = "true")
+    private Boolean profileComplete;
+
+    @Schema(description = "Puntaje de completitud (0-100)", example = "85")
+    private Integer completenessScore;
+
+    @Schema(description = "Registros educativos")
+    private List<EducationResponseDTO> educations;
+
+    @Schema(description = "Capacitaciones")
+    private List<TrainingResponseDTO> trainings;
+}
@@ -0,0 +1,31 @@
+package com.hse.Curriculum.Dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de resultados paginada por cursor (keyset)
+ * Para pedir la siguiente página se envía nextCursor; si es null no hay más resultados
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Página de resultados paginada por cursor")
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Elementos de la página")
+    private List<T> items;
+
+    @Schema(description = "Cursor para solicitar la siguiente página (null si no hay más)",
+            example = "NDU6MTI4")
+    private String nextCursor;
+
+    @Schema(description = "Cantidad de elementos en la página", example = "50")
+    private Integer size;
+}
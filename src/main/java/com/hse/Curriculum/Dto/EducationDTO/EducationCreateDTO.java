@@ -1,5 +1,7 @@
 package com.hse.Curriculum.Dto.EducationDTO;
 
+import com.hse.Curriculum.Converter.Training.FlexibleDateDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.hse.Curriculum.Enum.EducationTypeEnum;
 import com.hse.Curriculum.Enum.GraduateStatusEnum;
@@ -46,5 +48,6 @@ public class EducationCreateDTO {
 
     @PastOrPresent(message = "La fecha del último nivel debe ser anterior o igual a la fecha actual")
     @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonDeserialize(using = FlexibleDateDeserializer.class)
     private LocalDate lastLevelDate;
 }
@@ -1,4 +1,6 @@
 package com.hse.Curriculum.Dto.EducationDTO;
+import com.hse.Curriculum.Converter.Training.FlexibleDateDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.hse.Curriculum.Enum.EducationTypeEnum;
 import com.hse.Curriculum.Enum.GraduateStatusEnum;
@@ -40,5 +42,6 @@ public class EducationUpdateDTO {
 
     @PastOrPresent(message = "La fecha del último nivel debe ser anterior o igual a la fecha actual")
     @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonDeserialize(using = FlexibleDateDeserializer.class)
     private LocalDate lastLevelDate;
 }
@@ -0,0 +1,31 @@
+package com.hse.Curriculum.Dto.ExportDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con los filtros para la exportación masiva de hojas de vida
+ * Todos los filtros son opcionales; los nulos no se aplican
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Filtros para la exportación masiva de hojas de vida")
+public class CurriculumExportRequestDTO {
+
+    @Schema(description = "ID del cargo", example = "3")
+    private Integer chargeId;
+
+    @Schema(description = "ID del rol", example = "2")
+    private Integer roleId;
+
+    @Schema(description = "Estado del usuario (true = activo)", example = "true")
+    private Boolean status;
+
+    @Schema(description = "Filtrar por perfil completo / incompleto", example = "true")
+    private Boolean profileComplete;
+}
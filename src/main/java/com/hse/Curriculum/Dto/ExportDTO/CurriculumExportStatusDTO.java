@@ -0,0 +1,55 @@
+package com.hse.Curriculum.Dto.ExportDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con el progreso de un trabajo de exportación
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Estado y progreso de una exportación masiva de hojas de vida")
+public class CurriculumExportStatusDTO {
+
+    @Schema(description = "Identificador del trabajo", example = "6f1c0b7e-2d7a-4a8e-9d55-0c5d3c1f9a10")
+    private String jobId;
+
+    @Schema(description = "Estado del trabajo", example = "RUNNING",
+            allowableValues = {"PENDING", "RUNNING", "COMPLETED", "FAILED"})
+    private String state;
+
+    @Schema(description = "Total de hojas de vida a exportar", example = "250")
+    private Integer total;
+
+    @Schema(description = "Hojas de vida ya escritas en el ZIP", example = "120")
+    private Integer completed;
+
+    @Schema(description = "Hojas de vida que no se pudieron generar", example = "0")
+    private Integer failed;
+
+    @Schema(description = "Porcentaje de avance", example = "48")
+    private Integer progress;
+
+    @Schema(description = "Tamaño del ZIP en bytes (solo cuando termina)", example = "1048576")
+    private Long sizeBytes;
+
+    @Schema(description = "URL de descarga (solo cuando termina)", example = "/admin/curriculum-exports/{jobId}/download")
+    private String downloadUrl;
+
+    @Schema(description = "Mensaje de error si el trabajo falló")
+    private String errorMessage;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime finishedAt;
+}
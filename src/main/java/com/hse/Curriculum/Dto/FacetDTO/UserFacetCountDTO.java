@@ -0,0 +1,30 @@
+package com.hse.Curriculum.Dto.FacetDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el conteo de un valor de faceta
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Conteo de usuarios de un valor de faceta")
+public class UserFacetCountDTO {
+
+    @Schema(description = "Clave usada en los filtros", example = "3")
+    private String key;
+
+    @Schema(description = "Nombre para mostrar", example = "Inspector HSE")
+    private String label;
+
+    @Schema(description = "Usuarios con este valor que cumplen los filtros de las demás facetas", example = "42")
+    private Long count;
+
+    @Schema(description = "El valor está seleccionado en los filtros", example = "false")
+    private Boolean selected;
+}
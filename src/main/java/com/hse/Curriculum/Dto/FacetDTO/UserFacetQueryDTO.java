@@ -0,0 +1,38 @@
+package com.hse.Curriculum.Dto.FacetDTO;
+
+import com.hse.Curriculum.Enum.UserFacetEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO de consulta al índice de facetas de usuarios
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Filtro por facetas de usuarios")
+public class UserFacetQueryDTO {
+
+    @Schema(description = "Filtros: faceta -> claves permitidas. Las claves de una faceta se combinan con O " +
+            "y las facetas entre sí con Y (ID para rol, cargo, país y municipio; nombre del enum para educación; " +
+            "TRUE/FALSE para STATUS; tipo para capacitaciones; BAJO/MEDIO/ALTO/COMPLETO para completitud; " +
+            "NONE = sin dato)",
+            example = "{\"STATUS\": [\"TRUE\"], \"TRAINING_TYPE\": [\"ALTURAS\"], \"EXPERIENCE_MUNICIPALITY\": [\"1009\"]}")
+    private Map<UserFacetEnum, List<String>> filters;
+
+    @Schema(description = "Valores por faceta en los conteos (por defecto 20, máximo 200)", example = "20")
+    private Integer facetLimit;
+
+    @Schema(description = "Cursor devuelto por la página anterior", example = "MTI4")
+    private String cursor;
+
+    @Schema(description = "Tamaño de página de usuarios (por defecto 50, máximo 200)", example = "50")
+    private Integer size;
+}
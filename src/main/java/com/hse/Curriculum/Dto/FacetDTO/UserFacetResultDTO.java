@@ -0,0 +1,35 @@
+package com.hse.Curriculum.Dto.FacetDTO;
+
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Enum.UserFacetEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO con el resultado de filtrar usuarios por facetas
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Usuarios filtrados por facetas con los conteos de cada faceta")
+public class UserFacetResultDTO {
+
+    @Schema(description = "Total de usuarios que cumplen los filtros", example = "312")
+    private Long total;
+
+    @Schema(description = "Conteos por faceta, ordenados por cantidad descendente")
+    private Map<UserFacetEnum, List<UserFacetCountDTO>> facets;
+
+    @Schema(description = "Página de usuarios ordenados por ID")
+    private CursorPageDTO<UserFacetUserDTO> users;
+
+    @Schema(description = "Tiempo de cálculo sobre los bitmaps en microsegundos", example = "420")
+    private Long elapsedMicros;
+}
@@ -0,0 +1,30 @@
+package com.hse.Curriculum.Dto.FacetDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de reconstruir el índice de facetas
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado de la reconstrucción del índice de facetas")
+public class UserFacetStatsDTO {
+
+    @Schema(description = "Usuarios indexados", example = "250000")
+    private Integer users;
+
+    @Schema(description = "Valores de faceta (bitmaps)", example = "1480")
+    private Integer values;
+
+    @Schema(description = "Memoria ocupada por los bitmaps en bytes", example = "2621440")
+    private Long sizeInBytes;
+
+    @Schema(description = "Tiempo total en milisegundos", example = "2100")
+    private Long elapsedMillis;
+}
@@ -0,0 +1,30 @@
+package com.hse.Curriculum.Dto.FacetDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con los datos básicos de un usuario del listado filtrado
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Usuario que cumple los filtros")
+public class UserFacetUserDTO {
+
+    @Schema(description = "ID del usuario", example = "128")
+    private Integer userId;
+
+    @Schema(description = "Nombres", example = "Laura")
+    private String firstName;
+
+    @Schema(description = "Apellidos", example = "Gómez")
+    private String lastName;
+
+    @Schema(description = "Correo electrónico", example = "laura.gomez@empresa.com")
+    private String email;
+}
@@ -0,0 +1,17 @@
+package com.hse.Curriculum.Dto.GeoDTO.Suggest;
+
+import com.hse.Curriculum.Enum.GeoLevelEnum;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GeoSuggestionDTO {
+    private GeoLevelEnum level;
+    private Integer id;
+    private String  name;
+    /** Departamento del municipio o país del departamento */
+    private String  parentName;
+    private String  countryName;
+    private Boolean isCapital;
+}
@@ -0,0 +1,59 @@
+package com.hse.Curriculum.Dto.ImportDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de la importación del catálogo DANE (DIVIPOLA)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado de la importación del catálogo geográfico DANE")
+public class DaneImportResultDTO {
+
+    @Schema(description = "Filas leídas del archivo", example = "1122")
+    private Long totalRows;
+
+    @Schema(description = "Filas rechazadas", example = "0")
+    private Long rejectedRows;
+
+    @Schema(description = "Departamentos nuevos", example = "0")
+    private Long departmentsInserted;
+
+    @Schema(description = "Departamentos con nombre modificado", example = "1")
+    private Long departmentsUpdated;
+
+    @Schema(description = "Departamentos sin cambios", example = "32")
+    private Long departmentsUnchanged;
+
+    @Schema(description = "Departamentos creados sin código DANE que se enlazaron por nombre", example = "2")
+    private Long departmentsMatchedByName;
+
+    @Schema(description = "Municipios nuevos", example = "3")
+    private Long municipalitiesInserted;
+
+    @Schema(description = "Municipios con nombre, departamento o capital modificado", example = "5")
+    private Long municipalitiesUpdated;
+
+    @Schema(description = "Municipios sin cambios", example = "1114")
+    private Long municipalitiesUnchanged;
+
+    @Schema(description = "Municipios creados sin código DANE que se enlazaron por nombre", example = "4")
+    private Long municipalitiesMatchedByName;
+
+    @Schema(description = "Municipios que dejaron de ser capital", example = "0")
+    private Long capitalsCleared;
+
+    @Schema(description = "Duración de la importación en milisegundos", example = "420")
+    private Long durationMs;
+
+    @Schema(description = "Primeras filas rechazadas con su motivo (máximo 100)")
+    private List<String> rejections;
+}
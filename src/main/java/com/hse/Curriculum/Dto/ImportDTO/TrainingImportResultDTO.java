@@ -0,0 +1,43 @@
+package com.hse.Curriculum.Dto.ImportDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de una importación masiva de capacitaciones
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado de la importación masiva de capacitaciones")
+public class TrainingImportResultDTO {
+
+    @Schema(description = "Identificador de la importación", example = "6f1c0b7e-2d7a-4a8e-9d55-0c5d3c1f9a10")
+    private String importId;
+
+    @Schema(description = "Filas leídas del archivo", example = "12000")
+    private Long totalRows;
+
+    @Schema(description = "Capacitaciones insertadas", example = "11850")
+    private Long insertedRows;
+
+    @Schema(description = "Filas rechazadas", example = "150")
+    private Long rejectedRows;
+
+    @Schema(description = "Usuarios con capacitaciones nuevas", example = "4200")
+    private Integer affectedUsers;
+
+    @Schema(description = "Duración de la importación en milisegundos", example = "640")
+    private Long durationMs;
+
+    @Schema(description = "Filas procesadas por segundo", example = "18750")
+    private Long rowsPerSecond;
+
+    @Schema(description = "URL del reporte de rechazos (null si no hubo rechazos)",
+            example = "/admin/trainings/import/6f1c0b7e-2d7a-4a8e-9d55-0c5d3c1f9a10/rejects")
+    private String rejectReportUrl;
+}
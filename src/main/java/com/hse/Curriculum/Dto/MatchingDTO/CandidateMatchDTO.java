@@ -0,0 +1,59 @@
+package com.hse.Curriculum.Dto.MatchingDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de un candidato para un cargo con el detalle de su puntaje
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Candidato para un cargo")
+public class CandidateMatchDTO {
+
+    @Schema(description = "Posición en el ranking", example = "1")
+    private Integer rank;
+
+    @Schema(description = "ID del usuario", example = "15")
+    private Integer userId;
+
+    @Schema(description = "Nombre", example = "Juan")
+    private String firstName;
+
+    @Schema(description = "Apellido", example = "Pérez")
+    private String lastName;
+
+    @Schema(description = "Email", example = "juan.perez@email.com")
+    private String email;
+
+    @Schema(description = "Puntaje de 0 a 100", example = "87.5")
+    private Double score;
+
+    @Schema(description = "Cumple todos los requisitos (educación, capacitaciones y experiencia)", example = "false")
+    private Boolean meetsAll;
+
+    @Schema(description = "Cumple el nivel educativo mínimo", example = "true")
+    private Boolean educationMet;
+
+    @Schema(description = "Capacitaciones requeridas que tiene completadas y vigentes", example = "3")
+    private Integer trainingsCovered;
+
+    @Schema(description = "Capacitaciones requeridas por el cargo", example = "4")
+    private Integer trainingsRequired;
+
+    @Schema(description = "Capacitaciones requeridas que le faltan")
+    private List<String> missingTrainings;
+
+    @Schema(description = "Años de experiencia laboral (sin contar solapes)", example = "4.5")
+    private Double experienceYears;
+
+    @Schema(description = "Su trabajo más reciente es en el municipio preferido", example = "true")
+    private Boolean municipalityMatch;
+}
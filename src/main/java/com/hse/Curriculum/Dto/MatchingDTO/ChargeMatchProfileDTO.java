@@ -0,0 +1,37 @@
+package com.hse.Curriculum.Dto.MatchingDTO;
+
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Enum.GraduateStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para definir el perfil de requisitos de un cargo
+ * Las capacitaciones requeridas se definen como capacitaciones obligatorias del cargo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Perfil de requisitos de un cargo para buscar candidatos")
+public class ChargeMatchProfileDTO {
+
+    @Schema(description = "Nivel educativo mínimo (null = sin requisito)", example = "SUPERIOR")
+    private EducationTypeEnum minEducationType;
+
+    @Schema(description = "Estado mínimo de ese nivel educativo (null = cualquiera)", example = "GRADUADO")
+    private GraduateStatusEnum minGraduateStatus;
+
+    @Min(value = 0, message = "Los años de experiencia no pueden ser negativos")
+    @Max(value = 60, message = "Los años de experiencia no pueden superar 60")
+    @Schema(description = "Años mínimos de experiencia laboral", example = "3")
+    private Integer minExperienceYears;
+
+    @Schema(description = "ID del municipio preferido (null = cualquiera)", example = "149")
+    private Integer preferredMunicipalityId;
+}
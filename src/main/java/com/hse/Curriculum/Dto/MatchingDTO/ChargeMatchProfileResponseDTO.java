@@ -0,0 +1,50 @@
+package com.hse.Curriculum.Dto.MatchingDTO;
+
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Enum.GraduateStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de respuesta con el perfil de requisitos de un cargo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Perfil de requisitos de un cargo")
+public class ChargeMatchProfileResponseDTO {
+
+    @Schema(description = "ID del cargo", example = "4")
+    private Integer chargeId;
+
+    @Schema(description = "Nombre del cargo", example = "Coordinador HSE")
+    private String nameCharge;
+
+    @Schema(description = "Nivel educativo mínimo", example = "SUPERIOR")
+    private EducationTypeEnum minEducationType;
+
+    @Schema(description = "Estado mínimo de ese nivel educativo", example = "GRADUADO")
+    private GraduateStatusEnum minGraduateStatus;
+
+    @Schema(description = "Años mínimos de experiencia laboral", example = "3")
+    private Integer minExperienceYears;
+
+    @Schema(description = "ID del municipio preferido", example = "149")
+    private Integer preferredMunicipalityId;
+
+    @Schema(description = "Nombre del municipio preferido", example = "Medellín")
+    private String preferredMunicipalityName;
+
+    @Schema(description = "Capacitaciones requeridas (obligatorias del cargo)")
+    private List<String> requiredTrainingTypes;
+
+    @Schema(description = "Fecha de última actualización")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,27 @@
+package com.hse.Curriculum.Dto.MatchingDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de recalcular todos los rankings de candidatos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado del recálculo de candidatos")
+public class MatchingRebuildDTO {
+
+    @Schema(description = "Usuarios activos evaluados", example = "100000")
+    private Integer users;
+
+    @Schema(description = "Cargos con perfil de requisitos", example = "35")
+    private Integer charges;
+
+    @Schema(description = "Tiempo total en milisegundos", example = "1840")
+    private Long elapsedMillis;
+}
@@ -0,0 +1,42 @@
+package com.hse.Curriculum.Dto.MatchingDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de un usuario con hoja de vida similar a la de otro
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Candidato similar")
+public class SimilarCandidateDTO {
+
+    @Schema(description = "Posición en el ranking", example = "1")
+    private Integer rank;
+
+    @Schema(description = "ID del usuario", example = "42")
+    private Integer userId;
+
+    @Schema(description = "Nombre", example = "Juan")
+    private String firstName;
+
+    @Schema(description = "Apellido", example = "Pérez")
+    private String lastName;
+
+    @Schema(description = "Email", example = "juan.perez@email.com")
+    private String email;
+
+    @Schema(description = "Similitud coseno de 0 a 1", example = "0.8123")
+    private Double similarity;
+
+    @Schema(description = "Rasgos compartidos que más aportan a la similitud",
+            example = "[\"Capacitación: ALTURAS\", \"Cargo desempeñado: supervisor\"]")
+    private List<String> sharedFeatures;
+}
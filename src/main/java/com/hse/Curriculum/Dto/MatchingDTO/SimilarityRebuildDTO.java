@@ -0,0 +1,27 @@
+package com.hse.Curriculum.Dto.MatchingDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de reconstruir los vectores de candidatos similares
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado de la reconstrucción de vectores de hojas de vida")
+public class SimilarityRebuildDTO {
+
+    @Schema(description = "Usuarios vectorizados", example = "100000")
+    private Integer users;
+
+    @Schema(description = "Rasgos distintos (dimensiones del vector)", example = "18250")
+    private Integer features;
+
+    @Schema(description = "Tiempo total en milisegundos", example = "3200")
+    private Long elapsedMillis;
+}
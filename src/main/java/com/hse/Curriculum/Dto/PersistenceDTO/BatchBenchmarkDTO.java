@@ -0,0 +1,31 @@
+package com.hse.Curriculum.Dto.PersistenceDTO;
+
+import com.hse.Curriculum.Enum.BatchBenchmarkScenarioEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado del benchmark de escritura sin lotes vs. con lotes JDBC
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Comparación de escritura fila por fila contra lotes JDBC")
+public class BatchBenchmarkDTO {
+
+    @Schema(description = "Escritura medida", example = "REGISTRATION")
+    private BatchBenchmarkScenarioEnum scenario;
+
+    @Schema(description = "Filas escritas en cada pasada (se revierten)", example = "2000")
+    private Integer rows;
+
+    @Schema(description = "Pasada con un INSERT por fila")
+    private BatchBenchmarkRunDTO unbatched;
+
+    @Schema(description = "Pasada con hibernate.jdbc.batch_size")
+    private BatchBenchmarkRunDTO batched;
+}
@@ -0,0 +1,30 @@
+package com.hse.Curriculum.Dto.PersistenceDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con las sentencias JDBC de una pasada del benchmark de escritura
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Sentencias preparadas en una pasada del benchmark")
+public class BatchBenchmarkRunDTO {
+
+    @Schema(description = "Tamaño de lote JDBC usado en la sesión", example = "50")
+    private Integer jdbcBatchSize;
+
+    @Schema(description = "Sentencias INSERT preparadas (una por lote)", example = "40")
+    private Integer insertStatements;
+
+    @Schema(description = "Llamadas a nextval de la secuencia", example = "40")
+    private Integer sequenceCalls;
+
+    @Schema(description = "Tiempo de persist + flush en milisegundos", example = "85")
+    private Long elapsedMillis;
+}
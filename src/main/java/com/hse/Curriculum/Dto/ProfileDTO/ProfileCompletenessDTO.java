@@ -0,0 +1,36 @@
+package com.hse.Curriculum.Dto.ProfileDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el puntaje de completitud de la hoja de vida de un usuario
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Completitud de la hoja de vida de un usuario")
+public class ProfileCompletenessDTO {
+
+    @Schema(description = "ID del usuario", example = "15")
+    private Integer userId;
+
+    @Schema(description = "Nombre completo", example = "Juan Pérez")
+    private String fullName;
+
+    @Schema(description = "Correo electrónico", example = "juan.perez@empresa.com")
+    private String email;
+
+    @Schema(description = "Cargo del usuario", example = "Inspector HSE")
+    private String chargeName;
+
+    @Schema(description = "Puntaje ponderado de completitud (0-100)", example = "45")
+    private Integer completenessScore;
+
+    @Schema(description = "Indica si el perfil alcanza el umbral de perfil completo", example = "false")
+    private Boolean profileComplete;
+}
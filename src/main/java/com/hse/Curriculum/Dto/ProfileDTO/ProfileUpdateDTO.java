@@ -1,5 +1,7 @@
 package com.hse.Curriculum.Dto.ProfileDTO;
 
+import com.hse.Curriculum.Converter.Training.FlexibleDateDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import java.time.LocalDate;
@@ -41,6 +43,7 @@ public class ProfileUpdateDTO {
     @NotNull(message = "La fecha de nacimiento es obligatoria")
     @Past(message = "La fecha de nacimiento debe ser en el pasado")
     @Schema(description = "Fecha de nacimiento", example = "1990-01-15")
+    @JsonDeserialize(using = FlexibleDateDeserializer.class)
     private LocalDate birthDate;
 
     // ========== CONSTRUCTORES ==========
@@ -1,5 +1,7 @@
 package com.hse.Curriculum.Dto.ProfileDTO;
 
+import com.hse.Curriculum.Converter.Training.FlexibleDateDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -34,6 +36,7 @@ public class UserProfileDTO {
     private String residentialAddress;
 
     @Schema(description = "Fecha de nacimiento", example = "1990-01-15")
+    @JsonDeserialize(using = FlexibleDateDeserializer.class)
     private LocalDate birthDate;
 
 
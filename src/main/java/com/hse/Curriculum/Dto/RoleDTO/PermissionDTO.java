@@ -0,0 +1,25 @@
+package com.hse.Curriculum.Dto.RoleDTO;
+
+import com.hse.Curriculum.Enum.PermissionEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de un permiso del catálogo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Permiso del sistema")
+public class PermissionDTO {
+
+    @Schema(description = "Código del permiso", example = "USERS_MANAGE")
+    private PermissionEnum code;
+
+    @Schema(description = "Descripción del permiso", example = "Crear, modificar y deshabilitar usuarios")
+    private String description;
+}
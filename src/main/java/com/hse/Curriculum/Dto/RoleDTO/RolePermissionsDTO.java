@@ -0,0 +1,27 @@
+package com.hse.Curriculum.Dto.RoleDTO;
+
+import com.hse.Curriculum.Enum.PermissionEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * DTO para definir los permisos de un rol
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Permisos de un rol")
+public class RolePermissionsDTO {
+
+    @NotNull(message = "La lista de permisos es obligatoria")
+    @Schema(description = "Permisos del rol (reemplaza la lista actual)",
+            example = "[\"USERS_MANAGE\", \"CURRICULUM_EXPORT\"]")
+    private Set<@NotNull(message = "El permiso no puede estar vacío") PermissionEnum> permissions;
+}
@@ -0,0 +1,30 @@
+package com.hse.Curriculum.Dto.RoleDTO;
+
+import com.hse.Curriculum.Enum.PermissionEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con los permisos efectivos de un rol
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Permisos efectivos de un rol")
+public class RolePermissionsResponseDTO {
+
+    @Schema(description = "ID del rol", example = "3")
+    private Integer roleId;
+
+    @Schema(description = "Nombre del rol", example = "SUPPORT")
+    private String roleName;
+
+    @Schema(description = "Permisos del rol (ADMIN siempre tiene todos)")
+    private List<PermissionEnum> permissions;
+}
@@ -93,6 +93,13 @@ public class TrainingResponseDTO {
     @Schema(description = "Fecha de finalización del curso", example = "15/01/2024")
     private LocalDate completionDate;
 
+    /**
+     * Fecha de vencimiento de la certificación
+     */
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    @Schema(description = "Fecha de vencimiento de la certificación (null si no vence)", example = "15/01/2025")
+    private LocalDate expiresAt;
+
     /**
      * Fecha de creación del registro
      */
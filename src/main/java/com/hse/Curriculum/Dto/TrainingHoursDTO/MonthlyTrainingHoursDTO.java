@@ -0,0 +1,39 @@
+package com.hse.Curriculum.Dto.TrainingHoursDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el indicador mensual de horas de capacitación
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Indicador mensual de horas de capacitación")
+public class MonthlyTrainingHoursDTO {
+
+    @Schema(description = "Año", example = "2025")
+    private Integer year;
+
+    @Schema(description = "Mes (1-12)", example = "3")
+    private Integer month;
+
+    @Schema(description = "Capacitaciones completadas en el mes", example = "57")
+    private Long trainings;
+
+    @Schema(description = "Personas distintas capacitadas en el mes", example = "31")
+    private Long participants;
+
+    @Schema(description = "Total de horas del mes", example = "412.0")
+    private Double totalHours;
+
+    @Schema(description = "Promedio de horas por persona", example = "13.3")
+    private Double hoursPerParticipant;
+
+    @Schema(description = "Capacitaciones sin duración reconocible", example = "1")
+    private Long unmeasuredTrainings;
+}
@@ -0,0 +1,39 @@
+package com.hse.Curriculum.Dto.TrainingHoursDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con las horas de capacitación de un grupo (usuario, cargo, tipo o institución)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Horas de capacitación agrupadas")
+public class TrainingHoursDTO {
+
+    @Schema(description = "ID del grupo (usuario o cargo; null para tipo e institución)", example = "3")
+    private Integer groupId;
+
+    @Schema(description = "Nombre del grupo", example = "Inspector HSE")
+    private String groupName;
+
+    @Schema(description = "Capacitaciones completadas", example = "42")
+    private Long trainings;
+
+    @Schema(description = "Personas distintas capacitadas", example = "18")
+    private Long participants;
+
+    @Schema(description = "Total de horas", example = "336.5")
+    private Double totalHours;
+
+    @Schema(description = "Promedio de horas por persona", example = "18.7")
+    private Double hoursPerParticipant;
+
+    @Schema(description = "Capacitaciones sin duración reconocible (no suman horas)", example = "2")
+    private Long unmeasuredTrainings;
+}
@@ -0,0 +1,39 @@
+package com.hse.Curriculum.Dto.WorkExperienceDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de un usuario en el listado por experiencia laboral
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Usuario activo con su total de experiencia laboral")
+public class ExperienceRankingDTO {
+
+    @Schema(description = "ID del usuario", example = "15")
+    private Integer userId;
+
+    @Schema(description = "Nombre", example = "Juan")
+    private String firstName;
+
+    @Schema(description = "Apellido", example = "Pérez")
+    private String lastName;
+
+    @Schema(description = "Email", example = "juan.perez@email.com")
+    private String email;
+
+    @Schema(description = "Cargo actual", example = "Coordinador HSE")
+    private String nameCharge;
+
+    @Schema(description = "Días de experiencia", example = "2557")
+    private Integer experienceDays;
+
+    @Schema(description = "Años de experiencia", example = "7.0")
+    private Double experienceYears;
+}
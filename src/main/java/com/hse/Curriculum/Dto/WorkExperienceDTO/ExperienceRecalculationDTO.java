@@ -0,0 +1,24 @@
+package com.hse.Curriculum.Dto.WorkExperienceDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de recalcular el total de experiencia de los usuarios
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado del recálculo de experiencia laboral")
+public class ExperienceRecalculationDTO {
+
+    @Schema(description = "Usuarios actualizados", example = "100000")
+    private Integer users;
+
+    @Schema(description = "Tiempo total en milisegundos", example = "5230")
+    private Long elapsedMillis;
+}
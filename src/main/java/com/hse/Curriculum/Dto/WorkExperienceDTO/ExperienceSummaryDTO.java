@@ -0,0 +1,30 @@
+package com.hse.Curriculum.Dto.WorkExperienceDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el total de experiencia laboral de un usuario
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Total de experiencia laboral (periodos solapados se cuentan una vez)")
+public class ExperienceSummaryDTO {
+
+    @Schema(description = "ID del usuario", example = "15")
+    private Integer userId;
+
+    @Schema(description = "Cantidad de experiencias registradas", example = "3")
+    private Long jobs;
+
+    @Schema(description = "Días de experiencia", example = "2557")
+    private Integer experienceDays;
+
+    @Schema(description = "Años de experiencia", example = "7.0")
+    private Double experienceYears;
+}
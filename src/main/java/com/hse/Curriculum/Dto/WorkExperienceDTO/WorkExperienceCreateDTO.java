@@ -0,0 +1,54 @@
+package com.hse.Curriculum.Dto.WorkExperienceDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.hse.Curriculum.Converter.Training.FlexibleDateDeserializer;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO para crear una experiencia laboral
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkExperienceCreateDTO {
+
+    @NotBlank(message = "El nombre de la empresa es obligatorio")
+    @Size(max = 150, message = "El nombre de la empresa no puede exceder 150 caracteres")
+    private String companyName;
+
+    @NotBlank(message = "El cargo es obligatorio")
+    @Size(max = 150, message = "El cargo no puede exceder 150 caracteres")
+    private String jobTitle;
+
+    @NotNull(message = "El código del país es obligatorio")
+    private Integer countryCode;
+
+    private Integer departmentId;
+
+    private Integer municipalityId;
+
+    private String functions;
+
+    @NotNull(message = "La fecha de inicio es obligatoria")
+    @PastOrPresent(message = "La fecha de inicio debe ser anterior o igual a la fecha actual")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonDeserialize(using = FlexibleDateDeserializer.class)
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonDeserialize(using = FlexibleDateDeserializer.class)
+    private LocalDate endDate;
+
+    private Boolean currentlyWorking;
+}
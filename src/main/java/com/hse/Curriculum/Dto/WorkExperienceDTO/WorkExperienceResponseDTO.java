@@ -0,0 +1,38 @@
+package com.hse.Curriculum.Dto.WorkExperienceDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de respuesta para experiencia laboral
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkExperienceResponseDTO {
+    private Integer workExperienceId;
+    private Integer userId;
+    private String companyName;
+    private String jobTitle;
+    private Integer countryCode;
+    private String countryName;
+    private Integer departmentId;
+    private String departmentName;
+    private Integer municipalityId;
+    private String municipalityName;
+    private String functions;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    private Boolean currentlyWorking;
+}
@@ -0,0 +1,50 @@
+package com.hse.Curriculum.Dto.WorkExperienceDTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.hse.Curriculum.Converter.Training.FlexibleDateDeserializer;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO para actualizar una experiencia laboral (PATCH - campos opcionales)
+ *
+ * Al marcar currentlyWorking = true se elimina la fecha de fin.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkExperienceUpdateDTO {
+
+    @Size(max = 150, message = "El nombre de la empresa no puede exceder 150 caracteres")
+    private String companyName;
+
+    @Size(max = 150, message = "El cargo no puede exceder 150 caracteres")
+    private String jobTitle;
+
+    private Integer countryCode;
+
+    private Integer departmentId;
+
+    private Integer municipalityId;
+
+    private String functions;
+
+    @PastOrPresent(message = "La fecha de inicio debe ser anterior o igual a la fecha actual")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonDeserialize(using = FlexibleDateDeserializer.class)
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonDeserialize(using = FlexibleDateDeserializer.class)
+    private LocalDate endDate;
+
+    private Boolean currentlyWorking;
+}
@@ -0,0 +1,14 @@
+package com.hse.Curriculum.Enum;
+
+/**
+ * Escrituras masivas que compara el benchmark de lotes JDBC
+ *
+ * AUDIT persiste un registro de auditoría por fila; REGISTRATION un usuario con su perfil
+ * (dos INSERT por fila, intercalados entre tablas); TRAINING_IMPORT capacitaciones de un mismo
+ * usuario, como la importación CSV.
+ */
+public enum BatchBenchmarkScenarioEnum {
+    AUDIT,
+    REGISTRATION,
+    TRAINING_IMPORT
+}
@@ -0,0 +1,10 @@
+package com.hse.Curriculum.Enum;
+
+/**
+ * Categorías del diccionario de nombres normalizados
+ */
+public enum CatalogCategoryEnum {
+    INSTITUTION,
+    COURSE,
+    TRAINING_TYPE
+}
@@ -0,0 +1,10 @@
+package com.hse.Curriculum.Enum;
+
+/**
+ * Niveles del catálogo geográfico
+ */
+public enum GeoLevelEnum {
+    COUNTRY,
+    DEPARTMENT,
+    MUNICIPALITY
+}
@@ -0,0 +1,36 @@
+package com.hse.Curriculum.Enum;
+
+/**
+ * Permisos del sistema
+ *
+ * El orden define la posición del bit de cada permiso en el bitset compilado por rol:
+ * agregar permisos siempre al final para no cambiar los existentes.
+ */
+public enum PermissionEnum {
+    ROLES_MANAGE("Crear, modificar y eliminar roles y sus permisos"),
+    USERS_MANAGE("Crear, modificar y deshabilitar usuarios"),
+    CHARGES_MANAGE("Crear, modificar y deshabilitar cargos"),
+    CATALOG_MANAGE("Administrar el diccionario de nombres"),
+    GEO_IMPORT("Importar el catálogo geográfico DANE"),
+    TRAINING_IMPORT("Importar capacitaciones desde CSV"),
+    CURRICULUM_EXPORT("Exportar hojas de vida"),
+    ANALYTICS_VIEW("Consultar analítica de personal y cumplimiento"),
+    CURRICULUM_SEARCH("Buscar hojas de vida por texto"),
+    CURRICULUM_VIEW_ALL("Consultar hojas de vida, adjuntos y experiencia de cualquier usuario"),
+    CURRICULUM_EDIT_ALL("Cargar y eliminar adjuntos y experiencia de cualquier usuario"),
+    CANDIDATES_VIEW("Consultar candidatos por cargo, similares, facetas y ranking de experiencia"),
+    CERTIFICATIONS_MANAGE("Administrar las vigencias de certificaciones"),
+    SYSTEM_MAINTENANCE("Reconstruir índices, recalcular datos derivados y ejecutar diagnósticos"),
+    GEO_MANAGE("Crear, modificar y eliminar países, departamentos y municipios"),
+    CURRICULUM_VIEW_TEAM("Consultar hojas de vida del personal de los cargos que le reportan");
+
+    private final String description;
+
+    PermissionEnum(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
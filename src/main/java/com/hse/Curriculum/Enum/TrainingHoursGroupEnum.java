@@ -0,0 +1,11 @@
+package com.hse.Curriculum.Enum;
+
+/**
+ * Dimensiones por las que se agrupan las horas de capacitación
+ */
+public enum TrainingHoursGroupEnum {
+    USER,
+    CHARGE,
+    TRAINING_TYPE,
+    INSTITUTION
+}
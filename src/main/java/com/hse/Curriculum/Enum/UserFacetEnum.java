@@ -0,0 +1,20 @@
+package com.hse.Curriculum.Enum;
+
+/**
+ * Facetas del índice de filtrado de usuarios
+ *
+ * EDUCATION_TYPE, GRADUATE_STATUS, TRAINING_TYPE y EXPERIENCE_* son multivaluadas: el usuario
+ * aparece en todos los valores que tiene. TRAINING_TYPE solo cuenta capacitaciones completadas
+ * y vigentes; COMPLETENESS_BAND agrupa el puntaje de completitud del perfil en rangos.
+ */
+public enum UserFacetEnum {
+    ROLE,
+    CHARGE,
+    STATUS,
+    EDUCATION_TYPE,
+    GRADUATE_STATUS,
+    TRAINING_TYPE,
+    EXPERIENCE_COUNTRY,
+    EXPERIENCE_MUNICIPALITY,
+    COMPLETENESS_BAND
+}
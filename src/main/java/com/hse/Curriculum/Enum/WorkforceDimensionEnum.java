@@ -0,0 +1,16 @@
+package com.hse.Curriculum.Enum;
+
+/**
+ * Dimensiones del cubo de analítica de personal
+ *
+ * EDUCATION_TYPE y GRADUATE_STATUS corresponden al nivel educativo más alto del usuario;
+ * MUNICIPALITY al municipio de su trabajo actual o, si no tiene, del más reciente.
+ */
+public enum WorkforceDimensionEnum {
+    EDUCATION_TYPE,
+    GRADUATE_STATUS,
+    CHARGE,
+    ROLE,
+    MUNICIPALITY,
+    ACTIVE
+}
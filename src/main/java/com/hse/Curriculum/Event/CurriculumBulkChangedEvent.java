@@ -0,0 +1,30 @@
+package com.hse.Curriculum.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+
+/**
+ * Evento publicado cuando una operación masiva (ej: importación de capacitaciones)
+ * modifica la hoja de vida de muchos usuarios a la vez
+ *
+ * Permite que los listeners actualicen su estado en bloque en lugar de procesar
+ * un CurriculumChangedEvent por usuario.
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "userIds")
+public class CurriculumBulkChangedEvent {
+
+    /**
+     * Usuarios afectados
+     */
+    private final Collection<Integer> userIds;
+
+    /**
+     * Sección de la hoja de vida que cambió
+     */
+    private final CurriculumChangedEvent.Section section;
+}
@@ -0,0 +1,48 @@
+package com.hse.Curriculum.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Evento de dominio publicado cuando cambia una sección de la hoja de vida de un usuario
+ *
+ * Los servicios lo publican dentro de su transacción; los listeners lo consumen con
+ * @TransactionalEventListener(phase = AFTER_COMMIT) para mantener actualizados
+ * los índices y valores precalculados sin recalcular en cada lectura. Los índices en
+ * memoria se actualizan en el executor de AsyncConfig, fuera del hilo de la petición.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CurriculumChangedEvent {
+
+    /**
+     * Usuario dueño de la hoja de vida modificada
+     */
+    private final Integer userId;
+
+    /**
+     * Sección de la hoja de vida que cambió
+     */
+    private final Section section;
+
+    /**
+     * Tipo de cambio realizado
+     */
+    private final ChangeType changeType;
+
+    public enum Section {
+        USER,
+        PROFILE,
+        EDUCATION,
+        TRAINING,
+        WORK_EXPERIENCE
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Exception.Attachment;
+/**
+ * Excepción lanzada cuando no se encuentra un adjunto o su contenido en disco
+ */
+public class AttachmentNotFoundException extends RuntimeException {
+    /**
+     * Constructor con ID del adjunto
+     * @param attachmentId ID del adjunto
+     */
+    public AttachmentNotFoundException(Integer attachmentId) {
+        super("Adjunto con ID " + attachmentId + " no encontrado");
+    }
+}
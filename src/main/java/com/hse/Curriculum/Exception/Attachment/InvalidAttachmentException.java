@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Exception.Attachment;
+/**
+ * Excepción lanzada cuando el archivo adjunto no es válido (vacío, muy grande o de tipo no permitido)
+ */
+public class InvalidAttachmentException extends RuntimeException {
+    /**
+     * Constructor con mensaje personalizado
+     * @param message Mensaje descriptivo del error
+     */
+    public InvalidAttachmentException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.hse.Curriculum.Exception.Attachment;
+/**
+ * Excepción lanzada cuando el header Range de una descarga no se puede satisfacer
+ */
+public class InvalidRangeException extends RuntimeException {
+
+    private final long contentLength;
+
+    /**
+     * Constructor con el tamaño real del archivo (se informa en Content-Range)
+     * @param contentLength Tamaño del archivo en bytes
+     */
+    public InvalidRangeException(long contentLength) {
+        super("Rango solicitado no válido para un archivo de " + contentLength + " bytes");
+        this.contentLength = contentLength;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+}
@@ -0,0 +1,12 @@
+package com.hse.Curriculum.Exception.Attachment;
+/**
+ * Excepción lanzada cuando un usuario intenta acceder a adjuntos de otra hoja de vida
+ */
+public class UnauthorizedAttachmentAccessException extends RuntimeException {
+    /**
+     * Constructor con mensaje por defecto
+     */
+    public UnauthorizedAttachmentAccessException() {
+        super("No tiene permisos para acceder a los adjuntos de este registro");
+    }
+}
@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Exception.Catalog;
+/**
+ * Excepción lanzada cuando no existe un término del diccionario de nombres
+ */
+public class CatalogTermNotFoundException extends RuntimeException {
+    /**
+     * Constructor con ID del término
+     * @param termId ID del término
+     */
+    public CatalogTermNotFoundException(Integer termId) {
+        super("Término del diccionario con ID " + termId + " no encontrado");
+    }
+}
@@ -0,0 +1,14 @@
+package com.hse.Curriculum.Exception.Catalog;
+/**
+ * Excepción lanzada cuando se intenta fusionar términos incompatibles
+ * (mismo término o categorías distintas)
+ */
+public class InvalidCatalogMergeException extends RuntimeException {
+    /**
+     * Constructor con mensaje personalizado
+     * @param message Mensaje descriptivo del error
+     */
+    public InvalidCatalogMergeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.hse.Curriculum.Exception.Curriculum;
+/**
+ * Excepción lanzada cuando la solicitud de lectura por lotes de hojas de vida es inválida
+ * (sin usuarios ni filtros, o más usuarios que el máximo permitido)
+ */
+public class InvalidCurriculumBatchException extends RuntimeException {
+    /**
+     * Constructor con mensaje personalizado
+     * @param message Mensaje descriptivo del error
+     */
+    public InvalidCurriculumBatchException(String message) {
+        super(message);
+    }
+}
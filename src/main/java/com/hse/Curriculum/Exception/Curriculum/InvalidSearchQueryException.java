@@ -0,0 +1,7 @@
+package com.hse.Curriculum.Exception.Curriculum;
+
+public class InvalidSearchQueryException extends RuntimeException {
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
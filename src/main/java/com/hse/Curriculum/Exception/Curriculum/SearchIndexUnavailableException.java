@@ -0,0 +1,7 @@
+package com.hse.Curriculum.Exception.Curriculum;
+
+public class SearchIndexUnavailableException extends RuntimeException {
+    public SearchIndexUnavailableException(String message) {
+        super(message);
+    }
+}
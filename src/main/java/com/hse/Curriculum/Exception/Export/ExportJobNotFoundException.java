@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Exception.Export;
+/**
+ * Excepción lanzada cuando no existe un trabajo de exportación
+ */
+public class ExportJobNotFoundException extends RuntimeException {
+    /**
+     * Constructor con el ID del trabajo no encontrado
+     * @param jobId ID del trabajo de exportación
+     */
+    public ExportJobNotFoundException(String jobId) {
+        super("Trabajo de exportación con ID " + jobId + " no encontrado");
+    }
+}
@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Exception.Export;
+/**
+ * Excepción lanzada cuando se intenta descargar una exportación que aún no termina
+ */
+public class ExportNotReadyException extends RuntimeException {
+    /**
+     * Constructor con mensaje personalizado
+     * @param message Mensaje descriptivo del error
+     */
+    public ExportNotReadyException(String message) {
+        super(message);
+    }
+}
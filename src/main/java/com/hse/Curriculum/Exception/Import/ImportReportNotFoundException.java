@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Exception.Import;
+/**
+ * Excepción lanzada cuando no existe (o ya expiró) el reporte de rechazos de una importación
+ */
+public class ImportReportNotFoundException extends RuntimeException {
+    /**
+     * Constructor con ID de la importación
+     * @param importId ID de la importación
+     */
+    public ImportReportNotFoundException(String importId) {
+        super("Reporte de rechazos de la importación " + importId + " no encontrado");
+    }
+}
@@ -0,0 +1,22 @@
+package com.hse.Curriculum.Exception.Import;
+/**
+ * Excepción lanzada cuando el archivo de importación no se puede procesar
+ */
+public class InvalidImportFileException extends RuntimeException {
+    /**
+     * Constructor con mensaje personalizado
+     * @param message Mensaje descriptivo del error
+     */
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor con mensaje y causa
+     * @param message Mensaje descriptivo del error
+     * @param cause Causa raíz de la excepción
+     */
+    public InvalidImportFileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
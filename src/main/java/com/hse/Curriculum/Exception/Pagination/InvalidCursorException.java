@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Exception.Pagination;
+/**
+ * Excepción lanzada cuando el cursor de paginación recibido no es válido
+ */
+public class InvalidCursorException extends RuntimeException {
+    /**
+     * Constructor con mensaje personalizado
+     * @param message Mensaje descriptivo del error
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
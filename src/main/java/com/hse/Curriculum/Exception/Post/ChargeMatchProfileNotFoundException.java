@@ -0,0 +1,7 @@
+package com.hse.Curriculum.Exception.Post;
+
+public class ChargeMatchProfileNotFoundException extends RuntimeException {
+    public ChargeMatchProfileNotFoundException(Integer chargeId) {
+        super("El cargo con ID " + chargeId + " no tiene perfil de requisitos");
+    }
+}
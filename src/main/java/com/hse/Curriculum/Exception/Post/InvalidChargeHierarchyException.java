@@ -0,0 +1,7 @@
+package com.hse.Curriculum.Exception.Post;
+
+public class InvalidChargeHierarchyException extends RuntimeException {
+    public InvalidChargeHierarchyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.hse.Curriculum.Exception.Post;
+
+public class InvalidChargeProfileException extends RuntimeException {
+    public InvalidChargeProfileException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Exception.Training;
+/**
+ * Excepción lanzada cuando no se encuentra la vigencia de un tipo de capacitación
+ */
+public class TrainingValidityNotFoundException extends RuntimeException {
+    /**
+     * Constructor con ID de la vigencia no encontrada
+     * @param validityId ID de la vigencia que no se encontró
+     */
+    public TrainingValidityNotFoundException(Integer validityId) {
+        super("Vigencia de capacitación con ID " + validityId + " no encontrada");
+    }
+}
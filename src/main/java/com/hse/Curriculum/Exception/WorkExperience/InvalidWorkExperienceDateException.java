@@ -0,0 +1,7 @@
+package com.hse.Curriculum.Exception.WorkExperience;
+
+public class InvalidWorkExperienceDateException extends RuntimeException {
+    public InvalidWorkExperienceDateException(String message) {
+        super(message);
+    }
+}
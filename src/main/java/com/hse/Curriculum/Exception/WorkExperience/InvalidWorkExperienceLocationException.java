@@ -0,0 +1,7 @@
+package com.hse.Curriculum.Exception.WorkExperience;
+
+public class InvalidWorkExperienceLocationException extends RuntimeException {
+    public InvalidWorkExperienceLocationException(String message) {
+        super(message);
+    }
+}
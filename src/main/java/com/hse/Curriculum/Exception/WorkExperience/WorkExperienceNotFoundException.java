@@ -0,0 +1,7 @@
+package com.hse.Curriculum.Exception.WorkExperience;
+
+public class WorkExperienceNotFoundException extends RuntimeException {
+    public WorkExperienceNotFoundException(String message) {
+        super(message);
+    }
+}
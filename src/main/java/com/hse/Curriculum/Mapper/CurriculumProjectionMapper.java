@@ -0,0 +1,61 @@
+package com.hse.Curriculum.Mapper;
+
+import com.hse.Curriculum.Dto.EducationDTO.EducationResponseDTO;
+import com.hse.Curriculum.Dto.TrainingDTO.TrainingResponseDTO;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión de las proyecciones de listados (educación y capacitaciones) a sus DTO de respuesta
+ * Lo comparten los listados paginados y la lectura por lotes de hojas de vida
+ */
+@Component
+public class CurriculumProjectionMapper {
+
+    public TrainingResponseDTO toTrainingResponseDTO(TrainingRepository.TrainingListProjection row) {
+        if (row == null) return null;
+
+        String durationFormatted = row.getDurationValue() != null && row.getDurationUnit() != null
+                ? row.getDurationValue() + " " + row.getDurationUnit()
+                : null;
+
+        return TrainingResponseDTO.builder()
+                .trainingId(row.getTrainingId())
+                .userId(row.getUserId())
+                .userName(row.getFirstName() + " " + row.getLastName())
+                .userEmail(row.getEmail())
+                .courseName(row.getCourseName())
+                .trainingType(row.getTrainingType())
+                .institution(row.getInstitution())
+                .isCompleted(row.getIsCompleted())
+                .durationValue(row.getDurationValue())
+                .durationUnit(row.getDurationUnit())
+                .durationFormatted(durationFormatted)
+                .completionDate(row.getCompletionDate())
+                .expiresAt(row.getExpiresAt())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    public EducationResponseDTO toEducationResponseDTO(EducationRepository.EducationListProjection row, Integer userId) {
+        if (row == null) return null;
+
+        return EducationResponseDTO.builder()
+                .educationId(row.getEducationId())
+                .userId(userId)
+                .typeEducation(row.getTypeEducation())
+                .academicLevel(row.getAcademicLevel())
+                .institutionName(row.getInstitutionName())
+                .degreeTitle(row.getDegreeTitle())
+                .countryCode(row.getCountryCode())
+                .countryName(row.getCountryName())
+                .graduateStatus(row.getGraduateStatus())
+                .lastLevelCompleted(row.getLastLevelCompleted())
+                .lastLevelDate(row.getLastLevelDate())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.hse.Curriculum.Mapper;
+
+import com.hse.Curriculum.Exception.Pagination.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codificador de cursores opacos para paginación por keyset
+ *
+ * El cursor es la última clave de ordenamiento entregada (ej: "puntaje:id")
+ * codificada en Base64 URL-safe, para que el cliente no dependa de su formato.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = ":";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Codificar las partes de la clave de ordenamiento en un cursor opaco
+     */
+    public static String encode(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodificar un cursor en sus partes
+     *
+     * @param cursor Cursor recibido del cliente
+     * @param expectedParts Número de partes esperadas
+     * @throws InvalidCursorException Si el cursor está mal formado
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, expectedParts);
+            if (parts.length != expectedParts) {
+                throw new InvalidCursorException("Cursor de paginación inválido");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor de paginación inválido");
+        }
+    }
+
+    /**
+     * Decodificar un cursor compuesto solo por enteros
+     */
+    public static int[] decodeInts(String cursor, int expectedParts) {
+        String[] parts = decode(cursor, expectedParts);
+        int[] values = new int[expectedParts];
+        try {
+            for (int i = 0; i < expectedParts; i++) {
+                values[i] = Integer.parseInt(parts[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Cursor de paginación inválido");
+        }
+        return values;
+    }
+}
@@ -0,0 +1,82 @@
+package com.hse.Curriculum.Models;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un certificado adjunto a una capacitación o a un registro de educación
+ * Mapea la tabla 'attachments' en la base de datos
+ *
+ * El contenido no se guarda en la base de datos: se almacena en disco direccionado por
+ * su hash SHA-256, de modo que el mismo archivo subido varias veces ocupa un solo blob.
+ */
+@Entity
+@Table(name = "attachments",
+        indexes = {
+                @Index(name = "idx_attachments_training", columnList = "training_id"),
+                @Index(name = "idx_attachments_education", columnList = "education_id"),
+                @Index(name = "idx_attachments_sha256", columnList = "sha256")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Attachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachments_seq")
+    @SequenceGenerator(name = "attachments_seq", sequenceName = "attachments_seq", allocationSize = 50)
+    @Column(name = "attachment_id")
+    private Integer attachmentId;
+
+    /**
+     * Capacitación a la que pertenece (null si pertenece a educación)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "training_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Training training;
+
+    /**
+     * Registro de educación al que pertenece (null si pertenece a una capacitación)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "education_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Education education;
+
+    /**
+     * Propietario de la hoja de vida (para validar permisos sin cargar el registro)
+     */
+    @Column(name = "owner_user_id", nullable = false)
+    private Integer ownerUserId;
+
+    /**
+     * Hash SHA-256 del contenido en hexadecimal; también es el nombre del blob en disco
+     */
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "original_filename", nullable = false, length = 255)
+    private String originalFilename;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "uploaded_by", nullable = false)
+    private Integer uploadedBy;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_seq")
+    @SequenceGenerator(name = "audit_logs_seq", sequenceName = "audit_logs_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "user_id")
@@ -68,6 +69,7 @@ public class AuditLog {
         LOGOUT,
         CHANGE_PASSWORD,
         ENABLE,
-        DISABLE
+        DISABLE,
+        EXPORT
     }
 }
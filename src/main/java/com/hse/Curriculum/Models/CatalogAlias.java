@@ -0,0 +1,52 @@
+package com.hse.Curriculum.Models;
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que representa una variante de escritura de un nombre del diccionario
+ * Mapea la tabla 'catalog_aliases' en la base de datos
+ *
+ * La clave normalizada es única por categoría: cada variante pertenece a un solo término.
+ */
+@Entity
+@Table(name = "catalog_aliases",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_catalog_alias_key",
+                columnNames = {"category", "normalized_key"}),
+        indexes = @Index(name = "idx_catalog_aliases_term", columnList = "term_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogAlias {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_aliases_seq")
+    @SequenceGenerator(name = "catalog_aliases_seq", sequenceName = "catalog_aliases_seq", allocationSize = 50)
+    @Column(name = "alias_id")
+    private Integer aliasId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "term_id", nullable = false)
+    private CatalogTerm term;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 20)
+    private CatalogCategoryEnum category;
+
+    /**
+     * Variante tal como se escribió por primera vez
+     */
+    @Column(name = "alias", nullable = false, length = 200)
+    private String alias;
+
+    /**
+     * Clave de comparación (ver CatalogKeyNormalizer)
+     */
+    @Column(name = "normalized_key", nullable = false, length = 200)
+    private String normalizedKey;
+}
@@ -0,0 +1,45 @@
+package com.hse.Curriculum.Models;
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un nombre canónico del diccionario (institución, curso o tipo)
+ * Mapea la tabla 'catalog_terms' en la base de datos
+ */
+@Entity
+@Table(name = "catalog_terms", indexes = {
+        @Index(name = "idx_catalog_terms_category", columnList = "category")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_terms_seq")
+    @SequenceGenerator(name = "catalog_terms_seq", sequenceName = "catalog_terms_seq", allocationSize = 50)
+    @Column(name = "term_id")
+    private Integer termId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 20)
+    private CatalogCategoryEnum category;
+
+    /**
+     * Nombre que se muestra (la variante más usada al momento de crearlo)
+     */
+    @Column(name = "canonical_name", nullable = false, length = 200)
+    private String canonicalName;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
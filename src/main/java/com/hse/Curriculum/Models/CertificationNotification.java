@@ -0,0 +1,55 @@
+package com.hse.Curriculum.Models;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa una notificación de vencimiento de certificación
+ * La escribe el escaneo diario; la restricción única evita notificar dos veces
+ * el mismo vencimiento con el mismo estado
+ * Mapea la tabla 'certification_notifications' en la base de datos
+ */
+@Entity
+@Table(name = "certification_notifications",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_cert_notification",
+                columnNames = {"training_id", "expires_at", "status"}),
+        indexes = @Index(name = "idx_cert_notification_user", columnList = "user_id, created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CertificationNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certification_notifications_seq")
+    @SequenceGenerator(name = "certification_notifications_seq", sequenceName = "certification_notifications_seq", allocationSize = 50)
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "training_id", nullable = false)
+    private Integer trainingId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDate expiresAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private NotificationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum NotificationStatus {
+        DUE,       // Próxima a vencer
+        OVERDUE    // Vencida
+    }
+}
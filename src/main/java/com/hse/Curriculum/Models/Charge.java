@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Charge {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charge_seq")
+    @SequenceGenerator(name = "charge_seq", sequenceName = "charge_seq", allocationSize = 50)
     @Column(name = "charge_id")
     private Integer chargeId;
 
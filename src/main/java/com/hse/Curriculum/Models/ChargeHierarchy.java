@@ -0,0 +1,52 @@
+package com.hse.Curriculum.Models;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Entidad que representa una fila de la tabla de clausura del organigrama de cargos
+ * Mapea la tabla 'charge_hierarchy' en la base de datos
+ *
+ * Hay una fila por cada par (ancestro, descendiente), incluida la del cargo consigo mismo
+ * con profundidad 0. Así "todos los descendientes" y "todos los ancestros" de un cargo
+ * son un join indexado, sin recorrer el árbol.
+ */
+@Entity
+@Table(name = "charge_hierarchy",
+        indexes = @Index(name = "idx_charge_hierarchy_descendant", columnList = "descendant_id, depth"))
+@IdClass(ChargeHierarchy.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChargeHierarchy {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Integer ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Integer descendantId;
+
+    /**
+     * Niveles entre el ancestro y el descendiente (1 = reporta directamente)
+     */
+    @Column(name = "depth", nullable = false)
+    private Integer depth;
+
+    /**
+     * Llave compuesta (ancestro, descendiente)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer ancestorId;
+        private Integer descendantId;
+    }
+}
@@ -0,0 +1,69 @@
+package com.hse.Curriculum.Models;
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Enum.GraduateStatusEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa el perfil de requisitos de un cargo para buscar candidatos
+ * Mapea la tabla 'charge_match_profiles' en la base de datos
+ *
+ * Las capacitaciones requeridas son las obligatorias del cargo (charge_required_trainings).
+ */
+@Entity
+@Table(name = "charge_match_profiles")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChargeMatchProfile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charge_match_profiles_seq")
+    @SequenceGenerator(name = "charge_match_profiles_seq", sequenceName = "charge_match_profiles_seq", allocationSize = 50)
+    @Column(name = "profile_id")
+    private Integer profileId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "charge_id", nullable = false, unique = true)
+    private Charge charge;
+
+    /**
+     * Nivel educativo mínimo (null = sin requisito)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "min_education_type")
+    private EducationTypeEnum minEducationType;
+
+    /**
+     * Estado mínimo de ese nivel educativo (null = cualquiera)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "min_graduate_status")
+    private GraduateStatusEnum minGraduateStatus;
+
+    /**
+     * Años mínimos de experiencia laboral (0 = sin requisito)
+     */
+    @Column(name = "min_experience_years", nullable = false)
+    private Integer minExperienceYears;
+
+    /**
+     * Municipio preferido (null = cualquiera)
+     */
+    @Column(name = "preferred_municipality_id")
+    private Integer preferredMunicipalityId;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "updated_by")
+    private Integer updatedBy;
+}
@@ -0,0 +1,48 @@
+package com.hse.Curriculum.Models;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un tipo de capacitación obligatorio para un cargo
+ * Mapea la tabla 'charge_required_trainings' en la base de datos
+ */
+@Entity
+@Table(name = "charge_required_trainings",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_charge_required_training",
+                columnNames = {"charge_id", "training_type"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChargeRequiredTraining {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charge_required_trainings_seq")
+    @SequenceGenerator(name = "charge_required_trainings_seq", sequenceName = "charge_required_trainings_seq", allocationSize = 50)
+    @Column(name = "requirement_id")
+    private Integer requirementId;
+
+    /**
+     * Cargo al que aplica el requisito
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "charge_id", nullable = false)
+    private Charge charge;
+
+    /**
+     * Tipo de capacitación obligatorio (se compara sin distinguir mayúsculas)
+     */
+    @Column(name = "training_type", nullable = false, length = 100)
+    private String trainingType;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
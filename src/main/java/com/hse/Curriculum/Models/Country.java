@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class Country {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "countries_seq")
+    @SequenceGenerator(name = "countries_seq", sequenceName = "countries_seq", allocationSize = 50)
     @Column(name = "country_id")
     private Integer countryId;
 
@@ -11,7 +11,8 @@ import lombok.*;
 public class Department {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_seq")
+    @SequenceGenerator(name = "department_seq", sequenceName = "department_seq", allocationSize = 50)
     @Column(name = "department_id")
     private Integer departmentId;
 
@@ -22,6 +23,6 @@ public class Department {
     @Column(name = "name", nullable = false, length = 100)
     private String name;
 
-    @Column(name = "dane_code", length = 10)
+    @Column(name = "dane_code", length = 10, unique = true)
     private String daneCode;
 }
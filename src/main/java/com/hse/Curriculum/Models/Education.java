@@ -14,7 +14,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "education")
+@Table(name = "education", indexes = {
+        @Index(name = "idx_education_institution_term", columnList = "institution_term_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,7 +24,8 @@ import java.time.LocalDateTime;
 public class Education {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "education_seq")
+    @SequenceGenerator(name = "education_seq", sequenceName = "education_seq", allocationSize = 50)
     @Column(name = "education_id")
     private Integer educationId;
 
@@ -40,6 +43,12 @@ public class Education {
     @Column(name = "institution_name", length = 200)
     private String institutionName;
 
+    /**
+     * Término del diccionario de instituciones (catalog_terms)
+     */
+    @Column(name = "institution_term_id")
+    private Integer institutionTermId;
+
     @Column(name = "degree_title", length = 255)
     private String degreeTitle;
 
@@ -12,7 +12,8 @@ import lombok.*;
 public class Municipality {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "municipality_seq")
+    @SequenceGenerator(name = "municipality_seq", sequenceName = "municipality_seq", allocationSize = 50)
     @Column(name = "municipality_id")
     private Integer municipalityId;
 
@@ -23,7 +24,7 @@ public class Municipality {
     @Column(name = "name", nullable = false, length = 100)
     private String name;
 
-    @Column(name = "dane_code", length = 10)
+    @Column(name = "dane_code", length = 10, unique = true)
     private String daneCode;
 
     @Column(name = "is_capital", nullable = false)
@@ -0,0 +1,34 @@
+package com.hse.Curriculum.Models;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que representa un permiso del sistema
+ * Mapea la tabla 'permissions' en la base de datos
+ */
+@Entity
+@Table(name = "permissions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Permission {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "permissions_seq")
+    @SequenceGenerator(name = "permissions_seq", sequenceName = "permissions_seq", allocationSize = 50)
+    @Column(name = "permission_id")
+    private Integer permissionId;
+
+    /**
+     * Código del permiso (nombre de PermissionEnum)
+     */
+    @Column(name = "code", nullable = false, unique = true, length = 50)
+    private String code;
+
+    @Column(name = "description", length = 150)
+    private String description;
+}
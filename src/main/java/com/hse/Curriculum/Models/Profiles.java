@@ -8,11 +8,14 @@ import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
 @Entity
-@Table(name = "profiles")
+@Table(name = "profiles", indexes = {
+        @Index(name = "idx_profiles_completeness", columnList = "completeness_score, profiles_id")
+})
 public class Profiles {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profiles_seq")
+    @SequenceGenerator(name = "profiles_seq", sequenceName = "profiles_seq", allocationSize = 50)
     @Column(name = "profiles_id")
     private Integer profilesId;
 
@@ -53,6 +56,10 @@ public class Profiles {
     @Column(name = "profile_complete", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     private Boolean profileComplete = false;
 
+    // Puntaje ponderado de completitud (0-100), mantenido por ProfileCompletenessService
+    @Column(name = "completeness_score", nullable = false, columnDefinition = "SMALLINT DEFAULT 0")
+    private Integer completenessScore = 0;
+
     // ========== CONSTRUCTORES ==========
     public Profiles() {}
 
@@ -187,6 +194,14 @@ public class Profiles {
         this.profileComplete = profileComplete;
     }
 
+    public Integer getCompletenessScore() {
+        return completenessScore;
+    }
+
+    public void setCompletenessScore(Integer completenessScore) {
+        this.completenessScore = completenessScore;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
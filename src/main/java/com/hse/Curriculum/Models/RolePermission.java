@@ -0,0 +1,36 @@
+package com.hse.Curriculum.Models;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que representa la asignación de un permiso a un rol
+ * Mapea la tabla 'role_permissions' en la base de datos
+ */
+@Entity
+@Table(name = "role_permissions",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_role_permission",
+                columnNames = {"role_id", "permission_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RolePermission {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_permissions_seq")
+    @SequenceGenerator(name = "role_permissions_seq", sequenceName = "role_permissions_seq", allocationSize = 50)
+    @Column(name = "role_permission_id")
+    private Integer rolePermissionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "role_id", nullable = false)
+    private Roles role;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "permission_id", nullable = false)
+    private Permission permission;
+}
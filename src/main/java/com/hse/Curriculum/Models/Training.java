@@ -15,7 +15,14 @@ import java.time.LocalDateTime;
  * Mapea la tabla 'trainings' en la base de datos
  */
 @Entity
-@Table(name = "trainings")
+@Table(name = "trainings", indexes = {
+        @Index(name = "idx_trainings_expires_at", columnList = "expires_at, training_id"),
+        @Index(name = "idx_trainings_user_expires", columnList = "user_id, expires_at"),
+        @Index(name = "idx_trainings_completion_date", columnList = "completion_date"),
+        @Index(name = "idx_trainings_institution_term", columnList = "institution_term_id"),
+        @Index(name = "idx_trainings_course_term", columnList = "course_term_id"),
+        @Index(name = "idx_trainings_type_term", columnList = "training_type_term_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,7 +32,8 @@ public class Training {
      * Identificador único del registro de capacitación
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainings_seq")
+    @SequenceGenerator(name = "trainings_seq", sequenceName = "trainings_seq", allocationSize = 50)
     @Column(name = "training_id")
     private Integer trainingId;
 
@@ -55,6 +63,19 @@ public class Training {
     @Column(name = "institution", nullable = false, length = 200)
     private String institution;
 
+    /**
+     * Términos del diccionario de nombres (catalog_terms) para agrupar variantes
+     * de escritura del mismo nombre; el texto original se conserva
+     */
+    @Column(name = "institution_term_id")
+    private Integer institutionTermId;
+
+    @Column(name = "course_term_id")
+    private Integer courseTermId;
+
+    @Column(name = "training_type_term_id")
+    private Integer trainingTypeTermId;
+
     /**
      * Indica si el curso/capacitación fue finalizado
      */
@@ -73,12 +94,27 @@ public class Training {
     @Column(name = "duration_unit", length = 50)
     private String durationUnit;
 
+    /**
+     * Duración normalizada en minutos (calculada al guardar a partir de valor y unidad)
+     * Permite sumar horas de capacitación directamente en la base de datos
+     */
+    @Column(name = "duration_minutes")
+    private Integer durationMinutes;
+
     /**
      * Fecha de finalización del curso (puede ser nula si no está completado)
      */
     @Column(name = "completion_date")
     private LocalDate completionDate;
 
+    /**
+     * Fecha de vencimiento de la certificación
+     * Se calcula al guardar con la vigencia configurada para el tipo de capacitación
+     * (null si el tipo no vence o la capacitación no está completada)
+     */
+    @Column(name = "expires_at")
+    private LocalDate expiresAt;
+
     /**
      * Fecha de creación del registro (automática)
      */
@@ -0,0 +1,58 @@
+package com.hse.Curriculum.Models;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa la vigencia de un tipo de capacitación
+ * (ej: Primeros Auxilios 12 meses, Trabajo en Alturas 18 meses)
+ * Mapea la tabla 'training_validity' en la base de datos
+ */
+@Entity
+@Table(name = "training_validity")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrainingValidity {
+    /**
+     * Identificador único de la vigencia
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "training_validity_seq")
+    @SequenceGenerator(name = "training_validity_seq", sequenceName = "training_validity_seq", allocationSize = 50)
+    @Column(name = "validity_id")
+    private Integer validityId;
+
+    /**
+     * Tipo de capacitación al que aplica (se compara sin distinguir mayúsculas)
+     */
+    @Column(name = "training_type", nullable = false, unique = true, length = 100)
+    private String trainingType;
+
+    /**
+     * Meses de vigencia contados desde la fecha de finalización
+     */
+    @Column(name = "validity_months", nullable = false)
+    private Integer validityMonths;
+
+    /**
+     * Días de anticipación con los que se notifica el vencimiento
+     */
+    @Column(name = "warning_days", nullable = false)
+    private Integer warningDays;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
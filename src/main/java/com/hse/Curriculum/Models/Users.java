@@ -10,14 +10,17 @@ import java.time.LocalDateTime;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_experience", columnList = "experience_days DESC, user_id")
+})
 @Data
 @Builder
 @AllArgsConstructor
 public class Users {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "user_id")
     private Integer userId;
 
@@ -56,6 +59,13 @@ public class Users {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // ========== EXPERIENCIA ==========
+    // Días de experiencia laboral sin solapes, mantenidos por WorkExperienceService con una
+    // actualización directa (la entidad no escribe la columna para no pisar el valor)
+    @Column(name = "experience_days", insertable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private Integer experienceDays;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -14,7 +14,8 @@ import java.time.LocalDate;
 public class WorkExperience {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_experience_seq")
+    @SequenceGenerator(name = "work_experience_seq", sequenceName = "work_experience_seq", allocationSize = 50)
     @Column(name = "work_experience_id")
     private Integer workExperienceId;
 
@@ -0,0 +1,61 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Integer> {
+
+    /**
+     * Adjuntos de una capacitación
+     */
+    @Query("SELECT a FROM Attachment a WHERE a.training.trainingId = :trainingId ORDER BY a.createdAt DESC")
+    List<Attachment> findByTrainingId(@Param("trainingId") Integer trainingId);
+
+    /**
+     * Adjuntos de un registro de educación
+     */
+    @Query("SELECT a FROM Attachment a WHERE a.education.educationId = :educationId ORDER BY a.createdAt DESC")
+    List<Attachment> findByEducationId(@Param("educationId") Integer educationId);
+
+    /**
+     * Mismo contenido ya adjunto a la capacitación (para no duplicar el registro)
+     */
+    @Query("SELECT a FROM Attachment a WHERE a.training.trainingId = :trainingId AND a.sha256 = :sha256")
+    Optional<Attachment> findByTrainingIdAndSha256(@Param("trainingId") Integer trainingId,
+                                                   @Param("sha256") String sha256);
+
+    /**
+     * Mismo contenido ya adjunto al registro de educación
+     */
+    @Query("SELECT a FROM Attachment a WHERE a.education.educationId = :educationId AND a.sha256 = :sha256")
+    Optional<Attachment> findByEducationIdAndSha256(@Param("educationId") Integer educationId,
+                                                    @Param("sha256") String sha256);
+
+    /**
+     * Bloqueo consultivo del blob hasta el fin de la transacción: serializa la reutilización
+     * de un blob en una carga con su borrado cuando queda sin referencias
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('attachment_blob'), hashtext(:sha256))) AS l",
+            nativeQuery = true)
+    Integer lockBlob(@Param("sha256") String sha256);
+
+    /**
+     * Verificar si algún registro sigue usando el blob
+     */
+    boolean existsBySha256(String sha256);
+
+    /**
+     * De un lote de hashes, cuáles siguen referenciados (limpieza de blobs huérfanos)
+     */
+    @Query("SELECT DISTINCT a.sha256 FROM Attachment a WHERE a.sha256 IN :hashes")
+    Set<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+}
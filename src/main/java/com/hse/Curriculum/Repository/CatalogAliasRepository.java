@@ -0,0 +1,69 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import com.hse.Curriculum.Models.CatalogAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CatalogAliasRepository extends JpaRepository<CatalogAlias, Integer> {
+
+    /**
+     * Todas las variantes con su término (para construir el índice en memoria)
+     */
+    @Query("SELECT a.category AS category, a.normalizedKey AS normalizedKey, " +
+            "t.termId AS termId, t.canonicalName AS canonicalName " +
+            "FROM CatalogAlias a JOIN a.term t")
+    List<CatalogIndexEntry> findIndexEntries();
+
+    /**
+     * Variantes de un término (para actualizar el índice después de una fusión)
+     */
+    @Query("SELECT a.category AS category, a.normalizedKey AS normalizedKey, " +
+            "t.termId AS termId, t.canonicalName AS canonicalName " +
+            "FROM CatalogAlias a JOIN a.term t WHERE t.termId = :termId")
+    List<CatalogIndexEntry> findIndexEntriesByTermId(@Param("termId") Integer termId);
+
+    /**
+     * Término al que pertenece una clave (null si no existe)
+     */
+    @Query("SELECT a.term.termId FROM CatalogAlias a WHERE a.category = :category AND a.normalizedKey = :normalizedKey")
+    Integer findTermIdByKey(@Param("category") CatalogCategoryEnum category,
+                            @Param("normalizedKey") String normalizedKey);
+
+    /**
+     * Registrar una variante sin fallar si otra transacción la creó primero
+     * (el ID sale del DEFAULT de la columna: una fila suelta gasta un bloque de la secuencia)
+     * @return 1 si se insertó, 0 si la clave ya existía
+     */
+    @Modifying
+    @Query(value = "INSERT INTO catalog_aliases (term_id, category, alias, normalized_key) " +
+            "VALUES (:termId, :category, :alias, :normalizedKey) " +
+            "ON CONFLICT (category, normalized_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("termId") Integer termId,
+                       @Param("category") String category,
+                       @Param("alias") String alias,
+                       @Param("normalizedKey") String normalizedKey);
+
+    /**
+     * Mover las variantes de un término a otro (fusión)
+     */
+    @Modifying
+    @Query(value = "UPDATE catalog_aliases SET term_id = :targetId WHERE term_id = :sourceId", nativeQuery = true)
+    int reassignTerm(@Param("sourceId") Integer sourceId, @Param("targetId") Integer targetId);
+
+    /**
+     * Entrada del índice de búsqueda
+     */
+    interface CatalogIndexEntry {
+        CatalogCategoryEnum getCategory();
+        String getNormalizedKey();
+        Integer getTermId();
+        String getCanonicalName();
+    }
+}
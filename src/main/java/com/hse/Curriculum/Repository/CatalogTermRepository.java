@@ -0,0 +1,9 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.CatalogTerm;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogTermRepository extends JpaRepository<CatalogTerm, Integer> {
+}
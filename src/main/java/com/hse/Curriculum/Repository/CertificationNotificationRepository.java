@@ -0,0 +1,49 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.CertificationNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface CertificationNotificationRepository extends JpaRepository<CertificationNotification, Long> {
+
+    /**
+     * Registrar en bloque las certificaciones próximas a vencer y vencidas
+     *
+     * Un solo recorrido por rango sobre idx_trainings_expires_at (fromDate..toDate);
+     * cada tipo aplica sus propios días de aviso. Los vencimientos ya notificados
+     * con el mismo estado se descartan antes de reservar IDs (reserve_ids) y la
+     * restricción única cubre a otra ejecución concurrente.
+     *
+     * @param today Fecha de la ejecución
+     * @param fromDate Inicio del rango (incluye vencidas recientes)
+     * @param toDate Fin del rango (hoy + mayor número de días de aviso)
+     * @return Número de notificaciones insertadas
+     */
+    @Modifying
+    @Query(value = "WITH due AS (" +
+            "SELECT t.training_id, t.user_id, t.expires_at, " +
+            "CASE WHEN t.expires_at < :today THEN 'OVERDUE' ELSE 'DUE' END AS status " +
+            "FROM trainings t " +
+            "JOIN training_validity v ON UPPER(TRIM(t.training_type)) = UPPER(v.training_type) " +
+            "WHERE t.expires_at BETWEEN :fromDate AND :toDate " +
+            "AND t.expires_at <= CAST(:today AS date) + v.warning_days " +
+            "AND NOT EXISTS (SELECT 1 FROM trainings r WHERE r.user_id = t.user_id " +
+            "AND r.expires_at > t.expires_at AND UPPER(TRIM(r.training_type)) = UPPER(TRIM(t.training_type)))), " +
+            "fresh AS (" +
+            "SELECT row_number() OVER (ORDER BY d.training_id, d.status) AS rn, d.* FROM due d " +
+            "WHERE NOT EXISTS (SELECT 1 FROM certification_notifications n WHERE n.training_id = d.training_id " +
+            "AND n.expires_at = d.expires_at AND n.status = d.status)) " +
+            "INSERT INTO certification_notifications (notification_id, training_id, user_id, expires_at, status, created_at) " +
+            "SELECT i.id, f.training_id, f.user_id, f.expires_at, f.status, now() FROM fresh f " +
+            "JOIN reserve_ids('certification_notifications_seq', (SELECT COUNT(*) FROM fresh)) i ON i.rn = f.rn " +
+            "ON CONFLICT (training_id, expires_at, status) DO NOTHING", nativeQuery = true)
+    int insertDueNotifications(@Param("today") LocalDate today,
+                               @Param("fromDate") LocalDate fromDate,
+                               @Param("toDate") LocalDate toDate);
+}
@@ -0,0 +1,107 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.ChargeHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface ChargeHierarchyRepository extends JpaRepository<ChargeHierarchy, ChargeHierarchy.Key> {
+
+    /**
+     * Relaciones directas como filas [chargeId, parentChargeId]
+     */
+    @Query("SELECT h.descendantId, h.ancestorId FROM ChargeHierarchy h WHERE h.depth = 1")
+    List<Object[]> findParentLinks();
+
+    /**
+     * Todas las filas de la clausura como [ancestorId, descendantId]
+     */
+    @Query("SELECT h.ancestorId, h.descendantId FROM ChargeHierarchy h")
+    List<Object[]> findAllLinks();
+
+    /**
+     * Verificar si un cargo está dentro del subárbol de otro (incluido él mismo)
+     */
+    @Query("SELECT CASE WHEN COUNT(h) > 0 THEN true ELSE false END FROM ChargeHierarchy h " +
+            "WHERE h.ancestorId = :ancestorId AND h.descendantId = :descendantId")
+    boolean isInSubtree(@Param("ancestorId") Integer ancestorId, @Param("descendantId") Integer descendantId);
+
+    /**
+     * Línea de reporte de un cargo: ancestros del más lejano al más cercano
+     */
+    @Query("SELECT c.chargeId AS chargeId, c.nameCharge AS nameCharge, h.depth AS depth " +
+            "FROM ChargeHierarchy h, Charge c " +
+            "WHERE c.chargeId = h.ancestorId AND h.descendantId = :chargeId AND h.depth > 0 " +
+            "ORDER BY h.depth DESC")
+    List<ChargeNodeProjection> findAncestors(@Param("chargeId") Integer chargeId);
+
+    /**
+     * Cargos que reportan directamente a un cargo
+     */
+    @Query("SELECT c.chargeId AS chargeId, c.nameCharge AS nameCharge, h.depth AS depth " +
+            "FROM ChargeHierarchy h, Charge c " +
+            "WHERE c.chargeId = h.descendantId AND h.ancestorId = :chargeId AND h.depth = 1 " +
+            "ORDER BY c.nameCharge")
+    List<ChargeNodeProjection> findChildren(@Param("chargeId") Integer chargeId);
+
+    /**
+     * Serializar los cambios de estructura (evita ciclos entre movimientos concurrentes)
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:key)) AS hierarchy_lock", nativeQuery = true)
+    Integer lockHierarchy(@Param("key") long key);
+
+    /**
+     * Registrar un cargo como nodo (fila consigo mismo) si todavía no lo es
+     */
+    @Modifying
+    @Query(value = "INSERT INTO charge_hierarchy (ancestor_id, descendant_id, depth) " +
+            "VALUES (:chargeId, :chargeId, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertSelf(@Param("chargeId") Integer chargeId);
+
+    /**
+     * Registrar como nodos raíz los cargos que no tienen fila en la clausura
+     * (se ejecuta en su propia transacción al cargar el organigrama)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO charge_hierarchy (ancestor_id, descendant_id, depth) " +
+            "SELECT charge_id, charge_id, 0 FROM charge ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertMissingSelfRows();
+
+    /**
+     * Separar un subárbol de sus ancestros actuales (las filas internas del subárbol se conservan)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM charge_hierarchy " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM charge_hierarchy WHERE ancestor_id = :chargeId) " +
+            "AND ancestor_id NOT IN (SELECT descendant_id FROM charge_hierarchy WHERE ancestor_id = :chargeId)",
+            nativeQuery = true)
+    int detachSubtree(@Param("chargeId") Integer chargeId);
+
+    /**
+     * Colgar un subárbol bajo un nuevo padre: cada ancestro del padre pasa a ser
+     * ancestro de cada nodo del subárbol
+     */
+    @Modifying
+    @Query(value = "INSERT INTO charge_hierarchy (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM charge_hierarchy p CROSS JOIN charge_hierarchy s " +
+            "WHERE p.descendant_id = :parentId AND s.ancestor_id = :chargeId",
+            nativeQuery = true)
+    int attachSubtree(@Param("chargeId") Integer chargeId, @Param("parentId") Integer parentId);
+
+    /**
+     * Nodo del organigrama
+     */
+    interface ChargeNodeProjection {
+        Integer getChargeId();
+        String getNameCharge();
+        Integer getDepth();
+    }
+}
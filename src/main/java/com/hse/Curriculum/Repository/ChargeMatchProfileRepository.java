@@ -0,0 +1,16 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.ChargeMatchProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChargeMatchProfileRepository extends JpaRepository<ChargeMatchProfile, Integer> {
+
+    @Query("SELECT p FROM ChargeMatchProfile p WHERE p.charge.chargeId = :chargeId")
+    Optional<ChargeMatchProfile> findByChargeId(@Param("chargeId") Integer chargeId);
+}
@@ -0,0 +1,33 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.ChargeRequiredTraining;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChargeRequiredTrainingRepository extends JpaRepository<ChargeRequiredTraining, Integer> {
+
+    /**
+     * Todos los requisitos como filas [chargeId, trainingType]
+     */
+    @Query("SELECT r.charge.chargeId, r.trainingType FROM ChargeRequiredTraining r")
+    List<Object[]> findAllChargeTrainingPairs();
+
+    /**
+     * Tipos de capacitación obligatorios de un cargo
+     */
+    @Query("SELECT r.trainingType FROM ChargeRequiredTraining r WHERE r.charge.chargeId = :chargeId ORDER BY r.trainingType")
+    List<String> findTrainingTypesByChargeId(@Param("chargeId") Integer chargeId);
+
+    /**
+     * Eliminar los requisitos de un cargo
+     */
+    @Modifying
+    @Query("DELETE FROM ChargeRequiredTraining r WHERE r.charge.chargeId = :chargeId")
+    int deleteByChargeId(@Param("chargeId") Integer chargeId);
+}
@@ -2,6 +2,7 @@ package com.hse.Curriculum.Repository;
 
 import com.hse.Curriculum.Models.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +18,14 @@ public interface DepartmentRepository  extends JpaRepository <Department,Integer
 
     // Buscar por código DANE
     Optional<Department> findByDaneCode(String daneCode);
+
+    // Verificar si el código DANE ya está asignado (único en la tabla)
+    boolean existsByDaneCode(String daneCode);
+
+    // Verificar si el código DANE está asignado a otro departamento
+    boolean existsByDaneCodeAndDepartmentIdNot(String daneCode, Integer departmentId);
+
+    // Todos los departamentos sin cargar el país: filas [departmentId, countryId, name, daneCode]
+    @Query("SELECT d.departmentId, d.country.countryId, d.name, d.daneCode FROM Department d ORDER BY d.name")
+    List<Object[]> findAllCatalogRows();
 }
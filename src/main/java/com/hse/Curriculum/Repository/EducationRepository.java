@@ -1,6 +1,7 @@
 package com.hse.Curriculum.Repository;
 import com.hse.Curriculum.Models.Education;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,6 +25,83 @@ public interface EducationRepository extends JpaRepository<Education, Integer> {
             "ORDER BY e.lastLevelDate DESC NULLS LAST")
     List<Education> findByUserIdWithCountry(@Param("userId") Integer userId);
 
+    /**
+     * Página de registros educativos de un usuario con filtros opcionales, paginada por keyset
+     * sobre (fecha de último nivel, educationId) en orden descendente. Los registros sin fecha
+     * se ordenan con emptyDate, por lo que quedan al final.
+     *
+     * Selecciona solo las columnas del DTO (incluido el país) en una sola consulta.
+     * Para la primera página se envía afterDate = 9999-12-31 y afterId = Integer.MAX_VALUE
+     *
+     * @param institutionPattern Patrón LIKE en minúsculas (ej: "%sena%"), o null
+     */
+    @Query("SELECT e.educationId AS educationId, e.typeEducation AS typeEducation, " +
+            "e.academicLevel AS academicLevel, e.institutionName AS institutionName, " +
+            "e.degreeTitle AS degreeTitle, c.countryCode AS countryCode, c.countryName AS countryName, " +
+            "e.graduateStatus AS graduateStatus, e.lastLevelCompleted AS lastLevelCompleted, " +
+            "e.lastLevelDate AS lastLevelDate, e.createdAt AS createdAt, e.updatedAt AS updatedAt " +
+            "FROM Education e LEFT JOIN e.country c " +
+            "WHERE e.user.userId = :userId " +
+            "AND (:graduateStatus IS NULL OR e.graduateStatus = :graduateStatus) " +
+            "AND (:typeEducation IS NULL OR e.typeEducation = :typeEducation) " +
+            "AND (:institutionPattern IS NULL OR LOWER(e.institutionName) LIKE :institutionPattern) " +
+            "AND (:fromDate IS NULL OR e.lastLevelDate >= :fromDate) " +
+            "AND (:toDate IS NULL OR e.lastLevelDate <= :toDate) " +
+            "AND (COALESCE(e.lastLevelDate, :emptyDate) < :afterDate " +
+            "OR (COALESCE(e.lastLevelDate, :emptyDate) = :afterDate AND e.educationId < :afterId)) " +
+            "ORDER BY COALESCE(e.lastLevelDate, :emptyDate) DESC, e.educationId DESC")
+    List<EducationListProjection> findPageByUserId(
+            @Param("userId") Integer userId,
+            @Param("graduateStatus") com.hse.Curriculum.Enum.GraduateStatusEnum graduateStatus,
+            @Param("typeEducation") com.hse.Curriculum.Enum.EducationTypeEnum typeEducation,
+            @Param("institutionPattern") String institutionPattern,
+            @Param("fromDate") java.time.LocalDate fromDate,
+            @Param("toDate") java.time.LocalDate toDate,
+            @Param("emptyDate") java.time.LocalDate emptyDate,
+            @Param("afterDate") java.time.LocalDate afterDate,
+            @Param("afterId") Integer afterId,
+            org.springframework.data.domain.Pageable pageable
+    );
+
+    /**
+     * Proyección del listado de registros educativos
+     */
+    interface EducationListProjection {
+        Integer getEducationId();
+        com.hse.Curriculum.Enum.EducationTypeEnum getTypeEducation();
+        String getAcademicLevel();
+        String getInstitutionName();
+        String getDegreeTitle();
+        Integer getCountryCode();
+        String getCountryName();
+        com.hse.Curriculum.Enum.GraduateStatusEnum getGraduateStatus();
+        String getLastLevelCompleted();
+        java.time.LocalDate getLastLevelDate();
+        java.time.LocalDateTime getCreatedAt();
+        java.time.LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * Registros educativos (con país) de un grupo de usuarios en una sola consulta,
+     * en el mismo orden del listado paginado
+     */
+    @Query("SELECT e.user.userId AS userId, e.educationId AS educationId, e.typeEducation AS typeEducation, " +
+            "e.academicLevel AS academicLevel, e.institutionName AS institutionName, " +
+            "e.degreeTitle AS degreeTitle, c.countryCode AS countryCode, c.countryName AS countryName, " +
+            "e.graduateStatus AS graduateStatus, e.lastLevelCompleted AS lastLevelCompleted, " +
+            "e.lastLevelDate AS lastLevelDate, e.createdAt AS createdAt, e.updatedAt AS updatedAt " +
+            "FROM Education e LEFT JOIN e.country c " +
+            "WHERE e.user.userId IN :userIds " +
+            "ORDER BY e.lastLevelDate DESC NULLS LAST, e.educationId DESC")
+    List<EducationBatchProjection> findListRowsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Proyección del listado de registros educativos con el usuario dueño
+     */
+    interface EducationBatchProjection extends EducationListProjection {
+        Integer getUserId();
+    }
+
     /**
      * Buscar un registro específico de educación verificando que pertenezca al usuario.
      * Útil para operaciones donde solo el dueño puede acceder.
@@ -72,6 +150,45 @@ public interface EducationRepository extends JpaRepository<Education, Integer> {
     @Query("SELECT COUNT(e) FROM Education e WHERE e.user.userId = :userId")
     Long countByUserId(@Param("userId") Integer userId);
 
+    /**
+     * Contar registros educativos por usuario para un grupo de usuarios.
+     * Devuelve filas [userId, cantidad] en una sola consulta agrupada.
+     *
+     * @param userIds IDs de los usuarios
+     * @return Lista de pares [userId, cantidad]
+     */
+    @Query("SELECT e.user.userId, COUNT(e) FROM Education e " +
+            "WHERE e.user.userId IN :userIds GROUP BY e.user.userId")
+    List<Object[]> countByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Tipo y estado de graduación de todos los registros educativos.
+     * Devuelve filas [userId, tipo, estado] (dimensiones del cubo de analítica)
+     */
+    @Query("SELECT e.user.userId, e.typeEducation, e.graduateStatus FROM Education e")
+    List<Object[]> findAllTypeStatusRows();
+
+    /**
+     * Tipo y estado de graduación de los registros educativos de un grupo de usuarios.
+     * Devuelve filas [userId, tipo, estado]
+     */
+    @Query("SELECT e.user.userId, e.typeEducation, e.graduateStatus FROM Education e WHERE e.user.userId IN :userIds")
+    List<Object[]> findTypeStatusRowsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Tipo y título de todos los registros educativos (vectores de candidatos similares).
+     * Devuelve filas [userId, tipo, título]
+     */
+    @Query("SELECT e.user.userId, e.typeEducation, e.degreeTitle FROM Education e")
+    List<Object[]> findAllTypeTitleRows();
+
+    /**
+     * Tipo y título de los registros educativos de un grupo de usuarios.
+     * Devuelve filas [userId, tipo, título]
+     */
+    @Query("SELECT e.user.userId, e.typeEducation, e.degreeTitle FROM Education e WHERE e.user.userId IN :userIds")
+    List<Object[]> findTypeTitleRowsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
     /**
      * Buscar educaciones por tipo (primaria, media, superior).
      *
@@ -97,4 +214,30 @@ public interface EducationRepository extends JpaRepository<Education, Integer> {
      */
     @Query("DELETE FROM Education e WHERE e.user.userId = :userId")
     void deleteByUserId(@Param("userId") Integer userId);
-}
\ No newline at end of file
+
+    // ========== DICCIONARIO DE NOMBRES ==========
+
+    /**
+     * Instituciones sin término del diccionario, con su cantidad de usos
+     * @return Lista de [texto, cantidad]
+     */
+    @Query(value = "SELECT institution_name, COUNT(*) FROM education " +
+            "WHERE institution_term_id IS NULL AND institution_name IS NOT NULL GROUP BY institution_name", nativeQuery = true)
+    List<Object[]> countUnassignedInstitutions();
+
+    /**
+     * Asignar el término a partir de un mapeo JSON [{"value": texto, "termId": id}]
+     */
+    @Modifying
+    @Query(value = "UPDATE education e SET institution_term_id = m.\"termId\" " +
+            "FROM jsonb_to_recordset(CAST(:mapping AS jsonb)) AS m(value TEXT, \"termId\" INTEGER) " +
+            "WHERE e.institution_term_id IS NULL AND e.institution_name = m.value", nativeQuery = true)
+    int assignInstitutionTerms(@Param("mapping") String mapping);
+
+    /**
+     * Reasignar los registros de un término fusionado
+     */
+    @Modifying
+    @Query(value = "UPDATE education SET institution_term_id = :targetId WHERE institution_term_id = :sourceId", nativeQuery = true)
+    int reassignInstitutionTerm(@Param("sourceId") Integer sourceId, @Param("targetId") Integer targetId);
+}
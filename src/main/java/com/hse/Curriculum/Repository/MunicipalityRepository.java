@@ -2,6 +2,7 @@ package com.hse.Curriculum.Repository;
 
 import com.hse.Curriculum.Models.Municipality;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -20,4 +21,14 @@ public interface MunicipalityRepository extends JpaRepository <Municipality,Inte
 
     // Buscar por código DANE
     Optional<Municipality> findByDaneCode(String daneCode);
+
+    // Verificar si el código DANE ya está asignado (único en la tabla)
+    boolean existsByDaneCode(String daneCode);
+
+    // Verificar si el código DANE está asignado a otro municipio
+    boolean existsByDaneCodeAndMunicipalityIdNot(String daneCode, Integer municipalityId);
+
+    // Todos los municipios sin cargar el departamento: filas [municipalityId, departmentId, name, daneCode, isCapital]
+    @Query("SELECT m.municipalityId, m.department.departmentId, m.name, m.daneCode, m.isCapital FROM Municipality m ORDER BY m.name")
+    List<Object[]> findAllCatalogRows();
 }
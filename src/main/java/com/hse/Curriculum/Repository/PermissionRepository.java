@@ -0,0 +1,13 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.Permission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PermissionRepository extends JpaRepository<Permission, Integer> {
+
+    Optional<Permission> findByCode(String code);
+}
@@ -1,9 +1,13 @@
 package com.hse.Curriculum.Repository;
 
 import com.hse.Curriculum.Models.Profiles;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.util.Optional;
+
+import java.util.Collection;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,4 +35,48 @@ public interface ProfilesRepository extends JpaRepository<Profiles, Integer> {
 
     // Buscar por número de documento
     Optional<Profiles> findByDocumentNumber(String documentNumber);
+
+    /**
+     * Buscar perfiles (con su usuario) para un grupo de usuarios
+     */
+    @Query("SELECT p FROM Profiles p JOIN FETCH p.user u WHERE u.userId IN :userIds")
+    List<Profiles> findByUserIdsWithUser(@Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * IDs de todos los usuarios que tienen perfil (para recálculos masivos)
+     */
+    @Query("SELECT p.user.userId FROM Profiles p ORDER BY p.user.userId")
+    List<Integer> findAllUserIds();
+
+    /**
+     * Cola de perfiles con menor completitud, paginada por keyset sobre
+     * (completenessScore, profilesId). Usa el índice idx_profiles_completeness
+     * y no degrada con la profundidad de la página como OFFSET.
+     *
+     * Para la primera página se envía afterScore = -1 y afterId = 0
+     */
+    @Query("SELECT p.profilesId AS profilesId, u.userId AS userId, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.email AS email, c.nameCharge AS chargeName, " +
+            "p.completenessScore AS completenessScore, p.profileComplete AS profileComplete " +
+            "FROM Profiles p JOIN p.user u LEFT JOIN u.charge c " +
+            "WHERE p.completenessScore > :afterScore " +
+            "OR (p.completenessScore = :afterScore AND p.profilesId > :afterId) " +
+            "ORDER BY p.completenessScore ASC, p.profilesId ASC")
+    List<CompletenessProjection> findCompletenessQueue(@Param("afterScore") Integer afterScore,
+                                                       @Param("afterId") Integer afterId,
+                                                       Pageable pageable);
+
+    /**
+     * Proyección de la cola de completitud
+     */
+    interface CompletenessProjection {
+        Integer getProfilesId();
+        Integer getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        String getChargeName();
+        Integer getCompletenessScore();
+        Boolean getProfileComplete();
+    }
 }
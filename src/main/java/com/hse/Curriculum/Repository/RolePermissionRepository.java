@@ -0,0 +1,33 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.RolePermission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RolePermissionRepository extends JpaRepository<RolePermission, Integer> {
+
+    /**
+     * Todas las asignaciones como filas [roleId, código del permiso]
+     */
+    @Query("SELECT rp.role.roleId, rp.permission.code FROM RolePermission rp")
+    List<Object[]> findAllRolePermissionPairs();
+
+    /**
+     * Códigos de los permisos de un rol
+     */
+    @Query("SELECT rp.permission.code FROM RolePermission rp WHERE rp.role.roleId = :roleId ORDER BY rp.permission.code")
+    List<String> findCodesByRoleId(@Param("roleId") Integer roleId);
+
+    /**
+     * Eliminar los permisos de un rol
+     */
+    @Modifying
+    @Query("DELETE FROM RolePermission rp WHERE rp.role.roleId = :roleId")
+    int deleteByRoleId(@Param("roleId") Integer roleId);
+}
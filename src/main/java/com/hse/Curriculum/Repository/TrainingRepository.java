@@ -1,11 +1,14 @@
 package com.hse.Curriculum.Repository;
 
 import com.hse.Curriculum.Models.Training;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +38,77 @@ public interface TrainingRepository extends JpaRepository<Training, Integer> {
     @Query("SELECT t FROM Training t WHERE t.user.userId = :userId ORDER BY t.completionDate DESC, t.createdAt DESC")
     List<Training> findByUserIdOrderByCompletionDateDesc(@Param("userId") Integer userId);
 
+    /**
+     * Página de capacitaciones de un usuario con filtros opcionales, paginada por keyset sobre
+     * (fecha de finalización, trainingId) en orden descendente. Las capacitaciones sin fecha
+     * (en curso) se ordenan con openDate, por lo que aparecen primero.
+     *
+     * Selecciona solo las columnas del DTO (incluido el nombre del usuario) en una sola consulta.
+     * Para la primera página se envía afterDate = openDate y afterId = Integer.MAX_VALUE
+     *
+     * @param institutionPattern Patrón LIKE en minúsculas (ej: "%sena%"), o null
+     */
+    @Query("SELECT t.trainingId AS trainingId, t.courseName AS courseName, t.trainingType AS trainingType, " +
+            "t.institution AS institution, t.isCompleted AS isCompleted, t.durationValue AS durationValue, " +
+            "t.durationUnit AS durationUnit, t.completionDate AS completionDate, t.expiresAt AS expiresAt, " +
+            "t.createdAt AS createdAt, t.updatedAt AS updatedAt, " +
+            "u.userId AS userId, u.firstName AS firstName, u.lastName AS lastName, u.email AS email " +
+            "FROM Training t JOIN t.user u " +
+            "WHERE u.userId = :userId " +
+            "AND (:completed IS NULL OR t.isCompleted = :completed) " +
+            "AND (:trainingType IS NULL OR UPPER(t.trainingType) = UPPER(:trainingType)) " +
+            "AND (:institutionPattern IS NULL OR LOWER(t.institution) LIKE :institutionPattern) " +
+            "AND (:fromDate IS NULL OR t.completionDate >= :fromDate) " +
+            "AND (:toDate IS NULL OR t.completionDate <= :toDate) " +
+            "AND (COALESCE(t.completionDate, :openDate) < :afterDate " +
+            "OR (COALESCE(t.completionDate, :openDate) = :afterDate AND t.trainingId < :afterId)) " +
+            "ORDER BY COALESCE(t.completionDate, :openDate) DESC, t.trainingId DESC")
+    List<TrainingListProjection> findPageByUserId(@Param("userId") Integer userId,
+                                                  @Param("completed") Boolean completed,
+                                                  @Param("trainingType") String trainingType,
+                                                  @Param("institutionPattern") String institutionPattern,
+                                                  @Param("fromDate") LocalDate fromDate,
+                                                  @Param("toDate") LocalDate toDate,
+                                                  @Param("openDate") LocalDate openDate,
+                                                  @Param("afterDate") LocalDate afterDate,
+                                                  @Param("afterId") Integer afterId,
+                                                  Pageable pageable);
+
+    /**
+     * Capacitaciones de un grupo de usuarios en una sola consulta, en el mismo orden del listado
+     * paginado (en curso primero, luego por fecha de finalización descendente)
+     */
+    @Query("SELECT t.trainingId AS trainingId, t.courseName AS courseName, t.trainingType AS trainingType, " +
+            "t.institution AS institution, t.isCompleted AS isCompleted, t.durationValue AS durationValue, " +
+            "t.durationUnit AS durationUnit, t.completionDate AS completionDate, t.expiresAt AS expiresAt, " +
+            "t.createdAt AS createdAt, t.updatedAt AS updatedAt, " +
+            "u.userId AS userId, u.firstName AS firstName, u.lastName AS lastName, u.email AS email " +
+            "FROM Training t JOIN t.user u " +
+            "WHERE u.userId IN :userIds " +
+            "ORDER BY t.completionDate DESC NULLS FIRST, t.trainingId DESC")
+    List<TrainingListProjection> findListRowsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Proyección del listado de capacitaciones
+     */
+    interface TrainingListProjection {
+        Integer getTrainingId();
+        String getCourseName();
+        String getTrainingType();
+        String getInstitution();
+        Boolean getIsCompleted();
+        Integer getDurationValue();
+        String getDurationUnit();
+        LocalDate getCompletionDate();
+        LocalDate getExpiresAt();
+        java.time.LocalDateTime getCreatedAt();
+        java.time.LocalDateTime getUpdatedAt();
+        Integer getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+    }
+
     /**
      * Busca todos los registros de capacitación completados de un usuario
      *
@@ -93,6 +167,16 @@ public interface TrainingRepository extends JpaRepository<Training, Integer> {
     @Query("SELECT COUNT(t) FROM Training t WHERE t.user.userId = :userId AND t.isCompleted = true")
     Long countCompletedByUserId(@Param("userId") Integer userId);
 
+    /**
+     * Cuenta las capacitaciones completadas por usuario para un grupo de usuarios
+     * Devuelve filas [userId, cantidad] en una sola consulta agrupada
+     *
+     * @param userIds IDs de los usuarios
+     * @return Lista de pares [userId, cantidad]
+     */
+    @Query("SELECT t.user.userId, COUNT(t) FROM Training t WHERE t.user.userId IN :userIds AND t.isCompleted = true GROUP BY t.user.userId")
+    List<Object[]> countCompletedByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
     /**
      * Verifica si existe un registro de capacitación con un nombre específico para un usuario
      * Útil para evitar duplicados
@@ -103,4 +187,335 @@ public interface TrainingRepository extends JpaRepository<Training, Integer> {
      */
     @Query("SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END FROM Training t WHERE t.user.userId = :userId AND LOWER(t.courseName) = LOWER(:courseName)")
     boolean existsByUserIdAndCourseName(@Param("userId") Integer userId, @Param("courseName") String courseName);
-}
\ No newline at end of file
+
+    /**
+     * Recalcula la fecha de vencimiento de todas las capacitaciones completadas de un tipo
+     * Se ejecuta en una sola sentencia al crear o cambiar la vigencia del tipo
+     *
+     * @param trainingType Tipo de capacitación (sin distinguir mayúsculas)
+     * @param validityMonths Meses de vigencia
+     * @return Número de registros actualizados
+     */
+    @Modifying
+    @Query(value = "UPDATE trainings SET expires_at = CAST(completion_date + make_interval(months => :validityMonths) AS date) " +
+            "WHERE UPPER(TRIM(training_type)) = UPPER(TRIM(:trainingType)) " +
+            "AND is_completed = true AND completion_date IS NOT NULL", nativeQuery = true)
+    int updateExpiresAtByTrainingType(@Param("trainingType") String trainingType,
+                                      @Param("validityMonths") int validityMonths);
+
+    /**
+     * Quita la fecha de vencimiento de las capacitaciones de un tipo que dejó de vencer
+     *
+     * @param trainingType Tipo de capacitación (sin distinguir mayúsculas)
+     * @return Número de registros actualizados
+     */
+    @Modifying
+    @Query(value = "UPDATE trainings SET expires_at = NULL " +
+            "WHERE UPPER(TRIM(training_type)) = UPPER(TRIM(:trainingType)) AND expires_at IS NOT NULL", nativeQuery = true)
+    int clearExpiresAtByTrainingType(@Param("trainingType") String trainingType);
+
+    /**
+     * Certificaciones que vencen en un rango de fechas, paginadas por keyset sobre
+     * (expiresAt, trainingId) usando el índice idx_trainings_expires_at.
+     * Excluye las certificaciones ya renovadas (existe otra del mismo tipo que vence después).
+     *
+     * Para la primera página se envía afterDate = fromDate - 1 día y afterId = 0
+     */
+    @Query("SELECT t.trainingId AS trainingId, t.courseName AS courseName, t.trainingType AS trainingType, " +
+            "t.institution AS institution, t.completionDate AS completionDate, t.expiresAt AS expiresAt, " +
+            "u.userId AS userId, u.firstName AS firstName, u.lastName AS lastName, u.email AS email, " +
+            "c.chargeId AS chargeId, c.nameCharge AS chargeName " +
+            "FROM Training t JOIN t.user u LEFT JOIN u.charge c " +
+            "WHERE t.expiresAt >= :fromDate AND t.expiresAt <= :toDate " +
+            "AND (:chargeId IS NULL OR c.chargeId = :chargeId) " +
+            "AND (t.expiresAt > :afterDate OR (t.expiresAt = :afterDate AND t.trainingId > :afterId)) " +
+            "AND NOT EXISTS (SELECT 1 FROM Training r WHERE r.user = t.user " +
+            "AND r.expiresAt > t.expiresAt AND UPPER(TRIM(r.trainingType)) = UPPER(TRIM(t.trainingType))) " +
+            "ORDER BY t.expiresAt ASC, t.trainingId ASC")
+    List<ExpiringCertificationProjection> findExpiringCertifications(@Param("fromDate") LocalDate fromDate,
+                                                                     @Param("toDate") LocalDate toDate,
+                                                                     @Param("chargeId") Integer chargeId,
+                                                                     @Param("afterDate") LocalDate afterDate,
+                                                                     @Param("afterId") Integer afterId,
+                                                                     Pageable pageable);
+
+    /**
+     * Proyección de certificaciones próximas a vencer
+     */
+    interface ExpiringCertificationProjection {
+        Integer getTrainingId();
+        String getCourseName();
+        String getTrainingType();
+        String getInstitution();
+        LocalDate getCompletionDate();
+        LocalDate getExpiresAt();
+        Integer getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        Integer getChargeId();
+        String getChargeName();
+    }
+
+    /**
+     * Pares (usuario, tipo de capacitación) completados y vigentes de todos los usuarios activos
+     * Se usa para construir la matriz de cumplimiento en una sola consulta
+     *
+     * @param today Fecha de referencia para descartar certificaciones vencidas
+     * @return Filas [userId, trainingType]
+     */
+    @Query("SELECT DISTINCT t.user.userId, t.trainingType FROM Training t " +
+            "WHERE t.isCompleted = true AND t.user.status = true " +
+            "AND (t.expiresAt IS NULL OR t.expiresAt >= :today)")
+    List<Object[]> findCompletedTrainingTypePairs(@Param("today") LocalDate today);
+
+    /**
+     * Pares (usuario, tipo de capacitación) completados y vigentes de todos los usuarios,
+     * activos o no (índice de facetas)
+     *
+     * @param today Fecha de referencia para descartar certificaciones vencidas
+     * @return Filas [userId, trainingType]
+     */
+    @Query("SELECT DISTINCT t.user.userId, t.trainingType FROM Training t " +
+            "WHERE t.isCompleted = true AND (t.expiresAt IS NULL OR t.expiresAt >= :today)")
+    List<Object[]> findHeldTrainingTypePairs(@Param("today") LocalDate today);
+
+    /**
+     * Pares (usuario, tipo de capacitación) completados y vigentes de un grupo de usuarios
+     *
+     * @param today Fecha de referencia para descartar certificaciones vencidas
+     * @return Filas [userId, trainingType]
+     */
+    @Query("SELECT DISTINCT t.user.userId, t.trainingType FROM Training t " +
+            "WHERE t.user.userId IN :userIds AND t.isCompleted = true " +
+            "AND (t.expiresAt IS NULL OR t.expiresAt >= :today)")
+    List<Object[]> findHeldTrainingTypePairsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds,
+                                                      @Param("today") LocalDate today);
+
+    /**
+     * Tipo y nombre del curso de todas las capacitaciones completadas (vectores de candidatos similares)
+     *
+     * @return Filas [userId, trainingType, courseName]
+     */
+    @Query("SELECT t.user.userId, t.trainingType, t.courseName FROM Training t WHERE t.isCompleted = true")
+    List<Object[]> findCompletedTypeCourseRows();
+
+    /**
+     * Tipo y nombre del curso de las capacitaciones completadas de un grupo de usuarios
+     *
+     * @return Filas [userId, trainingType, courseName]
+     */
+    @Query("SELECT t.user.userId, t.trainingType, t.courseName FROM Training t " +
+            "WHERE t.isCompleted = true AND t.user.userId IN :userIds")
+    List<Object[]> findCompletedTypeCourseRowsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Tipos de capacitación completados y vigentes de un usuario
+     *
+     * @param userId ID del usuario
+     * @param today Fecha de referencia para descartar certificaciones vencidas
+     * @return Tipos de capacitación distintos
+     */
+    @Query("SELECT DISTINCT t.trainingType FROM Training t " +
+            "WHERE t.user.userId = :userId AND t.isCompleted = true " +
+            "AND (t.expiresAt IS NULL OR t.expiresAt >= :today)")
+    List<String> findCompletedTrainingTypesByUserId(@Param("userId") Integer userId,
+                                                    @Param("today") LocalDate today);
+
+    // ========== HORAS DE CAPACITACIÓN (agregadas en la base de datos) ==========
+
+    /**
+     * Horas de capacitación completadas por usuario en un rango de fechas
+     */
+    @Query("SELECT u.userId AS groupId, CONCAT(u.firstName, ' ', u.lastName) AS groupName, " +
+            "COUNT(t) AS trainings, COUNT(DISTINCT t.user.userId) AS participants, " +
+            "COALESCE(SUM(t.durationMinutes), 0) AS totalMinutes, " +
+            "SUM(CASE WHEN t.durationMinutes IS NULL THEN 1 ELSE 0 END) AS unmeasured " +
+            "FROM Training t JOIN t.user u " +
+            "WHERE t.isCompleted = true AND t.completionDate BETWEEN :fromDate AND :toDate " +
+            "GROUP BY u.userId, u.firstName, u.lastName " +
+            "ORDER BY COALESCE(SUM(t.durationMinutes), 0) DESC")
+    List<TrainingHoursProjection> sumHoursByUser(@Param("fromDate") LocalDate fromDate,
+                                                 @Param("toDate") LocalDate toDate);
+
+    /**
+     * Horas de capacitación completadas por cargo en un rango de fechas
+     */
+    @Query("SELECT c.chargeId AS groupId, c.nameCharge AS groupName, " +
+            "COUNT(t) AS trainings, COUNT(DISTINCT t.user.userId) AS participants, " +
+            "COALESCE(SUM(t.durationMinutes), 0) AS totalMinutes, " +
+            "SUM(CASE WHEN t.durationMinutes IS NULL THEN 1 ELSE 0 END) AS unmeasured " +
+            "FROM Training t JOIN t.user u LEFT JOIN u.charge c " +
+            "WHERE t.isCompleted = true AND t.completionDate BETWEEN :fromDate AND :toDate " +
+            "GROUP BY c.chargeId, c.nameCharge " +
+            "ORDER BY COALESCE(SUM(t.durationMinutes), 0) DESC")
+    List<TrainingHoursProjection> sumHoursByCharge(@Param("fromDate") LocalDate fromDate,
+                                                   @Param("toDate") LocalDate toDate);
+
+    /**
+     * Horas de capacitación completadas por tipo (sin distinguir mayúsculas) en un rango de fechas
+     */
+    @Query("SELECT MIN(t.trainingType) AS groupName, " +
+            "COUNT(t) AS trainings, COUNT(DISTINCT t.user.userId) AS participants, " +
+            "COALESCE(SUM(t.durationMinutes), 0) AS totalMinutes, " +
+            "SUM(CASE WHEN t.durationMinutes IS NULL THEN 1 ELSE 0 END) AS unmeasured " +
+            "FROM Training t " +
+            "WHERE t.isCompleted = true AND t.completionDate BETWEEN :fromDate AND :toDate " +
+            "GROUP BY UPPER(TRIM(t.trainingType)) " +
+            "ORDER BY COALESCE(SUM(t.durationMinutes), 0) DESC")
+    List<TrainingHoursKeyProjection> sumHoursByTrainingType(@Param("fromDate") LocalDate fromDate,
+                                                            @Param("toDate") LocalDate toDate);
+
+    /**
+     * Horas de capacitación completadas por institución (sin distinguir mayúsculas) en un rango de fechas
+     */
+    @Query("SELECT MIN(t.institution) AS groupName, " +
+            "COUNT(t) AS trainings, COUNT(DISTINCT t.user.userId) AS participants, " +
+            "COALESCE(SUM(t.durationMinutes), 0) AS totalMinutes, " +
+            "SUM(CASE WHEN t.durationMinutes IS NULL THEN 1 ELSE 0 END) AS unmeasured " +
+            "FROM Training t " +
+            "WHERE t.isCompleted = true AND t.completionDate BETWEEN :fromDate AND :toDate " +
+            "GROUP BY UPPER(TRIM(t.institution)) " +
+            "ORDER BY COALESCE(SUM(t.durationMinutes), 0) DESC")
+    List<TrainingHoursKeyProjection> sumHoursByInstitution(@Param("fromDate") LocalDate fromDate,
+                                                           @Param("toDate") LocalDate toDate);
+
+    /**
+     * Indicador mensual de horas de capacitación (una fila por mes)
+     */
+    @Query("SELECT EXTRACT(YEAR FROM t.completionDate) AS reportYear, EXTRACT(MONTH FROM t.completionDate) AS reportMonth, " +
+            "COUNT(t) AS trainings, COUNT(DISTINCT t.user.userId) AS participants, " +
+            "COALESCE(SUM(t.durationMinutes), 0) AS totalMinutes, " +
+            "SUM(CASE WHEN t.durationMinutes IS NULL THEN 1 ELSE 0 END) AS unmeasured " +
+            "FROM Training t " +
+            "WHERE t.isCompleted = true AND t.completionDate BETWEEN :fromDate AND :toDate " +
+            "GROUP BY EXTRACT(YEAR FROM t.completionDate), EXTRACT(MONTH FROM t.completionDate) " +
+            "ORDER BY EXTRACT(YEAR FROM t.completionDate), EXTRACT(MONTH FROM t.completionDate)")
+    List<MonthlyTrainingHoursProjection> sumHoursByMonth(@Param("fromDate") LocalDate fromDate,
+                                                         @Param("toDate") LocalDate toDate);
+
+    /**
+     * Unidades de duración de los registros que aún no tienen duración normalizada
+     */
+    @Query("SELECT DISTINCT t.durationUnit FROM Training t " +
+            "WHERE t.durationValue IS NOT NULL AND t.durationUnit IS NOT NULL AND t.durationMinutes IS NULL")
+    List<String> findUnitsPendingNormalization();
+
+    /**
+     * Normalizar en una sola sentencia la duración de los registros con una unidad dada
+     */
+    @Modifying
+    @Query("UPDATE Training t SET t.durationMinutes = t.durationValue * :minutesPerUnit " +
+            "WHERE t.durationUnit = :durationUnit AND t.durationValue IS NOT NULL AND t.durationMinutes IS NULL")
+    int normalizeDurationByUnit(@Param("durationUnit") String durationUnit,
+                                @Param("minutesPerUnit") int minutesPerUnit);
+
+    // ========== DICCIONARIO DE NOMBRES ==========
+
+    /**
+     * Instituciones sin término del diccionario, con su cantidad de usos
+     * @return Lista de [texto, cantidad]
+     */
+    @Query(value = "SELECT institution, COUNT(*) FROM trainings " +
+            "WHERE institution_term_id IS NULL AND institution IS NOT NULL GROUP BY institution", nativeQuery = true)
+    List<Object[]> countUnassignedInstitutions();
+
+    /**
+     * Asignar el término a partir de un mapeo JSON [{"value": texto, "termId": id}]
+     * (una sola sentencia por campo)
+     */
+    @Modifying
+    @Query(value = "UPDATE trainings t SET institution_term_id = m.\"termId\" " +
+            "FROM jsonb_to_recordset(CAST(:mapping AS jsonb)) AS m(value TEXT, \"termId\" INTEGER) " +
+            "WHERE t.institution_term_id IS NULL AND t.institution = m.value", nativeQuery = true)
+    int assignInstitutionTerms(@Param("mapping") String mapping);
+
+    /**
+     * Reasignar las capacitaciones de un término fusionado
+     */
+    @Modifying
+    @Query(value = "UPDATE trainings SET institution_term_id = :targetId WHERE institution_term_id = :sourceId", nativeQuery = true)
+    int reassignInstitutionTerm(@Param("sourceId") Integer sourceId, @Param("targetId") Integer targetId);
+
+    /**
+     * Nombres de curso sin término del diccionario, con su cantidad de usos
+     * @return Lista de [texto, cantidad]
+     */
+    @Query(value = "SELECT course_name, COUNT(*) FROM trainings " +
+            "WHERE course_term_id IS NULL AND course_name IS NOT NULL GROUP BY course_name", nativeQuery = true)
+    List<Object[]> countUnassignedCourseNames();
+
+    /**
+     * Asignar el término a partir de un mapeo JSON [{"value": texto, "termId": id}]
+     * (una sola sentencia por campo)
+     */
+    @Modifying
+    @Query(value = "UPDATE trainings t SET course_term_id = m.\"termId\" " +
+            "FROM jsonb_to_recordset(CAST(:mapping AS jsonb)) AS m(value TEXT, \"termId\" INTEGER) " +
+            "WHERE t.course_term_id IS NULL AND t.course_name = m.value", nativeQuery = true)
+    int assignCourseNameTerms(@Param("mapping") String mapping);
+
+    /**
+     * Reasignar las capacitaciones de un término fusionado
+     */
+    @Modifying
+    @Query(value = "UPDATE trainings SET course_term_id = :targetId WHERE course_term_id = :sourceId", nativeQuery = true)
+    int reassignCourseNameTerm(@Param("sourceId") Integer sourceId, @Param("targetId") Integer targetId);
+
+    /**
+     * Tipos de capacitación sin término del diccionario, con su cantidad de usos
+     * @return Lista de [texto, cantidad]
+     */
+    @Query(value = "SELECT training_type, COUNT(*) FROM trainings " +
+            "WHERE training_type_term_id IS NULL AND training_type IS NOT NULL GROUP BY training_type", nativeQuery = true)
+    List<Object[]> countUnassignedTrainingTypes();
+
+    /**
+     * Asignar el término a partir de un mapeo JSON [{"value": texto, "termId": id}]
+     * (una sola sentencia por campo)
+     */
+    @Modifying
+    @Query(value = "UPDATE trainings t SET training_type_term_id = m.\"termId\" " +
+            "FROM jsonb_to_recordset(CAST(:mapping AS jsonb)) AS m(value TEXT, \"termId\" INTEGER) " +
+            "WHERE t.training_type_term_id IS NULL AND t.training_type = m.value", nativeQuery = true)
+    int assignTrainingTypeTerms(@Param("mapping") String mapping);
+
+    /**
+     * Reasignar las capacitaciones de un término fusionado
+     */
+    @Modifying
+    @Query(value = "UPDATE trainings SET training_type_term_id = :targetId WHERE training_type_term_id = :sourceId", nativeQuery = true)
+    int reassignTrainingTypeTerm(@Param("sourceId") Integer sourceId, @Param("targetId") Integer targetId);
+
+    /**
+     * Totales comunes de las agregaciones de horas
+     */
+    interface TrainingHoursTotals {
+        Long getTrainings();
+        Long getParticipants();
+        Long getTotalMinutes();
+        Long getUnmeasured();
+    }
+
+    /**
+     * Proyección de horas agrupadas por una clave de texto (tipo, institución)
+     */
+    interface TrainingHoursKeyProjection extends TrainingHoursTotals {
+        String getGroupName();
+    }
+
+    /**
+     * Proyección de horas agrupadas por una entidad con ID (usuario, cargo)
+     */
+    interface TrainingHoursProjection extends TrainingHoursKeyProjection {
+        Integer getGroupId();
+    }
+
+    /**
+     * Proyección del indicador mensual de horas
+     */
+    interface MonthlyTrainingHoursProjection extends TrainingHoursTotals {
+        Integer getReportYear();
+        Integer getReportMonth();
+    }
+}
@@ -0,0 +1,32 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.TrainingValidity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TrainingValidityRepository extends JpaRepository<TrainingValidity, Integer> {
+
+    /**
+     * Buscar la vigencia de un tipo de capacitación sin distinguir mayúsculas
+     */
+    @Query("SELECT v FROM TrainingValidity v WHERE UPPER(v.trainingType) = UPPER(TRIM(:trainingType))")
+    Optional<TrainingValidity> findByTrainingTypeIgnoreCase(@Param("trainingType") String trainingType);
+
+    /**
+     * Listar vigencias ordenadas por tipo
+     */
+    @Query("SELECT v FROM TrainingValidity v ORDER BY v.trainingType")
+    List<TrainingValidity> findAllOrderByTrainingType();
+
+    /**
+     * Mayor número de días de aviso configurado (define el fin del rango del escaneo)
+     */
+    @Query("SELECT COALESCE(MAX(v.warningDays), 0) FROM TrainingValidity v")
+    Integer findMaxWarningDays();
+}
@@ -1,7 +1,11 @@
 package com.hse.Curriculum.Repository;
 
 import com.hse.Curriculum.Models.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -28,5 +32,287 @@ public interface UsersRepository extends JpaRepository<Users, Integer> {
     List<Users> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
             String firstName, String lastName, String email
     );
-}
 
+    /**
+     * IDs de usuarios que cumplen los filtros de exportación masiva
+     * Los filtros nulos no se aplican
+     */
+    @Query("SELECT u.userId FROM Users u " +
+            "LEFT JOIN u.charge c " +
+            "LEFT JOIN u.profile p " +
+            "WHERE (:chargeId IS NULL OR c.chargeId = :chargeId) " +
+            "AND (:roleId IS NULL OR u.role.roleId = :roleId) " +
+            "AND (:status IS NULL OR u.status = :status) " +
+            "AND (:profileComplete IS NULL OR p.profileComplete = :profileComplete) " +
+            "ORDER BY u.userId")
+    List<Integer> findIdsForExport(
+            @Param("chargeId") Integer chargeId,
+            @Param("roleId") Integer roleId,
+            @Param("status") Boolean status,
+            @Param("profileComplete") Boolean profileComplete
+    );
+
+    /**
+     * Página de IDs por cargo/rol/estado en orden de ID, a partir del último ID entregado
+     * (lectura por lotes de hojas de vida paginada por cursor)
+     */
+    @Query("SELECT u.userId FROM Users u " +
+            "LEFT JOIN u.charge c " +
+            "WHERE (:chargeId IS NULL OR c.chargeId = :chargeId) " +
+            "AND (:roleId IS NULL OR u.role.roleId = :roleId) " +
+            "AND (:status IS NULL OR u.status = :status) " +
+            "AND u.userId > :afterId " +
+            "ORDER BY u.userId")
+    List<Integer> findIdPageForBatch(
+            @Param("chargeId") Integer chargeId,
+            @Param("roleId") Integer roleId,
+            @Param("status") Boolean status,
+            @Param("afterId") Integer afterId,
+            org.springframework.data.domain.Pageable pageable
+    );
+
+    /**
+     * Igual que findIdPageForBatch, limitado a los usuarios de un conjunto de cargos
+     * (el subárbol de un supervisor)
+     */
+    @Query("SELECT u.userId FROM Users u " +
+            "WHERE u.charge.chargeId IN :chargeIds " +
+            "AND (:roleId IS NULL OR u.role.roleId = :roleId) " +
+            "AND (:status IS NULL OR u.status = :status) " +
+            "AND u.userId > :afterId " +
+            "ORDER BY u.userId")
+    List<Integer> findIdPageForBatchInCharges(
+            @Param("chargeIds") List<Integer> chargeIds,
+            @Param("roleId") Integer roleId,
+            @Param("status") Boolean status,
+            @Param("afterId") Integer afterId,
+            org.springframework.data.domain.Pageable pageable
+    );
+
+    /**
+     * Usuarios activos con cargo asignado
+     * Devuelve filas [userId, chargeId]
+     */
+    @Query("SELECT u.userId, u.charge.chargeId FROM Users u WHERE u.status = true AND u.charge IS NOT NULL")
+    List<Object[]> findActiveUserChargePairs();
+
+    /**
+     * Cantidad de usuarios por combinación de rol y cargo (una sola consulta)
+     * Devuelve filas [roleId, chargeId, cantidad]; roleId o chargeId pueden ser null
+     */
+    @Query("SELECT r.roleId, c.chargeId, COUNT(u) FROM Users u LEFT JOIN u.role r LEFT JOIN u.charge c " +
+            "GROUP BY r.roleId, c.chargeId")
+    List<Object[]> countUsersByRoleAndCharge();
+
+    /**
+     * Usuarios activos y cargos de un cargo y de todo su subárbol (un join con la tabla de clausura)
+     */
+    @Query("SELECT COUNT(u) AS subtreeUsers, " +
+            "COALESCE(SUM(CASE WHEN h.depth = 0 AND u.userId IS NOT NULL THEN 1 ELSE 0 END), 0) AS directUsers, " +
+            "COUNT(DISTINCT h.descendantId) AS subtreeCharges " +
+            "FROM ChargeHierarchy h LEFT JOIN Users u ON u.charge.chargeId = h.descendantId AND u.status = true " +
+            "WHERE h.ancestorId = :chargeId")
+    SubtreeHeadcountProjection countActiveUsersInChargeSubtree(@Param("chargeId") Integer chargeId);
+
+    /**
+     * Página de usuarios activos del subárbol de un cargo (paginación por userId)
+     */
+    @Query("SELECT u.userId AS userId, u.firstName AS firstName, u.lastName AS lastName, u.email AS email, " +
+            "c.chargeId AS chargeId, c.nameCharge AS nameCharge, h.depth AS depth " +
+            "FROM Users u JOIN u.charge c, ChargeHierarchy h " +
+            "WHERE h.ancestorId = :chargeId AND h.descendantId = c.chargeId AND u.status = true " +
+            "AND u.userId > :afterId ORDER BY u.userId")
+    List<SubtreeUserProjection> findActiveUsersInChargeSubtree(@Param("chargeId") Integer chargeId,
+                                                               @Param("afterId") Integer afterId,
+                                                               Pageable pageable);
+
+    /**
+     * Cargo de un usuario activo (vacío si está inactivo o no tiene cargo)
+     */
+    @Query("SELECT u.charge.chargeId FROM Users u WHERE u.userId = :userId AND u.status = true AND u.charge IS NOT NULL")
+    Optional<Integer> findActiveChargeIdByUserId(@Param("userId") Integer userId);
+
+    /**
+     * Datos básicos de un grupo de usuarios sin cargar sus relaciones
+     */
+    @Query("SELECT u.userId AS userId, u.firstName AS firstName, u.lastName AS lastName, u.email AS email " +
+            "FROM Users u WHERE u.userId IN :userIds")
+    List<UserSummaryProjection> findSummariesByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Proyección con los datos básicos de un usuario
+     */
+    interface UserSummaryProjection {
+        Integer getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+    }
+
+    /**
+     * Rol, cargo y estado de todos los usuarios (dimensiones del cubo de analítica)
+     */
+    @Query("SELECT u.userId AS userId, r.roleId AS roleId, r.name AS roleName, " +
+            "c.chargeId AS chargeId, c.nameCharge AS chargeName, u.status AS status " +
+            "FROM Users u JOIN u.role r LEFT JOIN u.charge c")
+    List<WorkforceUserProjection> findWorkforceRows();
+
+    /**
+     * Rol, cargo y estado de un grupo de usuarios
+     */
+    @Query("SELECT u.userId AS userId, r.roleId AS roleId, r.name AS roleName, " +
+            "c.chargeId AS chargeId, c.nameCharge AS chargeName, u.status AS status " +
+            "FROM Users u JOIN u.role r LEFT JOIN u.charge c WHERE u.userId IN :userIds")
+    List<WorkforceUserProjection> findWorkforceRowsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Proyección de las dimensiones de usuario del cubo de analítica
+     */
+    interface WorkforceUserProjection {
+        Integer getUserId();
+        Integer getRoleId();
+        String getRoleName();
+        Integer getChargeId();
+        String getChargeName();
+        Boolean getStatus();
+    }
+
+    /**
+     * Rol, cargo, estado y puntaje de completitud de todos los usuarios (índice de facetas),
+     * en orden de ID para llenar los bitmaps secuencialmente
+     */
+    @Query("SELECT u.userId AS userId, r.roleId AS roleId, r.name AS roleName, " +
+            "c.chargeId AS chargeId, c.nameCharge AS chargeName, u.status AS status, " +
+            "p.completenessScore AS completenessScore " +
+            "FROM Users u JOIN u.role r LEFT JOIN u.charge c LEFT JOIN u.profile p ORDER BY u.userId")
+    List<FacetUserProjection> findFacetRows();
+
+    /**
+     * Rol, cargo, estado y puntaje de completitud de un grupo de usuarios (actualización incremental de facetas)
+     */
+    @Query("SELECT u.userId AS userId, r.roleId AS roleId, r.name AS roleName, " +
+            "c.chargeId AS chargeId, c.nameCharge AS chargeName, u.status AS status, " +
+            "p.completenessScore AS completenessScore " +
+            "FROM Users u JOIN u.role r LEFT JOIN u.charge c LEFT JOIN u.profile p WHERE u.userId IN :userIds")
+    List<FacetUserProjection> findFacetRowsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Proyección de las facetas de usuario (dimensiones del cubo más la completitud del perfil)
+     */
+    interface FacetUserProjection extends WorkforceUserProjection {
+        Integer getCompletenessScore();
+    }
+
+    /**
+     * Datos de usuario, cargo, rol y perfil de un grupo de usuarios en una sola consulta
+     * (lectura por lotes de hojas de vida)
+     */
+    @Query("SELECT u.userId AS userId, u.firstName AS firstName, u.lastName AS lastName, u.email AS email, " +
+            "u.status AS status, r.name AS roleName, c.chargeId AS chargeId, c.nameCharge AS chargeName, " +
+            "p.documentType AS documentType, p.documentNumber AS documentNumber, p.phoneNumber AS phoneNumber, " +
+            "p.birthDate AS birthDate, p.residentialAddress AS residentialAddress, " +
+            "p.professionalSummary AS professionalSummary, p.careerAchievements AS careerAchievements, " +
+            "p.profileComplete AS profileComplete, p.completenessScore AS completenessScore " +
+            "FROM Users u JOIN u.role r LEFT JOIN u.charge c LEFT JOIN u.profile p " +
+            "WHERE u.userId IN :userIds ORDER BY u.userId")
+    List<CurriculumUserProjection> findCurriculumRowsByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    /**
+     * Proyección de usuario y perfil para la lectura por lotes de hojas de vida
+     */
+    interface CurriculumUserProjection {
+        Integer getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        Boolean getStatus();
+        String getRoleName();
+        Integer getChargeId();
+        String getChargeName();
+        String getDocumentType();
+        String getDocumentNumber();
+        String getPhoneNumber();
+        java.time.LocalDate getBirthDate();
+        String getResidentialAddress();
+        String getProfessionalSummary();
+        String getCareerAchievements();
+        Boolean getProfileComplete();
+        Integer getCompletenessScore();
+    }
+
+    /**
+     * Conteo de usuarios activos y cargos del subárbol de un cargo
+     */
+    interface SubtreeHeadcountProjection {
+        Long getSubtreeUsers();
+        Long getDirectUsers();
+        Long getSubtreeCharges();
+    }
+
+    /**
+     * Usuario activo dentro del subárbol de un cargo
+     */
+    interface SubtreeUserProjection {
+        Integer getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        Integer getChargeId();
+        String getNameCharge();
+        Integer getDepth();
+    }
+
+    // ========== EXPERIENCIA LABORAL ==========
+
+    /**
+     * Bloquear la fila del usuario hasta el fin de la transacción antes de recalcular su experiencia,
+     * para que dos escrituras concurrentes no se pisen el total
+     * (FOR NO KEY UPDATE no choca con el FOR KEY SHARE que toma el INSERT en work_experience)
+     */
+    @Query(value = "SELECT user_id FROM users WHERE user_id = :userId FOR NO KEY UPDATE", nativeQuery = true)
+    Integer lockForExperienceUpdate(@Param("userId") Integer userId);
+
+    /**
+     * Bloquear un bloque de usuarios en orden de ID (el orden fijo evita interbloqueos entre bloques)
+     */
+    @Query(value = "SELECT user_id FROM users WHERE user_id IN (:userIds) ORDER BY user_id FOR NO KEY UPDATE",
+            nativeQuery = true)
+    List<Integer> lockForExperienceUpdate(@Param("userIds") List<Integer> userIds);
+
+    /**
+     * Guardar los días de experiencia calculados de un usuario
+     * (la columna no la escribe la entidad, solo esta sentencia)
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET experience_days = :days WHERE user_id = :userId", nativeQuery = true)
+    int updateExperienceDays(@Param("userId") Integer userId, @Param("days") Integer days);
+
+    /**
+     * Usuarios activos por experiencia (mayor primero), paginación por keyset sobre
+     * (experienceDays, userId). Usa el índice idx_users_experience
+     */
+    @Query("SELECT u.userId AS userId, u.firstName AS firstName, u.lastName AS lastName, u.email AS email, " +
+            "c.nameCharge AS nameCharge, u.experienceDays AS experienceDays " +
+            "FROM Users u LEFT JOIN u.charge c " +
+            "WHERE u.status = true " +
+            "AND u.experienceDays BETWEEN :minDays AND :maxDays " +
+            "AND (u.experienceDays < :afterDays OR (u.experienceDays = :afterDays AND u.userId > :afterId)) " +
+            "ORDER BY u.experienceDays DESC, u.userId ASC")
+    List<ExperienceRankingProjection> findExperienceRanking(@Param("minDays") Integer minDays,
+                                                            @Param("maxDays") Integer maxDays,
+                                                            @Param("afterDays") Integer afterDays,
+                                                            @Param("afterId") Integer afterId,
+                                                            Pageable pageable);
+
+    /**
+     * Usuario activo con sus días de experiencia
+     */
+    interface ExperienceRankingProjection {
+        Integer getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        String getNameCharge();
+        Integer getExperienceDays();
+    }
+}
@@ -0,0 +1,153 @@
+package com.hse.Curriculum.Repository;
+
+import com.hse.Curriculum.Models.WorkExperience;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkExperienceRepository extends JpaRepository<WorkExperience, Integer> {
+
+    /**
+     * Buscar una experiencia laboral de un usuario
+     */
+    @Query("SELECT w FROM WorkExperience w WHERE w.workExperienceId = :workExperienceId AND w.user.userId = :userId")
+    Optional<WorkExperience> findByIdAndUserId(@Param("workExperienceId") Integer workExperienceId,
+                                               @Param("userId") Integer userId);
+
+    /**
+     * Experiencias laborales de un usuario: trabajos actuales primero, luego por fecha de inicio
+     */
+    @Query("SELECT w FROM WorkExperience w WHERE w.user.userId = :userId " +
+            "ORDER BY w.currentlyWorking DESC, w.startDate DESC, w.workExperienceId DESC")
+    List<WorkExperience> findByUserIdOrdered(@Param("userId") Integer userId);
+
+    long countByUser_UserId(Integer userId);
+
+    /**
+     * Usuarios cuyo total de experiencia cambia con el paso de los días: tienen un trabajo
+     * actual, sin fecha de fin, o que termina o empieza desde :since
+     */
+    @Query("SELECT DISTINCT w.user.userId FROM WorkExperience w " +
+            "WHERE w.currentlyWorking = true OR w.endDate IS NULL " +
+            "OR w.endDate >= :since OR w.startDate >= :since")
+    List<Integer> findUserIdsWithOpenIntervals(@Param("since") LocalDate since);
+
+    /**
+     * Contar experiencias laborales por usuario para un grupo de usuarios
+     * Devuelve filas [userId, cantidad]
+     */
+    @Query("SELECT w.user.userId, COUNT(w) FROM WorkExperience w " +
+            "WHERE w.user.userId IN :userIds GROUP BY w.user.userId")
+    List<Object[]> countByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * Municipio y fechas de todas las experiencias laborales (dimensión del cubo de analítica)
+     */
+    @Query("SELECT w.user.userId AS userId, m.municipalityId AS municipalityId, m.name AS municipalityName, " +
+            "w.currentlyWorking AS currentlyWorking, w.startDate AS startDate, w.endDate AS endDate " +
+            "FROM WorkExperience w LEFT JOIN w.municipality m")
+    List<WorkforceExperienceProjection> findWorkforceRows();
+
+    /**
+     * Municipio y fechas de las experiencias laborales de un usuario
+     */
+    @Query("SELECT w.user.userId AS userId, m.municipalityId AS municipalityId, m.name AS municipalityName, " +
+            "w.currentlyWorking AS currentlyWorking, w.startDate AS startDate, w.endDate AS endDate " +
+            "FROM WorkExperience w LEFT JOIN w.municipality m WHERE w.user.userId = :userId")
+    List<WorkforceExperienceProjection> findWorkforceRowsByUserId(@Param("userId") Integer userId);
+
+    /**
+     * Municipio y fechas de las experiencias laborales de un grupo de usuarios
+     */
+    @Query("SELECT w.user.userId AS userId, m.municipalityId AS municipalityId, m.name AS municipalityName, " +
+            "w.currentlyWorking AS currentlyWorking, w.startDate AS startDate, w.endDate AS endDate " +
+            "FROM WorkExperience w LEFT JOIN w.municipality m WHERE w.user.userId IN :userIds")
+    List<WorkforceExperienceProjection> findWorkforceRowsByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * Textos de las experiencias laborales de un grupo de usuarios (índice de búsqueda)
+     */
+    @Query("SELECT w.user.userId AS userId, w.companyName AS companyName, w.jobTitle AS jobTitle, " +
+            "w.functions AS functions, m.name AS municipalityName, d.name AS departmentName " +
+            "FROM WorkExperience w LEFT JOIN w.municipality m LEFT JOIN w.department d " +
+            "WHERE w.user.userId IN :userIds ORDER BY w.startDate DESC")
+    List<SearchExperienceProjection> findSearchRowsByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * Países y municipios distintos de las experiencias laborales de todos los usuarios (índice de facetas)
+     */
+    @Query("SELECT DISTINCT w.user.userId AS userId, c.countryId AS countryId, c.countryName AS countryName, " +
+            "m.municipalityId AS municipalityId, m.name AS municipalityName " +
+            "FROM WorkExperience w JOIN w.country c LEFT JOIN w.municipality m")
+    List<LocationFacetProjection> findLocationFacetRows();
+
+    /**
+     * Países y municipios distintos de las experiencias laborales de un grupo de usuarios
+     */
+    @Query("SELECT DISTINCT w.user.userId AS userId, c.countryId AS countryId, c.countryName AS countryName, " +
+            "m.municipalityId AS municipalityId, m.name AS municipalityName " +
+            "FROM WorkExperience w JOIN w.country c LEFT JOIN w.municipality m WHERE w.user.userId IN :userIds")
+    List<LocationFacetProjection> findLocationFacetRowsByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * Cargos desempeñados de todos los usuarios (vectores de candidatos similares)
+     * Devuelve filas [userId, jobTitle]
+     */
+    @Query("SELECT w.user.userId, w.jobTitle FROM WorkExperience w")
+    List<Object[]> findAllJobTitleRows();
+
+    /**
+     * Cargos desempeñados de un grupo de usuarios
+     * Devuelve filas [userId, jobTitle]
+     */
+    @Query("SELECT w.user.userId, w.jobTitle FROM WorkExperience w WHERE w.user.userId IN :userIds")
+    List<Object[]> findJobTitleRowsByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * IDs de los usuarios con al menos una experiencia laboral
+     */
+    @Query("SELECT DISTINCT w.user.userId FROM WorkExperience w")
+    List<Integer> findAllUserIds();
+
+    /**
+     * Proyección de la experiencia laboral usada por el cubo de analítica
+     */
+    interface WorkforceExperienceProjection {
+        Integer getUserId();
+        Integer getMunicipalityId();
+        String getMunicipalityName();
+        Boolean getCurrentlyWorking();
+        LocalDate getStartDate();
+        LocalDate getEndDate();
+    }
+
+    /**
+     * Proyección de la experiencia laboral indexada por el buscador de hojas de vida
+     */
+    interface SearchExperienceProjection {
+        Integer getUserId();
+        String getCompanyName();
+        String getJobTitle();
+        String getFunctions();
+        String getMunicipalityName();
+        String getDepartmentName();
+    }
+
+    /**
+     * Proyección de país y municipio de experiencia usada por el índice de facetas
+     */
+    interface LocationFacetProjection {
+        Integer getUserId();
+        Integer getCountryId();
+        String getCountryName();
+        Integer getMunicipalityId();
+        String getMunicipalityName();
+    }
+}
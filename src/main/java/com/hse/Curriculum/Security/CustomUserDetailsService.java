@@ -2,12 +2,14 @@ package com.hse.Curriculum.Security;
 import com.hse.Curriculum.Models.Users;
 import com.hse.Curriculum.Repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -24,10 +26,16 @@ public class CustomUserDetailsService  implements UserDetailsService {
             throw new UsernameNotFoundException("Usuario deshabilitado");
         }
 
+        // El rol viaja como autoridad para evaluar permisos sin volver a consultar la base de datos
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (user.getRole() != null) {
+            authorities.add(new RoleAuthority(user.getRole().getRoleId(), user.getRole().getName()));
+        }
+
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
-                .authorities(new ArrayList<>()) // Aquí puedes agregar roles si los tienes
+                .authorities(authorities)
                 .accountExpired(false)
                 .accountLocked(false)
                 .credentialsExpired(false)
@@ -0,0 +1,15 @@
+package com.hse.Curriculum.Security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Autoridad con el rol del usuario autenticado
+ * Conserva el ID del rol para que RolePermissionEvaluator consulte los permisos compilados
+ */
+public record RoleAuthority(Integer roleId, String roleName) implements GrantedAuthority {
+
+    @Override
+    public String getAuthority() {
+        return "ROLE_" + roleName;
+    }
+}
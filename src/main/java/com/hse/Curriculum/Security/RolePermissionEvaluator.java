@@ -0,0 +1,70 @@
+package com.hse.Curriculum.Security;
+
+import com.hse.Curriculum.Enum.PermissionEnum;
+import com.hse.Curriculum.Service.PermissionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+
+/**
+ * Evaluador de hasPermission para @PreAuthorize
+ *
+ * Uso: @PreAuthorize("hasPermission(null, 'USERS_MANAGE')")
+ * El rol se toma de la RoleAuthority cargada con el usuario; la verificación es una
+ * prueba de bit en memoria (PermissionService), sin consultar la base de datos.
+ *
+ * Cuando el acceso depende también del dueño del registro (ej: adjuntos propios o ajenos)
+ * el controlador consulta currentUserHas y pasa el resultado al servicio.
+ */
+@Component
+@RequiredArgsConstructor
+public class RolePermissionEvaluator implements PermissionEvaluator {
+
+    private final PermissionService permissionService;
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        if (authentication == null || permission == null) {
+            return false;
+        }
+        PermissionEnum required = toPermission(permission);
+        if (required == null) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (authority instanceof RoleAuthority role) {
+                return permissionService.hasPermission(role.roleId(), required);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType,
+                                 Object permission) {
+        return hasPermission(authentication, null, permission);
+    }
+
+    /**
+     * Verificar un permiso del usuario autenticado en la solicitud actual
+     */
+    public boolean currentUserHas(PermissionEnum permission) {
+        return hasPermission(SecurityContextHolder.getContext().getAuthentication(), null, permission);
+    }
+
+    private static PermissionEnum toPermission(Object permission) {
+        if (permission instanceof PermissionEnum value) {
+            return value;
+        }
+        try {
+            return PermissionEnum.valueOf(permission.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
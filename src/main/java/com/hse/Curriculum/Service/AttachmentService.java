@@ -0,0 +1,537 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Dto.AttachmentDTO.AttachmentResponseDTO;
+import com.hse.Curriculum.Exception.Attachment.AttachmentNotFoundException;
+import com.hse.Curriculum.Exception.Attachment.InvalidAttachmentException;
+import com.hse.Curriculum.Exception.Attachment.InvalidRangeException;
+import com.hse.Curriculum.Exception.Attachment.UnauthorizedAttachmentAccessException;
+import com.hse.Curriculum.Exception.Education.EducationNotFoundException;
+import com.hse.Curriculum.Exception.Training.TrainingNotFoundException;
+import com.hse.Curriculum.Models.Attachment;
+import com.hse.Curriculum.Models.Education;
+import com.hse.Curriculum.Models.Training;
+import com.hse.Curriculum.Repository.AttachmentRepository;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Servicio de certificados adjuntos a capacitaciones y registros de educación
+ *
+ * Almacenamiento direccionado por contenido: cada archivo se guarda en
+ * {directorio}/ab/cd/{sha256}. La carga se copia a disco en bloques mientras se calcula
+ * el hash (nunca se mantiene el archivo completo en memoria) y, si el blob ya existe,
+ * solo se registra la referencia. La descarga usa sendfile de Tomcat cuando está
+ * disponible y, si no, FileChannel.transferTo, con soporte de Range.
+ *
+ * Reutilizar un blob y borrarlo por quedar sin referencias se serializan con un bloqueo
+ * consultivo de PostgreSQL sobre el hash: la carga lo toma antes de ver si el blob existe y
+ * lo retiene hasta su commit; el borrado lo toma en una transacción propia y vuelve a
+ * comprobar las referencias antes de eliminar el archivo.
+ */
+@Slf4j
+@Service
+public class AttachmentService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AttachmentRepository attachmentRepository;
+    private final TrainingRepository trainingRepository;
+    private final EducationRepository educationRepository;
+    private final Path storageRoot;
+    private final Path uploadDirectory;
+    private final long maxSizeBytes;
+    private final TransactionTemplate blobTransaction;
+
+    public AttachmentService(AttachmentRepository attachmentRepository,
+                             TrainingRepository trainingRepository,
+                             EducationRepository educationRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.attachments.directory:${java.io.tmpdir}/curriculum-attachments}") String directory,
+                             @Value("${app.attachments.max-size-bytes:20971520}") long maxSizeBytes) {
+        this.attachmentRepository = attachmentRepository;
+        this.trainingRepository = trainingRepository;
+        this.educationRepository = educationRepository;
+        this.storageRoot = Paths.get(directory);
+        this.uploadDirectory = storageRoot.resolve("tmp");
+        this.maxSizeBytes = maxSizeBytes;
+        this.blobTransaction = new TransactionTemplate(transactionManager);
+        this.blobTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ========== CARGA ==========
+
+    /**
+     * Adjuntar un certificado a una capacitación
+     * Si el mismo contenido ya está adjunto a la capacitación se devuelve el registro existente
+     */
+    @Transactional
+    public AttachmentResponseDTO attachToTraining(Integer trainingId, Integer userId, boolean canAccessOthers, MultipartFile file) {
+        Training training = trainingRepository.findByIdWithUser(trainingId)
+                .orElseThrow(() -> new TrainingNotFoundException(trainingId));
+        Integer ownerId = training.getUser().getUserId();
+        checkAccess(ownerId, userId, canAccessOthers);
+
+        StoredBlob blob = store(file);
+
+        Attachment attachment = attachmentRepository.findByTrainingIdAndSha256(trainingId, blob.sha256())
+                .orElseGet(() -> attachmentRepository.save(Attachment.builder()
+                        .training(training)
+                        .ownerUserId(ownerId)
+                        .sha256(blob.sha256())
+                        .originalFilename(cleanFilename(file.getOriginalFilename()))
+                        .contentType(blob.contentType())
+                        .sizeBytes(blob.size())
+                        .uploadedBy(userId)
+                        .build()));
+
+        log.info("📎 Certificado {} adjunto a la capacitación {} ({} bytes, blob {})",
+                attachment.getAttachmentId(), trainingId, blob.size(), blob.reused() ? "reutilizado" : "nuevo");
+        return toResponseDTO(attachment);
+    }
+
+    /**
+     * Adjuntar un certificado a un registro de educación
+     */
+    @Transactional
+    public AttachmentResponseDTO attachToEducation(Integer educationId, Integer userId, boolean canAccessOthers, MultipartFile file) {
+        Education education = educationRepository.findById(educationId)
+                .orElseThrow(() -> new EducationNotFoundException("Registro de educación no encontrado"));
+        Integer ownerId = education.getUser().getUserId();
+        checkAccess(ownerId, userId, canAccessOthers);
+
+        StoredBlob blob = store(file);
+
+        Attachment attachment = attachmentRepository.findByEducationIdAndSha256(educationId, blob.sha256())
+                .orElseGet(() -> attachmentRepository.save(Attachment.builder()
+                        .education(education)
+                        .ownerUserId(ownerId)
+                        .sha256(blob.sha256())
+                        .originalFilename(cleanFilename(file.getOriginalFilename()))
+                        .contentType(blob.contentType())
+                        .sizeBytes(blob.size())
+                        .uploadedBy(userId)
+                        .build()));
+
+        log.info("📎 Certificado {} adjunto a la educación {} ({} bytes, blob {})",
+                attachment.getAttachmentId(), educationId, blob.size(), blob.reused() ? "reutilizado" : "nuevo");
+        return toResponseDTO(attachment);
+    }
+
+    // ========== CONSULTA ==========
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponseDTO> getTrainingAttachments(Integer trainingId, Integer userId, boolean canAccessOthers) {
+        Training training = trainingRepository.findByIdWithUser(trainingId)
+                .orElseThrow(() -> new TrainingNotFoundException(trainingId));
+        checkAccess(training.getUser().getUserId(), userId, canAccessOthers);
+
+        return attachmentRepository.findByTrainingId(trainingId).stream()
+                .map(this::toResponseDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponseDTO> getEducationAttachments(Integer educationId, Integer userId, boolean canAccessOthers) {
+        Education education = educationRepository.findById(educationId)
+                .orElseThrow(() -> new EducationNotFoundException("Registro de educación no encontrado"));
+        checkAccess(education.getUser().getUserId(), userId, canAccessOthers);
+
+        return attachmentRepository.findByEducationId(educationId).stream()
+                .map(this::toResponseDTO)
+                .toList();
+    }
+
+    /**
+     * Obtener el adjunto validando permisos (no toca el contenido)
+     */
+    @Transactional(readOnly = true)
+    public Attachment getAttachmentForDownload(Integer attachmentId, Integer userId, boolean canAccessOthers) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new AttachmentNotFoundException(attachmentId));
+        checkAccess(attachment.getOwnerUserId(), userId, canAccessOthers);
+        return attachment;
+    }
+
+    // ========== DESCARGA ==========
+
+    /**
+     * Escribir el contenido del adjunto en la respuesta
+     * Se ejecuta fuera de transacción para no retener una conexión mientras se transmite
+     *
+     * Soporta If-None-Match (304, lista de ETags o *, comparación débil), Range de un solo
+     * intervalo (206) e If-Range (comparación fuerte).
+     * Con varios intervalos se responde el archivo completo, como permite el RFC 9110.
+     *
+     * @throws InvalidRangeException Si el rango no se puede satisfacer (416)
+     */
+    public void streamContent(Attachment attachment, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path blob = blobPath(attachment.getSha256());
+        if (!Files.isRegularFile(blob)) {
+            log.error("❌ Blob {} del adjunto {} no existe en disco", attachment.getSha256(), attachment.getAttachmentId());
+            throw new AttachmentNotFoundException(attachment.getAttachmentId());
+        }
+
+        String etag = "\"" + attachment.getSha256() + "\"";
+        long length = Files.size(blob);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=3600");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        boolean partial = rangeHeader != null && (ifRange == null || etag.equals(ifRange));
+
+        if (partial) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                } else {
+                    partial = false;
+                }
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRangeException(length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(attachment.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(attachment.getOriginalFilename(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        response.setContentLengthLong(count);
+        if (partial) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        } else {
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        // sendfile: el conector de Tomcat envía el archivo desde el kernel sin ocupar el hilo de la petición
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, blob.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(blob, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // ========== ELIMINACIÓN ==========
+
+    /**
+     * Eliminar un adjunto
+     * El blob se borra después del commit solo si ningún otro registro lo referencia
+     * (se vuelve a comprobar con el bloqueo del hash tomado, ver deleteBlobIfUnreferenced)
+     */
+    @Transactional
+    public void deleteAttachment(Integer attachmentId, Integer userId, boolean canAccessOthers) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new AttachmentNotFoundException(attachmentId));
+        checkAccess(attachment.getOwnerUserId(), userId, canAccessOthers);
+
+        String sha256 = attachment.getSha256();
+        attachmentRepository.delete(attachment);
+        attachmentRepository.flush();
+
+        if (!attachmentRepository.existsBySha256(sha256)) {
+            TransactionCallbacks.afterCommit(() -> deleteBlobIfUnreferenced(sha256));
+        }
+        log.info("Adjunto {} eliminado por usuario {}", attachmentId, userId);
+    }
+
+    /**
+     * Borrar blobs sin referencias (por capacitaciones o educación eliminadas en cascada,
+     * o cargas cuya transacción se revirtió). Ignora archivos recientes para no
+     * competir con cargas en curso.
+     */
+    @Scheduled(cron = "${app.attachments.cleanup-cron:0 15 3 * * *}")
+    public void purgeOrphanBlobs() {
+        if (!Files.isDirectory(storageRoot)) {
+            return;
+        }
+        Instant limit = Instant.now().minus(1, ChronoUnit.HOURS);
+        int deleted = 0;
+
+        try (Stream<Path> files = Files.walk(storageRoot)) {
+            List<Path> batch = new ArrayList<>();
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!Files.isRegularFile(file) || Files.getLastModifiedTime(file).toInstant().isAfter(limit)) {
+                    continue;
+                }
+                if (file.startsWith(uploadDirectory)) {
+                    // Carga abandonada
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                if (SHA256_HEX.matcher(file.getFileName().toString()).matches()) {
+                    batch.add(file);
+                    if (batch.size() == 500) {
+                        deleted += deleteUnreferenced(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            deleted += deleteUnreferenced(batch);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("⚠️ No fue posible limpiar los adjuntos huérfanos: {}", e.getMessage());
+        }
+
+        if (deleted > 0) {
+            log.info("🧹 {} blobs de adjuntos sin referencias eliminados", deleted);
+        }
+    }
+
+    // ========== ALMACENAMIENTO ==========
+
+    /**
+     * Resultado de guardar un archivo en el almacenamiento
+     */
+    private record StoredBlob(String sha256, String contentType, long size, boolean reused) {
+    }
+
+    /**
+     * Copiar la carga a un archivo temporal calculando el SHA-256 y moverla a su ruta definitiva
+     */
+    private StoredBlob store(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidAttachmentException("El archivo está vacío");
+        }
+        if (file.getSize() > maxSizeBytes) {
+            throw new InvalidAttachmentException("El archivo excede el tamaño máximo de " + (maxSizeBytes / (1024 * 1024)) + " MB");
+        }
+
+        Path temp = null;
+        try {
+            Files.createDirectories(uploadDirectory);
+            temp = Files.createTempFile(uploadDirectory, "upload-", ".part");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String contentType;
+            long size;
+            try (InputStream source = new BufferedInputStream(file.getInputStream())) {
+                contentType = detectContentType(source);
+                try (InputStream hashing = new DigestInputStream(source, digest)) {
+                    size = Files.copy(hashing, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+
+            // Retenido hasta el commit de la carga: el blob no se puede borrar antes de que exista la referencia
+            attachmentRepository.lockBlob(sha256);
+
+            Path target = blobPath(sha256);
+            if (Files.exists(target)) {
+                Files.deleteIfExists(temp);
+                // Renovar la fecha para que la limpieza no lo considere huérfano antes del commit
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return new StoredBlob(sha256, contentType, size, true);
+            }
+
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredBlob(sha256, contentType, size, false);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible guardar el adjunto", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // La limpieza programada lo eliminará
+                }
+            }
+        }
+    }
+
+    /**
+     * Detectar el tipo por la firma del archivo (no se confía en el tipo enviado por el cliente)
+     * Solo se aceptan PDF, PNG y JPEG
+     */
+    private String detectContentType(InputStream source) throws IOException {
+        source.mark(8);
+        byte[] header = source.readNBytes(8);
+        source.reset();
+
+        if (header.length >= 4 && header[0] == '%' && header[1] == 'P' && header[2] == 'D' && header[3] == 'F') {
+            return "application/pdf";
+        }
+        if (header.length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+            return "image/png";
+        }
+        if (header.length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        throw new InvalidAttachmentException("Tipo de archivo no permitido: solo se aceptan PDF, PNG o JPEG");
+    }
+
+    private Path blobPath(String sha256) {
+        return storageRoot.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private int deleteUnreferenced(List<Path> files) throws IOException {
+        if (files.isEmpty()) {
+            return 0;
+        }
+        Set<String> referenced = attachmentRepository.findReferencedHashes(
+                files.stream().map(file -> file.getFileName().toString()).toList());
+        int deleted = 0;
+        for (Path file : files) {
+            String sha256 = file.getFileName().toString();
+            if (!referenced.contains(sha256) && deleteBlobIfUnreferenced(sha256)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Borrar el blob si sigue sin referencias, con el bloqueo del hash tomado
+     * Una carga concurrente del mismo contenido espera a que termine (y lo vuelve a escribir)
+     * o ya confirmó su referencia y el blob se conserva.
+     *
+     * @return true si el archivo se eliminó
+     */
+    private boolean deleteBlobIfUnreferenced(String sha256) {
+        Boolean deleted = blobTransaction.execute(status -> {
+            attachmentRepository.lockBlob(sha256);
+            if (attachmentRepository.existsBySha256(sha256)) {
+                return false;
+            }
+            try {
+                return Files.deleteIfExists(blobPath(sha256));
+            } catch (IOException e) {
+                log.warn("⚠️ No fue posible eliminar el blob {}: {}", sha256, e.getMessage());
+                return false;
+            }
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    // ========== UTILIDADES ==========
+
+    /**
+     * If-None-Match con comparación débil: "*", un ETag o una lista separada por comas,
+     * con o sin prefijo W/
+     */
+    private static boolean matchesIfNoneMatch(String header, String etag) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void checkAccess(Integer ownerId, Integer userId, boolean canAccessOthers) {
+        if (!canAccessOthers && !ownerId.equals(userId)) {
+            throw new UnauthorizedAttachmentAccessException();
+        }
+    }
+
+    private static String cleanFilename(String filename) {
+        if (filename == null || filename.isBlank()) {
+            return "certificado";
+        }
+        String name = Paths.get(filename.replace('\\', '/')).getFileName().toString();
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+
+    private AttachmentResponseDTO toResponseDTO(Attachment attachment) {
+        return AttachmentResponseDTO.builder()
+                .attachmentId(attachment.getAttachmentId())
+                .trainingId(attachment.getTraining() != null ? attachment.getTraining().getTrainingId() : null)
+                .educationId(attachment.getEducation() != null ? attachment.getEducation().getEducationId() : null)
+                .originalFilename(attachment.getOriginalFilename())
+                .contentType(attachment.getContentType())
+                .sizeBytes(attachment.getSizeBytes())
+                .sha256(attachment.getSha256())
+                .downloadUrl("/attachments/" + attachment.getAttachmentId() + "/content")
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,865 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.AsyncConfig;
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Converter.Matching.BoundedTopK;
+import com.hse.Curriculum.Converter.WorkExperience.ExperienceIntervals;
+import com.hse.Curriculum.Dto.GeoDTO.Municipality.MunicipalityResponseDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.CandidateMatchDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.ChargeMatchProfileDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.ChargeMatchProfileResponseDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.MatchingRebuildDTO;
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Enum.GraduateStatusEnum;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Exception.Post.ChargeMatchProfileNotFoundException;
+import com.hse.Curriculum.Exception.Post.ChargeNotFoundException;
+import com.hse.Curriculum.Exception.Post.InvalidChargeProfileException;
+import com.hse.Curriculum.Models.Charge;
+import com.hse.Curriculum.Models.ChargeMatchProfile;
+import com.hse.Curriculum.Repository.ChargeMatchProfileRepository;
+import com.hse.Curriculum.Repository.ChargeRepository;
+import com.hse.Curriculum.Repository.ChargeRequiredTrainingRepository;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Repository.WorkExperienceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Motor de candidatos por cargo
+ *
+ * Cada usuario activo se representa con un vector compacto: una máscara de 9 bits con los
+ * pares (nivel educativo, estado) que satisface, el bitset de sus capacitaciones completadas
+ * y vigentes (tipos internados como en el motor de cumplimiento), los meses de experiencia
+ * sin contar solapes y el municipio/departamento de su trabajo más reciente.
+ *
+ * Cada cargo con perfil de requisitos se compila a la misma forma, así que puntuar un
+ * candidato son unas pocas operaciones de bits. Las puntuaciones de un cargo se calculan en
+ * un ForkJoinPool propio con BoundedTopK (un heap acotado por tramo de usuarios). Cada cargo
+ * guarda su ranking como un arreglo inmutable que se reemplaza completo.
+ *
+ * Cuando se confirma un cambio de educación, capacitaciones, experiencia o usuario solo se
+ * recalculan los vectores de los usuarios afectados (las operaciones masivas por bloques) y
+ * su posición en cada ranking. Cada ranking guarda k más un margen, así que quien sale se
+ * reemplaza con el siguiente del búfer; solo si quedan menos de k el cargo se vuelve a
+ * puntuar, en segundo plano. Una reconstrucción nocturna descarta las certificaciones
+ * vencidas y actualiza los meses de los trabajos actuales.
+ */
+@Slf4j
+@Service
+public class CandidateMatchingService {
+
+    private static final double EDUCATION_WEIGHT = 30.0;
+    private static final double TRAINING_WEIGHT = 40.0;
+    private static final double EXPERIENCE_WEIGHT = 20.0;
+    private static final double LOCATION_WEIGHT = 10.0;
+
+    private static final int STATUSES = GraduateStatusEnum.values().length;
+    private static final int SPLIT_THRESHOLD = 2048;
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final Match[] NO_MATCHES = new Match[0];
+    private static final Ranking EMPTY_RANKING = new Ranking(NO_MATCHES, true);
+
+    /**
+     * Orden del ranking: mayor puntaje primero, empate por ID de usuario
+     */
+    private static final Comparator<Match> BEST_FIRST =
+            Comparator.comparingDouble(Match::score).reversed().thenComparingInt(Match::userId);
+
+    private final ChargeMatchProfileRepository chargeMatchProfileRepository;
+    private final ChargeRequiredTrainingRepository chargeRequiredTrainingRepository;
+    private final ChargeRepository chargeRepository;
+    private final UsersRepository usersRepository;
+    private final EducationRepository educationRepository;
+    private final TrainingRepository trainingRepository;
+    private final WorkExperienceRepository workExperienceRepository;
+    private final GeoCatalog geoCatalog;
+    private final ForkJoinPool scoringPool;
+    private final int topK;
+
+    /**
+     * Tamaño del búfer de cada ranking (k más el margen)
+     */
+    private final int capacity;
+
+    /**
+     * Cambia con cada escritura de vectores o requisitos; un ranking calculado en segundo
+     * plano solo se publica si no cambió mientras se calculaba
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Cargos con un ranking pendiente en segundo plano
+     */
+    private final Set<Integer> pendingRanks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Diccionario de tipos de capacitación internados: tipo normalizado -> posición del bit
+     */
+    private final Map<String, Integer> typeIndex = new ConcurrentHashMap<>();
+    private final List<String> typeNames = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Usuario activo -> vector de candidato
+     */
+    private volatile Map<Integer, Candidate> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * Cargo -> requisitos compilados
+     */
+    private volatile Map<Integer, Requirement> requirements = new ConcurrentHashMap<>();
+
+    /**
+     * Cargo -> mejores k + margen candidatos (ordenados, inmutable)
+     */
+    private volatile Map<Integer, Ranking> rankings = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+    private final Object rebuildLock = new Object();
+
+    public CandidateMatchingService(ChargeMatchProfileRepository chargeMatchProfileRepository,
+                                    ChargeRequiredTrainingRepository chargeRequiredTrainingRepository,
+                                    ChargeRepository chargeRepository,
+                                    UsersRepository usersRepository,
+                                    EducationRepository educationRepository,
+                                    TrainingRepository trainingRepository,
+                                    WorkExperienceRepository workExperienceRepository,
+                                    GeoCatalog geoCatalog,
+                                    @Value("${app.matching.parallelism:4}") int parallelism,
+                                    @Value("${app.matching.top-k:50}") int topK,
+                                    @Value("${app.matching.rank-margin:25}") int rankMargin) {
+        this.chargeMatchProfileRepository = chargeMatchProfileRepository;
+        this.chargeRequiredTrainingRepository = chargeRequiredTrainingRepository;
+        this.chargeRepository = chargeRepository;
+        this.usersRepository = usersRepository;
+        this.educationRepository = educationRepository;
+        this.trainingRepository = trainingRepository;
+        this.workExperienceRepository = workExperienceRepository;
+        this.geoCatalog = geoCatalog;
+        this.scoringPool = new ForkJoinPool(Math.max(1, parallelism));
+        this.topK = Math.max(1, topK);
+        this.capacity = this.topK + Math.max(0, rankMargin);
+    }
+
+    /**
+     * Vector inmutable de un usuario activo
+     */
+    private record Candidate(int userId, int chargeId, int educationMask, long[] trainings,
+                             int experienceMonths, int municipalityId, int departmentId) {
+    }
+
+    /**
+     * Requisitos compilados de un cargo (-1 / 0 = sin requisito)
+     */
+    private record Requirement(int chargeId, int educationBit, int partialEducationBit, long[] required,
+                               int requiredCount, int minMonths, int municipalityId, int departmentId) {
+    }
+
+    private record Match(int userId, double score) {
+    }
+
+    /**
+     * Ranking de un cargo
+     *
+     * @param matches Mejores candidatos ordenados (a lo sumo k + margen)
+     * @param complete Si el búfer contiene a todos los candidatos del cargo
+     */
+    private record Ranking(Match[] matches, boolean complete) {
+    }
+
+    // ========== CONSTRUCCIÓN Y ACTUALIZACIÓN ==========
+
+    @PostConstruct
+    public void loadMatching() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible construir el motor de candidatos al iniciar: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scoringPool.shutdownNow();
+    }
+
+    /**
+     * Reconstrucción nocturna (certificaciones vencidas y meses de los trabajos actuales)
+     */
+    @Scheduled(cron = "${app.matching.rebuild-cron:0 20 1 * * *}")
+    public void nightlyRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ Error en la reconstrucción nocturna del motor de candidatos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconstruir vectores, requisitos y rankings (una consulta por fuente de datos)
+     */
+    public MatchingRebuildDTO rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            LocalDate today = LocalDate.now();
+
+            Map<Integer, Integer> educationByUser = new HashMap<>();
+            for (Object[] row : educationRepository.findAllTypeStatusRows()) {
+                educationByUser.merge((Integer) row[0],
+                        educationMask((EducationTypeEnum) row[1], (GraduateStatusEnum) row[2]), (a, b) -> a | b);
+            }
+
+            Map<Integer, long[]> trainingsByUser = new HashMap<>();
+            for (Object[] row : trainingRepository.findCompletedTrainingTypePairs(today)) {
+                trainingsByUser.merge((Integer) row[0], setBit(new long[0], intern((String) row[1])),
+                        CandidateMatchingService::or);
+            }
+
+            Map<Integer, List<WorkExperienceRepository.WorkforceExperienceProjection>> jobsByUser = new HashMap<>();
+            for (WorkExperienceRepository.WorkforceExperienceProjection row : workExperienceRepository.findWorkforceRows()) {
+                jobsByUser.computeIfAbsent(row.getUserId(), id -> new ArrayList<>()).add(row);
+            }
+
+            Map<Integer, Candidate> nextCandidates = new ConcurrentHashMap<>();
+            for (UsersRepository.WorkforceUserProjection user : usersRepository.findWorkforceRows()) {
+                if (!Boolean.TRUE.equals(user.getStatus())) {
+                    continue;
+                }
+                Integer userId = user.getUserId();
+                nextCandidates.put(userId, toCandidate(user,
+                        educationByUser.getOrDefault(userId, 0),
+                        trainingsByUser.getOrDefault(userId, new long[0]),
+                        jobsByUser.getOrDefault(userId, List.of()),
+                        today));
+            }
+
+            Map<Integer, long[]> requiredByCharge = new HashMap<>();
+            for (Object[] row : chargeRequiredTrainingRepository.findAllChargeTrainingPairs()) {
+                requiredByCharge.merge((Integer) row[0], setBit(new long[0], intern((String) row[1])),
+                        CandidateMatchingService::or);
+            }
+
+            Map<Integer, Requirement> nextRequirements = new ConcurrentHashMap<>();
+            for (ChargeMatchProfile profile : chargeMatchProfileRepository.findAll()) {
+                Integer chargeId = profile.getCharge().getChargeId();
+                nextRequirements.put(chargeId, compile(chargeId, profile, requiredByCharge.getOrDefault(chargeId, new long[0])));
+            }
+
+            Candidate[] vectors = nextCandidates.values().toArray(new Candidate[0]);
+            Map<Integer, Ranking> nextRankings = new ConcurrentHashMap<>();
+            for (Requirement requirement : nextRequirements.values()) {
+                nextRankings.put(requirement.chargeId(), rank(requirement, vectors));
+            }
+
+            version.incrementAndGet();
+            this.candidates = nextCandidates;
+            this.requirements = nextRequirements;
+            this.rankings = nextRankings;
+            this.loaded = true;
+
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            log.info("✅ Motor de candidatos construido: {} usuarios, {} cargos con perfil en {} ms",
+                    nextCandidates.size(), nextRequirements.size(), millis);
+
+            return MatchingRebuildDTO.builder()
+                    .users(nextCandidates.size())
+                    .charges(nextRequirements.size())
+                    .elapsedMillis(millis)
+                    .build();
+        }
+    }
+
+    /**
+     * Actualizar solo el usuario afectado cuando se confirma una escritura
+     */
+    @Async(AsyncConfig.INDEX_REFRESH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumChanged(CurriculumChangedEvent event) {
+        if (!loaded || !affectsMatching(event.getSection())) {
+            return;
+        }
+        try {
+            refreshUsers(List.of(event.getUserId()));
+        } catch (Exception e) {
+            log.error("❌ Error actualizando candidatos para el usuario {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Después de una operación masiva se actualizan los usuarios afectados por bloques
+     */
+    @Async(AsyncConfig.INDEX_REFRESH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumBulkChanged(CurriculumBulkChangedEvent event) {
+        if (!loaded || !affectsMatching(event.getSection())) {
+            return;
+        }
+        List<Integer> userIds = new ArrayList<>(event.getUserIds());
+        for (int from = 0; from < userIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = userIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, userIds.size()));
+            try {
+                refreshUsers(chunk);
+            } catch (Exception e) {
+                log.error("❌ Error actualizando candidatos de {} usuarios: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean affectsMatching(CurriculumChangedEvent.Section section) {
+        return section == CurriculumChangedEvent.Section.USER
+                || section == CurriculumChangedEvent.Section.EDUCATION
+                || section == CurriculumChangedEvent.Section.TRAINING
+                || section == CurriculumChangedEvent.Section.WORK_EXPERIENCE;
+    }
+
+    /**
+     * Recalcular los vectores de un grupo de usuarios (una consulta por fuente) y su posición
+     * en cada ranking
+     */
+    private void refreshUsers(List<Integer> userIds) {
+        LocalDate today = LocalDate.now();
+        List<UsersRepository.WorkforceUserProjection> users = usersRepository.findWorkforceRowsByUserIds(userIds).stream()
+                .filter(row -> Boolean.TRUE.equals(row.getStatus()))
+                .toList();
+
+        Map<Integer, Candidate> refreshed = new HashMap<>();
+        if (!users.isEmpty()) {
+            List<Integer> activeIds = users.stream().map(UsersRepository.WorkforceUserProjection::getUserId).toList();
+
+            Map<Integer, Integer> educationByUser = new HashMap<>();
+            for (Object[] row : educationRepository.findTypeStatusRowsByUserIds(activeIds)) {
+                educationByUser.merge((Integer) row[0],
+                        educationMask((EducationTypeEnum) row[1], (GraduateStatusEnum) row[2]), (a, b) -> a | b);
+            }
+            Map<Integer, long[]> trainingsByUser = new HashMap<>();
+            for (Object[] row : trainingRepository.findHeldTrainingTypePairsByUserIds(activeIds, today)) {
+                trainingsByUser.merge((Integer) row[0], setBit(new long[0], intern((String) row[1])),
+                        CandidateMatchingService::or);
+            }
+            Map<Integer, List<WorkExperienceRepository.WorkforceExperienceProjection>> jobsByUser = new HashMap<>();
+            for (WorkExperienceRepository.WorkforceExperienceProjection row : workExperienceRepository.findWorkforceRowsByUserIds(activeIds)) {
+                jobsByUser.computeIfAbsent(row.getUserId(), id -> new ArrayList<>()).add(row);
+            }
+
+            for (UsersRepository.WorkforceUserProjection user : users) {
+                Integer userId = user.getUserId();
+                refreshed.put(userId, toCandidate(user,
+                        educationByUser.getOrDefault(userId, 0),
+                        trainingsByUser.getOrDefault(userId, new long[0]),
+                        jobsByUser.getOrDefault(userId, List.of()),
+                        today));
+            }
+        }
+
+        synchronized (rebuildLock) {
+            for (Integer userId : userIds) {
+                Candidate candidate = refreshed.get(userId);
+                if (candidate != null) {
+                    candidates.put(userId, candidate);
+                } else {
+                    candidates.remove(userId);
+                }
+            }
+            version.incrementAndGet();
+
+            for (Requirement requirement : requirements.values()) {
+                Ranking updated = rankings.getOrDefault(requirement.chargeId(), EMPTY_RANKING);
+                for (Integer userId : userIds) {
+                    Candidate candidate = refreshed.get(userId);
+                    Match match = candidate != null && candidate.chargeId() != requirement.chargeId()
+                            ? new Match(userId, score(requirement, candidate))
+                            : null;
+                    updated = reposition(updated, userId, match);
+                }
+                rankings.put(requirement.chargeId(), updated);
+                if (updated.matches().length < topK && !updated.complete()) {
+                    // Salieron más usuarios que el margen: hay que buscar quién ocupa su lugar
+                    scheduleRank(requirement.chargeId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Volver a puntuar un cargo en el pool de puntuación sin bloquear a quien lo pide
+     *
+     * Se puntúa una foto de los vectores y el resultado solo se publica si nadie escribió
+     * mientras tanto; si alguien escribió, esa escritura ya revisó el ranking y lo vuelve a
+     * pedir si sigue corto.
+     */
+    private void scheduleRank(int chargeId) {
+        if (!pendingRanks.add(chargeId)) {
+            return;
+        }
+        scoringPool.execute(() -> {
+            pendingRanks.remove(chargeId);
+            try {
+                long seen = version.get();
+                Requirement requirement = requirements.get(chargeId);
+                if (requirement == null) {
+                    return;
+                }
+                Ranking ranked = rank(requirement, candidates.values().toArray(new Candidate[0]));
+                rankings.computeIfPresent(chargeId, (id, current) -> version.get() == seen ? ranked : current);
+            } catch (Exception e) {
+                log.error("❌ Error recalculando candidatos del cargo {}: {}", chargeId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Volver a compilar y puntuar un cargo cuando se confirma un cambio en sus requisitos
+     * (perfil o capacitaciones obligatorias)
+     */
+    public void refreshChargeAfterCommit(Integer chargeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            if (!loaded) {
+                return;
+            }
+            try {
+                refreshCharge(chargeId);
+            } catch (Exception e) {
+                log.error("❌ Error recalculando candidatos del cargo {}: {}", chargeId, e.getMessage());
+            }
+        });
+    }
+
+    private void refreshCharge(Integer chargeId) {
+        Optional<ChargeMatchProfile> profile = chargeMatchProfileRepository.findByChargeId(chargeId);
+        long[] required = new long[0];
+        if (profile.isPresent()) {
+            for (String type : chargeRequiredTrainingRepository.findTrainingTypesByChargeId(chargeId)) {
+                required = setBit(required, intern(type));
+            }
+        }
+
+        synchronized (rebuildLock) {
+            version.incrementAndGet();
+            if (profile.isEmpty()) {
+                requirements.remove(chargeId);
+                rankings.remove(chargeId);
+                return;
+            }
+            Requirement requirement = compile(chargeId, profile.get(), required);
+            requirements.put(chargeId, requirement);
+            rankings.put(chargeId, rank(requirement, candidates.values().toArray(new Candidate[0])));
+        }
+    }
+
+    // ========== PERFILES ==========
+
+    /**
+     * Perfil de requisitos de un cargo
+     */
+    @Transactional(readOnly = true)
+    public ChargeMatchProfileResponseDTO getProfile(Integer chargeId) {
+        Charge charge = chargeRepository.findById(chargeId)
+                .orElseThrow(() -> new ChargeNotFoundException(chargeId));
+        ChargeMatchProfile profile = chargeMatchProfileRepository.findByChargeId(chargeId)
+                .orElseThrow(() -> new ChargeMatchProfileNotFoundException(chargeId));
+        return toProfileResponse(charge, profile);
+    }
+
+    /**
+     * Crear o reemplazar el perfil de requisitos de un cargo
+     */
+    @Transactional
+    public ChargeMatchProfileResponseDTO saveProfile(Integer chargeId, ChargeMatchProfileDTO dto, Integer updatedBy) {
+        Charge charge = chargeRepository.findById(chargeId)
+                .orElseThrow(() -> new ChargeNotFoundException(chargeId));
+
+        if (dto.getMinGraduateStatus() != null && dto.getMinEducationType() == null) {
+            throw new InvalidChargeProfileException("El estado mínimo requiere indicar el nivel educativo mínimo");
+        }
+        if (dto.getPreferredMunicipalityId() != null
+                && geoCatalog.findMunicipalityById(dto.getPreferredMunicipalityId()).isEmpty()) {
+            throw new InvalidChargeProfileException(
+                    "Municipio con ID " + dto.getPreferredMunicipalityId() + " no encontrado");
+        }
+
+        ChargeMatchProfile profile = chargeMatchProfileRepository.findByChargeId(chargeId)
+                .orElseGet(() -> ChargeMatchProfile.builder().charge(charge).build());
+        profile.setMinEducationType(dto.getMinEducationType());
+        profile.setMinGraduateStatus(dto.getMinGraduateStatus());
+        profile.setMinExperienceYears(dto.getMinExperienceYears() != null ? dto.getMinExperienceYears() : 0);
+        profile.setPreferredMunicipalityId(dto.getPreferredMunicipalityId());
+        profile.setUpdatedBy(updatedBy);
+
+        ChargeMatchProfile saved = chargeMatchProfileRepository.save(profile);
+        refreshChargeAfterCommit(chargeId);
+
+        log.info("✅ Perfil de requisitos guardado para el cargo {}", chargeId);
+        return toProfileResponse(charge, saved);
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * Mejores candidatos para un cargo (no incluye a quienes ya tienen el cargo)
+     */
+    public List<CandidateMatchDTO> getCandidates(Integer chargeId, int limit) {
+        if (!chargeRepository.existsById(chargeId)) {
+            throw new ChargeNotFoundException(chargeId);
+        }
+        ensureLoaded();
+
+        Requirement requirement = requirements.get(chargeId);
+        if (requirement == null) {
+            throw new ChargeMatchProfileNotFoundException(chargeId);
+        }
+
+        Match[] ranking = rankings.getOrDefault(chargeId, EMPTY_RANKING).matches();
+        int size = Math.min(Math.min(Math.max(limit, 1), topK), ranking.length);
+        if (size == 0) {
+            return List.of();
+        }
+
+        List<Integer> userIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            userIds.add(ranking[i].userId());
+        }
+        Map<Integer, UsersRepository.UserSummaryProjection> summaries = usersRepository
+                .findSummariesByUserIds(userIds).stream()
+                .collect(Collectors.toMap(UsersRepository.UserSummaryProjection::getUserId, Function.identity()));
+
+        List<CandidateMatchDTO> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(toCandidateDTO(i + 1, ranking[i], requirement,
+                    candidates.get(ranking[i].userId()), summaries.get(ranking[i].userId())));
+        }
+        return result;
+    }
+
+    // ========== PUNTUACIÓN ==========
+
+    /**
+     * Puntaje de 0 a 100: educación 30, capacitaciones 40 (proporción cubierta),
+     * experiencia 20 (proporción de los meses requeridos) y ubicación 10
+     * (mitad si solo coincide el departamento). Un criterio sin requisito suma completo.
+     */
+    private static double score(Requirement requirement, Candidate candidate) {
+        double score = 0;
+
+        if (requirement.educationBit() < 0 || (candidate.educationMask() & (1 << requirement.educationBit())) != 0) {
+            score += EDUCATION_WEIGHT;
+        } else if ((candidate.educationMask() & (1 << requirement.partialEducationBit())) != 0) {
+            score += EDUCATION_WEIGHT / 2;
+        }
+
+        score += requirement.requiredCount() == 0
+                ? TRAINING_WEIGHT
+                : TRAINING_WEIGHT * covered(requirement.required(), candidate.trainings()) / requirement.requiredCount();
+
+        score += requirement.minMonths() == 0
+                ? EXPERIENCE_WEIGHT
+                : EXPERIENCE_WEIGHT * Math.min(1.0, (double) candidate.experienceMonths() / requirement.minMonths());
+
+        if (requirement.municipalityId() == 0 || requirement.municipalityId() == candidate.municipalityId()) {
+            score += LOCATION_WEIGHT;
+        } else if (requirement.departmentId() != 0 && requirement.departmentId() == candidate.departmentId()) {
+            score += LOCATION_WEIGHT / 2;
+        }
+
+        return Math.round(score * 10.0) / 10.0;
+    }
+
+    /**
+     * Puntuar todos los candidatos de un cargo en paralelo y quedarse con los mejores k + margen
+     */
+    private Ranking rank(Requirement requirement, Candidate[] vectors) {
+        List<Match> top = BoundedTopK.select(scoringPool, vectors.length, capacity, SPLIT_THRESHOLD, BEST_FIRST,
+                (from, to, sink) -> {
+                    for (int i = from; i < to; i++) {
+                        Candidate candidate = vectors[i];
+                        if (candidate.chargeId() != requirement.chargeId()) {
+                            sink.accept(new Match(candidate.userId(), score(requirement, candidate)));
+                        }
+                    }
+                });
+        Match[] ranking = top.toArray(NO_MATCHES);
+        return new Ranking(ranking, ranking.length < capacity);
+    }
+
+    /**
+     * Reubicar a un usuario en un ranking ordenado
+     *
+     * El búfer siempre es un prefijo exacto del ranking completo: quien queda por debajo del
+     * último solo entra si el búfer tiene a todos los candidatos, y quien sale lo acorta.
+     *
+     * @param match Nuevo puntaje (null si ya no es candidato)
+     * @return Ranking nuevo (puede quedar con menos de k si salieron más usuarios que el margen)
+     */
+    private Ranking reposition(Ranking ranking, int userId, Match match) {
+        Match[] matches = ranking.matches();
+        List<Match> updated = new ArrayList<>(matches.length + 1);
+        boolean wasRanked = false;
+        for (Match current : matches) {
+            if (current.userId() == userId) {
+                wasRanked = true;
+            } else {
+                updated.add(current);
+            }
+        }
+
+        boolean complete = ranking.complete();
+        boolean inserted = false;
+        if (match != null) {
+            boolean beatsLast = !updated.isEmpty() && BEST_FIRST.compare(match, updated.get(updated.size() - 1)) < 0;
+            if (beatsLast || (complete && updated.size() < capacity)) {
+                int position = Collections.binarySearch(updated, match, BEST_FIRST);
+                updated.add(position < 0 ? -position - 1 : position, match);
+                if (updated.size() > capacity) {
+                    updated.remove(updated.size() - 1);
+                    complete = false;
+                }
+                inserted = true;
+            } else if (complete) {
+                complete = false;
+            }
+        }
+
+        return wasRanked || inserted || complete != ranking.complete()
+                ? new Ranking(updated.toArray(NO_MATCHES), complete)
+                : ranking;
+    }
+
+    // ========== VECTORES ==========
+
+    private Candidate toCandidate(UsersRepository.WorkforceUserProjection user, int educationMask, long[] trainings,
+                                  List<WorkExperienceRepository.WorkforceExperienceProjection> jobs, LocalDate today) {
+        ExperienceIntervals experience = new ExperienceIntervals();
+        WorkExperienceRepository.WorkforceExperienceProjection latest = null;
+        for (WorkExperienceRepository.WorkforceExperienceProjection job : jobs) {
+            experience.add(job.getStartDate(), job.getEndDate(), job.getCurrentlyWorking(), today);
+            latest = latest == null || recency(job).isAfter(recency(latest)) ? job : latest;
+        }
+
+        int municipalityId = latest != null && latest.getMunicipalityId() != null ? latest.getMunicipalityId() : 0;
+        return new Candidate(
+                user.getUserId(),
+                user.getChargeId() != null ? user.getChargeId() : 0,
+                educationMask,
+                trainings,
+                experience.totalMonths(),
+                municipalityId,
+                departmentOf(municipalityId));
+    }
+
+    private Requirement compile(Integer chargeId, ChargeMatchProfile profile, long[] required) {
+        int educationBit = -1;
+        int partialEducationBit = -1;
+        if (profile.getMinEducationType() != null) {
+            GraduateStatusEnum status = profile.getMinGraduateStatus() != null
+                    ? profile.getMinGraduateStatus()
+                    : GraduateStatusEnum.NO;
+            educationBit = educationBit(profile.getMinEducationType(), status);
+            partialEducationBit = educationBit(profile.getMinEducationType(), GraduateStatusEnum.NO);
+        }
+
+        int municipalityId = profile.getPreferredMunicipalityId() != null ? profile.getPreferredMunicipalityId() : 0;
+        int minYears = profile.getMinExperienceYears() != null ? profile.getMinExperienceYears() : 0;
+        return new Requirement(chargeId, educationBit, partialEducationBit, required, cardinality(required),
+                minYears * 12, municipalityId, departmentOf(municipalityId));
+    }
+
+    /**
+     * Bits (nivel, estado) que satisface un registro educativo: su propio nivel hasta su
+     * estado, y todos los estados de los niveles inferiores (cursar un nivel implica haber
+     * terminado el anterior)
+     */
+    private static int educationMask(EducationTypeEnum type, GraduateStatusEnum status) {
+        if (type == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (int t = 0; t < type.ordinal(); t++) {
+            for (int s = 0; s < STATUSES; s++) {
+                mask |= 1 << (t * STATUSES + s);
+            }
+        }
+        int reached = status != null ? status.ordinal() : 0;
+        for (int s = 0; s <= reached; s++) {
+            mask |= 1 << (type.ordinal() * STATUSES + s);
+        }
+        return mask;
+    }
+
+    private static int educationBit(EducationTypeEnum type, GraduateStatusEnum status) {
+        return type.ordinal() * STATUSES + status.ordinal();
+    }
+
+    private int departmentOf(int municipalityId) {
+        if (municipalityId == 0) {
+            return 0;
+        }
+        return geoCatalog.findMunicipalityById(municipalityId)
+                .map(MunicipalityResponseDTO::getDepartmentId)
+                .orElse(0);
+    }
+
+    private static LocalDate recency(WorkExperienceRepository.WorkforceExperienceProjection job) {
+        if (Boolean.TRUE.equals(job.getCurrentlyWorking())) {
+            return LocalDate.MAX;
+        }
+        if (job.getEndDate() != null) {
+            return job.getEndDate();
+        }
+        return job.getStartDate() != null ? job.getStartDate() : LocalDate.MIN;
+    }
+
+    // ========== CONVERSIÓN ==========
+
+    private CandidateMatchDTO toCandidateDTO(int rank, Match match, Requirement requirement, Candidate candidate,
+                                             UsersRepository.UserSummaryProjection summary) {
+        CandidateMatchDTO.CandidateMatchDTOBuilder builder = CandidateMatchDTO.builder()
+                .rank(rank)
+                .userId(match.userId())
+                .firstName(summary != null ? summary.getFirstName() : null)
+                .lastName(summary != null ? summary.getLastName() : null)
+                .email(summary != null ? summary.getEmail() : null)
+                .score(match.score())
+                .trainingsRequired(requirement.requiredCount());
+
+        if (candidate == null) {
+            return builder.build();
+        }
+
+        boolean educationMet = requirement.educationBit() < 0
+                || (candidate.educationMask() & (1 << requirement.educationBit())) != 0;
+        long[] missing = andNot(requirement.required(), candidate.trainings());
+        List<String> missingNames = new ArrayList<>();
+        for (int bit : bitPositions(missing)) {
+            missingNames.add(typeNames.get(bit));
+        }
+        boolean experienceMet = candidate.experienceMonths() >= requirement.minMonths();
+
+        return builder
+                .meetsAll(educationMet && missingNames.isEmpty() && experienceMet)
+                .educationMet(educationMet)
+                .trainingsCovered(requirement.requiredCount() - missingNames.size())
+                .missingTrainings(missingNames)
+                .experienceYears(Math.round(candidate.experienceMonths() * 10.0 / 12) / 10.0)
+                .municipalityMatch(requirement.municipalityId() != 0
+                        && requirement.municipalityId() == candidate.municipalityId())
+                .build();
+    }
+
+    private ChargeMatchProfileResponseDTO toProfileResponse(Charge charge, ChargeMatchProfile profile) {
+        String municipalityName = profile.getPreferredMunicipalityId() != null
+                ? geoCatalog.findMunicipalityById(profile.getPreferredMunicipalityId())
+                        .map(MunicipalityResponseDTO::getName)
+                        .orElse(null)
+                : null;
+
+        return ChargeMatchProfileResponseDTO.builder()
+                .chargeId(charge.getChargeId())
+                .nameCharge(charge.getNameCharge())
+                .minEducationType(profile.getMinEducationType())
+                .minGraduateStatus(profile.getMinGraduateStatus())
+                .minExperienceYears(profile.getMinExperienceYears())
+                .preferredMunicipalityId(profile.getPreferredMunicipalityId())
+                .preferredMunicipalityName(municipalityName)
+                .requiredTrainingTypes(chargeRequiredTrainingRepository.findTrainingTypesByChargeId(charge.getChargeId()))
+                .updatedAt(profile.getUpdatedAt())
+                .build();
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    // ========== DICCIONARIO Y BITSETS ==========
+
+    /**
+     * Obtener la posición del bit de un tipo de capacitación, registrándolo si es nuevo
+     */
+    private int intern(String trainingType) {
+        String key = trainingType.trim().toUpperCase(Locale.ROOT);
+        Integer index = typeIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        synchronized (typeNames) {
+            return typeIndex.computeIfAbsent(key, k -> {
+                typeNames.add(trainingType.trim());
+                return typeNames.size() - 1;
+            });
+        }
+    }
+
+    private static long[] setBit(long[] bits, int index) {
+        int word = index >>> 6;
+        long[] result = Arrays.copyOf(bits, Math.max(bits.length, word + 1));
+        result[word] |= 1L << index;
+        return result;
+    }
+
+    private static long[] or(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, Math.max(a.length, b.length));
+        for (int i = 0; i < b.length; i++) {
+            result[i] |= b[i];
+        }
+        return result;
+    }
+
+    private static long[] andNot(long[] required, long[] completed) {
+        long[] result = new long[required.length];
+        for (int i = 0; i < required.length; i++) {
+            result[i] = required[i] & ~(i < completed.length ? completed[i] : 0L);
+        }
+        return result;
+    }
+
+    /**
+     * Cantidad de bits de required presentes en completed
+     */
+    private static int covered(long[] required, long[] completed) {
+        int count = 0;
+        for (int i = 0, n = Math.min(required.length, completed.length); i < n; i++) {
+            count += Long.bitCount(required[i] & completed[i]);
+        }
+        return count;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int[] bitPositions(long[] bits) {
+        int[] positions = new int[cardinality(bits)];
+        int n = 0;
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                positions[n++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return positions;
+    }
+}
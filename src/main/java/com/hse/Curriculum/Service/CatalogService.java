@@ -0,0 +1,461 @@
+package com.hse.Curriculum.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Converter.Catalog.CatalogKeyNormalizer;
+import com.hse.Curriculum.Converter.Catalog.PrefixSearch;
+import com.hse.Curriculum.Dto.CatalogDTO.CatalogClusterResultDTO;
+import com.hse.Curriculum.Dto.CatalogDTO.CatalogTermDTO;
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import com.hse.Curriculum.Exception.Catalog.CatalogTermNotFoundException;
+import com.hse.Curriculum.Exception.Catalog.InvalidCatalogMergeException;
+import com.hse.Curriculum.Models.CatalogTerm;
+import com.hse.Curriculum.Repository.CatalogAliasRepository;
+import com.hse.Curriculum.Repository.CatalogTermRepository;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Servicio del diccionario de nombres (instituciones, cursos y tipos de capacitación)
+ *
+ * Cada nombre en texto libre se asocia a un término canónico mediante su clave normalizada
+ * (sin tildes, mayúsculas ni puntuación). Para el autocompletado se mantiene en memoria,
+ * por categoría, un arreglo ordenado de claves (una por cada palabra inicial de cada variante)
+ * en el que se busca el prefijo con búsqueda binaria. Los términos nuevos se insertan en el
+ * índice después del commit sin reconstruirlo.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogService {
+
+    private static final int MAX_NAME_LENGTH = 200;
+    private static final int MAPPING_CHUNK = 5000;
+
+    private final CatalogTermRepository catalogTermRepository;
+    private final CatalogAliasRepository catalogAliasRepository;
+    private final TrainingRepository trainingRepository;
+    private final EducationRepository educationRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Map<CatalogCategoryEnum, PrefixIndex> indexes = emptyIndexes();
+    private volatile boolean loaded = false;
+    private final Object indexLock = new Object();
+
+    // ========== ÍNDICE EN MEMORIA ==========
+
+    /**
+     * Índice inmutable de una categoría; las actualizaciones crean una copia
+     */
+    private static final class PrefixIndex {
+        private final String[] keys;
+        private final int[] termIds;
+        private final boolean[] fromStart;
+        private final Map<String, Integer> termByKey;
+        private final Map<Integer, String> names;
+
+        private PrefixIndex(String[] keys, int[] termIds, boolean[] fromStart,
+                            Map<String, Integer> termByKey, Map<Integer, String> names) {
+            this.keys = keys;
+            this.termIds = termIds;
+            this.fromStart = fromStart;
+            this.termByKey = termByKey;
+            this.names = names;
+        }
+    }
+
+    /**
+     * Clave indexada: la variante completa o la variante desde una palabra intermedia
+     */
+    private record Token(String key, int termId, boolean fromStart) {
+    }
+
+    /**
+     * Reconstruir todos los índices desde la base de datos
+     */
+    public void rebuild() {
+        synchronized (indexLock) {
+            long start = System.nanoTime();
+
+            Map<CatalogCategoryEnum, List<Token>> tokens = new EnumMap<>(CatalogCategoryEnum.class);
+            Map<CatalogCategoryEnum, Map<String, Integer>> termByKey = new EnumMap<>(CatalogCategoryEnum.class);
+            Map<CatalogCategoryEnum, Map<Integer, String>> names = new EnumMap<>(CatalogCategoryEnum.class);
+            for (CatalogCategoryEnum category : CatalogCategoryEnum.values()) {
+                tokens.put(category, new ArrayList<>());
+                termByKey.put(category, new HashMap<>());
+                names.put(category, new HashMap<>());
+            }
+
+            int entries = 0;
+            for (CatalogAliasRepository.CatalogIndexEntry entry : catalogAliasRepository.findIndexEntries()) {
+                List<Token> categoryTokens = tokens.get(entry.getCategory());
+                PrefixSearch.tokenize(entry.getNormalizedKey(),
+                        (key, fromStart) -> categoryTokens.add(new Token(key, entry.getTermId(), fromStart)));
+                termByKey.get(entry.getCategory()).put(entry.getNormalizedKey(), entry.getTermId());
+                names.get(entry.getCategory()).put(entry.getTermId(), entry.getCanonicalName());
+                entries++;
+            }
+
+            Map<CatalogCategoryEnum, PrefixIndex> rebuilt = new EnumMap<>(CatalogCategoryEnum.class);
+            for (CatalogCategoryEnum category : CatalogCategoryEnum.values()) {
+                List<Token> sorted = tokens.get(category);
+                sorted.sort(Comparator.comparing(Token::key));
+                rebuilt.put(category, toIndex(sorted, termByKey.get(category), names.get(category)));
+            }
+
+            this.indexes = rebuilt;
+            this.loaded = true;
+            log.info("✅ Índice del diccionario construido: {} variantes en {} ms",
+                    entries, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Agregar una variante nueva al índice (mezcla ordenada, sin reordenar todo)
+     */
+    private void addToIndex(CatalogCategoryEnum category, String key, int termId, String canonicalName) {
+        synchronized (indexLock) {
+            if (!loaded) {
+                return;
+            }
+            PrefixIndex current = indexes.get(category);
+            if (current.termByKey.containsKey(key)) {
+                return;
+            }
+
+            List<Token> added = new ArrayList<>();
+            PrefixSearch.tokenize(key, (token, fromStart) -> added.add(new Token(token, termId, fromStart)));
+            added.sort(Comparator.comparing(Token::key));
+
+            int total = current.keys.length + added.size();
+            List<Token> merged = new ArrayList<>(total);
+            int i = 0;
+            int j = 0;
+            while (i < current.keys.length || j < added.size()) {
+                if (j == added.size() || (i < current.keys.length && current.keys[i].compareTo(added.get(j).key()) <= 0)) {
+                    merged.add(new Token(current.keys[i], current.termIds[i], current.fromStart[i]));
+                    i++;
+                } else {
+                    merged.add(added.get(j++));
+                }
+            }
+
+            Map<String, Integer> termByKey = new HashMap<>(current.termByKey);
+            termByKey.put(key, termId);
+            Map<Integer, String> names = new HashMap<>(current.names);
+            names.putIfAbsent(termId, canonicalName);
+
+            Map<CatalogCategoryEnum, PrefixIndex> updated = new EnumMap<>(indexes);
+            updated.put(category, toIndex(merged, termByKey, names));
+            this.indexes = updated;
+        }
+    }
+
+    /**
+     * Apuntar al término destino todas las variantes del término origen
+     *
+     * Se hace dentro de la transacción de la fusión: desde ese momento resolveTermId ya no
+     * entrega el ID del término que se va a eliminar (la reconstrucción al terminar la
+     * transacción deja el índice igual a la base de datos, también si se revierte).
+     */
+    private void retargetInIndex(CatalogCategoryEnum category, int sourceId, int targetId) {
+        synchronized (indexLock) {
+            if (!loaded) {
+                return;
+            }
+            PrefixIndex current = indexes.get(category);
+
+            int[] termIds = current.termIds.clone();
+            for (int i = 0; i < termIds.length; i++) {
+                if (termIds[i] == sourceId) {
+                    termIds[i] = targetId;
+                }
+            }
+            Map<String, Integer> termByKey = new HashMap<>(current.termByKey);
+            termByKey.replaceAll((key, termId) -> termId == sourceId ? targetId : termId);
+            Map<Integer, String> names = new HashMap<>(current.names);
+            names.remove(sourceId);
+
+            Map<CatalogCategoryEnum, PrefixIndex> updated = new EnumMap<>(indexes);
+            updated.put(category, new PrefixIndex(current.keys, termIds, current.fromStart, termByKey, names));
+            this.indexes = updated;
+        }
+    }
+
+    /**
+     * Sugerencias de autocompletado por prefijo
+     * Primero los nombres que empiezan por el texto y luego los que lo contienen como palabra
+     *
+     * @param category Categoría
+     * @param query Texto escrito por el usuario
+     * @param limit Máximo de sugerencias
+     */
+    public List<CatalogTermDTO> suggest(CatalogCategoryEnum category, String query, int limit) {
+        ensureLoaded();
+        String prefix = CatalogKeyNormalizer.normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        PrefixIndex index = indexes.get(category);
+        int from = PrefixSearch.lowerBound(index.keys, prefix);
+
+        Set<Integer> startMatches = new LinkedHashSet<>();
+        Set<Integer> wordMatches = new LinkedHashSet<>();
+        for (int i = from, scanned = 0;
+             i < index.keys.length && scanned < PrefixSearch.MAX_SCAN && startMatches.size() < limit;
+             i++, scanned++) {
+            if (!index.keys[i].startsWith(prefix)) {
+                break;
+            }
+            (index.fromStart[i] ? startMatches : wordMatches).add(index.termIds[i]);
+        }
+
+        Set<Integer> termIds = new LinkedHashSet<>(startMatches);
+        termIds.addAll(wordMatches);
+
+        return termIds.stream()
+                .limit(limit)
+                .map(termId -> CatalogTermDTO.builder()
+                        .termId(termId)
+                        .category(category)
+                        .name(index.names.get(termId))
+                        .build())
+                .toList();
+    }
+
+    // ========== RESOLUCIÓN DE NOMBRES ==========
+
+    /**
+     * Obtener el término de un nombre, creándolo si es una variante nueva
+     * Debe llamarse dentro de la transacción que guarda el registro
+     *
+     * @return ID del término o null si el nombre está vacío
+     */
+    @Transactional
+    public Integer resolveTermId(CatalogCategoryEnum category, String name) {
+        String key = CatalogKeyNormalizer.normalize(name);
+        if (key.isEmpty()) {
+            return null;
+        }
+        ensureLoaded();
+
+        Integer termId = indexes.get(category).termByKey.get(key);
+        if (termId != null) {
+            return termId;
+        }
+        termId = catalogAliasRepository.findTermIdByKey(category, key);
+        if (termId != null) {
+            return termId;
+        }
+        return createTerm(category, key, name.trim());
+    }
+
+    private Integer createTerm(CatalogCategoryEnum category, String key, String name) {
+        String canonicalName = truncate(name);
+        // saveAndFlush: el alias se inserta con SQL nativo y referencia al término
+        CatalogTerm term = catalogTermRepository.saveAndFlush(CatalogTerm.builder()
+                .category(category)
+                .canonicalName(canonicalName)
+                .build());
+
+        int inserted = catalogAliasRepository.insertIfAbsent(term.getTermId(), category.name(), canonicalName, key);
+        if (inserted == 0) {
+            // Otra transacción creó la misma variante primero
+            catalogTermRepository.delete(term);
+            return catalogAliasRepository.findTermIdByKey(category, key);
+        }
+
+        Integer termId = term.getTermId();
+        TransactionCallbacks.afterCommit(() -> addToIndex(category, key, termId, canonicalName));
+        return termId;
+    }
+
+    // ========== MIGRACIÓN Y MANTENIMIENTO ==========
+
+    /**
+     * Agrupar en el diccionario los nombres que aún no tienen término
+     *
+     * Las variantes se agrupan por clave normalizada; el nombre canónico de un término nuevo
+     * es la variante más usada. La asignación se hace con un UPDATE por campo a partir de un
+     * mapeo texto -> término. Se ejecuta también cada noche para cubrir la carga masiva.
+     */
+    @Scheduled(cron = "${app.catalog.cluster-cron:0 45 2 * * *}")
+    @Transactional
+    public CatalogClusterResultDTO cluster() {
+        long start = System.nanoTime();
+
+        Map<CatalogCategoryEnum, List<List<Object[]>>> usages = new EnumMap<>(CatalogCategoryEnum.class);
+        usages.put(CatalogCategoryEnum.INSTITUTION, List.of(
+                trainingRepository.countUnassignedInstitutions(), educationRepository.countUnassignedInstitutions()));
+        usages.put(CatalogCategoryEnum.COURSE, List.of(trainingRepository.countUnassignedCourseNames()));
+        usages.put(CatalogCategoryEnum.TRAINING_TYPE, List.of(trainingRepository.countUnassignedTrainingTypes()));
+
+        int variants = 0;
+        int created = 0;
+        Map<CatalogCategoryEnum, Map<String, Integer>> termByValue = new EnumMap<>(CatalogCategoryEnum.class);
+
+        for (Map.Entry<CatalogCategoryEnum, List<List<Object[]>>> entry : usages.entrySet()) {
+            CatalogCategoryEnum category = entry.getKey();
+
+            // clave -> (variante -> usos)
+            Map<String, Map<String, Long>> clusters = new LinkedHashMap<>();
+            for (List<Object[]> rows : entry.getValue()) {
+                for (Object[] row : rows) {
+                    String value = (String) row[0];
+                    String key = CatalogKeyNormalizer.normalize(value);
+                    if (!key.isEmpty()) {
+                        clusters.computeIfAbsent(key, k -> new HashMap<>())
+                                .merge(value, ((Number) row[1]).longValue(), Long::sum);
+                    }
+                }
+            }
+
+            Map<String, Integer> mapping = new HashMap<>();
+            for (Map.Entry<String, Map<String, Long>> cluster : clusters.entrySet()) {
+                String key = cluster.getKey();
+                Integer termId = catalogAliasRepository.findTermIdByKey(category, key);
+                if (termId == null) {
+                    String canonical = cluster.getValue().entrySet().stream()
+                            .max(Map.Entry.comparingByValue())
+                            .map(Map.Entry::getKey)
+                            .orElseThrow()
+                            .trim();
+                    termId = createTerm(category, key, canonical);
+                    created++;
+                }
+                for (String value : cluster.getValue().keySet()) {
+                    mapping.put(value, termId);
+                }
+                variants += cluster.getValue().size();
+            }
+            termByValue.put(category, mapping);
+        }
+
+        Map<String, Integer> assigned = new LinkedHashMap<>();
+        assigned.put("trainings.institution", assignInChunks(
+                termByValue.get(CatalogCategoryEnum.INSTITUTION), trainingRepository::assignInstitutionTerms));
+        assigned.put("education.institution_name", assignInChunks(
+                termByValue.get(CatalogCategoryEnum.INSTITUTION), educationRepository::assignInstitutionTerms));
+        assigned.put("trainings.course_name", assignInChunks(
+                termByValue.get(CatalogCategoryEnum.COURSE), trainingRepository::assignCourseNameTerms));
+        assigned.put("trainings.training_type", assignInChunks(
+                termByValue.get(CatalogCategoryEnum.TRAINING_TYPE), trainingRepository::assignTrainingTypeTerms));
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("✅ Diccionario: {} variantes, {} términos nuevos, registros asignados {} en {} ms",
+                variants, created, assigned, durationMs);
+
+        return CatalogClusterResultDTO.builder()
+                .variantsFound(variants)
+                .termsCreated(created)
+                .rowsAssigned(assigned)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    /**
+     * Fusionar un término en otro (ej: "Servicio Nacional de Aprendizaje" en "SENA")
+     * Las variantes y los registros del término origen pasan al destino
+     */
+    @Transactional
+    public CatalogTermDTO merge(Integer sourceId, Integer targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new InvalidCatalogMergeException("No se puede fusionar un término consigo mismo");
+        }
+        CatalogTerm source = catalogTermRepository.findById(sourceId)
+                .orElseThrow(() -> new CatalogTermNotFoundException(sourceId));
+        CatalogTerm target = catalogTermRepository.findById(targetId)
+                .orElseThrow(() -> new CatalogTermNotFoundException(targetId));
+        if (source.getCategory() != target.getCategory()) {
+            throw new InvalidCatalogMergeException("Solo se pueden fusionar términos de la misma categoría");
+        }
+
+        catalogAliasRepository.reassignTerm(sourceId, targetId);
+        int rows = switch (source.getCategory()) {
+            case INSTITUTION -> trainingRepository.reassignInstitutionTerm(sourceId, targetId)
+                    + educationRepository.reassignInstitutionTerm(sourceId, targetId);
+            case COURSE -> trainingRepository.reassignCourseNameTerm(sourceId, targetId);
+            case TRAINING_TYPE -> trainingRepository.reassignTrainingTypeTerm(sourceId, targetId);
+        };
+        catalogTermRepository.delete(source);
+
+        retargetInIndex(source.getCategory(), sourceId, targetId);
+        TransactionCallbacks.afterCompletion(this::rebuild);
+        log.info("🔀 Término {} fusionado en {} ({} registros reasignados)", sourceId, targetId, rows);
+
+        return CatalogTermDTO.builder()
+                .termId(target.getTermId())
+                .category(target.getCategory())
+                .name(target.getCanonicalName())
+                .build();
+    }
+
+    // ========== UTILIDADES ==========
+
+    private int assignInChunks(Map<String, Integer> mapping, Function<String, Integer> assign) {
+        if (mapping == null || mapping.isEmpty()) {
+            return 0;
+        }
+        List<Map<String, Object>> rows = new ArrayList<>(mapping.size());
+        mapping.forEach((value, termId) -> rows.add(Map.of("value", value, "termId", termId)));
+
+        int assigned = 0;
+        for (int from = 0; from < rows.size(); from += MAPPING_CHUNK) {
+            try {
+                assigned += assign.apply(objectMapper.writeValueAsString(
+                        rows.subList(from, Math.min(from + MAPPING_CHUNK, rows.size()))));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("No fue posible serializar el mapeo del diccionario", e);
+            }
+        }
+        return assigned;
+    }
+
+    private static PrefixIndex toIndex(List<Token> sorted, Map<String, Integer> termByKey, Map<Integer, String> names) {
+        String[] keys = new String[sorted.size()];
+        int[] termIds = new int[sorted.size()];
+        boolean[] fromStart = new boolean[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            keys[i] = sorted.get(i).key();
+            termIds[i] = sorted.get(i).termId();
+            fromStart[i] = sorted.get(i).fromStart();
+        }
+        return new PrefixIndex(keys, termIds, fromStart, termByKey, names);
+    }
+
+    private static Map<CatalogCategoryEnum, PrefixIndex> emptyIndexes() {
+        Map<CatalogCategoryEnum, PrefixIndex> empty = new EnumMap<>(CatalogCategoryEnum.class);
+        for (CatalogCategoryEnum category : CatalogCategoryEnum.values()) {
+            empty.put(category, new PrefixIndex(new String[0], new int[0], new boolean[0], Map.of(), Map.of()));
+        }
+        return empty;
+    }
+
+    private static String truncate(String name) {
+        return name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH) : name;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+}
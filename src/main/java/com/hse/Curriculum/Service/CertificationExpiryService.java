@@ -0,0 +1,176 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Dto.CertificationDTO.CertificationScanResultDTO;
+import com.hse.Curriculum.Dto.CertificationDTO.ExpiringCertificationDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import com.hse.Curriculum.Models.CertificationNotification;
+import com.hse.Curriculum.Repository.CertificationNotificationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.TrainingValidityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Servicio de seguimiento de vencimiento de certificaciones
+ *
+ * El escaneo diario recorre por rango el índice de trainings.expires_at
+ * (desde hoy - días de gracia hasta hoy + mayor número de días de aviso) y
+ * registra las notificaciones con INSERT ... SELECT, sin traer filas a memoria
+ * ni consultar usuario por usuario. El rango se procesa en ventanas de días,
+ * cada una en su propia transacción, para acotar el tamaño de cada lote.
+ */
+@Slf4j
+@Service
+public class CertificationExpiryService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TrainingRepository trainingRepository;
+    private final TrainingValidityRepository trainingValidityRepository;
+    private final CertificationNotificationRepository notificationRepository;
+    private final TransactionTemplate batchTransaction;
+    private final int overdueLookbackDays;
+    private final int windowDays;
+
+    public CertificationExpiryService(TrainingRepository trainingRepository,
+                                      TrainingValidityRepository trainingValidityRepository,
+                                      CertificationNotificationRepository notificationRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.certifications.overdue-lookback-days:7}") int overdueLookbackDays,
+                                      @Value("${app.certifications.scan-window-days:30}") int windowDays) {
+        this.trainingRepository = trainingRepository;
+        this.trainingValidityRepository = trainingValidityRepository;
+        this.notificationRepository = notificationRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.overdueLookbackDays = Math.max(0, overdueLookbackDays);
+        this.windowDays = Math.max(1, windowDays);
+    }
+
+    /**
+     * Escaneo programado (por defecto todos los días a las 6:00)
+     */
+    @Scheduled(cron = "${app.certifications.scan-cron:0 0 6 * * *}")
+    public void scheduledScan() {
+        try {
+            scan(LocalDate.now());
+        } catch (Exception e) {
+            log.error("❌ Error en el escaneo de vencimientos: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Registrar notificaciones de certificaciones próximas a vencer y vencidas
+     *
+     * @param today Fecha de referencia del escaneo
+     */
+    public CertificationScanResultDTO scan(LocalDate today) {
+        long start = System.nanoTime();
+
+        Integer maxWarningDays = trainingValidityRepository.findMaxWarningDays();
+        LocalDate fromDate = today.minusDays(overdueLookbackDays);
+        LocalDate toDate = today.plusDays(maxWarningDays != null ? maxWarningDays : 0);
+
+        int created = 0;
+        for (LocalDate windowStart = fromDate; !windowStart.isAfter(toDate); windowStart = windowStart.plusDays(windowDays)) {
+            LocalDate windowFrom = windowStart;
+            LocalDate windowTo = windowStart.plusDays(windowDays - 1L);
+            LocalDate windowEnd = windowTo.isAfter(toDate) ? toDate : windowTo;
+
+            Integer inserted = batchTransaction.execute(status ->
+                    notificationRepository.insertDueNotifications(today, windowFrom, windowEnd));
+            created += inserted != null ? inserted : 0;
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("✅ Escaneo de vencimientos {}..{}: {} notificaciones nuevas en {} ms",
+                fromDate, toDate, created, durationMs);
+
+        return CertificationScanResultDTO.builder()
+                .scanDate(today)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .notificationsCreated(created)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    /**
+     * Listar certificaciones que vencen en los próximos días (paginación por cursor)
+     *
+     * @param chargeId Filtrar por cargo (opcional)
+     * @param days Días hacia adelante a considerar
+     * @param includeOverdue Incluir las vencidas en los últimos días de gracia
+     * @param cursor Cursor de la página anterior (null para la primera)
+     * @param size Tamaño de página
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ExpiringCertificationDTO> getExpiringCertifications(
+            Integer chargeId, int days, boolean includeOverdue, String cursor, int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDate today = LocalDate.now();
+        LocalDate fromDate = includeOverdue ? today.minusDays(overdueLookbackDays) : today;
+        LocalDate toDate = today.plusDays(Math.max(days, 0));
+
+        LocalDate afterDate = fromDate.minusDays(1);
+        int afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            int[] key = CursorCodec.decodeInts(cursor, 2);
+            afterDate = LocalDate.ofEpochDay(key[0]);
+            afterId = key[1];
+        }
+
+        List<TrainingRepository.ExpiringCertificationProjection> rows = trainingRepository.findExpiringCertifications(
+                fromDate, toDate, chargeId, afterDate, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TrainingRepository.ExpiringCertificationProjection> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<ExpiringCertificationDTO> items = new ArrayList<>(page.size());
+        for (TrainingRepository.ExpiringCertificationProjection row : page) {
+            long daysRemaining = ChronoUnit.DAYS.between(today, row.getExpiresAt());
+            items.add(ExpiringCertificationDTO.builder()
+                    .trainingId(row.getTrainingId())
+                    .userId(row.getUserId())
+                    .fullName(row.getFirstName() + " " + row.getLastName())
+                    .email(row.getEmail())
+                    .chargeId(row.getChargeId())
+                    .chargeName(row.getChargeName())
+                    .courseName(row.getCourseName())
+                    .trainingType(row.getTrainingType())
+                    .institution(row.getInstitution())
+                    .completionDate(row.getCompletionDate())
+                    .expiresAt(row.getExpiresAt())
+                    .daysRemaining(daysRemaining)
+                    .status(daysRemaining < 0
+                            ? CertificationNotification.NotificationStatus.OVERDUE.name()
+                            : CertificationNotification.NotificationStatus.DUE.name())
+                    .build());
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            TrainingRepository.ExpiringCertificationProjection last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getExpiresAt().toEpochDay(), last.getTrainingId());
+        }
+
+        return CursorPageDTO.<ExpiringCertificationDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .size(items.size())
+                .build();
+    }
+}
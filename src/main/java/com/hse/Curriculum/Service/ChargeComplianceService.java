@@ -0,0 +1,455 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Dto.ComplianceDTO.ChargeComplianceDTO;
+import com.hse.Curriculum.Dto.ComplianceDTO.ChargeRequirementsDTO;
+import com.hse.Curriculum.Dto.ComplianceDTO.TrainingCoverageDTO;
+import com.hse.Curriculum.Dto.ComplianceDTO.UserComplianceGapDTO;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Exception.Post.ChargeNotFoundException;
+import com.hse.Curriculum.Exception.Users.UserNotFoundException;
+import com.hse.Curriculum.Models.Charge;
+import com.hse.Curriculum.Models.ChargeRequiredTraining;
+import com.hse.Curriculum.Repository.ChargeRepository;
+import com.hse.Curriculum.Repository.ChargeRequiredTrainingRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Motor de cumplimiento de capacitaciones obligatorias por cargo
+ *
+ * Los tipos de capacitación se internan en un diccionario (tipo -> posición) y cada
+ * usuario se representa con un bitset (long[]) de los tipos que tiene completados y
+ * vigentes. Cada cargo tiene el bitset de sus tipos obligatorios, así que la brecha
+ * de un usuario es requeridos & ~completados, calculada en paralelo entre usuarios.
+ *
+ * El estado se construye con una sola consulta de pares (usuario, tipo) y se mantiene
+ * al día por usuario cuando se confirma una escritura de capacitaciones o de usuario.
+ * Una reconstrucción nocturna descarta las certificaciones que vencieron.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChargeComplianceService {
+
+    private final ChargeRequiredTrainingRepository chargeRequiredTrainingRepository;
+    private final ChargeRepository chargeRepository;
+    private final TrainingRepository trainingRepository;
+    private final UsersRepository usersRepository;
+    private final CandidateMatchingService candidateMatchingService;
+
+    /**
+     * Diccionario de tipos de capacitación internados: tipo normalizado -> posición del bit
+     */
+    private final Map<String, Integer> typeIndex = new ConcurrentHashMap<>();
+    private final List<String> typeNames = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Usuario activo -> cargo y bitset de capacitaciones completadas
+     */
+    private volatile Map<Integer, UserState> userStates = new ConcurrentHashMap<>();
+
+    /**
+     * Cargo -> bitset de capacitaciones obligatorias
+     */
+    private volatile Map<Integer, long[]> requiredByCharge = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+    private final Object rebuildLock = new Object();
+
+    /**
+     * Estado inmutable de un usuario en el motor
+     */
+    private static final class UserState {
+        private final int chargeId;
+        private final long[] completed;
+
+        private UserState(int chargeId, long[] completed) {
+            this.chargeId = chargeId;
+            this.completed = completed;
+        }
+    }
+
+    // ========== CONSTRUCCIÓN Y ACTUALIZACIÓN ==========
+
+    /**
+     * Reconstruir todo el estado (se ejecuta de noche para descartar certificaciones vencidas)
+     */
+    @Scheduled(cron = "${app.compliance.rebuild-cron:0 30 0 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+
+            Map<Integer, long[]> required = new ConcurrentHashMap<>();
+            for (Object[] row : chargeRequiredTrainingRepository.findAllChargeTrainingPairs()) {
+                required.merge((Integer) row[0], setBit(new long[0], intern((String) row[1])), ChargeComplianceService::or);
+            }
+
+            Map<Integer, long[]> completedByUser = new HashMap<>();
+            for (Object[] row : trainingRepository.findCompletedTrainingTypePairs(LocalDate.now())) {
+                completedByUser.merge((Integer) row[0], setBit(new long[0], intern((String) row[1])), ChargeComplianceService::or);
+            }
+
+            Map<Integer, UserState> states = new ConcurrentHashMap<>();
+            for (Object[] row : usersRepository.findActiveUserChargePairs()) {
+                Integer userId = (Integer) row[0];
+                states.put(userId, new UserState((Integer) row[1], completedByUser.getOrDefault(userId, new long[0])));
+            }
+
+            this.requiredByCharge = required;
+            this.userStates = states;
+            this.loaded = true;
+
+            log.info("✅ Matriz de cumplimiento construida: {} usuarios, {} cargos con requisitos, {} tipos en {} ms",
+                    states.size(), required.size(), typeNames.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Actualizar solo el usuario afectado cuando se confirma una escritura
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumChanged(CurriculumChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        if (event.getSection() != CurriculumChangedEvent.Section.TRAINING
+                && event.getSection() != CurriculumChangedEvent.Section.USER) {
+            return;
+        }
+        try {
+            refreshUser(event.getUserId());
+        } catch (Exception e) {
+            log.error("❌ Error actualizando cumplimiento del usuario {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Después de una operación masiva se reconstruye todo en lugar de refrescar usuario por usuario
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumBulkChanged(CurriculumBulkChangedEvent event) {
+        if (!loaded || event.getSection() != CurriculumChangedEvent.Section.TRAINING) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ Error reconstruyendo la matriz de cumplimiento: {}", e.getMessage());
+        }
+    }
+
+    private void refreshUser(Integer userId) {
+        // La lectura va dentro del candado: una reconstrucción en curso no puede publicar
+        // después un estado leído antes de esta escritura
+        synchronized (rebuildLock) {
+            Optional<Integer> chargeId = usersRepository.findActiveChargeIdByUserId(userId);
+
+            long[] completed = new long[0];
+            if (chargeId.isPresent()) {
+                for (String type : trainingRepository.findCompletedTrainingTypesByUserId(userId, LocalDate.now())) {
+                    completed = setBit(completed, intern(type));
+                }
+            }
+
+            if (chargeId.isPresent()) {
+                userStates.put(userId, new UserState(chargeId.get(), completed));
+            } else {
+                userStates.remove(userId);
+            }
+        }
+    }
+
+    /**
+     * Reemplazar las capacitaciones obligatorias de un cargo
+     */
+    @Transactional
+    public ChargeComplianceDTO setRequirements(Integer chargeId, ChargeRequirementsDTO dto) {
+        Charge charge = chargeRepository.findById(chargeId)
+                .orElseThrow(() -> new ChargeNotFoundException(chargeId));
+        ensureLoaded();
+
+        chargeRequiredTrainingRepository.deleteByChargeId(chargeId);
+
+        // Eliminar duplicados sin distinguir mayúsculas, conservando el primer nombre recibido
+        Map<String, String> uniqueTypes = new LinkedHashMap<>();
+        for (String type : dto.getTrainingTypes()) {
+            uniqueTypes.putIfAbsent(normalize(type), type.trim());
+        }
+
+        long[] required = new long[0];
+        List<ChargeRequiredTraining> requirements = new ArrayList<>(uniqueTypes.size());
+        for (String type : uniqueTypes.values()) {
+            requirements.add(ChargeRequiredTraining.builder().charge(charge).trainingType(type).build());
+            required = setBit(required, intern(type));
+        }
+        chargeRequiredTrainingRepository.saveAll(requirements);
+        candidateMatchingService.refreshChargeAfterCommit(chargeId);
+
+        long[] newRequired = required;
+        TransactionCallbacks.afterCommit(() -> {
+            if (newRequired.length == 0 || cardinality(newRequired) == 0) {
+                requiredByCharge.remove(chargeId);
+            } else {
+                requiredByCharge.put(chargeId, newRequired);
+            }
+        });
+
+        log.info("✅ Cargo {} con {} capacitaciones obligatorias", chargeId, uniqueTypes.size());
+        return computeCharge(chargeId, charge.getNameCharge(), newRequired, usersOfCharge(chargeId));
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * Matriz de cumplimiento de toda la organización (un elemento por cargo con requisitos)
+     */
+    public List<ChargeComplianceDTO> getMatrix() {
+        ensureLoaded();
+        Map<Integer, long[]> required = requiredByCharge;
+
+        ConcurrentMap<Integer, List<UserState>> usersByCharge = userStates.values().parallelStream()
+                .filter(state -> required.containsKey(state.chargeId))
+                .collect(Collectors.groupingByConcurrent(state -> state.chargeId));
+
+        Map<Integer, String> chargeNames = chargeRepository.findAllById(required.keySet()).stream()
+                .collect(Collectors.toMap(Charge::getChargeId, Charge::getNameCharge));
+
+        return required.entrySet().parallelStream()
+                .map(entry -> computeCharge(
+                        entry.getKey(),
+                        chargeNames.get(entry.getKey()),
+                        entry.getValue(),
+                        usersByCharge.getOrDefault(entry.getKey(), List.of())))
+                .sorted(Comparator.comparing(ChargeComplianceDTO::getCompliancePercentage)
+                        .thenComparing(ChargeComplianceDTO::getChargeId))
+                .toList();
+    }
+
+    /**
+     * Cumplimiento de un cargo
+     */
+    public ChargeComplianceDTO getChargeCompliance(Integer chargeId) {
+        Charge charge = chargeRepository.findById(chargeId)
+                .orElseThrow(() -> new ChargeNotFoundException(chargeId));
+        ensureLoaded();
+
+        long[] required = requiredByCharge.getOrDefault(chargeId, new long[0]);
+        return computeCharge(chargeId, charge.getNameCharge(), required, usersOfCharge(chargeId));
+    }
+
+    /**
+     * Usuarios de un cargo que no cumplen con sus capacitaciones obligatorias
+     */
+    public List<UserComplianceGapDTO> getChargeGaps(Integer chargeId) {
+        if (!chargeRepository.existsById(chargeId)) {
+            throw new ChargeNotFoundException(chargeId);
+        }
+        ensureLoaded();
+
+        long[] required = requiredByCharge.getOrDefault(chargeId, new long[0]);
+        Map<Integer, long[]> gaps = userStates.entrySet().parallelStream()
+                .filter(entry -> entry.getValue().chargeId == chargeId)
+                .map(entry -> Map.entry(entry.getKey(), andNot(required, entry.getValue().completed)))
+                .filter(entry -> cardinality(entry.getValue()) > 0)
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        if (gaps.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, UsersRepository.UserSummaryProjection> summaries = usersRepository
+                .findSummariesByUserIds(gaps.keySet()).stream()
+                .collect(Collectors.toMap(UsersRepository.UserSummaryProjection::getUserId, Function.identity()));
+
+        int requiredCount = cardinality(required);
+        return gaps.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> toGapDTO(entry.getKey(), summaries.get(entry.getKey()), chargeId, requiredCount, entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Capacitaciones obligatorias que le faltan a un usuario
+     */
+    public UserComplianceGapDTO getUserGaps(Integer userId) {
+        List<UsersRepository.UserSummaryProjection> summary = usersRepository.findSummariesByUserIds(List.of(userId));
+        if (summary.isEmpty()) {
+            throw new UserNotFoundException(userId);
+        }
+        ensureLoaded();
+
+        UserState state = userStates.get(userId);
+        if (state == null) {
+            // Usuario inactivo o sin cargo: no tiene requisitos
+            return toGapDTO(userId, summary.get(0), null, 0, new long[0]);
+        }
+
+        long[] required = requiredByCharge.getOrDefault(state.chargeId, new long[0]);
+        return toGapDTO(userId, summary.get(0), state.chargeId, cardinality(required), andNot(required, state.completed));
+    }
+
+    // ========== CÁLCULO ==========
+
+    private List<UserState> usersOfCharge(Integer chargeId) {
+        return userStates.values().stream()
+                .filter(state -> state.chargeId == chargeId)
+                .toList();
+    }
+
+    private ChargeComplianceDTO computeCharge(Integer chargeId, String chargeName, long[] required, List<UserState> users) {
+        int[] requiredBits = bitPositions(required);
+        int[] coverage = new int[requiredBits.length];
+        int compliant = 0;
+
+        for (UserState user : users) {
+            if (cardinality(andNot(required, user.completed)) == 0) {
+                compliant++;
+            }
+            for (int i = 0; i < requiredBits.length; i++) {
+                if (isSet(user.completed, requiredBits[i])) {
+                    coverage[i]++;
+                }
+            }
+        }
+
+        List<String> requiredNames = new ArrayList<>(requiredBits.length);
+        List<TrainingCoverageDTO> coverageList = new ArrayList<>(requiredBits.length);
+        for (int i = 0; i < requiredBits.length; i++) {
+            String name = typeNames.get(requiredBits[i]);
+            requiredNames.add(name);
+            coverageList.add(TrainingCoverageDTO.builder()
+                    .trainingType(name)
+                    .usersCompleted(coverage[i])
+                    .percentage(percentage(coverage[i], users.size()))
+                    .build());
+        }
+
+        return ChargeComplianceDTO.builder()
+                .chargeId(chargeId)
+                .chargeName(chargeName)
+                .requiredTrainings(requiredNames)
+                .totalUsers(users.size())
+                .compliantUsers(compliant)
+                .compliancePercentage(percentage(compliant, users.size()))
+                .coverage(coverageList)
+                .build();
+    }
+
+    private UserComplianceGapDTO toGapDTO(Integer userId, UsersRepository.UserSummaryProjection summary,
+                                          Integer chargeId, int requiredCount, long[] missing) {
+        List<String> missingNames = new ArrayList<>();
+        for (int bit : bitPositions(missing)) {
+            missingNames.add(typeNames.get(bit));
+        }
+        return UserComplianceGapDTO.builder()
+                .userId(userId)
+                .fullName(summary != null ? summary.getFirstName() + " " + summary.getLastName() : null)
+                .email(summary != null ? summary.getEmail() : null)
+                .chargeId(chargeId)
+                .requiredCount(requiredCount)
+                .missingTrainings(missingNames)
+                .compliant(missingNames.isEmpty())
+                .build();
+    }
+
+    private static double percentage(int part, int total) {
+        return total == 0 ? 0.0 : Math.round(part * 1000.0 / total) / 10.0;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    // ========== DICCIONARIO Y BITSETS ==========
+
+    /**
+     * Obtener la posición del bit de un tipo de capacitación, registrándolo si es nuevo
+     */
+    private int intern(String trainingType) {
+        String key = normalize(trainingType);
+        Integer index = typeIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        synchronized (typeNames) {
+            return typeIndex.computeIfAbsent(key, k -> {
+                typeNames.add(trainingType.trim());
+                return typeNames.size() - 1;
+            });
+        }
+    }
+
+    private static String normalize(String trainingType) {
+        return trainingType.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static long[] setBit(long[] bits, int index) {
+        int word = index >>> 6;
+        long[] result = Arrays.copyOf(bits, Math.max(bits.length, word + 1));
+        result[word] |= 1L << index;
+        return result;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        int word = index >>> 6;
+        return word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+
+    private static long[] or(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, Math.max(a.length, b.length));
+        for (int i = 0; i < b.length; i++) {
+            result[i] |= b[i];
+        }
+        return result;
+    }
+
+    /**
+     * Bits de required que no están en completed (brecha)
+     */
+    private static long[] andNot(long[] required, long[] completed) {
+        long[] result = new long[required.length];
+        for (int i = 0; i < required.length; i++) {
+            result[i] = required[i] & ~(i < completed.length ? completed[i] : 0L);
+        }
+        return result;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int[] bitPositions(long[] bits) {
+        int[] positions = new int[cardinality(bits)];
+        int n = 0;
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                positions[n++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,297 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Dto.ChargeDTO.*;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Exception.Post.ChargeNotFoundException;
+import com.hse.Curriculum.Exception.Post.InvalidChargeHierarchyException;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import com.hse.Curriculum.Models.Charge;
+import com.hse.Curriculum.Repository.ChargeHierarchyRepository;
+import com.hse.Curriculum.Repository.ChargeRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Servicio del organigrama de cargos
+ *
+ * Las relaciones se guardan en una tabla de clausura (charge_hierarchy): consultar los
+ * ancestros o el subárbol de un cargo es un join indexado. Mover un subárbol son dos
+ * sentencias (separar y volver a colgar) dentro de una transacción, serializadas con un
+ * advisory lock para que dos movimientos concurrentes no formen un ciclo.
+ *
+ * Además se mantiene en memoria una foto inmutable del organigrama (padre y subárbol de
+ * cada cargo) para filtrar por alcance sin consultar la base de datos; se reconstruye
+ * después de cada cambio confirmado.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChargeHierarchyService {
+
+    private static final long HIERARCHY_LOCK_KEY = 0x43484152L; // "CHAR"
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int[] NO_CHARGES = new int[0];
+
+    private final ChargeHierarchyRepository chargeHierarchyRepository;
+    private final ChargeRepository chargeRepository;
+    private final UsersRepository usersRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+    private volatile boolean loaded = false;
+    private final Object reloadLock = new Object();
+
+    /**
+     * Foto inmutable del organigrama
+     *
+     * @param parentOf Cargo -> cargo al que reporta directamente
+     * @param subtreeOf Cargo -> IDs ordenados de su subárbol (incluido él mismo)
+     */
+    private record Snapshot(Map<Integer, Integer> parentOf, Map<Integer, int[]> subtreeOf) {
+    }
+
+    // ========== CARGA ==========
+
+    @PostConstruct
+    public void loadHierarchy() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible cargar el organigrama de cargos al iniciar: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconstruir la foto en memoria desde la tabla de clausura
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            int registered = chargeHierarchyRepository.insertMissingSelfRows();
+            if (registered > 0) {
+                log.info("✅ {} cargos registrados como raíz del organigrama", registered);
+            }
+
+            Map<Integer, Integer> parentOf = new HashMap<>();
+            for (Object[] row : chargeHierarchyRepository.findParentLinks()) {
+                parentOf.put((Integer) row[0], (Integer) row[1]);
+            }
+
+            Map<Integer, List<Integer>> members = new HashMap<>();
+            for (Object[] row : chargeHierarchyRepository.findAllLinks()) {
+                members.computeIfAbsent((Integer) row[0], id -> new ArrayList<>()).add((Integer) row[1]);
+            }
+            Map<Integer, int[]> subtreeOf = new HashMap<>(members.size() * 2);
+            members.forEach((chargeId, ids) -> {
+                int[] sorted = ids.stream().mapToInt(Integer::intValue).toArray();
+                Arrays.sort(sorted);
+                subtreeOf.put(chargeId, sorted);
+            });
+
+            this.snapshot = new Snapshot(Map.copyOf(parentOf), Map.copyOf(subtreeOf));
+            this.loaded = true;
+            log.info("✅ Organigrama cargado: {} cargos, {} relaciones directas", subtreeOf.size(), parentOf.size());
+        }
+    }
+
+    public void reloadAfterCommit() {
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                reload();
+            } catch (Exception e) {
+                log.error("❌ Error recargando el organigrama de cargos: {}", e.getMessage());
+            }
+        });
+    }
+
+    // ========== CONSULTAS EN MEMORIA (ALCANCE) ==========
+
+    /**
+     * Cargo al que reporta directamente (null si es raíz o no existe)
+     */
+    public Integer getParentChargeId(Integer chargeId) {
+        return chargeId == null ? null : snapshot().parentOf().get(chargeId);
+    }
+
+    /**
+     * IDs ordenados del subárbol de un cargo, incluido él mismo
+     */
+    public int[] getSubtreeChargeIds(Integer chargeId) {
+        if (chargeId == null) {
+            return NO_CHARGES;
+        }
+        int[] subtree = snapshot().subtreeOf().get(chargeId);
+        return subtree != null ? subtree.clone() : new int[]{chargeId};
+    }
+
+    /**
+     * Verificar si un cargo está bajo otro en el organigrama (o es el mismo)
+     */
+    public boolean isInSubtree(Integer rootChargeId, Integer chargeId) {
+        if (rootChargeId == null || chargeId == null) {
+            return false;
+        }
+        if (rootChargeId.equals(chargeId)) {
+            return true;
+        }
+        int[] subtree = snapshot().subtreeOf().get(rootChargeId);
+        return subtree != null && Arrays.binarySearch(subtree, chargeId) >= 0;
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * Posición de un cargo: línea de reporte y cargos que le reportan
+     */
+    @Transactional(readOnly = true)
+    public ChargeHierarchyDTO getHierarchy(Integer chargeId) {
+        Charge charge = chargeRepository.findById(chargeId)
+                .orElseThrow(() -> new ChargeNotFoundException(chargeId));
+
+        List<ChargeNodeDTO> ancestors = chargeHierarchyRepository.findAncestors(chargeId).stream()
+                .map(this::toNode)
+                .toList();
+        List<ChargeNodeDTO> children = chargeHierarchyRepository.findChildren(chargeId).stream()
+                .map(this::toNode)
+                .toList();
+
+        return ChargeHierarchyDTO.builder()
+                .chargeId(charge.getChargeId())
+                .nameCharge(charge.getNameCharge())
+                .parentChargeId(ancestors.isEmpty() ? null : ancestors.get(ancestors.size() - 1).getChargeId())
+                .ancestors(ancestors)
+                .children(children)
+                .build();
+    }
+
+    /**
+     * Personal activo de un cargo y de todo su subárbol (una consulta)
+     */
+    @Transactional(readOnly = true)
+    public ChargeHeadcountDTO getHeadcount(Integer chargeId) {
+        Charge charge = chargeRepository.findById(chargeId)
+                .orElseThrow(() -> new ChargeNotFoundException(chargeId));
+
+        UsersRepository.SubtreeHeadcountProjection counts = usersRepository.countActiveUsersInChargeSubtree(chargeId);
+
+        return ChargeHeadcountDTO.builder()
+                .chargeId(charge.getChargeId())
+                .nameCharge(charge.getNameCharge())
+                .directUsers(counts.getDirectUsers() != null ? counts.getDirectUsers() : 0L)
+                .subtreeUsers(counts.getSubtreeUsers() != null ? counts.getSubtreeUsers() : 0L)
+                .subtreeCharges(counts.getSubtreeCharges() != null ? counts.getSubtreeCharges().intValue() : 0)
+                .build();
+    }
+
+    /**
+     * Usuarios activos del subárbol de un cargo (paginación por cursor)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ChargeSubtreeUserDTO> getSubtreeUsers(Integer chargeId, String cursor, int size) {
+        if (!chargeRepository.existsById(chargeId)) {
+            throw new ChargeNotFoundException(chargeId);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            afterId = CursorCodec.decodeInts(cursor, 1)[0];
+        }
+
+        List<UsersRepository.SubtreeUserProjection> rows = usersRepository.findActiveUsersInChargeSubtree(
+                chargeId, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<UsersRepository.SubtreeUserProjection> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<ChargeSubtreeUserDTO> items = new ArrayList<>(page.size());
+        for (UsersRepository.SubtreeUserProjection row : page) {
+            items.add(ChargeSubtreeUserDTO.builder()
+                    .userId(row.getUserId())
+                    .firstName(row.getFirstName())
+                    .lastName(row.getLastName())
+                    .email(row.getEmail())
+                    .chargeId(row.getChargeId())
+                    .nameCharge(row.getNameCharge())
+                    .depth(row.getDepth())
+                    .build());
+        }
+
+        return CursorPageDTO.<ChargeSubtreeUserDTO>builder()
+                .items(items)
+                .nextCursor(hasMore ? CursorCodec.encode(page.get(page.size() - 1).getUserId()) : null)
+                .size(items.size())
+                .build();
+    }
+
+    // ========== ESCRITURAS ==========
+
+    /**
+     * Registrar un cargo nuevo como raíz del organigrama
+     * (debe llamarse dentro de la transacción que crea el cargo)
+     */
+    public void registerCharge(Integer chargeId) {
+        chargeHierarchyRepository.insertSelf(chargeId);
+        reloadAfterCommit();
+    }
+
+    /**
+     * Mover un cargo (con todo su subárbol) bajo otro cargo, o dejarlo como raíz
+     */
+    @Transactional
+    public ChargeHierarchyDTO moveCharge(Integer chargeId, ChargeParentDTO dto) {
+        Integer parentId = dto.getParentChargeId();
+
+        if (!chargeRepository.existsById(chargeId)) {
+            throw new ChargeNotFoundException(chargeId);
+        }
+        if (parentId != null && !chargeRepository.existsById(parentId)) {
+            throw new ChargeNotFoundException(parentId);
+        }
+
+        chargeHierarchyRepository.lockHierarchy(HIERARCHY_LOCK_KEY);
+        chargeHierarchyRepository.insertSelf(chargeId);
+
+        // Con el bloqueo tomado la estructura no cambia hasta el commit
+        if (parentId != null) {
+            chargeHierarchyRepository.insertSelf(parentId);
+            if (chargeHierarchyRepository.isInSubtree(chargeId, parentId)) {
+                throw new InvalidChargeHierarchyException(
+                        "El cargo " + parentId + " está dentro del subárbol del cargo " + chargeId +
+                                "; moverlo allí formaría un ciclo"
+                );
+            }
+        }
+
+        int detached = chargeHierarchyRepository.detachSubtree(chargeId);
+        int attached = parentId != null ? chargeHierarchyRepository.attachSubtree(chargeId, parentId) : 0;
+        reloadAfterCommit();
+
+        log.info("✅ Cargo {} movido bajo {} ({} relaciones eliminadas, {} creadas)",
+                chargeId, parentId, detached, attached);
+        return getHierarchy(chargeId);
+    }
+
+    // ========== HELPERS ==========
+
+    private Snapshot snapshot() {
+        if (!loaded) {
+            reload();
+        }
+        return snapshot;
+    }
+
+    private ChargeNodeDTO toNode(ChargeHierarchyRepository.ChargeNodeProjection row) {
+        return ChargeNodeDTO.builder()
+                .chargeId(row.getChargeId())
+                .nameCharge(row.getNameCharge())
+                .depth(row.getDepth())
+                .build();
+    }
+}
@@ -12,12 +12,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ChargeService {
     private final ChargeRepository chargeRepository;
+    private final ReferencePayloadCache referencePayloadCache;
+    private final RoleChargeCache roleChargeCache;
+    private final ChargeHierarchyService chargeHierarchyService;
 
     /**
      * Registrar nuevo cargo
@@ -27,7 +29,7 @@ public class ChargeService {
         System.out.println("📝 Registrando nuevo cargo: " + registerDTO.getNameCharge());
 
         // Validar que el nombre no esté duplicado
-        if (chargeRepository.existsByNameCharge(registerDTO.getNameCharge())) {
+        if (roleChargeCache.chargeNameTaken(registerDTO.getNameCharge(), null)) {
             throw new DuplicateChargeNameException(registerDTO.getNameCharge());
         }
 
@@ -38,7 +40,11 @@ public class ChargeService {
         post.setCreatedBy(createdBy);
         post.setUpdatedBy(createdBy);
 
-        Charge savedPost = chargeRepository.save(post);
+        // El INSERT debe llegar a la base antes del SQL nativo del organigrama (el ID sale de la secuencia)
+        Charge savedPost = chargeRepository.saveAndFlush(post);
+        roleChargeCache.putChargeAfterCommit(savedPost);
+        chargeHierarchyService.registerCharge(savedPost.getChargeId());
+        referencePayloadCache.invalidateAfterCommit(ReferencePayloadCache.Group.CHARGES);
         System.out.println("✅ Cargo registrado con ID: " + savedPost.getChargeId());
 
         return savedPost;
@@ -77,13 +83,11 @@ public class ChargeService {
     }
 
     /**
-     * Listar todos los cargos activos
+     * Listar todos los cargos activos (desde la caché en memoria, con conteo de usuarios)
      */
     public List<ChargeResponseDTO> getAllActive() {
         System.out.println("📋 Listando cargos activos");
-        return chargeRepository.findByStatusTrue().stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return roleChargeCache.getActiveCharges();
     }
 
     /**
@@ -91,9 +95,7 @@ public class ChargeService {
      */
     public List<ChargeResponseDTO> getAll() {
         System.out.println("📋 Listando todos los cargos");
-        return chargeRepository.findAll().stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return roleChargeCache.getAllCharges();
     }
 
     /**
@@ -109,7 +111,7 @@ public class ChargeService {
         // Validar nombre duplicado (excluyendo el cargo actual)
         if (updateDTO.getNameCharge() != null &&
                 !updateDTO.getNameCharge().equals(charge.getNameCharge()) &&
-                chargeRepository.existsByNameChargeAndChargeIdNot(updateDTO.getNameCharge(), chargeId)) {
+                roleChargeCache.chargeNameTaken(updateDTO.getNameCharge(), chargeId)) {
             throw new DuplicateChargeNameException(updateDTO.getNameCharge());
         }
 
@@ -124,6 +126,8 @@ public class ChargeService {
         charge.setUpdatedBy(updatedBy);
 
         Charge updatedCharge = chargeRepository.save(charge);
+        roleChargeCache.putChargeAfterCommit(updatedCharge);
+        referencePayloadCache.invalidateAfterCommit(ReferencePayloadCache.Group.CHARGES);
         System.out.println("✅ Cargo actualizado exitosamente");
 
         return updatedCharge;
@@ -142,6 +146,8 @@ public class ChargeService {
         charge.setStatus(false);
         charge.setUpdatedBy(updatedBy);
         chargeRepository.save(charge);
+        roleChargeCache.putChargeAfterCommit(charge);
+        referencePayloadCache.invalidateAfterCommit(ReferencePayloadCache.Group.CHARGES);
 
         System.out.println("✅ Cargo deshabilitado exitosamente");
     }
@@ -159,6 +165,8 @@ public class ChargeService {
         charge.setStatus(true);
         charge.setUpdatedBy(updatedBy);
         chargeRepository.save(charge);
+        roleChargeCache.putChargeAfterCommit(charge);
+        referencePayloadCache.invalidateAfterCommit(ReferencePayloadCache.Group.CHARGES);
 
         System.out.println("✅ Cargo habilitado exitosamente");
     }
@@ -167,14 +175,14 @@ public class ChargeService {
      * Verificar si existe cargo por ID
      */
     public boolean existsById(Integer chargeId) {
-        return chargeRepository.existsById(chargeId);
+        return roleChargeCache.chargeExists(chargeId);
     }
 
     /**
      * Verificar si existe cargo por nombre
      */
     public boolean existsByName(String nameCharge) {
-        return chargeRepository.existsByNameCharge(nameCharge);
+        return roleChargeCache.chargeNameTaken(nameCharge, null);
     }
 
     /**
@@ -182,22 +190,6 @@ public class ChargeService {
      */
     public List<ChargeResponseDTO> searchByName(String namePost) {
         System.out.println("🔍 Buscando cargos que contengan: " + namePost);
-        return chargeRepository.findByNameChargeContainingIgnoreCase(namePost).stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Convertir entidad a DTO de respuesta
-     */
-    private ChargeResponseDTO convertToResponseDTO(Charge post) {
-        ChargeResponseDTO dto = new ChargeResponseDTO();
-        dto.setChargeId(post.getChargeId());
-        dto.setNameCharge(post.getNameCharge());
-        dto.setDescription(post.getDescription());
-        dto.setStatus(post.getStatus());
-        dto.setCreatedAt(post.getCreatedAt());
-        dto.setUpdatedAt(post.getUpdatedAt());
-        return dto;
+        return roleChargeCache.searchCharges(namePost);
     }
 }
@@ -23,17 +23,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CountryService {
     private final CountryRepository countryRepository;
+    private final GeoCatalog geoCatalog;
 
     /**
-     * Obtener todos los países
+     * Obtener todos los países (desde el catálogo en memoria)
      */
-    @Transactional(readOnly = true)
     public List<CountryResponseDTO> getAllCountries() {
-        log.info("Obteniendo todos los países");
-        return countryRepository.findAllByOrderByCountryNameAsc()
-                .stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+        return geoCatalog.getCountries();
     }
 
     /**
@@ -50,10 +46,8 @@ public class CountryService {
     /**
      * Obtener listado simple de países (para dropdowns)
      */
-    @Transactional(readOnly = true)
     public List<CountrySimpleDTO> getAllCountriesSimple() {
-        log.info("Obteniendo listado simple de países");
-        return countryRepository.findAllByOrderByCountryNameAsc()
+        return geoCatalog.getCountries()
                 .stream()
                 .map(this::mapToSimpleDTO)
                 .collect(Collectors.toList());
@@ -62,46 +56,32 @@ public class CountryService {
     /**
      * Obtener país por ID
      */
-    @Transactional(readOnly = true)
     public CountryResponseDTO getCountryById(Integer id) {
-        log.info("Buscando país con ID: {}", id);
-        Country country = countryRepository.findById(id)
+        return geoCatalog.findCountryById(id)
                 .orElseThrow(() -> new CountryNotFoundException("País no encontrado con ID: " + id));
-        return mapToResponseDTO(country);
     }
 
     /**
      * Obtener país por código numérico ISO
      */
-    @Transactional(readOnly = true)
     public CountryResponseDTO getCountryByCode(Integer countryCode) {
-        log.info("Buscando país con código: {}", countryCode);
-        Country country = countryRepository.findByCountryCode(countryCode)
+        return geoCatalog.findCountryByCode(countryCode)
                 .orElseThrow(() -> new CountryNotFoundException("País no encontrado con código: " + countryCode));
-        return mapToResponseDTO(country);
     }
 
     /**
      * Obtener país por código ISO-2
      */
-    @Transactional(readOnly = true)
     public CountryResponseDTO getCountryByIsoCode2(String isoCode2) {
-        log.info("Buscando país con código ISO-2: {}", isoCode2);
-        Country country = countryRepository.findByIsoCode2(isoCode2.toUpperCase())
+        return geoCatalog.findCountryByIsoCode2(isoCode2)
                 .orElseThrow(() -> new CountryNotFoundException("País no encontrado con código ISO-2: " + isoCode2));
-        return mapToResponseDTO(country);
     }
 
     /**
      * Buscar países por nombre
      */
-    @Transactional(readOnly = true)
     public List<CountryResponseDTO> searchCountriesByName(String name) {
-        log.info("Buscando países con nombre que contenga: {}", name);
-        return countryRepository.findByCountryNameContaining(name)
-                .stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+        return geoCatalog.searchCountries(name);
     }
 
     /**
@@ -146,6 +126,7 @@ public class CountryService {
                 .build();
 
         Country savedCountry = countryRepository.save(country);
+        geoCatalog.reloadAfterCommit();
         log.info("País creado exitosamente con ID: {}", savedCountry.getCountryId());
         return mapToResponseDTO(savedCountry);
     }
@@ -192,6 +173,7 @@ public class CountryService {
         }
 
         Country updatedCountry = countryRepository.save(country);
+        geoCatalog.reloadAfterCommit();
         log.info("País actualizado exitosamente con ID: {}", id);
         return mapToResponseDTO(updatedCountry);
     }
@@ -208,6 +190,7 @@ public class CountryService {
 
         try {
             countryRepository.delete(country);
+            geoCatalog.reloadAfterCommit();
             log.info("País eliminado exitosamente con ID: {}", id);
         } catch (Exception e) {
             log.error("Error al eliminar país con ID: {}", id, e);
@@ -232,9 +215,9 @@ public class CountryService {
     }
 
     /**
-     * Mapear entidad a DTO simple
+     * Mapear país del catálogo a DTO simple
      */
-    private CountrySimpleDTO mapToSimpleDTO(Country country) {
+    private CountrySimpleDTO mapToSimpleDTO(CountryResponseDTO country) {
         return CountrySimpleDTO.builder()
                 .countryId(country.getCountryId())
                 .countryCode(country.getCountryCode())
@@ -0,0 +1,195 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Dto.CurriculumDTO.CurriculumBatchRequestDTO;
+import com.hse.Curriculum.Dto.CurriculumDTO.UserCurriculumDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Dto.EducationDTO.EducationResponseDTO;
+import com.hse.Curriculum.Dto.TrainingDTO.TrainingResponseDTO;
+import com.hse.Curriculum.Exception.Curriculum.InvalidCurriculumBatchException;
+import com.hse.Curriculum.Mapper.CurriculumProjectionMapper;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Lectura por lotes de hojas de vida (supervisores que revisan a todo su personal)
+ *
+ * Cada relación se carga con una sola consulta WHERE user_id IN (...) sobre proyecciones
+ * de las columnas del DTO: usuarios con perfil, educación con país y capacitaciones.
+ * Los resultados se agrupan en memoria indexando por la posición del userId en un int[]
+ * ordenado, así que el lote cuesta tres consultas sin importar cuántos usuarios traiga.
+ *
+ * Con filtro por cargo/rol los usuarios se entregan en páginas de hasta 100 en orden de ID,
+ * con un cursor (último ID entregado) para pedir la siguiente.
+ *
+ * Un supervisor sin permiso sobre todo el personal se limita al subárbol de su cargo: el
+ * alcance se resuelve contra la foto en memoria del organigrama (ChargeHierarchyService),
+ * sin consultas adicionales.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CurriculumBatchService {
+
+    public static final int MAX_BATCH_USERS = 100;
+
+    private final UsersRepository usersRepository;
+    private final EducationRepository educationRepository;
+    private final TrainingRepository trainingRepository;
+    private final CurriculumProjectionMapper curriculumProjectionMapper;
+    private final ChargeHierarchyService chargeHierarchyService;
+
+    /**
+     * Obtener las hojas de vida de los usuarios solicitados
+     *
+     * @param request IDs de usuarios o filtro por cargo/rol (con cursor y tamaño de página)
+     * @param scopeChargeId Cargo raíz del alcance del solicitante (null = sin restricción)
+     * @return Hojas de vida en el orden de los IDs enviados (los que no existen o están fuera
+     *         del alcance se omiten), o la página del filtro en orden de ID con el cursor de la siguiente
+     * @throws InvalidCurriculumBatchException Si no hay IDs ni filtro, o se supera el máximo de IDs
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UserCurriculumDTO> getCurricula(CurriculumBatchRequestDTO request, Integer scopeChargeId) {
+        if (request.getUserIds() != null && !request.getUserIds().isEmpty()) {
+            List<UserCurriculumDTO> curricula = loadCurricula(requestedIds(request.getUserIds()), scopeChargeId);
+            return CursorPageDTO.<UserCurriculumDTO>builder()
+                    .items(curricula)
+                    .size(curricula.size())
+                    .build();
+        }
+        if (request.getChargeId() == null && request.getRoleId() == null) {
+            throw new InvalidCurriculumBatchException("Debe enviar los IDs de los usuarios o un filtro por cargo o rol");
+        }
+
+        int pageSize = request.getSize() == null ? MAX_BATCH_USERS : Math.min(Math.max(request.getSize(), 1), MAX_BATCH_USERS);
+        int afterId = 0;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            afterId = CursorCodec.decodeInts(request.getCursor(), 1)[0];
+        }
+
+        List<Integer> ids;
+        if (scopeChargeId == null || request.getChargeId() != null) {
+            if (scopeChargeId != null && !chargeHierarchyService.isInSubtree(scopeChargeId, request.getChargeId())) {
+                // Cargo fuera del subárbol del supervisor: no hay usuarios visibles
+                return CursorPageDTO.<UserCurriculumDTO>builder().items(List.of()).size(0).build();
+            }
+            ids = usersRepository.findIdPageForBatch(request.getChargeId(), request.getRoleId(),
+                    request.getStatus(), afterId, PageRequest.of(0, pageSize + 1));
+        } else {
+            List<Integer> scopeCharges = Arrays.stream(chargeHierarchyService.getSubtreeChargeIds(scopeChargeId))
+                    .boxed()
+                    .toList();
+            ids = usersRepository.findIdPageForBatchInCharges(scopeCharges, request.getRoleId(),
+                    request.getStatus(), afterId, PageRequest.of(0, pageSize + 1));
+        }
+        boolean hasMore = ids.size() > pageSize;
+        List<Integer> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+
+        List<UserCurriculumDTO> curricula = loadCurricula(pageIds, null);
+        return CursorPageDTO.<UserCurriculumDTO>builder()
+                .items(curricula)
+                .nextCursor(hasMore ? CursorCodec.encode(pageIds.get(pageIds.size() - 1)) : null)
+                .size(curricula.size())
+                .build();
+    }
+
+    /**
+     * Cargar las hojas de vida de los IDs con tres consultas, en el orden recibido
+     * (con alcance, los usuarios de cargos fuera del subárbol se omiten)
+     */
+    private List<UserCurriculumDTO> loadCurricula(List<Integer> requestedIds, Integer scopeChargeId) {
+        if (requestedIds.isEmpty()) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+
+        // Índice primitivo: posición del userId en el arreglo ordenado
+        int[] sortedIds = requestedIds.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        UserCurriculumDTO[] curricula = new UserCurriculumDTO[sortedIds.length];
+        List<Integer> visibleIds = new ArrayList<>(sortedIds.length);
+        for (UsersRepository.CurriculumUserProjection row : usersRepository.findCurriculumRowsByUserIds(requestedIds)) {
+            if (scopeChargeId != null && !chargeHierarchyService.isInSubtree(scopeChargeId, row.getChargeId())) {
+                continue;
+            }
+            curricula[indexOf(sortedIds, row.getUserId())] = toCurriculum(row);
+            visibleIds.add(row.getUserId());
+        }
+        if (visibleIds.isEmpty()) {
+            return List.of();
+        }
+
+        for (EducationRepository.EducationBatchProjection row : educationRepository.findListRowsByUserIds(visibleIds)) {
+            UserCurriculumDTO curriculum = curricula[indexOf(sortedIds, row.getUserId())];
+            curriculum.getEducations().add(curriculumProjectionMapper.toEducationResponseDTO(row, row.getUserId()));
+        }
+
+        for (TrainingRepository.TrainingListProjection row : trainingRepository.findListRowsByUserIds(visibleIds)) {
+            UserCurriculumDTO curriculum = curricula[indexOf(sortedIds, row.getUserId())];
+            curriculum.getTrainings().add(curriculumProjectionMapper.toTrainingResponseDTO(row));
+        }
+
+        List<UserCurriculumDTO> result = new ArrayList<>(requestedIds.size());
+        for (Integer userId : requestedIds) {
+            UserCurriculumDTO curriculum = curricula[indexOf(sortedIds, userId)];
+            if (curriculum != null) {
+                result.add(curriculum);
+            }
+        }
+
+        log.info("Hojas de vida por lote: {} solicitadas, {} encontradas en {} ms",
+                requestedIds.size(), result.size(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * IDs sin duplicados en el orden recibido
+     */
+    private List<Integer> requestedIds(List<Integer> requested) {
+        List<Integer> userIds = new ArrayList<>(new LinkedHashSet<>(requested));
+        userIds.removeIf(Objects::isNull);
+
+        if (userIds.size() > MAX_BATCH_USERS) {
+            throw new InvalidCurriculumBatchException(
+                    "El lote tiene " + userIds.size() + " usuarios; el máximo es " + MAX_BATCH_USERS +
+                            ". Envíe los IDs en varias solicitudes");
+        }
+        return userIds;
+    }
+
+    private static int indexOf(int[] sortedIds, int userId) {
+        return Arrays.binarySearch(sortedIds, userId);
+    }
+
+    private UserCurriculumDTO toCurriculum(UsersRepository.CurriculumUserProjection row) {
+        return UserCurriculumDTO.builder()
+                .userId(row.getUserId())
+                .fullName(row.getFirstName() + " " + row.getLastName())
+                .email(row.getEmail())
+                .status(row.getStatus())
+                .roleName(row.getRoleName())
+                .chargeId(row.getChargeId())
+                .chargeName(row.getChargeName())
+                .documentType(row.getDocumentType())
+                .documentNumber(row.getDocumentNumber())
+                .phoneNumber(row.getPhoneNumber())
+                .birthDate(row.getBirthDate())
+                .residentialAddress(row.getResidentialAddress())
+                .professionalSummary(row.getProfessionalSummary())
+                .careerAchievements(row.getCareerAchievements())
+                .profileComplete(row.getProfileComplete())
+                .completenessScore(row.getCompletenessScore())
+                .educations(new ArrayList<EducationResponseDTO>())
+                .trainings(new ArrayList<TrainingResponseDTO>())
+                .build();
+    }
+}
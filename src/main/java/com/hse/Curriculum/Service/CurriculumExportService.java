@@ -0,0 +1,448 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Dto.ExportDTO.CurriculumExportRequestDTO;
+import com.hse.Curriculum.Dto.ExportDTO.CurriculumExportStatusDTO;
+import com.hse.Curriculum.Exception.Export.ExportJobNotFoundException;
+import com.hse.Curriculum.Exception.Export.ExportNotReadyException;
+import com.hse.Curriculum.Models.Education;
+import com.hse.Curriculum.Models.Profiles;
+import com.hse.Curriculum.Models.Training;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Servicio para la exportación masiva de hojas de vida en un archivo ZIP
+ *
+ * Cada trabajo resuelve los usuarios que cumplen el filtro, genera la hoja de vida
+ * de cada uno en paralelo sobre un ForkJoinPool y escribe cada entrada en el ZIP
+ * apenas termina. Solo se mantienen en memoria las hojas de vida "en vuelo"
+ * (máximo app.export.max-in-flight), el ZIP se escribe directo a disco.
+ */
+@Slf4j
+@Service
+public class CurriculumExportService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final UsersRepository usersRepository;
+    private final EducationRepository educationRepository;
+    private final TrainingRepository trainingRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final Path exportDirectory;
+    private final int maxInFlight;
+    private final long retentionHours;
+
+    private final ForkJoinPool renderPool;
+    private final ExecutorService jobExecutor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public CurriculumExportService(UsersRepository usersRepository,
+                                   EducationRepository educationRepository,
+                                   TrainingRepository trainingRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.export.directory:${java.io.tmpdir}/curriculum-exports}") String exportDirectory,
+                                   @Value("${app.export.parallelism:4}") int parallelism,
+                                   @Value("${app.export.max-in-flight:16}") int maxInFlight,
+                                   @Value("${app.export.retention-hours:24}") long retentionHours) {
+        this.usersRepository = usersRepository;
+        this.educationRepository = educationRepository;
+        this.trainingRepository = trainingRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.exportDirectory = Paths.get(exportDirectory);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.retentionHours = retentionHours;
+        this.renderPool = new ForkJoinPool(Math.max(1, parallelism));
+        this.jobExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "curriculum-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Inicia un trabajo de exportación con los filtros indicados
+     *
+     * @param filter Filtros de usuarios (cargo, rol, estado, perfil completo)
+     * @param requestedBy ID del administrador que solicita la exportación
+     * @return Estado inicial del trabajo
+     */
+    public CurriculumExportStatusDTO startExport(CurriculumExportRequestDTO filter, Integer requestedBy) {
+        purgeExpiredJobs();
+
+        List<Integer> userIds = usersRepository.findIdsForExport(
+                filter.getChargeId(),
+                filter.getRoleId(),
+                filter.getStatus(),
+                filter.getProfileComplete()
+        );
+
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), userIds, requestedBy);
+        jobs.put(job.jobId, job);
+        log.info("Exportación {} creada por usuario ID: {} con {} hojas de vida", job.jobId, requestedBy, userIds.size());
+
+        jobExecutor.submit(() -> runJob(job));
+        return toStatusDTO(job);
+    }
+
+    /**
+     * Obtiene el progreso de un trabajo de exportación
+     *
+     * @param jobId ID del trabajo
+     * @param requestedBy ID del administrador que consulta
+     * @return Estado actual del trabajo
+     * @throws ExportJobNotFoundException Si el trabajo no existe o pertenece a otro usuario
+     */
+    public CurriculumExportStatusDTO getStatus(String jobId, Integer requestedBy) {
+        return toStatusDTO(getJob(jobId, requestedBy));
+    }
+
+    /**
+     * Obtiene el archivo ZIP de una exportación terminada
+     *
+     * @param jobId ID del trabajo
+     * @param requestedBy ID del administrador que descarga
+     * @return Ruta del ZIP en disco
+     * @throws ExportJobNotFoundException Si el trabajo no existe o pertenece a otro usuario
+     * @throws ExportNotReadyException Si el trabajo aún no termina o falló
+     */
+    public Path getExportFile(String jobId, Integer requestedBy) {
+        ExportJob job = getJob(jobId, requestedBy);
+        if (job.state != ExportState.COMPLETED || job.file == null || !Files.exists(job.file)) {
+            throw new ExportNotReadyException("La exportación " + jobId + " aún no está disponible (estado: " + job.state + ")");
+        }
+        return job.file;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        renderPool.shutdownNow();
+    }
+
+    // ════════════════════════════════════════════════════════════
+    //  EJECUCIÓN DEL TRABAJO
+    // ════════════════════════════════════════════════════════════
+
+    private void runJob(ExportJob job) {
+        job.state = ExportState.RUNNING;
+        Path partial = exportDirectory.resolve(job.jobId + ".zip.part");
+        Path target = exportDirectory.resolve(job.jobId + ".zip");
+        List<String> errors = new ArrayList<>();
+
+        try {
+            Files.createDirectories(exportDirectory);
+            CompletionService<RenderedCurriculum> completion = new ExecutorCompletionService<>(renderPool);
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial));
+                 ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+
+                int submitted = 0;
+                int pending = 0;
+                List<Integer> userIds = job.userIds;
+
+                // Mantener como máximo maxInFlight renders pendientes
+                while (submitted < userIds.size() || pending > 0) {
+                    while (submitted < userIds.size() && pending < maxInFlight) {
+                        Integer userId = userIds.get(submitted++);
+                        completion.submit(() -> renderCurriculum(userId));
+                        pending++;
+                    }
+
+                    RenderedCurriculum rendered;
+                    try {
+                        rendered = completion.take().get();
+                    } catch (ExecutionException e) {
+                        pending--;
+                        job.failed.incrementAndGet();
+                        errors.add(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                        continue;
+                    }
+                    pending--;
+
+                    zip.putNextEntry(new ZipEntry(rendered.fileName()));
+                    zip.write(rendered.content());
+                    zip.closeEntry();
+                    job.completed.incrementAndGet();
+                }
+
+                if (!errors.isEmpty()) {
+                    zip.putNextEntry(new ZipEntry("errores.txt"));
+                    zip.write(String.join(System.lineSeparator(), errors).getBytes(StandardCharsets.UTF_8));
+                    zip.closeEntry();
+                }
+            }
+
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.file = target;
+            job.state = ExportState.COMPLETED;
+            log.info("Exportación {} finalizada: {} hojas de vida, {} errores",
+                    job.jobId, job.completed.get(), job.failed.get());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failJob(job, partial, "Exportación interrumpida");
+        } catch (Exception e) {
+            log.error("Error en la exportación {}: {}", job.jobId, e.getMessage());
+            failJob(job, partial, e.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private void failJob(ExportJob job, Path partial, String message) {
+        job.state = ExportState.FAILED;
+        job.errorMessage = message;
+        try {
+            Files.deleteIfExists(partial);
+        } catch (IOException ignored) {
+            // El archivo parcial se limpia en la siguiente purga
+        }
+    }
+
+    /**
+     * Genera la hoja de vida HTML de un usuario dentro de una transacción de solo lectura
+     */
+    private RenderedCurriculum renderCurriculum(Integer userId) {
+        return readOnlyTx.execute(status -> {
+            Users user = usersRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("Usuario con ID " + userId + " no encontrado"));
+            List<Education> educations = educationRepository.findByUserIdWithCountry(userId);
+            List<Training> trainings = trainingRepository.findByUserIdOrderByCompletionDateDesc(userId);
+
+            String html = buildHtml(user, educations, trainings);
+            String fileName = String.format("hv_%d_%s.html", userId,
+                    slug(user.getFirstName() + " " + user.getLastName()));
+            return new RenderedCurriculum(fileName, html.getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
+    private String buildHtml(Users user, List<Education> educations, List<Training> trainings) {
+        StringBuilder html = new StringBuilder(4096);
+        String fullName = user.getFirstName() + " " + user.getLastName();
+
+        html.append("<!DOCTYPE html><html lang=\"es\"><head><meta charset=\"UTF-8\"><title>")
+                .append(escape(fullName)).append("</title></head><body>");
+        html.append("<h1>").append(escape(fullName)).append("</h1>");
+        html.append("<p>").append(escape(user.getEmail()));
+        if (user.getCharge() != null) {
+            html.append(" &middot; ").append(escape(user.getCharge().getNameCharge()));
+        }
+        html.append("</p>");
+
+        // ========== PERFIL ==========
+        Profiles profile = user.getProfile();
+        if (profile != null) {
+            html.append("<h2>Datos personales</h2><ul>");
+            appendItem(html, "Documento", join(profile.getDocumentType(), profile.getDocumentNumber()));
+            appendItem(html, "Teléfono", profile.getPhoneNumber());
+            appendItem(html, "Fecha de nacimiento",
+                    profile.getBirthDate() != null ? profile.getBirthDate().format(DATE_FORMAT) : null);
+            appendItem(html, "Dirección", profile.getResidentialAddress());
+            html.append("</ul>");
+
+            if (profile.getProfessionalSummary() != null) {
+                html.append("<h2>Perfil profesional</h2><p>")
+                        .append(escape(profile.getProfessionalSummary())).append("</p>");
+            }
+            if (profile.getCareerAchievements() != null) {
+                html.append("<h2>Logros</h2><p>")
+                        .append(escape(profile.getCareerAchievements())).append("</p>");
+            }
+        }
+
+        // ========== EDUCACIÓN ==========
+        if (!educations.isEmpty()) {
+            html.append("<h2>Educación</h2><ul>");
+            for (Education education : educations) {
+                html.append("<li>")
+                        .append(escape(join(education.getDegreeTitle(), education.getInstitutionName())));
+                if (education.getCountry() != null) {
+                    html.append(" (").append(escape(education.getCountry().getCountryName())).append(")");
+                }
+                if (education.getLastLevelDate() != null) {
+                    html.append(" - ").append(education.getLastLevelDate().format(DATE_FORMAT));
+                }
+                html.append("</li>");
+            }
+            html.append("</ul>");
+        }
+
+        // ========== CAPACITACIONES ==========
+        if (!trainings.isEmpty()) {
+            html.append("<h2>Capacitaciones</h2><ul>");
+            for (Training training : trainings) {
+                html.append("<li>")
+                        .append(escape(training.getCourseName()))
+                        .append(" - ").append(escape(training.getInstitution()));
+                if (training.getDurationValue() != null && training.getDurationUnit() != null) {
+                    html.append(" (").append(training.getDurationValue()).append(' ')
+                            .append(escape(training.getDurationUnit())).append(")");
+                }
+                if (training.getCompletionDate() != null) {
+                    html.append(" - ").append(training.getCompletionDate().format(DATE_FORMAT));
+                }
+                html.append("</li>");
+            }
+            html.append("</ul>");
+        }
+
+        html.append("</body></html>");
+        return html.toString();
+    }
+
+    private void appendItem(StringBuilder html, String label, String value) {
+        if (value != null && !value.isBlank()) {
+            html.append("<li><strong>").append(label).append(":</strong> ").append(escape(value)).append("</li>");
+        }
+    }
+
+    private String join(String first, String second) {
+        if (first == null || first.isBlank()) return second != null ? second : "";
+        if (second == null || second.isBlank()) return first;
+        return first + " - " + second;
+    }
+
+    private String escape(String value) {
+        return value == null ? "" : HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name());
+    }
+
+    private String slug(String value) {
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[^A-Za-z0-9]+", "_")
+                .replaceAll("^_|_$", "");
+        return normalized.isEmpty() ? "usuario" : normalized.toLowerCase();
+    }
+
+    // ════════════════════════════════════════════════════════════
+    //  REGISTRO DE TRABAJOS
+    // ════════════════════════════════════════════════════════════
+
+    /**
+     * Solo quien creó el trabajo puede consultarlo o descargarlo; para cualquier otro
+     * usuario se responde como si no existiera, para no revelar IDs ajenos
+     */
+    private ExportJob getJob(String jobId, Integer requestedBy) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.requestedBy.equals(requestedBy)) {
+            throw new ExportJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Elimina los trabajos terminados (y sus archivos) que superaron el tiempo de retención
+     */
+    private void purgeExpiredJobs() {
+        LocalDateTime limit = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> {
+            if (job.finishedAt == null || job.finishedAt.isAfter(limit)) {
+                return false;
+            }
+            try {
+                if (job.file != null) {
+                    Files.deleteIfExists(job.file);
+                }
+            } catch (IOException e) {
+                log.warn("No se pudo eliminar la exportación {}: {}", job.jobId, e.getMessage());
+            }
+            return true;
+        });
+    }
+
+    private CurriculumExportStatusDTO toStatusDTO(ExportJob job) {
+        int total = job.userIds.size();
+        int done = job.completed.get() + job.failed.get();
+        Long size = null;
+        String downloadUrl = null;
+
+        if (job.state == ExportState.COMPLETED && job.file != null) {
+            try {
+                size = Files.size(job.file);
+            } catch (IOException ignored) {
+                // El tamaño es informativo
+            }
+            downloadUrl = "/admin/curriculum-exports/" + job.jobId + "/download";
+        }
+
+        return CurriculumExportStatusDTO.builder()
+                .jobId(job.jobId)
+                .state(job.state.name())
+                .total(total)
+                .completed(job.completed.get())
+                .failed(job.failed.get())
+                .progress(total == 0 ? 100 : (int) (done * 100L / total))
+                .sizeBytes(size)
+                .downloadUrl(downloadUrl)
+                .errorMessage(job.errorMessage)
+                .createdAt(job.createdAt)
+                .finishedAt(job.finishedAt)
+                .build();
+    }
+
+    private enum ExportState {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private record RenderedCurriculum(String fileName, byte[] content) {
+    }
+
+    private static class ExportJob {
+        private final String jobId;
+        private final List<Integer> userIds;
+        private final Integer requestedBy;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile ExportState state = ExportState.PENDING;
+        private volatile Path file;
+        private volatile String errorMessage;
+        private volatile LocalDateTime finishedAt;
+
+        private ExportJob(String jobId, List<Integer> userIds, Integer requestedBy) {
+            this.jobId = jobId;
+            this.userIds = userIds;
+            this.requestedBy = requestedBy;
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.AsyncConfig;
+import com.hse.Curriculum.Converter.Search.SpanishSearchAnalyzer;
+import com.hse.Curriculum.Dto.CurriculumDTO.CurriculumReindexDTO;
+import com.hse.Curriculum.Dto.CurriculumDTO.CurriculumSearchHitDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Exception.Curriculum.InvalidSearchQueryException;
+import com.hse.Curriculum.Exception.Curriculum.SearchIndexUnavailableException;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Repository.WorkExperienceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Buscador de texto completo sobre las hojas de vida
+ *
+ * Mantiene un índice Lucene en disco local con un documento por usuario: nombre, correo,
+ * cargo, resumen profesional, logros, capacitaciones (curso, tipo e institución), estudios
+ * (título, institución y nivel), experiencia laboral (cargo, empresa y funciones) y
+ * ubicación (municipios y departamentos de trabajo, dirección de residencia), todo
+ * analizado en español. Una búsqueda recorre las listas invertidas de sus términos, así que
+ * su costo depende de cuántas hojas de vida coinciden y no del total indexado.
+ *
+ * El índice se actualiza usuario por usuario cuando se confirma un cambio de su hoja de vida
+ * y un lector casi en tiempo real se reabre cada app.search.refresh-ms. La reindexación
+ * completa reparte los usuarios en bloques entre un ForkJoinPool propio; los documentos que
+ * ya no existen en la base de datos se descartan por generación al terminar.
+ */
+@Slf4j
+@Service
+public class CurriculumSearchService {
+
+    private static final String ID = "userId";
+    private static final String SORT_ID = "userIdSort";
+    private static final String GENERATION = "generation";
+    private static final String ACTIVE = "active";
+    private static final String NAME = "name";
+    private static final String EMAIL = "email";
+    private static final String CHARGE = "charge";
+    private static final String SUMMARY = "summary";
+    private static final String ACHIEVEMENTS = "achievements";
+    private static final String TRAININGS = "trainings";
+    private static final String EDUCATIONS = "educations";
+    private static final String EXPERIENCE = "experience";
+    private static final String LOCATION = "location";
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 300;
+    private static final int MAX_PASSAGES = 2;
+
+    /**
+     * Peso de cada campo en la relevancia
+     */
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            NAME, 3.0f,
+            EMAIL, 2.0f,
+            CHARGE, 2.0f,
+            TRAININGS, 2.0f,
+            EDUCATIONS, 2.0f,
+            EXPERIENCE, 1.5f,
+            LOCATION, 1.5f,
+            SUMMARY, 1.0f,
+            ACHIEVEMENTS, 1.0f
+    );
+
+    private static final String[] HIGHLIGHT_FIELDS =
+            {NAME, CHARGE, SUMMARY, ACHIEVEMENTS, TRAININGS, EDUCATIONS, EXPERIENCE, LOCATION};
+
+    private static final Set<String> RESULT_FIELDS = Set.of(ID, ACTIVE, NAME, EMAIL, CHARGE);
+
+    /**
+     * Orden de resultados: relevancia y, a igual relevancia, ID de usuario (estable entre páginas)
+     */
+    private static final Sort RELEVANCE =
+            new Sort(SortField.FIELD_SCORE, new SortField(SORT_ID, SortField.Type.INT));
+
+    private final UsersRepository usersRepository;
+    private final EducationRepository educationRepository;
+    private final TrainingRepository trainingRepository;
+    private final WorkExperienceRepository workExperienceRepository;
+    private final Path indexPath;
+    private final ForkJoinPool indexingPool;
+    private final int chunkSize;
+    private final Analyzer analyzer = new SpanishSearchAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean open = false;
+
+    /**
+     * Generación con la que se marcan los documentos escritos (milisegundos del inicio de la
+     * última reindexación, creciente entre reinicios)
+     */
+    private long generation = System.currentTimeMillis();
+
+    /**
+     * Usuarios actualizados mientras corre una reindexación (null si no hay ninguna)
+     */
+    private Set<Integer> touchedDuringReindex;
+
+    /**
+     * Protege generation y touchedDuringReindex: una escritura incremental lee la generación,
+     * se registra en la reindexación en curso y escribe sin que la reindexación cambie en medio
+     */
+    private final Object generationLock = new Object();
+    private final Object reindexLock = new Object();
+
+    public CurriculumSearchService(UsersRepository usersRepository,
+                                   EducationRepository educationRepository,
+                                   TrainingRepository trainingRepository,
+                                   WorkExperienceRepository workExperienceRepository,
+                                   @Value("${app.search.index-directory:${java.io.tmpdir}/curriculum-index}") String indexDirectory,
+                                   @Value("${app.search.parallelism:4}") int parallelism,
+                                   @Value("${app.search.reindex-chunk-size:500}") int chunkSize) {
+        this.usersRepository = usersRepository;
+        this.educationRepository = educationRepository;
+        this.trainingRepository = trainingRepository;
+        this.workExperienceRepository = workExperienceRepository;
+        this.indexPath = Path.of(indexDirectory);
+        this.indexingPool = new ForkJoinPool(Math.max(1, parallelism));
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // ========== CICLO DE VIDA DEL ÍNDICE ==========
+
+    @PostConstruct
+    public void openIndex() {
+        try {
+            directory = FSDirectory.open(indexPath);
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            writer = new IndexWriter(directory, config);
+            searcherManager = new SearcherManager(writer, null);
+            open = true;
+            log.info("✅ Índice de hojas de vida abierto en {} ({} documentos)",
+                    indexPath, writer.getDocStats().numDocs);
+        } catch (IOException e) {
+            log.warn("⚠️ No fue posible abrir el índice de búsqueda en {}: {}", indexPath, e.getMessage());
+            return;
+        }
+
+        if (writer.getDocStats().numDocs == 0) {
+            // Índice nuevo: se llena en segundo plano para no demorar el arranque
+            indexingPool.execute(() -> {
+                try {
+                    reindex();
+                } catch (Exception e) {
+                    log.warn("⚠️ No fue posible construir el índice de búsqueda al iniciar: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void closeIndex() {
+        indexingPool.shutdownNow();
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.error("❌ Error cerrando el índice de búsqueda: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reabrir el lector para que las búsquedas vean los últimos cambios (casi en tiempo real)
+     */
+    @Scheduled(fixedDelayString = "${app.search.refresh-ms:1000}")
+    public void refreshSearcher() {
+        if (!open) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("❌ Error refrescando el lector del índice de búsqueda: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Confirmar en disco los cambios pendientes del índice
+     */
+    @Scheduled(fixedDelayString = "${app.search.commit-ms:60000}")
+    public void commitIndex() {
+        if (!open || !writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.error("❌ Error confirmando el índice de búsqueda: {}", e.getMessage());
+        }
+    }
+
+    // ========== ACTUALIZACIÓN INCREMENTAL ==========
+
+    /**
+     * Reindexar el usuario afectado cuando se confirma un cambio de su hoja de vida
+     */
+    @Async(AsyncConfig.INDEX_REFRESH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumChanged(CurriculumChangedEvent event) {
+        if (!open) {
+            return;
+        }
+        try {
+            indexUsers(List.of(event.getUserId()));
+        } catch (Exception e) {
+            log.error("❌ Error indexando la hoja de vida del usuario {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Después de una operación masiva los usuarios afectados se reindexan por bloques
+     */
+    @Async(AsyncConfig.INDEX_REFRESH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumBulkChanged(CurriculumBulkChangedEvent event) {
+        if (!open || event.getUserIds().isEmpty()) {
+            return;
+        }
+        List<Integer> userIds = new ArrayList<>(event.getUserIds());
+        try {
+            for (List<Integer> chunk : partition(userIds)) {
+                indexUsers(chunk);
+            }
+        } catch (Exception e) {
+            log.error("❌ Error indexando {} hojas de vida: {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    // ========== REINDEXACIÓN COMPLETA ==========
+
+    /**
+     * Reconstruir el índice desde la base de datos en bloques paralelos
+     *
+     * Las búsquedas siguen respondiendo con el índice anterior mientras tanto.
+     */
+    public CurriculumReindexDTO reindex() {
+        ensureOpen();
+        synchronized (reindexLock) {
+            long start = System.nanoTime();
+            long currentGeneration;
+            synchronized (generationLock) {
+                currentGeneration = Math.max(System.currentTimeMillis(), generation + 1);
+                generation = currentGeneration;
+                touchedDuringReindex = new HashSet<>();
+            }
+
+            try {
+                List<List<Integer>> chunks = partition(usersRepository.findIdsForExport(null, null, null, null));
+                AtomicInteger indexed = new AtomicInteger();
+                indexingPool.submit(() -> chunks.parallelStream()
+                        .forEach(chunk -> indexed.addAndGet(indexChunk(chunk, currentGeneration)))).join();
+
+                // Un bloque pudo leer un usuario antes de que otra transacción lo cambiara; se
+                // repite hasta que ninguna escritura incremental coincida con la última vuelta
+                while (true) {
+                    Set<Integer> touched;
+                    synchronized (generationLock) {
+                        touched = touchedDuringReindex;
+                        touchedDuringReindex = touched.isEmpty() ? null : new HashSet<>();
+                    }
+                    if (touched.isEmpty()) {
+                        break;
+                    }
+                    for (List<Integer> chunk : partition(new ArrayList<>(touched))) {
+                        indexChunk(chunk, currentGeneration);
+                    }
+                }
+
+                writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, currentGeneration - 1));
+                writer.commit();
+                searcherManager.maybeRefresh();
+
+                long millis = (System.nanoTime() - start) / 1_000_000;
+                log.info("✅ Índice de hojas de vida reconstruido: {} usuarios en {} ms", indexed.get(), millis);
+
+                return CurriculumReindexDTO.builder()
+                        .indexed(indexed.get())
+                        .elapsedMillis(millis)
+                        .build();
+            } catch (IOException | UncheckedIOException e) {
+                throw new SearchIndexUnavailableException("Error reconstruyendo el índice de búsqueda: " + e.getMessage());
+            } finally {
+                synchronized (generationLock) {
+                    touchedDuringReindex = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Actualización incremental: si hay una reindexación en curso, los usuarios se vuelven
+     * a escribir cuando termine
+     *
+     * Los documentos se construyen fuera del candado; la generación se asigna al escribir,
+     * así un documento nunca queda marcado con una generación que la reindexación va a borrar.
+     */
+    private void indexUsers(List<Integer> userIds) {
+        Map<Integer, Document> documents = buildDocuments(userIds);
+        synchronized (generationLock) {
+            if (touchedDuringReindex != null) {
+                touchedDuringReindex.addAll(userIds);
+            }
+            writeUsers(userIds, documents, generation);
+        }
+    }
+
+    private int indexChunk(List<Integer> userIds, long generation) {
+        return writeUsers(userIds, buildDocuments(userIds), generation);
+    }
+
+    /**
+     * Escribir (o eliminar si ya no existen) los documentos de un grupo de usuarios
+     *
+     * @return Documentos escritos
+     */
+    private int writeUsers(List<Integer> userIds, Map<Integer, Document> documents, long generation) {
+        try {
+            for (Integer userId : userIds) {
+                Term id = new Term(ID, String.valueOf(userId));
+                Document document = documents.get(userId);
+                if (document != null) {
+                    document.add(new LongPoint(GENERATION, generation));
+                    writer.updateDocument(id, document);
+                } else {
+                    writer.deleteDocuments(id);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return documents.size();
+    }
+
+    private Map<Integer, Document> buildDocuments(List<Integer> userIds) {
+        Map<Integer, List<EducationRepository.EducationBatchProjection>> educations =
+                educationRepository.findListRowsByUserIds(userIds).stream()
+                        .collect(Collectors.groupingBy(EducationRepository.EducationBatchProjection::getUserId));
+        Map<Integer, List<TrainingRepository.TrainingListProjection>> trainings =
+                trainingRepository.findListRowsByUserIds(userIds).stream()
+                        .collect(Collectors.groupingBy(TrainingRepository.TrainingListProjection::getUserId));
+        Map<Integer, List<WorkExperienceRepository.SearchExperienceProjection>> jobs =
+                workExperienceRepository.findSearchRowsByUserIds(userIds).stream()
+                        .collect(Collectors.groupingBy(WorkExperienceRepository.SearchExperienceProjection::getUserId));
+
+        Map<Integer, Document> documents = new HashMap<>();
+        for (UsersRepository.CurriculumUserProjection user : usersRepository.findCurriculumRowsByUserIds(userIds)) {
+            Integer userId = user.getUserId();
+            documents.put(userId, toDocument(user,
+                    educations.getOrDefault(userId, List.of()),
+                    trainings.getOrDefault(userId, List.of()),
+                    jobs.getOrDefault(userId, List.of())));
+        }
+        return documents;
+    }
+
+    private static Document toDocument(UsersRepository.CurriculumUserProjection user,
+                                       List<EducationRepository.EducationBatchProjection> educations,
+                                       List<TrainingRepository.TrainingListProjection> trainings,
+                                       List<WorkExperienceRepository.SearchExperienceProjection> jobs) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(user.getUserId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(SORT_ID, user.getUserId()));
+        document.add(new StringField(ACTIVE, String.valueOf(Boolean.TRUE.equals(user.getStatus())), Field.Store.YES));
+
+        addText(document, NAME, join(" ", user.getFirstName(), user.getLastName()));
+        addText(document, EMAIL, user.getEmail());
+        addText(document, CHARGE, user.getChargeName());
+        addText(document, SUMMARY, user.getProfessionalSummary());
+        addText(document, ACHIEVEMENTS, user.getCareerAchievements());
+        addText(document, LOCATION, user.getResidentialAddress());
+
+        for (TrainingRepository.TrainingListProjection training : trainings) {
+            addText(document, TRAININGS, join(" - ",
+                    training.getCourseName(), training.getTrainingType(), training.getInstitution()));
+        }
+        for (EducationRepository.EducationBatchProjection education : educations) {
+            addText(document, EDUCATIONS, join(" - ",
+                    education.getDegreeTitle(), education.getInstitutionName(), education.getAcademicLevel()));
+        }
+        for (WorkExperienceRepository.SearchExperienceProjection job : jobs) {
+            addText(document, EXPERIENCE, join(" - ", job.getJobTitle(), job.getCompanyName(), job.getFunctions()));
+            addText(document, LOCATION, join(", ", job.getMunicipalityName(), job.getDepartmentName()));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.YES));
+        }
+    }
+
+    private static String join(String separator, String... parts) {
+        return Arrays.stream(parts)
+                .filter(part -> part != null && !part.isBlank())
+                .map(String::trim)
+                .collect(Collectors.joining(separator));
+    }
+
+    private List<List<Integer>> partition(List<Integer> ids) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    // ========== BÚSQUEDA ==========
+
+    /**
+     * Buscar hojas de vida por texto libre
+     *
+     * Todas las palabras deben aparecer en algún campo; admite "frases entre comillas",
+     * exclusiones con - y prefijos con *. Los resultados se ordenan por relevancia y se
+     * paginan por cursor.
+     *
+     * @param text Texto a buscar (ej: "trabajo en alturas" enfermería Cali)
+     * @param includeInactive Incluir usuarios inactivos
+     * @param cursor Cursor de la página anterior (null para la primera)
+     * @param size Tamaño de página (máximo 50)
+     */
+    public CursorPageDTO<CurriculumSearchHitDTO> search(String text, boolean includeInactive, String cursor, int size) {
+        ensureOpen();
+        String trimmed = text == null ? "" : text.trim();
+        if (trimmed.isEmpty()) {
+            throw new InvalidSearchQueryException("El texto de búsqueda es obligatorio");
+        }
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException(
+                    "El texto de búsqueda no puede superar " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query parsed = parser.parse(trimmed);
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(parsed, BooleanClause.Occur.MUST);
+        if (!includeInactive) {
+            builder.add(new TermQuery(new Term(ACTIVE, "true")), BooleanClause.Occur.FILTER);
+        }
+        Query query = builder.build();
+        int[] afterKey = cursor != null ? CursorCodec.decodeInts(cursor, 3) : null;
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            FieldDoc after = afterKey != null ? toFieldDoc(afterKey, searcher.getIndexReader().maxDoc()) : null;
+            TopFieldDocs top = after == null
+                    ? searcher.search(query, pageSize + 1, RELEVANCE, true)
+                    : searcher.searchAfter(after, query, pageSize + 1, RELEVANCE, true);
+
+            boolean hasMore = top.scoreDocs.length > pageSize;
+            ScoreDoc[] hits = Arrays.copyOf(top.scoreDocs, Math.min(top.scoreDocs.length, pageSize));
+
+            Map<String, String[]> highlights = hits.length == 0 ? Map.of() : highlight(searcher, query, top, hits);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<CurriculumSearchHitDTO> items = new ArrayList<>(hits.length);
+            for (int i = 0; i < hits.length; i++) {
+                Document document = storedFields.document(hits[i].doc, RESULT_FIELDS);
+                Map<String, String> fragments = new LinkedHashMap<>();
+                for (String field : HIGHLIGHT_FIELDS) {
+                    String[] values = highlights.get(field);
+                    if (values != null && values[i] != null) {
+                        fragments.put(field, values[i]);
+                    }
+                }
+                items.add(CurriculumSearchHitDTO.builder()
+                        .userId(Integer.valueOf(document.get(ID)))
+                        .fullName(document.get(NAME))
+                        .email(document.get(EMAIL))
+                        .chargeName(document.get(CHARGE))
+                        .active(Boolean.valueOf(document.get(ACTIVE)))
+                        .score(hits[i].score)
+                        .highlights(fragments)
+                        .build());
+            }
+
+            String nextCursor = null;
+            if (hasMore) {
+                FieldDoc last = (FieldDoc) hits[hits.length - 1];
+                nextCursor = CursorCodec.encode(Float.floatToIntBits(last.score), last.fields[1], last.doc);
+            }
+
+            return CursorPageDTO.<CurriculumSearchHitDTO>builder()
+                    .items(items)
+                    .nextCursor(nextCursor)
+                    .size(items.size())
+                    .build();
+        } catch (IOException e) {
+            throw new SearchIndexUnavailableException("Error consultando el índice de búsqueda: " + e.getMessage());
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("⚠️ Error liberando el lector del índice de búsqueda: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Map<String, String[]> highlight(IndexSearcher searcher, Query query, TopFieldDocs top, ScoreDoc[] hits)
+            throws IOException {
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                .withMaxNoHighlightPassages(0)
+                .build();
+        int[] maxPassages = new int[HIGHLIGHT_FIELDS.length];
+        Arrays.fill(maxPassages, MAX_PASSAGES);
+        return highlighter.highlightFields(HIGHLIGHT_FIELDS, query, new TopDocs(top.totalHits, hits), maxPassages);
+    }
+
+    /**
+     * Cursor "puntaje:usuario:documento" -> posición desde la que continúa la búsqueda
+     * (el documento se acota por si el lector se reabrió con menos documentos)
+     */
+    private static FieldDoc toFieldDoc(int[] key, int maxDoc) {
+        float score = Float.intBitsToFloat(key[0]);
+        int doc = Math.max(0, Math.min(key[2], maxDoc - 1));
+        return new FieldDoc(doc, score, new Object[]{score, key[1]});
+    }
+
+    private void ensureOpen() {
+        if (!open) {
+            throw new SearchIndexUnavailableException("El índice de búsqueda no está disponible");
+        }
+    }
+}
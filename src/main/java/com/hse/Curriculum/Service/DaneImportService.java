@@ -0,0 +1,426 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Dto.CountryDTO.CountryResponseDTO;
+import com.hse.Curriculum.Dto.ImportDTO.DaneImportResultDTO;
+import com.hse.Curriculum.Exception.Import.InvalidImportFileException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Importación del catálogo geográfico DANE (DIVIPOLA) desde CSV
+ *
+ * Flujo (una sola conexión y una sola transacción, igual que TrainingImportService):
+ * 1. COPY ... FROM STDIN del archivo a una tabla temporal de staging
+ * 2. Validación por conjuntos de códigos y nombres
+ * 3. Los departamentos y municipios creados sin código DANE (por la API) que coinciden por nombre
+ *    con el archivo (dentro del mismo país o departamento) reciben el código, para no duplicarlos
+ * 4. INSERT ... ON CONFLICT (dane_code) de departamentos y luego de municipios;
+ *    solo se actualizan las filas que cambiaron, así que repetir la importación no escribe nada.
+ *    Un departamento nunca cambia de país: las filas con un código de otro país se rechazan
+ * 5. Un UPDATE que desmarca las capitales anteriores de los departamentos importados
+ *
+ * Columnas del CSV (con encabezado, por posición; las columnas adicionales del archivo
+ * oficial como tipo, longitud y latitud se ignoran):
+ * código departamento, nombre departamento, código municipio, nombre municipio
+ *
+ * La capital es el municipio con código terminado en 001 (convención DIVIPOLA).
+ * Si un nombre solo difiere en mayúsculas del registrado, se conserva el registrado.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DaneImportService {
+
+    private static final String STAGING = "dane_import_staging";
+    private static final Set<Character> ALLOWED_DELIMITERS = Set.of(',', ';', '|', '\t');
+    private static final int REQUIRED_COLUMNS = 4;
+    private static final int MAX_COLUMNS = 20;
+    private static final int HEADER_LIMIT = 8192;
+    private static final int MAX_REJECTIONS = 100;
+
+    private final DataSource dataSource;
+    private final GeoCatalog geoCatalog;
+
+    /**
+     * Reglas de validación en el orden en que se aplican; cada fila conserva el primer error
+     */
+    private static final String[][] VALIDATIONS = {
+            {"dept_code IS NULL",
+                    "Código de departamento inválido (1 o 2 dígitos)"},
+            {"NULLIF(TRIM(department_name), '') IS NULL OR LENGTH(TRIM(department_name)) > 100",
+                    "El nombre del departamento es obligatorio y no puede exceder 100 caracteres"},
+            {"muni_code IS NULL",
+                    "Código de municipio inválido (4 o 5 dígitos)"},
+            {"LEFT(muni_code, 2) <> dept_code",
+                    "El código del municipio no pertenece al departamento indicado"},
+            {"NULLIF(TRIM(municipality_name), '') IS NULL OR LENGTH(TRIM(municipality_name)) > 100",
+                    "El nombre del municipio es obligatorio y no puede exceder 100 caracteres"},
+    };
+
+    /**
+     * Importar departamentos y municipios desde un CSV
+     *
+     * @param csv Contenido del archivo (se transmite a la base de datos sin cargarlo en memoria)
+     * @param delimiter Separador de columnas
+     * @param countryId País de los departamentos (Colombia si es null)
+     * @return Resumen con insertados, actualizados y sin cambios
+     */
+    public DaneImportResultDTO importCsv(InputStream csv, char delimiter, Integer countryId) {
+        if (!ALLOWED_DELIMITERS.contains(delimiter)) {
+            throw new InvalidImportFileException("Separador no permitido: use coma, punto y coma, barra o tabulador");
+        }
+        CountryResponseDTO country = (countryId != null
+                ? geoCatalog.findCountryById(countryId)
+                : geoCatalog.findCountryByIsoCode2("CO"))
+                .orElseThrow(() -> new InvalidImportFileException(
+                        "País no encontrado" + (countryId != null ? " con ID: " + countryId : " (CO)")));
+
+        long start = System.nanoTime();
+        BufferedInputStream input = new BufferedInputStream(csv, HEADER_LIMIT);
+        int columns = countHeaderColumns(input, delimiter);
+
+        long total;
+        long departmentsMatched;
+        long municipalitiesMatched;
+        long[] departments;
+        long[] municipalities;
+        long capitalsCleared;
+        List<String> rejections;
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                createStaging(connection, columns);
+
+                total = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "COPY " + STAGING + " (" + columnList(columns) + ") " +
+                                "FROM STDIN WITH (FORMAT csv, HEADER true, ENCODING 'UTF8', DELIMITER E'" +
+                                (delimiter == '\t' ? "\\t" : String.valueOf(delimiter)) + "')",
+                        input);
+
+                parseAndValidate(connection);
+                rejectForeignDepartments(connection, country.getCountryId());
+                departmentsMatched = adoptUncodedDepartments(connection, country.getCountryId());
+                departments = upsertDepartments(connection, country.getCountryId());
+                municipalitiesMatched = adoptUncodedMunicipalities(connection);
+                municipalities = upsertMunicipalities(connection);
+                capitalsCleared = clearReplacedCapitals(connection);
+                rejections = findRejections(connection);
+
+                connection.commit();
+            } catch (SQLException | IOException e) {
+                connection.rollback();
+                throw new InvalidImportFileException("No fue posible importar el archivo: " + e.getMessage(), e);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new InvalidImportFileException("Error de conexión durante la importación: " + e.getMessage(), e);
+        }
+
+        if (departmentsMatched + municipalitiesMatched + departments[1] + departments[2]
+                + municipalities[1] + municipalities[2] + capitalsCleared > 0) {
+            geoCatalog.reload();
+        }
+
+        long rejected = total - municipalities[0];
+        long durationMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("✅ Importación DANE: {} filas, departamentos {}/{}/{}, municipios {}/{}/{} " +
+                        "(nuevos/actualizados/sin cambios), {} y {} sin código enlazados por nombre, " +
+                        "{} rechazadas en {} ms",
+                total, departments[1], departments[2], departments[0] - departments[1] - departments[2],
+                municipalities[1], municipalities[2], municipalities[0] - municipalities[1] - municipalities[2],
+                departmentsMatched, municipalitiesMatched, rejected, durationMs);
+
+        return DaneImportResultDTO.builder()
+                .totalRows(total)
+                .rejectedRows(rejected)
+                .departmentsInserted(departments[1])
+                .departmentsUpdated(departments[2])
+                .departmentsUnchanged(departments[0] - departments[1] - departments[2])
+                .departmentsMatchedByName(departmentsMatched)
+                .municipalitiesInserted(municipalities[1])
+                .municipalitiesUpdated(municipalities[2])
+                .municipalitiesUnchanged(municipalities[0] - municipalities[1] - municipalities[2])
+                .municipalitiesMatchedByName(municipalitiesMatched)
+                .capitalsCleared(capitalsCleared)
+                .durationMs(durationMs)
+                .rejections(rejections)
+                .build();
+    }
+
+    // ========== PASOS DE LA IMPORTACIÓN ==========
+
+    /**
+     * Contar las columnas del encabezado sin consumirlo (COPY exige la lista exacta de columnas)
+     */
+    private int countHeaderColumns(BufferedInputStream input, char delimiter) {
+        try {
+            input.mark(HEADER_LIMIT);
+            int columns = 1;
+            boolean quoted = false;
+            int read;
+            int bytes = 0;
+            while ((read = input.read()) != -1 && read != '\n' && ++bytes < HEADER_LIMIT) {
+                if (read == '"') {
+                    quoted = !quoted;
+                } else if (read == delimiter && !quoted) {
+                    columns++;
+                }
+            }
+            input.reset();
+
+            if (bytes == 0) {
+                throw new InvalidImportFileException("El archivo está vacío");
+            }
+            if (columns < REQUIRED_COLUMNS || columns > MAX_COLUMNS) {
+                throw new InvalidImportFileException("El archivo debe tener entre " + REQUIRED_COLUMNS + " y " +
+                        MAX_COLUMNS + " columnas: código y nombre de departamento, código y nombre de municipio");
+            }
+            return columns;
+        } catch (IOException e) {
+            throw new InvalidImportFileException("No fue posible leer el encabezado del archivo", e);
+        }
+    }
+
+    private static String columnList(int columns) {
+        StringBuilder list = new StringBuilder("department_code, department_name, municipality_code, municipality_name");
+        for (int i = REQUIRED_COLUMNS + 1; i <= columns; i++) {
+            list.append(", extra_").append(i);
+        }
+        return list.toString();
+    }
+
+    private void createStaging(Connection connection, int columns) throws SQLException {
+        StringBuilder extra = new StringBuilder();
+        for (int i = REQUIRED_COLUMNS + 1; i <= columns; i++) {
+            extra.append("extra_").append(i).append(" TEXT, ");
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TEMP TABLE " + STAGING + " (" +
+                            "department_code TEXT, department_name TEXT, municipality_code TEXT, " +
+                            "municipality_name TEXT, " + extra +
+                            "line_no BIGSERIAL, dept_code VARCHAR(10), muni_code VARCHAR(10), " +
+                            "capital BOOLEAN, error TEXT" +
+                            ") ON COMMIT DROP");
+        }
+    }
+
+    private void parseAndValidate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            // Los códigos pierden los ceros a la izquierda cuando el archivo pasa por una hoja de cálculo
+            statement.executeUpdate(
+                    "UPDATE " + STAGING + " SET " +
+                            "dept_code = CASE WHEN TRIM(department_code) ~ '^[0-9]{1,2}$' " +
+                            "  THEN LPAD(TRIM(department_code), 2, '0') END, " +
+                            "muni_code = CASE WHEN TRIM(municipality_code) ~ '^[0-9]{4,5}$' " +
+                            "  THEN LPAD(TRIM(municipality_code), 5, '0') END");
+        }
+
+        for (String[] validation : VALIDATIONS) {
+            applyRule(connection, validation[0], validation[1]);
+        }
+
+        // Código repetido dentro del mismo archivo: se conserva la primera aparición
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + STAGING + " s SET error = ? FROM (" +
+                        "SELECT line_no, ROW_NUMBER() OVER (PARTITION BY muni_code ORDER BY line_no) AS rn " +
+                        "FROM " + STAGING + " WHERE error IS NULL) d " +
+                        "WHERE s.line_no = d.line_no AND d.rn > 1")) {
+            statement.setString(1, "Código de municipio duplicado dentro del archivo");
+            statement.executeUpdate();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(
+                    "UPDATE " + STAGING + " SET capital = (RIGHT(muni_code, 3) = '001') WHERE error IS NULL");
+        }
+    }
+
+    private void applyRule(Connection connection, String condition, String message) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + STAGING + " SET error = ? WHERE error IS NULL AND (" + condition + ")")) {
+            statement.setString(1, message);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Rechazar las filas cuyo código de departamento ya pertenece a un departamento de otro país
+     * (la importación no mueve departamentos entre países)
+     */
+    private void rejectForeignDepartments(Connection connection, int countryId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + STAGING + " s SET error = ? " +
+                        "FROM department d " +
+                        "WHERE s.error IS NULL AND d.dane_code = s.dept_code AND d.country_id <> ?")) {
+            statement.setString(1, "El código de departamento ya pertenece a un departamento de otro país");
+            statement.setInt(2, countryId);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Asignar el código DANE a los departamentos del país creados sin código cuyo nombre coincide
+     * (sin distinguir mayúsculas) con un único código del archivo
+     *
+     * @return Departamentos enlazados
+     */
+    private long adoptUncodedDepartments(Connection connection, int countryId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "WITH src AS (" +
+                        "  SELECT DISTINCT ON (dept_code) dept_code, LOWER(TRIM(department_name)) AS name_key " +
+                        "  FROM " + STAGING + " WHERE error IS NULL ORDER BY dept_code, line_no), " +
+                        "unique_src AS (" +
+                        "  SELECT name_key, MIN(dept_code) AS dept_code FROM src " +
+                        "  GROUP BY name_key HAVING COUNT(*) = 1), " +
+                        "target AS (" +
+                        "  SELECT DISTINCT ON (u.dept_code) d.department_id, u.dept_code " +
+                        "  FROM department d JOIN unique_src u ON LOWER(d.name) = u.name_key " +
+                        "  WHERE d.dane_code IS NULL AND d.country_id = ? " +
+                        "    AND NOT EXISTS (SELECT 1 FROM department x WHERE x.dane_code = u.dept_code) " +
+                        "  ORDER BY u.dept_code, d.department_id) " +
+                        "UPDATE department d SET dane_code = t.dept_code " +
+                        "FROM target t WHERE d.department_id = t.department_id")) {
+            statement.setInt(1, countryId);
+            return statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Departamentos del archivo (nombre de la primera fila de cada código)
+     *
+     * @return [total, insertados, actualizados]
+     */
+    private long[] upsertDepartments(Connection connection, int countryId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "WITH src AS (" +
+                        "  SELECT DISTINCT ON (dept_code) dept_code, TRIM(department_name) AS name " +
+                        "  FROM " + STAGING + " WHERE error IS NULL ORDER BY dept_code, line_no), " +
+                        "numbered AS (SELECT row_number() OVER (ORDER BY dept_code) AS rn, dept_code, name FROM src), " +
+                        "up AS (" +
+                        "  INSERT INTO department (department_id, country_id, name, dane_code) " +
+                        "  SELECT i.id, ?, n.name, n.dept_code FROM numbered n " +
+                        "  JOIN reserve_ids('department_seq', (SELECT COUNT(*) FROM numbered)) i ON i.rn = n.rn " +
+                        "  ON CONFLICT (dane_code) DO UPDATE SET name = EXCLUDED.name " +
+                        "  WHERE LOWER(department.name) <> LOWER(EXCLUDED.name) " +
+                        "    AND department.country_id = EXCLUDED.country_id " +
+                        "  RETURNING (xmax = 0) AS inserted) " +
+                        "SELECT (SELECT COUNT(*) FROM src), " +
+                        "COUNT(*) FILTER (WHERE inserted), COUNT(*) FILTER (WHERE NOT inserted) FROM up")) {
+            statement.setInt(1, countryId);
+            return readCounts(statement);
+        }
+    }
+
+    /**
+     * Asignar el código DANE a los municipios creados sin código cuyo nombre coincide
+     * (sin distinguir mayúsculas) con un único código del mismo departamento en el archivo
+     *
+     * @return Municipios enlazados
+     */
+    private long adoptUncodedMunicipalities(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(
+                    "WITH src AS (" +
+                            "  SELECT d.department_id, LOWER(TRIM(s.municipality_name)) AS name_key, s.muni_code " +
+                            "  FROM " + STAGING + " s JOIN department d ON d.dane_code = s.dept_code " +
+                            "  WHERE s.error IS NULL), " +
+                            "unique_src AS (" +
+                            "  SELECT department_id, name_key, MIN(muni_code) AS muni_code FROM src " +
+                            "  GROUP BY department_id, name_key HAVING COUNT(*) = 1), " +
+                            "target AS (" +
+                            "  SELECT DISTINCT ON (u.muni_code) m.municipality_id, u.muni_code " +
+                            "  FROM municipality m JOIN unique_src u " +
+                            "    ON m.department_id = u.department_id AND LOWER(m.name) = u.name_key " +
+                            "  WHERE m.dane_code IS NULL " +
+                            "    AND NOT EXISTS (SELECT 1 FROM municipality x WHERE x.dane_code = u.muni_code) " +
+                            "  ORDER BY u.muni_code, m.municipality_id) " +
+                            "UPDATE municipality m SET dane_code = t.muni_code " +
+                            "FROM target t WHERE m.municipality_id = t.municipality_id");
+        }
+    }
+
+    /**
+     * Municipios válidos, enlazados al departamento por su código DANE
+     *
+     * @return [total, insertados, actualizados]
+     */
+    private long[] upsertMunicipalities(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "WITH src AS (" +
+                        "  SELECT d.department_id, TRIM(s.municipality_name) AS name, s.muni_code, s.capital " +
+                        "  FROM " + STAGING + " s JOIN department d ON d.dane_code = s.dept_code " +
+                        "  WHERE s.error IS NULL), " +
+                        "numbered AS (SELECT row_number() OVER (ORDER BY muni_code) AS rn, src.* FROM src), " +
+                        "up AS (" +
+                        "  INSERT INTO municipality (municipality_id, department_id, name, dane_code, is_capital) " +
+                        "  SELECT i.id, n.department_id, n.name, n.muni_code, n.capital FROM numbered n " +
+                        "  JOIN reserve_ids('municipality_seq', (SELECT COUNT(*) FROM numbered)) i ON i.rn = n.rn " +
+                        "  ON CONFLICT (dane_code) DO UPDATE SET " +
+                        "    name = CASE WHEN LOWER(municipality.name) = LOWER(EXCLUDED.name) " +
+                        "      THEN municipality.name ELSE EXCLUDED.name END, " +
+                        "    department_id = EXCLUDED.department_id, " +
+                        "    is_capital = EXCLUDED.is_capital " +
+                        "  WHERE LOWER(municipality.name) <> LOWER(EXCLUDED.name) " +
+                        "     OR municipality.department_id <> EXCLUDED.department_id " +
+                        "     OR municipality.is_capital <> EXCLUDED.is_capital " +
+                        "  RETURNING (xmax = 0) AS inserted) " +
+                        "SELECT (SELECT COUNT(*) FROM src), " +
+                        "COUNT(*) FILTER (WHERE inserted), COUNT(*) FILTER (WHERE NOT inserted) FROM up")) {
+            return readCounts(statement);
+        }
+    }
+
+    /**
+     * Desmarcar en un solo UPDATE las capitales que no son la capital del archivo
+     * (solo en los departamentos cuya capital viene en el archivo)
+     */
+    private long clearReplacedCapitals(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(
+                    "UPDATE municipality m SET is_capital = false " +
+                            "FROM department d, " + STAGING + " s " +
+                            "WHERE m.department_id = d.department_id AND d.dane_code = s.dept_code " +
+                            "AND s.error IS NULL AND s.capital " +
+                            "AND m.is_capital AND m.dane_code IS DISTINCT FROM s.muni_code");
+        }
+    }
+
+    private List<String> findRejections(Connection connection) throws SQLException {
+        List<String> rejections = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT line_no + 1, error FROM " + STAGING + " WHERE error IS NOT NULL " +
+                             "ORDER BY line_no LIMIT " + MAX_REJECTIONS)) {
+            while (rs.next()) {
+                rejections.add("Fila " + rs.getLong(1) + ": " + rs.getString(2));
+            }
+        }
+        return rejections;
+    }
+
+    private static long[] readCounts(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)};
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.hse.Curriculum.Service;
+import com.hse.Curriculum.Dto.CountryDTO.CountryResponseDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
 import com.hse.Curriculum.Dto.EducationDTO.EducationCreateDTO;
 import com.hse.Curriculum.Dto.EducationDTO.EducationResponseDTO;
 import com.hse.Curriculum.Dto.EducationDTO.EducationUpdateDTO;
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Enum.GraduateStatusEnum;
 import com.hse.Curriculum.Exception.Education.*;
 import com.hse.Curriculum.Models.Country;
 import com.hse.Curriculum.Models.Education;
@@ -9,13 +14,18 @@ import com.hse.Curriculum.Models.Users;
 import com.hse.Curriculum.Repository.CountryRepository;
 import com.hse.Curriculum.Repository.EducationRepository;
 import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Mapper.CurriculumProjectionMapper;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +33,18 @@ public class EducationService {
     private final EducationRepository educationRepository;
     private final UsersRepository usersRepository;
     private final CountryRepository countryRepository;
+    private final GeoCatalog geoCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogService catalogService;
+    private final CurriculumProjectionMapper curriculumProjectionMapper;
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /** Fecha con la que se ordenan los registros sin fecha de último nivel (quedan al final) */
+    private static final LocalDate EMPTY_DATE = LocalDate.of(1, 1, 1);
+
+    /** Clave de inicio de la primera página: mayor que cualquier fecha válida */
+    private static final LocalDate FIRST_PAGE_DATE = LocalDate.of(9999, 12, 31);
 
     /**
      * Crear un nuevo registro de educación
@@ -39,8 +61,10 @@ public class EducationService {
         // Validar y obtener país si se proporciona
         Country country = null;
         if (dto.getCountryCode() != null) {
-            country = countryRepository.findByCountryCode(dto.getCountryCode())
-                    .orElseThrow(() -> new RuntimeException("País con Codigo "+ dto.getCountryCode()+ "no encontrado"));
+            Integer countryId = geoCatalog.findCountryByCode(dto.getCountryCode())
+                    .orElseThrow(() -> new RuntimeException("País con Codigo "+ dto.getCountryCode()+ "no encontrado"))
+                    .getCountryId();
+            country = countryRepository.getReferenceById(countryId);
         }
 
         // Crear entidad
@@ -55,25 +79,79 @@ public class EducationService {
                 .lastLevelCompleted(dto.getLastLevelCompleted())
                 .lastLevelDate(dto.getLastLevelDate())
                 .build();
+        education.setInstitutionTermId(catalogService.resolveTermId(CatalogCategoryEnum.INSTITUTION, education.getInstitutionName()));
 
         Education saved = educationRepository.save(education);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.EDUCATION, CurriculumChangedEvent.ChangeType.CREATED));
         return mapToResponseDTO(saved);
     }
 
     /**
-     * Obtener todos los registros de educación de un usuario
+     * Obtener los registros de educación de un usuario (paginación por cursor)
+     *
+     * La existencia del usuario se verifica sin cargarlo y la página se obtiene con una
+     * proyección de las columnas del DTO, por lo que el costo no depende de cuántos
+     * registros tenga el usuario.
+     *
+     * @param graduateStatus Filtrar por estado de graduación (opcional)
+     * @param typeEducation Filtrar por tipo de educación (opcional)
+     * @param institution Texto contenido en la institución, sin distinguir mayúsculas (opcional)
+     * @param fromDate Fecha de último nivel desde (opcional)
+     * @param toDate Fecha de último nivel hasta (opcional)
+     * @param cursor Cursor de la página anterior (null para la primera)
+     * @param size Tamaño de página
      */
     @Transactional(readOnly = true)
-    public List<EducationResponseDTO> getEducationsByUserId(Integer userId) {
+    public CursorPageDTO<EducationResponseDTO> getEducationsByUserId(Integer userId,
+                                                                     GraduateStatusEnum graduateStatus,
+                                                                     EducationTypeEnum typeEducation,
+                                                                     String institution,
+                                                                     LocalDate fromDate,
+                                                                     LocalDate toDate,
+                                                                     String cursor,
+                                                                     int size) {
         // Verificar que el usuario existe
         if (!usersRepository.existsById(userId)) {
             throw new RuntimeException("Usuario no encontrado");
         }
 
-        List<Education> educations = educationRepository.findByUserIdWithCountry(userId);
-        return educations.stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDate afterDate = FIRST_PAGE_DATE;
+        int afterId = Integer.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int[] key = CursorCodec.decodeInts(cursor, 2);
+            afterDate = LocalDate.ofEpochDay(key[0]);
+            afterId = key[1];
+        }
+
+        String institutionPattern = institution == null || institution.isBlank()
+                ? null
+                : "%" + institution.trim().toLowerCase() + "%";
+
+        List<EducationRepository.EducationListProjection> rows = educationRepository.findPageByUserId(
+                userId, graduateStatus, typeEducation, institutionPattern, fromDate, toDate,
+                EMPTY_DATE, afterDate, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<EducationRepository.EducationListProjection> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<EducationResponseDTO> items = new ArrayList<>(page.size());
+        for (EducationRepository.EducationListProjection row : page) {
+            items.add(curriculumProjectionMapper.toEducationResponseDTO(row, userId));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            EducationRepository.EducationListProjection last = page.get(page.size() - 1);
+            LocalDate lastDate = last.getLastLevelDate() != null ? last.getLastLevelDate() : EMPTY_DATE;
+            nextCursor = CursorCodec.encode(lastDate.toEpochDay(), last.getEducationId());
+        }
+
+        return CursorPageDTO.<EducationResponseDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .size(items.size())
+                .build();
     }
 
     /**
@@ -119,14 +197,16 @@ public class EducationService {
         }
         if (dto.getInstitutionName() != null) {
             education.setInstitutionName(dto.getInstitutionName());
+            education.setInstitutionTermId(catalogService.resolveTermId(CatalogCategoryEnum.INSTITUTION, dto.getInstitutionName()));
         }
         if (dto.getDegreeTitle() != null) {
             education.setDegreeTitle(dto.getDegreeTitle());
         }
         if (dto.getCountryCode() != null) {
-            Country country = countryRepository.findByCountryCode(dto.getCountryCode())
-                    .orElseThrow(() -> new RuntimeException("País con codigo "+ dto.getCountryCode() +"no fue encontrado"));
-            education.setCountry(country);
+            Integer countryId = geoCatalog.findCountryByCode(dto.getCountryCode())
+                    .orElseThrow(() -> new RuntimeException("País con codigo "+ dto.getCountryCode() +"no fue encontrado"))
+                    .getCountryId();
+            education.setCountry(countryRepository.getReferenceById(countryId));
         }
         if (dto.getGraduateStatus() != null) {
             education.setGraduateStatus(dto.getGraduateStatus());
@@ -139,6 +219,7 @@ public class EducationService {
         }
 
         Education updated = educationRepository.save(education);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(updated.getUser().getUserId(), CurriculumChangedEvent.Section.EDUCATION, CurriculumChangedEvent.ChangeType.UPDATED));
         return mapToResponseDTO(updated);
     }
 
@@ -160,6 +241,7 @@ public class EducationService {
         }
 
         educationRepository.delete(education);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(education.getUser().getUserId(), CurriculumChangedEvent.Section.EDUCATION, CurriculumChangedEvent.ChangeType.DELETED));
     }
 
     /**
@@ -175,6 +257,10 @@ public class EducationService {
      * Mapear entidad a DTO de respuesta
      */
     private EducationResponseDTO mapToResponseDTO(Education education) {
+        // El país se toma del catálogo en memoria para no inicializar la referencia perezosa
+        CountryResponseDTO country = education.getCountry() != null
+                ? geoCatalog.findCountryById(education.getCountry().getCountryId()).orElse(null)
+                : null;
         return EducationResponseDTO.builder()
                 .educationId(education.getEducationId())
                 .userId(education.getUser().getUserId())
@@ -182,8 +268,8 @@ public class EducationService {
                 .academicLevel(education.getAcademicLevel())
                 .institutionName(education.getInstitutionName())
                 .degreeTitle(education.getDegreeTitle())
-                .countryCode(education.getCountry() != null ? education.getCountry().getCountryCode() : null)
-                .countryName(education.getCountry() != null ? education.getCountry().getCountryName() : null)
+                .countryCode(country != null ? country.getCountryCode() : null)
+                .countryName(country != null ? country.getCountryName() : null)
                 .graduateStatus(education.getGraduateStatus())
                 .lastLevelCompleted(education.getLastLevelCompleted())
                 .lastLevelDate(education.getLastLevelDate())
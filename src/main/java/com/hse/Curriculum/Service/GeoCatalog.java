@@ -0,0 +1,303 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Dto.CountryDTO.CountryResponseDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Department.DepartmentResponseDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Municipality.MunicipalityResponseDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Suggest.GeoSuggestionDTO;
+import com.hse.Curriculum.Enum.GeoLevelEnum;
+import com.hse.Curriculum.Models.Country;
+import com.hse.Curriculum.Repository.CountryRepository;
+import com.hse.Curriculum.Repository.DepartmentRepository;
+import com.hse.Curriculum.Repository.MunicipalityRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Catálogo geográfico en memoria (países, departamentos y municipios)
+ *
+ * Estos datos casi nunca cambian, así que se cargan al iniciar en una foto inmutable:
+ * arreglos ordenados por nombre e índices por ID, código DANE, ISO-2/ISO-3 y código de país.
+ * Cualquier escritura en GeoServiceImpl o CountryService construye una foto nueva después
+ * del commit y la publica con una sola asignación; las lecturas nunca ven un estado a medias.
+ *
+ * La foto incluye además el índice de autocompletado (GeoSuggestIndex).
+ *
+ * Cada foto tiene una versión que los controladores usan como ETag. Los DTO entregados
+ * son compartidos entre solicitudes y no deben modificarse.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoCatalog {
+
+    private final CountryRepository countryRepository;
+    private final DepartmentRepository departmentRepository;
+    private final MunicipalityRepository municipalityRepository;
+    private final ReferencePayloadCache referencePayloadCache;
+
+    private volatile Snapshot snapshot;
+    private final Object reloadLock = new Object();
+
+    /**
+     * Foto inmutable del catálogo
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final List<CountryResponseDTO> countries;
+        private final Map<Integer, CountryResponseDTO> countriesById;
+        private final Map<Integer, CountryResponseDTO> countriesByCode;
+        private final Map<String, CountryResponseDTO> countriesByIso2;
+        private final Map<String, CountryResponseDTO> countriesByIso3;
+        private final Map<Integer, DepartmentResponseDTO> departmentsById;
+        private final Map<String, DepartmentResponseDTO> departmentsByDane;
+        private final Map<Integer, List<DepartmentResponseDTO>> departmentsByCountry;
+        private final Map<Integer, MunicipalityResponseDTO> municipalitiesById;
+        private final Map<String, MunicipalityResponseDTO> municipalitiesByDane;
+        private final Map<Integer, List<MunicipalityResponseDTO>> municipalitiesByDepartment;
+        private final Map<Integer, MunicipalityResponseDTO> capitalsByDepartment;
+        private final GeoSuggestIndex suggestIndex;
+
+        private Snapshot(long version,
+                         CountryResponseDTO[] countries,
+                         DepartmentResponseDTO[] departments,
+                         MunicipalityResponseDTO[] municipalities) {
+            this.version = version;
+            this.countries = List.of(countries);
+
+            Map<Integer, CountryResponseDTO> byId = new HashMap<>();
+            Map<Integer, CountryResponseDTO> byCode = new HashMap<>();
+            Map<String, CountryResponseDTO> byIso2 = new HashMap<>();
+            Map<String, CountryResponseDTO> byIso3 = new HashMap<>();
+            for (CountryResponseDTO country : countries) {
+                byId.put(country.getCountryId(), country);
+                byCode.put(country.getCountryCode(), country);
+                if (country.getIsoCode2() != null) byIso2.put(country.getIsoCode2().toUpperCase(), country);
+                if (country.getIsoCode3() != null) byIso3.put(country.getIsoCode3().toUpperCase(), country);
+            }
+            this.countriesById = Map.copyOf(byId);
+            this.countriesByCode = Map.copyOf(byCode);
+            this.countriesByIso2 = Map.copyOf(byIso2);
+            this.countriesByIso3 = Map.copyOf(byIso3);
+
+            Map<Integer, DepartmentResponseDTO> departmentById = new HashMap<>();
+            Map<String, DepartmentResponseDTO> departmentByDane = new HashMap<>();
+            Map<Integer, List<DepartmentResponseDTO>> byCountry = new HashMap<>();
+            for (DepartmentResponseDTO department : departments) {
+                departmentById.put(department.getDepartmentId(), department);
+                if (department.getDaneCode() != null) departmentByDane.putIfAbsent(department.getDaneCode(), department);
+                byCountry.computeIfAbsent(department.getCountryId(), id -> new ArrayList<>()).add(department);
+            }
+            this.departmentsById = Map.copyOf(departmentById);
+            this.departmentsByDane = Map.copyOf(departmentByDane);
+            this.departmentsByCountry = freeze(byCountry);
+
+            Map<Integer, MunicipalityResponseDTO> municipalityById = new HashMap<>();
+            Map<String, MunicipalityResponseDTO> municipalityByDane = new HashMap<>();
+            Map<Integer, List<MunicipalityResponseDTO>> byDepartment = new HashMap<>();
+            Map<Integer, MunicipalityResponseDTO> capitals = new HashMap<>();
+            for (MunicipalityResponseDTO municipality : municipalities) {
+                municipalityById.put(municipality.getMunicipalityId(), municipality);
+                if (municipality.getDaneCode() != null) municipalityByDane.putIfAbsent(municipality.getDaneCode(), municipality);
+                byDepartment.computeIfAbsent(municipality.getDepartmentId(), id -> new ArrayList<>()).add(municipality);
+                if (Boolean.TRUE.equals(municipality.getIsCapital())) {
+                    capitals.putIfAbsent(municipality.getDepartmentId(), municipality);
+                }
+            }
+            this.municipalitiesById = Map.copyOf(municipalityById);
+            this.municipalitiesByDane = Map.copyOf(municipalityByDane);
+            this.municipalitiesByDepartment = freeze(byDepartment);
+            this.capitalsByDepartment = Map.copyOf(capitals);
+
+            this.suggestIndex = GeoSuggestIndex.build(countries, departments, municipalities);
+        }
+
+        private static <T> Map<Integer, List<T>> freeze(Map<Integer, List<T>> groups) {
+            Map<Integer, List<T>> frozen = new HashMap<>();
+            groups.forEach((key, values) -> frozen.put(key, List.copyOf(values)));
+            return Map.copyOf(frozen);
+        }
+    }
+
+    // ========== CARGA ==========
+
+    @PostConstruct
+    public void loadCatalog() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible cargar el catálogo geográfico al iniciar: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Construir una foto nueva desde la base de datos (tres consultas) y publicarla
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            long start = System.nanoTime();
+
+            List<Country> countryEntities = countryRepository.findAllByOrderByCountryNameAsc();
+            CountryResponseDTO[] countries = new CountryResponseDTO[countryEntities.size()];
+            Map<Integer, CountryResponseDTO> countryById = new HashMap<>();
+            for (int i = 0; i < countries.length; i++) {
+                Country country = countryEntities.get(i);
+                countries[i] = CountryResponseDTO.builder()
+                        .countryId(country.getCountryId())
+                        .countryCode(country.getCountryCode())
+                        .countryName(country.getCountryName())
+                        .isoCode2(country.getIsoCode2())
+                        .isoCode3(country.getIsoCode3())
+                        .phoneCode(country.getPhoneCode())
+                        .createdAt(country.getCreatedAt())
+                        .updatedAt(country.getUpdatedAt())
+                        .build();
+                countryById.put(country.getCountryId(), countries[i]);
+            }
+
+            List<Object[]> departmentRows = departmentRepository.findAllCatalogRows();
+            DepartmentResponseDTO[] departments = new DepartmentResponseDTO[departmentRows.size()];
+            Map<Integer, DepartmentResponseDTO> departmentById = new HashMap<>();
+            for (int i = 0; i < departments.length; i++) {
+                Object[] row = departmentRows.get(i);
+                CountryResponseDTO country = countryById.get((Integer) row[1]);
+                departments[i] = DepartmentResponseDTO.builder()
+                        .departmentId((Integer) row[0])
+                        .countryId((Integer) row[1])
+                        .countryName(country != null ? country.getCountryName() : null)
+                        .name((String) row[2])
+                        .daneCode((String) row[3])
+                        .build();
+                departmentById.put(departments[i].getDepartmentId(), departments[i]);
+            }
+
+            List<Object[]> municipalityRows = municipalityRepository.findAllCatalogRows();
+            MunicipalityResponseDTO[] municipalities = new MunicipalityResponseDTO[municipalityRows.size()];
+            for (int i = 0; i < municipalities.length; i++) {
+                Object[] row = municipalityRows.get(i);
+                DepartmentResponseDTO department = departmentById.get((Integer) row[1]);
+                municipalities[i] = MunicipalityResponseDTO.builder()
+                        .municipalityId((Integer) row[0])
+                        .departmentId((Integer) row[1])
+                        .departmentName(department != null ? department.getName() : null)
+                        .countryId(department != null ? department.getCountryId() : null)
+                        .countryName(department != null ? department.getCountryName() : null)
+                        .name((String) row[2])
+                        .daneCode((String) row[3])
+                        .isCapital((Boolean) row[4])
+                        .build();
+            }
+
+            Snapshot previous = snapshot;
+            long version = Math.max(previous != null ? previous.version + 1 : 0, System.currentTimeMillis());
+            this.snapshot = new Snapshot(version, countries, departments, municipalities);
+            referencePayloadCache.invalidate(ReferencePayloadCache.Group.GEO);
+
+            log.info("✅ Catálogo geográfico v{} cargado: {} países, {} departamentos, {} municipios ({} claves de autocompletado) en {} ms",
+                    version, countries.length, departments.length, municipalities.length, snapshot.suggestIndex.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Recargar cuando se confirme la transacción actual (o de inmediato si no hay transacción)
+     */
+    public void reloadAfterCommit() {
+        TransactionCallbacks.afterCommit(this::reload);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * ETag de la versión actual del catálogo
+     */
+    public String getETag() {
+        return "\"geo-" + current().version + "\"";
+    }
+
+    public List<CountryResponseDTO> getCountries() {
+        return current().countries;
+    }
+
+    public Optional<CountryResponseDTO> findCountryById(Integer countryId) {
+        return Optional.ofNullable(countryId == null ? null : current().countriesById.get(countryId));
+    }
+
+    public Optional<CountryResponseDTO> findCountryByCode(Integer countryCode) {
+        return Optional.ofNullable(countryCode == null ? null : current().countriesByCode.get(countryCode));
+    }
+
+    public Optional<CountryResponseDTO> findCountryByIsoCode2(String isoCode2) {
+        return Optional.ofNullable(isoCode2 == null ? null : current().countriesByIso2.get(isoCode2.trim().toUpperCase()));
+    }
+
+    public Optional<CountryResponseDTO> findCountryByIsoCode3(String isoCode3) {
+        return Optional.ofNullable(isoCode3 == null ? null : current().countriesByIso3.get(isoCode3.trim().toUpperCase()));
+    }
+
+    /**
+     * Países cuyo nombre contiene el texto (sin distinguir mayúsculas), en orden alfabético
+     */
+    public List<CountryResponseDTO> searchCountries(String name) {
+        String needle = name == null ? "" : name.toLowerCase();
+        List<CountryResponseDTO> result = new ArrayList<>();
+        for (CountryResponseDTO country : current().countries) {
+            if (country.getCountryName().toLowerCase().contains(needle)) {
+                result.add(country);
+            }
+        }
+        return result;
+    }
+
+    public List<DepartmentResponseDTO> getDepartmentsByCountry(Integer countryId) {
+        return countryId == null ? List.of() : current().departmentsByCountry.getOrDefault(countryId, List.of());
+    }
+
+    public Optional<DepartmentResponseDTO> findDepartmentById(Integer departmentId) {
+        return Optional.ofNullable(departmentId == null ? null : current().departmentsById.get(departmentId));
+    }
+
+    public Optional<DepartmentResponseDTO> findDepartmentByDaneCode(String daneCode) {
+        return Optional.ofNullable(daneCode == null ? null : current().departmentsByDane.get(daneCode.trim()));
+    }
+
+    public List<MunicipalityResponseDTO> getMunicipalitiesByDepartment(Integer departmentId) {
+        return departmentId == null ? List.of() : current().municipalitiesByDepartment.getOrDefault(departmentId, List.of());
+    }
+
+    public Optional<MunicipalityResponseDTO> findMunicipalityById(Integer municipalityId) {
+        return Optional.ofNullable(municipalityId == null ? null : current().municipalitiesById.get(municipalityId));
+    }
+
+    public Optional<MunicipalityResponseDTO> findMunicipalityByDaneCode(String daneCode) {
+        return Optional.ofNullable(daneCode == null ? null : current().municipalitiesByDane.get(daneCode.trim()));
+    }
+
+    public Optional<MunicipalityResponseDTO> findCapitalByDepartment(Integer departmentId) {
+        return Optional.ofNullable(departmentId == null ? null : current().capitalsByDepartment.get(departmentId));
+    }
+
+    /**
+     * Autocompletado sin tildes sobre países, departamentos y municipios
+     *
+     * @param query Texto escrito por el usuario
+     * @param level Nivel a buscar (null para todos)
+     * @param limit Máximo de sugerencias
+     */
+    public List<GeoSuggestionDTO> suggest(String query, GeoLevelEnum level, int limit) {
+        return current().suggestIndex.suggest(query, level, limit);
+    }
+}
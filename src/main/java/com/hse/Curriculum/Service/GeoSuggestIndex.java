@@ -0,0 +1,152 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Converter.Catalog.CatalogKeyNormalizer;
+import com.hse.Curriculum.Converter.Catalog.PrefixSearch;
+import com.hse.Curriculum.Dto.CountryDTO.CountryResponseDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Department.DepartmentResponseDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Municipality.MunicipalityResponseDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Suggest.GeoSuggestionDTO;
+import com.hse.Curriculum.Enum.GeoLevelEnum;
+
+import java.util.*;
+
+/**
+ * Índice inmutable de autocompletado sobre países, departamentos y municipios
+ *
+ * Cada nombre se normaliza sin tildes ni mayúsculas ("Bogotá" → "bogota") y se indexa
+ * con PrefixSearch, igual que el diccionario de nombres; el orden final se decide con un
+ * montículo de tamaño k.
+ * Se construye junto con cada foto de GeoCatalog.
+ */
+final class GeoSuggestIndex {
+
+    /** Nombre completo igual al texto buscado */
+    private static final int RANK_EXACT = 0;
+    /** Nombre que empieza por el texto */
+    private static final int RANK_START = 1;
+    /** Una palabra intermedia empieza por el texto */
+    private static final int RANK_WORD = 2;
+
+    private final String[] keys;
+    private final int[] entryIds;
+    private final boolean[] fromStart;
+    private final GeoSuggestionDTO[] entries;
+
+    private record Token(String key, int entryId, boolean fromStart) {
+    }
+
+    private record Candidate(int entryId, int rank) {
+    }
+
+    private GeoSuggestIndex(String[] keys, int[] entryIds, boolean[] fromStart, GeoSuggestionDTO[] entries) {
+        this.keys = keys;
+        this.entryIds = entryIds;
+        this.fromStart = fromStart;
+        this.entries = entries;
+    }
+
+    static GeoSuggestIndex build(CountryResponseDTO[] countries,
+                                 DepartmentResponseDTO[] departments,
+                                 MunicipalityResponseDTO[] municipalities) {
+        List<GeoSuggestionDTO> entries = new ArrayList<>(countries.length + departments.length + municipalities.length);
+        for (CountryResponseDTO country : countries) {
+            entries.add(GeoSuggestionDTO.builder()
+                    .level(GeoLevelEnum.COUNTRY)
+                    .id(country.getCountryId())
+                    .name(country.getCountryName())
+                    .countryName(country.getCountryName())
+                    .isCapital(false)
+                    .build());
+        }
+        for (DepartmentResponseDTO department : departments) {
+            entries.add(GeoSuggestionDTO.builder()
+                    .level(GeoLevelEnum.DEPARTMENT)
+                    .id(department.getDepartmentId())
+                    .name(department.getName())
+                    .parentName(department.getCountryName())
+                    .countryName(department.getCountryName())
+                    .isCapital(false)
+                    .build());
+        }
+        for (MunicipalityResponseDTO municipality : municipalities) {
+            entries.add(GeoSuggestionDTO.builder()
+                    .level(GeoLevelEnum.MUNICIPALITY)
+                    .id(municipality.getMunicipalityId())
+                    .name(municipality.getName())
+                    .parentName(municipality.getDepartmentName())
+                    .countryName(municipality.getCountryName())
+                    .isCapital(Boolean.TRUE.equals(municipality.getIsCapital()))
+                    .build());
+        }
+
+        List<Token> tokens = new ArrayList<>(entries.size() * 2);
+        for (int entryId = 0; entryId < entries.size(); entryId++) {
+            int id = entryId;
+            PrefixSearch.tokenize(CatalogKeyNormalizer.normalize(entries.get(entryId).getName()),
+                    (key, fromStart) -> tokens.add(new Token(key, id, fromStart)));
+        }
+        tokens.sort(Comparator.comparing(Token::key));
+
+        String[] keys = new String[tokens.size()];
+        int[] entryIds = new int[tokens.size()];
+        boolean[] fromStart = new boolean[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            keys[i] = tokens.get(i).key();
+            entryIds[i] = tokens.get(i).entryId();
+            fromStart[i] = tokens.get(i).fromStart();
+        }
+        return new GeoSuggestIndex(keys, entryIds, fromStart, entries.toArray(new GeoSuggestionDTO[0]));
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Mejores k sugerencias: coincidencia exacta, luego inicio del nombre, luego palabra
+     * intermedia; dentro de cada grupo las capitales, el nivel más alto y el nombre más corto
+     */
+    List<GeoSuggestionDTO> suggest(String query, GeoLevelEnum level, int limit) {
+        String prefix = CatalogKeyNormalizer.normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Mejor rango de cada entrada dentro del intervalo de claves con el prefijo
+        Map<Integer, Integer> bestRank = new HashMap<>();
+        for (int i = PrefixSearch.lowerBound(keys, prefix), scanned = 0;
+             i < keys.length && scanned < PrefixSearch.MAX_SCAN && keys[i].startsWith(prefix);
+             i++, scanned++) {
+            GeoSuggestionDTO entry = entries[entryIds[i]];
+            if (level != null && entry.getLevel() != level) {
+                continue;
+            }
+            int rank = !fromStart[i] ? RANK_WORD : keys[i].length() == prefix.length() ? RANK_EXACT : RANK_START;
+            bestRank.merge(entryIds[i], rank, Math::min);
+        }
+
+        Comparator<Candidate> order = Comparator
+                .comparingInt(Candidate::rank)
+                .thenComparing(candidate -> !entries[candidate.entryId()].getIsCapital())
+                .thenComparing(candidate -> entries[candidate.entryId()].getLevel())
+                .thenComparingInt(candidate -> entries[candidate.entryId()].getName().length())
+                .thenComparing(candidate -> entries[candidate.entryId()].getName());
+
+        // Montículo con el peor candidato en la cima; nunca guarda más de k elementos
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, order.reversed());
+        bestRank.forEach((entryId, rank) -> {
+            top.add(new Candidate(entryId, rank));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(order);
+        List<GeoSuggestionDTO> result = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            result.add(entries[candidate.entryId()]);
+        }
+        return result;
+    }
+}
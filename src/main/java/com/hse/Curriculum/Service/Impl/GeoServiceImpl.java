@@ -9,6 +9,7 @@ import com.hse.Curriculum.Dto.GeoDTO.Municipality.*;
 import com.hse.Curriculum.Models.Country;
 import com.hse.Curriculum.Models.Municipality;
 import com.hse.Curriculum.Models.Department;
+import com.hse.Curriculum.Service.GeoCatalog;
 import com.hse.Curriculum.Service.GeoService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class GeoServiceImpl implements GeoService {
     private final MunicipalityRepository municipalityRepository;
     private final CountryRepository     countryRepository;
     private final GeoMapper             geoMapper;
+    private final GeoCatalog            geoCatalog;
 
     // ════════════════════════════════════════════════════════════
     //  DEPARTAMENTOS
@@ -43,28 +45,32 @@ public class GeoServiceImpl implements GeoService {
                     "Ya existe un departamento con el nombre: " + dto.getName());
         }
 
+        if (dto.getDaneCode() != null && departmentRepository.existsByDaneCode(dto.getDaneCode())) {
+            throw new RuntimeException(
+                    "Ya existe un departamento con el código DANE: " + dto.getDaneCode());
+        }
+
         Department department = Department.builder()
                 .country(country)
                 .name(dto.getName())
                 .daneCode(dto.getDaneCode())
                 .build();
 
+        geoCatalog.reloadAfterCommit();
         return geoMapper.toDepartmentResponseDTO(
                 departmentRepository.save(department));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public DepartmentResponseDTO getDepartmentById(Integer departmentId) {
-        return geoMapper.toDepartmentResponseDTO(
-                getDepartmentEntityById(departmentId));
+        return geoCatalog.findDepartmentById(departmentId)
+                .orElseThrow(() -> new RuntimeException(
+                        "Departamento no encontrado con ID: " + departmentId));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<DepartmentResponseDTO> getDepartmentsByCountry(Integer countryId) {
-        return geoMapper.toDepartmentResponseDTOList(
-                departmentRepository.findByCountryCountryIdOrderByNameAsc(countryId));
+        return geoCatalog.getDepartmentsByCountry(countryId);
     }
 
     @Override
@@ -73,7 +79,13 @@ public class GeoServiceImpl implements GeoService {
         Department department = getDepartmentEntityById(departmentId);
 
         if (dto.getName() != null)     department.setName(dto.getName());
-        if (dto.getDaneCode() != null) department.setDaneCode(dto.getDaneCode());
+        if (dto.getDaneCode() != null) {
+            if (departmentRepository.existsByDaneCodeAndDepartmentIdNot(dto.getDaneCode(), departmentId)) {
+                throw new RuntimeException(
+                        "Ya existe un departamento con el código DANE: " + dto.getDaneCode());
+            }
+            department.setDaneCode(dto.getDaneCode());
+        }
 
         if (dto.getCountryId() != null) {
             Country country = countryRepository.findById(dto.getCountryId())
@@ -82,6 +94,7 @@ public class GeoServiceImpl implements GeoService {
             department.setCountry(country);
         }
 
+        geoCatalog.reloadAfterCommit();
         return geoMapper.toDepartmentResponseDTO(
                 departmentRepository.save(department));
     }
@@ -91,6 +104,7 @@ public class GeoServiceImpl implements GeoService {
     public void deleteDepartment(Integer departmentId) {
         Department department = getDepartmentEntityById(departmentId);
         departmentRepository.delete(department);
+        geoCatalog.reloadAfterCommit();
     }
 
     @Override
@@ -116,6 +130,11 @@ public class GeoServiceImpl implements GeoService {
                     "Ya existe un municipio con el nombre: " + dto.getName());
         }
 
+        if (dto.getDaneCode() != null && municipalityRepository.existsByDaneCode(dto.getDaneCode())) {
+            throw new RuntimeException(
+                    "Ya existe un municipio con el código DANE: " + dto.getDaneCode());
+        }
+
         // Si se marca como capital, desmarcar la capital anterior
         if (Boolean.TRUE.equals(dto.getIsCapital())) {
             municipalityRepository
@@ -133,33 +152,28 @@ public class GeoServiceImpl implements GeoService {
                 .isCapital(dto.getIsCapital() != null ? dto.getIsCapital() : false)
                 .build();
 
+        geoCatalog.reloadAfterCommit();
         return geoMapper.toMunicipalityResponseDTO(
                 municipalityRepository.save(municipality));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public MunicipalityResponseDTO getMunicipalityById(Integer municipalityId) {
-        return geoMapper.toMunicipalityResponseDTO(
-                getMunicipalityEntityById(municipalityId));
+        return geoCatalog.findMunicipalityById(municipalityId)
+                .orElseThrow(() -> new RuntimeException(
+                        "Municipio no encontrado con ID: " + municipalityId));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<MunicipalityResponseDTO> getMunicipalitiesByDepartment(Integer departmentId) {
-        return geoMapper.toMunicipalityResponseDTOList(
-                municipalityRepository
-                        .findByDepartmentDepartmentIdOrderByNameAsc(departmentId));
+        return geoCatalog.getMunicipalitiesByDepartment(departmentId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public MunicipalityResponseDTO getCapitalByDepartment(Integer departmentId) {
-        Municipality capital = municipalityRepository
-                .findByDepartmentDepartmentIdAndIsCapitalTrue(departmentId)
+        return geoCatalog.findCapitalByDepartment(departmentId)
                 .orElseThrow(() -> new RuntimeException(
                         "No se encontró capital para el departamento ID: " + departmentId));
-        return geoMapper.toMunicipalityResponseDTO(capital);
     }
 
     @Override
@@ -170,7 +184,13 @@ public class GeoServiceImpl implements GeoService {
         Municipality municipality = getMunicipalityEntityById(municipalityId);
 
         if (dto.getName() != null)     municipality.setName(dto.getName());
-        if (dto.getDaneCode() != null) municipality.setDaneCode(dto.getDaneCode());
+        if (dto.getDaneCode() != null) {
+            if (municipalityRepository.existsByDaneCodeAndMunicipalityIdNot(dto.getDaneCode(), municipalityId)) {
+                throw new RuntimeException(
+                        "Ya existe un municipio con el código DANE: " + dto.getDaneCode());
+            }
+            municipality.setDaneCode(dto.getDaneCode());
+        }
 
         // Si se cambia a capital, desmarcar la capital anterior del mismo departamento
         if (Boolean.TRUE.equals(dto.getIsCapital())) {
@@ -193,6 +213,7 @@ public class GeoServiceImpl implements GeoService {
             municipality.setDepartment(department);
         }
 
+        geoCatalog.reloadAfterCommit();
         return geoMapper.toMunicipalityResponseDTO(
                 municipalityRepository.save(municipality));
     }
@@ -202,6 +223,7 @@ public class GeoServiceImpl implements GeoService {
     public void deleteMunicipality(Integer municipalityId) {
         Municipality municipality = getMunicipalityEntityById(municipalityId);
         municipalityRepository.delete(municipality);
+        geoCatalog.reloadAfterCommit();
     }
 
     // ── Helper privado ──────────────────────────────────────────
@@ -0,0 +1,234 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Dto.RoleDTO.PermissionDTO;
+import com.hse.Curriculum.Dto.RoleDTO.RolePermissionsDTO;
+import com.hse.Curriculum.Dto.RoleDTO.RolePermissionsResponseDTO;
+import com.hse.Curriculum.Enum.PermissionEnum;
+import com.hse.Curriculum.Exception.Role.RoleNotFoundException;
+import com.hse.Curriculum.Exception.Role.RoleOperationNotAllowedException;
+import com.hse.Curriculum.Models.Permission;
+import com.hse.Curriculum.Models.RolePermission;
+import com.hse.Curriculum.Models.Roles;
+import com.hse.Curriculum.Repository.PermissionRepository;
+import com.hse.Curriculum.Repository.RolePermissionRepository;
+import com.hse.Curriculum.Repository.RolesRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de permisos por rol
+ *
+ * Los permisos de cada rol se compilan en un bitset de ancho fijo (un bit por valor de
+ * PermissionEnum, según su orden) y se guardan en un mapa inmutable roleId -> long[].
+ * hasPermission es una prueba de bit sobre ese mapa, sin consultar la base de datos.
+ * Al editar los permisos de un rol se compila un mapa nuevo y se reemplaza la referencia
+ * después del commit, de modo que las lecturas concurrentes nunca ven un estado intermedio.
+ *
+ * El rol ADMIN siempre tiene todos los permisos y no se puede editar.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionService {
+
+    private static final String ADMIN_ROLE = "ADMIN";
+    private static final PermissionEnum[] PERMISSIONS = PermissionEnum.values();
+    private static final int WORDS = (PERMISSIONS.length + 63) >>> 6;
+    private static final long[] ALL = compile(EnumSet.allOf(PermissionEnum.class));
+
+    private final RolesRepository rolesRepository;
+    private final PermissionRepository permissionRepository;
+    private final RolePermissionRepository rolePermissionRepository;
+
+    private volatile Map<Integer, long[]> bitsByRole = Map.of();
+    private volatile boolean loaded = false;
+    private final Object swapLock = new Object();
+
+    // ========== CARGA ==========
+
+    @PostConstruct
+    public void loadPermissions() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible cargar los permisos por rol al iniciar: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compilar los permisos de todos los roles (dos consultas)
+     */
+    public void reload() {
+        synchronized (swapLock) {
+            Map<Integer, EnumSet<PermissionEnum>> granted = new HashMap<>();
+            for (Object[] row : rolePermissionRepository.findAllRolePermissionPairs()) {
+                PermissionEnum permission = parse((String) row[1]);
+                if (permission != null) {
+                    granted.computeIfAbsent((Integer) row[0], id -> EnumSet.noneOf(PermissionEnum.class)).add(permission);
+                }
+            }
+
+            Map<Integer, long[]> compiled = new HashMap<>();
+            granted.forEach((roleId, permissions) -> compiled.put(roleId, compile(permissions)));
+            rolesRepository.findByName(ADMIN_ROLE).ifPresent(admin -> compiled.put(admin.getRoleId(), ALL));
+
+            this.bitsByRole = Map.copyOf(compiled);
+            this.loaded = true;
+            log.info("✅ Permisos compilados para {} roles ({} permisos)", compiled.size(), PERMISSIONS.length);
+        }
+    }
+
+    // ========== EVALUACIÓN ==========
+
+    /**
+     * Verificar si un rol tiene un permiso (prueba de un bit)
+     */
+    public boolean hasPermission(Integer roleId, PermissionEnum permission) {
+        if (roleId == null || permission == null) {
+            return false;
+        }
+        if (!loaded) {
+            reload();
+        }
+        long[] bits = bitsByRole.get(roleId);
+        int bit = permission.ordinal();
+        return bits != null && (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * Catálogo de permisos disponibles
+     */
+    public List<PermissionDTO> getPermissionCatalog() {
+        return Arrays.stream(PERMISSIONS)
+                .map(permission -> PermissionDTO.builder()
+                        .code(permission)
+                        .description(permission.getDescription())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Permisos efectivos de un rol
+     */
+    public RolePermissionsResponseDTO getRolePermissions(Integer roleId) {
+        Roles role = rolesRepository.findById(roleId)
+                .orElseThrow(() -> new RoleNotFoundException(roleId));
+        return toResponse(role);
+    }
+
+    // ========== ESCRITURAS ==========
+
+    /**
+     * Reemplazar los permisos de un rol
+     */
+    @Transactional
+    public RolePermissionsResponseDTO setRolePermissions(Integer roleId, RolePermissionsDTO dto) {
+        Roles role = rolesRepository.findById(roleId)
+                .orElseThrow(() -> new RoleNotFoundException(roleId));
+
+        if (ADMIN_ROLE.equalsIgnoreCase(role.getName())) {
+            throw new RoleOperationNotAllowedException("El rol ADMIN tiene todos los permisos y no se puede modificar");
+        }
+
+        EnumSet<PermissionEnum> permissions = dto.getPermissions().isEmpty()
+                ? EnumSet.noneOf(PermissionEnum.class)
+                : EnumSet.copyOf(dto.getPermissions());
+
+        rolePermissionRepository.deleteByRoleId(roleId);
+
+        Map<String, Permission> catalog = permissionRepository.findAll().stream()
+                .collect(Collectors.toMap(Permission::getCode, Function.identity()));
+
+        List<RolePermission> assignments = new ArrayList<>(permissions.size());
+        for (PermissionEnum permission : permissions) {
+            Permission entity = catalog.get(permission.name());
+            if (entity == null) {
+                // El catálogo se completa a medida que se asignan permisos nuevos
+                entity = permissionRepository.save(Permission.builder()
+                        .code(permission.name())
+                        .description(permission.getDescription())
+                        .build());
+            }
+            assignments.add(RolePermission.builder().role(role).permission(entity).build());
+        }
+        rolePermissionRepository.saveAll(assignments);
+
+        long[] bits = compile(permissions);
+        TransactionCallbacks.afterCommit(() -> swap(roleId, bits));
+
+        log.info("✅ Rol {} con {} permisos", roleId, permissions.size());
+        return RolePermissionsResponseDTO.builder()
+                .roleId(roleId)
+                .roleName(role.getName())
+                .permissions(new ArrayList<>(permissions))
+                .build();
+    }
+
+    /**
+     * Eliminar los permisos de un rol que se va a eliminar
+     * (debe llamarse dentro de la transacción que elimina el rol)
+     */
+    public void deleteRolePermissions(Integer roleId) {
+        rolePermissionRepository.deleteByRoleId(roleId);
+        TransactionCallbacks.afterCommit(() -> swap(roleId, null));
+    }
+
+    // ========== HELPERS ==========
+
+    /**
+     * Reemplazar el bitset de un rol publicando un mapa nuevo
+     */
+    private void swap(Integer roleId, long[] bits) {
+        synchronized (swapLock) {
+            Map<Integer, long[]> updated = new HashMap<>(bitsByRole);
+            if (bits == null || Arrays.stream(bits).allMatch(word -> word == 0)) {
+                updated.remove(roleId);
+            } else {
+                updated.put(roleId, bits);
+            }
+            this.bitsByRole = Map.copyOf(updated);
+        }
+    }
+
+    private RolePermissionsResponseDTO toResponse(Roles role) {
+        List<PermissionEnum> permissions = Arrays.stream(PERMISSIONS)
+                .filter(permission -> hasPermission(role.getRoleId(), permission))
+                .toList();
+        return RolePermissionsResponseDTO.builder()
+                .roleId(role.getRoleId())
+                .roleName(role.getName())
+                .permissions(permissions)
+                .build();
+    }
+
+    private static long[] compile(Set<PermissionEnum> permissions) {
+        long[] bits = new long[WORDS];
+        for (PermissionEnum permission : permissions) {
+            int bit = permission.ordinal();
+            bits[bit >>> 6] |= 1L << bit;
+        }
+        return bits;
+    }
+
+    /**
+     * Códigos que ya no existen en PermissionEnum se ignoran
+     */
+    private static PermissionEnum parse(String code) {
+        try {
+            return PermissionEnum.valueOf(code);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("⚠️ Permiso desconocido ignorado: {}", code);
+            return null;
+        }
+    }
+}
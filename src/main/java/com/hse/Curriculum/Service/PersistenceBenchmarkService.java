@@ -0,0 +1,189 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Dto.PersistenceDTO.BatchBenchmarkDTO;
+import com.hse.Curriculum.Dto.PersistenceDTO.BatchBenchmarkRunDTO;
+import com.hse.Curriculum.Enum.BatchBenchmarkScenarioEnum;
+import com.hse.Curriculum.Models.AuditLog;
+import com.hse.Curriculum.Models.Profiles;
+import com.hse.Curriculum.Models.Roles;
+import com.hse.Curriculum.Models.Training;
+import com.hse.Curriculum.Models.Users;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Benchmark de escritura masiva: mide cuántas sentencias JDBC cuesta persistir N filas
+ * fila por fila y con lotes JDBC, para auditoría, registro de usuarios (usuario + perfil)
+ * e importación de capacitaciones
+ *
+ * Cada pasada abre su propia sesión con un StatementInspector que cuenta las sentencias
+ * preparadas (Hibernate prepara una sola sentencia por lote) y al final revierte la transacción,
+ * así que no quedan filas; solo se consumen valores de las secuencias
+ *
+ * Con reWriteBatchedInserts el driver además reescribe cada lote como un INSERT multi-fila
+ *
+ * Ejecuta miles de INSERT reales contra la base de datos, por eso solo existe con el perfil
+ * "benchmark"; no se activa en ningún despliegue por defecto
+ */
+@Slf4j
+@Service
+@Profile("benchmark")
+public class PersistenceBenchmarkService {
+
+    private static final int WARM_UP_ROWS = 200;
+
+    private final SessionFactory sessionFactory;
+    private final int jdbcBatchSize;
+    private final int maxRows;
+
+    public PersistenceBenchmarkService(EntityManagerFactory entityManagerFactory,
+                                       @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int jdbcBatchSize,
+                                       @Value("${app.persistence.benchmark.max-rows:10000}") int maxRows) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.jdbcBatchSize = Math.max(1, jdbcBatchSize);
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Persistir las mismas filas sin lotes y con lotes, revirtiendo ambas pasadas
+     */
+    public BatchBenchmarkDTO runBenchmark(BatchBenchmarkScenarioEnum scenario, int rows) {
+        int size = Math.max(1, Math.min(rows, maxRows));
+
+        // Pasada descartada para no cargarle a la primera medición el calentamiento de la JVM
+        runPass(scenario, Math.min(size, WARM_UP_ROWS), jdbcBatchSize);
+
+        BatchBenchmarkRunDTO unbatched = runPass(scenario, size, 1);
+        BatchBenchmarkRunDTO batched = runPass(scenario, size, jdbcBatchSize);
+
+        log.info("✅ Benchmark de lotes ({}): {} filas, {} INSERT en {} ms sin lotes vs {} INSERT en {} ms con lotes de {}",
+                scenario, size, unbatched.getInsertStatements(), unbatched.getElapsedMillis(),
+                batched.getInsertStatements(), batched.getElapsedMillis(), jdbcBatchSize);
+
+        return BatchBenchmarkDTO.builder()
+                .scenario(scenario)
+                .rows(size)
+                .unbatched(unbatched)
+                .batched(batched)
+                .build();
+    }
+
+    /**
+     * Una pasada en sesión propia; el contexto de persistencia se vacía cada jdbcBatchSize filas
+     * en ambas pasadas para que solo cambie el tamaño de lote
+     */
+    private BatchBenchmarkRunDTO runPass(BatchBenchmarkScenarioEnum scenario, int rows, int batchSize) {
+        AtomicInteger inserts = new AtomicInteger();
+        AtomicInteger sequenceCalls = new AtomicInteger();
+        StatementInspector inspector = sql -> {
+            String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if (statement.startsWith("insert")) {
+                inserts.incrementAndGet();
+            } else if (statement.contains("nextval")) {
+                sequenceCalls.incrementAndGet();
+            }
+            return sql;
+        };
+
+        try (Session session = sessionFactory.withOptions().statementInspector(inspector).openSession()) {
+            session.setJdbcBatchSize(batchSize);
+            Transaction transaction = session.beginTransaction();
+            try {
+                ObjIntConsumer<Session> writer = writerFor(scenario, session);
+                // Las filas de preparación (el dueño de las capacitaciones) no se cuentan
+                inserts.set(0);
+                sequenceCalls.set(0);
+
+                long start = System.nanoTime();
+                for (int i = 0; i < rows; i++) {
+                    writer.accept(session, i);
+                    if ((i + 1) % jdbcBatchSize == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                session.flush();
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+                return BatchBenchmarkRunDTO.builder()
+                        .jdbcBatchSize(batchSize)
+                        .insertStatements(inserts.get())
+                        .sequenceCalls(sequenceCalls.get())
+                        .elapsedMillis(elapsedMillis)
+                        .build();
+            } finally {
+                transaction.rollback();
+            }
+        }
+    }
+
+    /**
+     * Escritura de una fila del escenario; las entidades relacionadas se pasan por referencia
+     * porque la sesión se vacía entre lotes
+     */
+    private ObjIntConsumer<Session> writerFor(BatchBenchmarkScenarioEnum scenario, Session session) {
+        return switch (scenario) {
+            case AUDIT -> (s, i) -> s.persist(AuditLog.builder()
+                    .tableName("benchmark")
+                    .recordId(i)
+                    .action(AuditLog.AuditAction.INSERT)
+                    .description("Benchmark de escritura por lotes")
+                    .build());
+            case REGISTRATION -> {
+                Integer roleId = userRoleId(session);
+                long run = System.nanoTime();
+                yield (s, i) -> {
+                    Users user = benchmarkUser(s.getReference(Roles.class, roleId), "registro-" + run + "-" + i);
+                    s.persist(user);
+                    Profiles profile = new Profiles();
+                    profile.setUser(user);
+                    profile.setDocumentNumber("BENCH-" + i);
+                    s.persist(profile);
+                };
+            }
+            case TRAINING_IMPORT -> {
+                Users owner = benchmarkUser(session.getReference(Roles.class, userRoleId(session)),
+                        "importacion-" + System.nanoTime());
+                session.persist(owner);
+                session.flush();
+                Integer ownerId = owner.getUserId();
+                yield (s, i) -> s.persist(Training.builder()
+                        .user(s.getReference(Users.class, ownerId))
+                        .courseName("Curso de benchmark " + i)
+                        .trainingType("Benchmark")
+                        .institution("Benchmark")
+                        .isCompleted(true)
+                        .completionDate(LocalDate.now())
+                        .build());
+            }
+        };
+    }
+
+    private static Integer userRoleId(Session session) {
+        return session.createQuery("SELECT r.roleId FROM Roles r WHERE r.name = 'USER'", Integer.class)
+                .getSingleResult();
+    }
+
+    private static Users benchmarkUser(Roles role, String tag) {
+        Users user = new Users();
+        user.setFirstName("Benchmark");
+        user.setLastName(tag);
+        user.setEmail(tag + "@benchmark.local");
+        user.setPassword("benchmark");
+        user.setStatus(true);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,304 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Dto.ProfileDTO.ProfileCompletenessDTO;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import com.hse.Curriculum.Models.Profiles;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.ProfilesRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.WorkExperienceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servicio que mantiene el puntaje ponderado de completitud (0-100) de cada hoja de vida
+ *
+ * El puntaje se guarda en la columna indexada profiles.completeness_score y se
+ * recalcula solo para el usuario afectado después de cada escritura (evento
+ * CurriculumChangedEvent), en lugar de calcularse en cada lectura.
+ *
+ * Ponderación:
+ * - Datos mínimos (documento, teléfono, fecha de nacimiento): 30
+ * - Tipo de documento y dirección de residencia: 10
+ * - Resumen profesional: 10
+ * - Logros profesionales: 5
+ * - Al menos un registro de educación: 20
+ * - Al menos una capacitación completada: 15
+ * - Al menos una experiencia laboral: 10
+ */
+@Slf4j
+@Service
+public class ProfileCompletenessService {
+
+    public static final int WEIGHT_MINIMUM_DATA = 30;
+    public static final int WEIGHT_CONTACT_DATA = 10;
+    public static final int WEIGHT_PROFESSIONAL_SUMMARY = 10;
+    public static final int WEIGHT_CAREER_ACHIEVEMENTS = 5;
+    public static final int WEIGHT_EDUCATION = 20;
+    public static final int WEIGHT_TRAINING = 15;
+    public static final int WEIGHT_WORK_EXPERIENCE = 10;
+
+    /**
+     * Puntaje desde el cual el perfil se marca como completo (profileComplete = true)
+     */
+    public static final int COMPLETE_THRESHOLD = 80;
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final ProfilesRepository profilesRepository;
+    private final EducationRepository educationRepository;
+    private final TrainingRepository trainingRepository;
+    private final WorkExperienceRepository workExperienceRepository;
+    private final TransactionTemplate chunkTransaction;
+    private final ForkJoinPool backfillPool;
+    private final int chunkSize;
+
+    public ProfileCompletenessService(ProfilesRepository profilesRepository,
+                                      EducationRepository educationRepository,
+                                      TrainingRepository trainingRepository,
+                                      WorkExperienceRepository workExperienceRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.completeness.backfill-chunk-size:500}") int chunkSize,
+                                      @Value("${app.completeness.backfill-parallelism:4}") int parallelism) {
+        this.profilesRepository = profilesRepository;
+        this.educationRepository = educationRepository;
+        this.trainingRepository = trainingRepository;
+        this.workExperienceRepository = workExperienceRepository;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.backfillPool = new ForkJoinPool(Math.max(1, parallelism));
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Recalcular el puntaje del usuario afectado una vez confirmada la transacción de escritura
+     * Corre en su propia transacción para no depender de la que ya terminó, y antes que los
+     * demás listeners para que el índice de facetas lea el puntaje nuevo
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCurriculumChanged(CurriculumChangedEvent event) {
+        try {
+            recompute(List.of(event.getUserId()));
+        } catch (Exception e) {
+            // Un fallo aquí no debe afectar la escritura ya confirmada; el backfill lo corrige
+            log.error("❌ Error recalculando completitud del usuario {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Recalcular el puntaje de los usuarios afectados por una operación masiva
+     * Procesa por bloques, cada uno en su propia transacción
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCurriculumBulkChanged(CurriculumBulkChangedEvent event) {
+        List<Integer> userIds = new ArrayList<>(event.getUserIds());
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<Integer> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            try {
+                chunkTransaction.execute(status -> recompute(chunk));
+            } catch (Exception e) {
+                log.error("❌ Error recalculando completitud de {} usuarios: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Recalcular el puntaje de un grupo de usuarios
+     * Usa una consulta agrupada por sección en lugar de una consulta por usuario
+     *
+     * @param userIds IDs de los usuarios
+     * @return Cantidad de perfiles cuyo puntaje cambió
+     */
+    @Transactional
+    public int recompute(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Profiles> profiles = profilesRepository.findByUserIdsWithUser(userIds);
+        if (profiles.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, Long> educationCounts = toCountMap(educationRepository.countByUserIds(userIds));
+        Map<Integer, Long> trainingCounts = toCountMap(trainingRepository.countCompletedByUserIds(userIds));
+        Map<Integer, Long> workCounts = toCountMap(workExperienceRepository.countByUserIds(userIds));
+
+        int changed = 0;
+        for (Profiles profile : profiles) {
+            Integer userId = profile.getUser().getUserId();
+            int score = computeScore(
+                    profile,
+                    educationCounts.getOrDefault(userId, 0L),
+                    trainingCounts.getOrDefault(userId, 0L),
+                    workCounts.getOrDefault(userId, 0L)
+            );
+            boolean complete = score >= COMPLETE_THRESHOLD;
+
+            // Solo se escribe si cambió, para no generar UPDATE innecesarios
+            if (!Integer.valueOf(score).equals(profile.getCompletenessScore())
+                    || !Boolean.valueOf(complete).equals(profile.getProfileComplete())) {
+                profile.setCompletenessScore(score);
+                profile.setProfileComplete(complete);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Recalcular el puntaje de todos los perfiles (backfill)
+     * Divide los usuarios en bloques y procesa los bloques en paralelo,
+     * cada uno en su propia transacción
+     *
+     * @return Cantidad de perfiles cuyo puntaje cambió
+     */
+    public int backfill() {
+        List<Integer> userIds = profilesRepository.findAllUserIds();
+        log.info("🔄 Recalculando completitud de {} perfiles en bloques de {}", userIds.size(), chunkSize);
+
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            chunks.add(userIds.subList(from, Math.min(from + chunkSize, userIds.size())));
+        }
+
+        AtomicInteger changed = new AtomicInteger();
+        try {
+            backfillPool.submit(() -> chunks.parallelStream().forEach(chunk -> {
+                Integer result = chunkTransaction.execute(status -> recompute(chunk));
+                changed.addAndGet(result != null ? result : 0);
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Recálculo de completitud interrumpido", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error recalculando completitud: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        log.info("✅ Recálculo de completitud terminado: {} perfiles actualizados", changed.get());
+        return changed.get();
+    }
+
+    /**
+     * Obtener la cola de usuarios con menor completitud (paginación por cursor)
+     *
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size Tamaño de página
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProfileCompletenessDTO> getCompletenessQueue(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        int afterScore = -1;
+        int afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            int[] key = CursorCodec.decodeInts(cursor, 2);
+            afterScore = key[0];
+            afterId = key[1];
+        }
+
+        // Se pide un elemento extra para saber si existe una página siguiente
+        List<ProfilesRepository.CompletenessProjection> rows = profilesRepository.findCompletenessQueue(
+                afterScore, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ProfilesRepository.CompletenessProjection> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<ProfileCompletenessDTO> items = new ArrayList<>(page.size());
+        for (ProfilesRepository.CompletenessProjection row : page) {
+            items.add(ProfileCompletenessDTO.builder()
+                    .userId(row.getUserId())
+                    .fullName(row.getFirstName() + " " + row.getLastName())
+                    .email(row.getEmail())
+                    .chargeName(row.getChargeName())
+                    .completenessScore(row.getCompletenessScore())
+                    .profileComplete(row.getProfileComplete())
+                    .build());
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            ProfilesRepository.CompletenessProjection last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCompletenessScore(), last.getProfilesId());
+        }
+
+        return CursorPageDTO.<ProfileCompletenessDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .size(items.size())
+                .build();
+    }
+
+    /**
+     * Calcular el puntaje ponderado de un perfil
+     */
+    public static int computeScore(Profiles profile, long educationCount, long completedTrainingCount,
+                                   long workExperienceCount) {
+        int score = 0;
+        if (profile.hasMinimumData()) {
+            score += WEIGHT_MINIMUM_DATA;
+        }
+        if (hasText(profile.getDocumentType()) && hasText(profile.getResidentialAddress())) {
+            score += WEIGHT_CONTACT_DATA;
+        }
+        if (hasText(profile.getProfessionalSummary())) {
+            score += WEIGHT_PROFESSIONAL_SUMMARY;
+        }
+        if (hasText(profile.getCareerAchievements())) {
+            score += WEIGHT_CAREER_ACHIEVEMENTS;
+        }
+        if (educationCount > 0) {
+            score += WEIGHT_EDUCATION;
+        }
+        if (completedTrainingCount > 0) {
+            score += WEIGHT_TRAINING;
+        }
+        if (workExperienceCount > 0) {
+            score += WEIGHT_WORK_EXPERIENCE;
+        }
+        return score;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static Map<Integer, Long> toCountMap(List<Object[]> rows) {
+        Map<Integer, Long> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put((Integer) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        backfillPool.shutdownNow();
+    }
+}
@@ -13,6 +13,8 @@ import com.hse.Curriculum.Models.Profiles;
 import com.hse.Curriculum.Models.Users;
 import com.hse.Curriculum.Repository.ProfilesRepository;
 import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,11 +26,14 @@ public class ProfilesService {
 
     private final ProfilesRepository profilesRepository;
     private final UsersRepository usersRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProfilesService(ProfilesRepository profilesRepository,
-                           UsersRepository usersRepository) {
+                           UsersRepository usersRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.profilesRepository = profilesRepository;
         this.usersRepository = usersRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -62,6 +67,7 @@ public class ProfilesService {
 
         // Guardar
         Profiles savedProfile = profilesRepository.save(profile);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.PROFILE, CurriculumChangedEvent.ChangeType.CREATED));
 
         log.info("✅ Perfil vacío creado con ID: {} para usuario: {}",
                 savedProfile.getProfilesId(), userId);
@@ -87,6 +93,7 @@ public class ProfilesService {
         profile.setCareerAchievements(dto.getCareerAchievements());
 
         profilesRepository.save(profile);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.PROFILE, CurriculumChangedEvent.ChangeType.UPDATED));
 
         System.out.println("✅ Información profesional actualizada");
     }
@@ -0,0 +1,262 @@
+package com.hse.Curriculum.Service;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Dto.ApiResponseDTO;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respuestas precalculadas de los datos de referencia (países, departamentos, municipios,
+ * roles activos y cargos activos)
+ *
+ * La primera solicitud serializa el ApiResponseDTO una sola vez y guarda el JSON y sus
+ * versiones gzip y Brotli (si la librería nativa está disponible) como arreglos de bytes
+ * inmutables. Las siguientes solicitudes solo escriben el arreglo que corresponde a
+ * Accept-Encoding, o responden 304 si el cliente ya tiene esa versión.
+ *
+ * Cada codificación tiene su propio ETag (hash del contenido + sufijo de la codificación)
+ * y la respuesta se marca con Vary: Accept-Encoding, de modo que las cachés compartidas
+ * no mezclen variantes. El Cache-Control es público porque los datos no dependen del usuario.
+ *
+ * Las escrituras de cada grupo invalidan sus respuestas después del commit; la siguiente
+ * lectura las vuelve a generar. Cada grupo lleva una generación: una respuesta construida
+ * mientras ocurría una invalidación se entrega pero no se guarda.
+ */
+@Slf4j
+@Service
+public class ReferencePayloadCache {
+
+    /**
+     * Grupos de respuestas que se invalidan juntas
+     */
+    public enum Group {
+        GEO,
+        ROLES,
+        CHARGES
+    }
+
+    /**
+     * Respuesta serializada; los arreglos no se modifican después de construirse
+     * (brotli es null si la librería nativa no está disponible)
+     */
+    private record Payload(byte[] identity, byte[] gzip, byte[] brotli, String hash) {
+
+        /**
+         * ETag fuerte de la variante: cada codificación tiene bytes distintos
+         */
+        String etag(String encoding) {
+            return encoding == null ? "\"" + hash + "\"" : "\"" + hash + "-" + encoding + "\"";
+        }
+
+        byte[] body(String encoding) {
+            if ("br".equals(encoding)) {
+                return brotli;
+            }
+            return "gzip".equals(encoding) ? gzip : identity;
+        }
+    }
+
+    private static final int BROTLI_QUALITY = 11;
+
+    private final ObjectMapper objectMapper;
+    private final CacheControl cacheControl;
+    private final Map<Group, Map<String, Payload>> payloads = new ConcurrentHashMap<>();
+    private final Map<Group, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final boolean brotliAvailable;
+
+    public ReferencePayloadCache(ObjectMapper objectMapper,
+                                 @Value("${app.reference.max-age-seconds:3600}") long maxAgeSeconds) {
+        this.objectMapper = objectMapper;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+        for (Group group : Group.values()) {
+            payloads.put(group, new ConcurrentHashMap<>());
+            generations.put(group, new AtomicLong());
+        }
+        this.brotliAvailable = Brotli4jLoader.isAvailable();
+        if (!brotliAvailable) {
+            log.warn("⚠️ Brotli no disponible, solo se servirá gzip: {}",
+                    Brotli4jLoader.getUnavailabilityCause().getMessage());
+        }
+    }
+
+    /**
+     * Responder con la versión precalculada, generándola si no existe
+     *
+     * @param group Grupo de invalidación
+     * @param key Clave dentro del grupo (ej: "country:39")
+     * @param webRequest Solicitud (If-None-Match y Accept-Encoding)
+     * @param body Genera la respuesta cuando no está en caché
+     */
+    public ResponseEntity<byte[]> respond(Group group, String key, WebRequest webRequest,
+                                          Supplier<ApiResponseDTO<?>> body) {
+        Payload payload = load(group, key, body);
+        String encoding = selectEncoding(payload, webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = payload.etag(encoding);
+
+        // checkNotModified interpreta listas de ETags y comparación débil en If-None-Match
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (encoding != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return response.body(payload.body(encoding));
+    }
+
+    /**
+     * Obtener la respuesta del grupo o construirla
+     *
+     * La generación se lee antes de consultar la base de datos; si una invalidación la
+     * cambia mientras se construye, la respuesta (posiblemente anterior al commit) se
+     * devuelve a esta solicitud pero no queda guardada.
+     */
+    private Payload load(Group group, String key, Supplier<ApiResponseDTO<?>> body) {
+        AtomicLong generation = generations.get(group);
+        long expected = generation.get();
+        Payload[] built = new Payload[1];
+
+        Payload payload = payloads.get(group).computeIfAbsent(key, k -> {
+            built[0] = build(body.get());
+            return generation.get() == expected ? built[0] : null;
+        });
+        return payload != null ? payload : built[0];
+    }
+
+    /**
+     * Invalidar las respuestas de un grupo cuando se confirme la transacción actual
+     */
+    public void invalidateAfterCommit(Group group) {
+        TransactionCallbacks.afterCommit(() -> invalidate(group));
+    }
+
+    public void invalidate(Group group) {
+        generations.get(group).incrementAndGet();
+        payloads.get(group).clear();
+    }
+
+    /**
+     * Los roles y cargos activos incluyen el número de usuarios, que cambia al asignarlos
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumChanged(CurriculumChangedEvent event) {
+        if (event.getSection() == CurriculumChangedEvent.Section.USER) {
+            invalidate(Group.ROLES);
+            invalidate(Group.CHARGES);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumBulkChanged(CurriculumBulkChangedEvent event) {
+        if (event.getSection() == CurriculumChangedEvent.Section.USER) {
+            invalidate(Group.ROLES);
+            invalidate(Group.CHARGES);
+        }
+    }
+
+    // ========== SERIALIZACIÓN ==========
+
+    private Payload build(ApiResponseDTO<?> body) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzip(identity);
+            byte[] brotli = brotliAvailable ? brotli(identity) : null;
+            log.debug("Respuesta de referencia generada: {} bytes, {} gzip, {} br",
+                    identity.length, gzip.length, brotli != null ? brotli.length : "-");
+            return new Payload(identity, gzip, brotli, DigestUtils.md5DigestAsHex(identity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No fue posible serializar la respuesta de referencia", e);
+        }
+    }
+
+    /**
+     * Comprimir una sola vez con el nivel máximo (el costo no se repite por solicitud)
+     */
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException("No fue posible comprimir la respuesta de referencia", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] data) {
+        try {
+            return Encoder.compress(data, new Encoder.Parameters().setQuality(BROTLI_QUALITY));
+        } catch (IOException e) {
+            throw new IllegalStateException("No fue posible comprimir la respuesta de referencia", e);
+        }
+    }
+
+    /**
+     * Codificación a servir: br, luego gzip; null para el JSON sin comprimir
+     */
+    private static String selectEncoding(Payload payload, String acceptEncoding) {
+        if (payload.brotli() != null && accepts(acceptEncoding, "br")) {
+            return "br";
+        }
+        return accepts(acceptEncoding, "gzip") ? "gzip" : null;
+    }
+
+    /**
+     * Acepta la codificación si aparece en Accept-Encoding (o "*") sin q=0
+     */
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!encoding.equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim().replace(" ", "");
+                if (param.startsWith("q=") && param.substring(2).matches("0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,349 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Dto.ChargeDTO.ChargeResponseDTO;
+import com.hse.Curriculum.Dto.RoleDTO.RoleResponseDTO;
+import com.hse.Curriculum.Models.Charge;
+import com.hse.Curriculum.Models.Roles;
+import com.hse.Curriculum.Repository.ChargeRepository;
+import com.hse.Curriculum.Repository.RolesRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché en memoria de roles y cargos con el número de usuarios de cada uno
+ *
+ * Roles y cargos son pocos y cambian poco: se cargan al iniciar y RoleService/ChargeService
+ * escriben en la caché después de cada commit (write-through). Los conteos de usuarios son
+ * contadores concurrentes sembrados con un solo GROUP BY y ajustados por UsersService al
+ * crear usuarios o cambiarles el rol o el cargo. Cada noche se vuelven a sembrar por si
+ * alguna escritura fuera de esos servicios los desvió.
+ *
+ * Los conteos incluyen usuarios activos e inactivos (misma semántica que countUsersByRoleId).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoleChargeCache {
+
+    private final RolesRepository rolesRepository;
+    private final ChargeRepository chargeRepository;
+    private final UsersRepository usersRepository;
+
+    private volatile Map<Integer, RoleEntry> roles = Map.of();
+    private volatile Map<Integer, ChargeEntry> charges = Map.of();
+    private final Map<Integer, AtomicLong> usersByRole = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> usersByCharge = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+    private final Object writeLock = new Object();
+
+    private record RoleEntry(Integer roleId, String name, String description, Boolean status,
+                             LocalDateTime createdAt) {
+    }
+
+    private record ChargeEntry(Integer chargeId, String nameCharge, String description, Boolean status,
+                               LocalDateTime createdAt, LocalDateTime updatedAt,
+                               Integer createdBy, Integer updatedBy) {
+    }
+
+    // ========== CARGA ==========
+
+    @PostConstruct
+    public void loadCache() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible cargar la caché de roles y cargos al iniciar: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cargar roles, cargos y conteos (tres consultas)
+     */
+    public void reload() {
+        synchronized (writeLock) {
+            Map<Integer, RoleEntry> loadedRoles = new HashMap<>();
+            for (Roles role : rolesRepository.findAll()) {
+                loadedRoles.put(role.getRoleId(), toEntry(role));
+            }
+            Map<Integer, ChargeEntry> loadedCharges = new HashMap<>();
+            for (Charge charge : chargeRepository.findAll()) {
+                loadedCharges.put(charge.getChargeId(), toEntry(charge));
+            }
+            this.roles = Map.copyOf(loadedRoles);
+            this.charges = Map.copyOf(loadedCharges);
+            recountUsers();
+            this.loaded = true;
+
+            log.info("✅ Caché de roles y cargos cargada: {} roles, {} cargos",
+                    loadedRoles.size(), loadedCharges.size());
+        }
+    }
+
+    /**
+     * Volver a sembrar los contadores con un solo GROUP BY
+     */
+    @Scheduled(cron = "${app.reference.recount-cron:0 50 0 * * *}")
+    public void recountUsers() {
+        Map<Integer, Long> byRole = new HashMap<>();
+        Map<Integer, Long> byCharge = new HashMap<>();
+        for (Object[] row : usersRepository.countUsersByRoleAndCharge()) {
+            long count = (Long) row[2];
+            if (row[0] != null) byRole.merge((Integer) row[0], count, Long::sum);
+            if (row[1] != null) byCharge.merge((Integer) row[1], count, Long::sum);
+        }
+        reseed(usersByRole, byRole);
+        reseed(usersByCharge, byCharge);
+    }
+
+    private static void reseed(Map<Integer, AtomicLong> counters, Map<Integer, Long> counts) {
+        counters.keySet().retainAll(counts.keySet());
+        counts.forEach((id, count) -> counters.computeIfAbsent(id, key -> new AtomicLong()).set(count));
+    }
+
+    // ========== ROLES ==========
+
+    /**
+     * Todos los roles ordenados por nombre
+     */
+    public List<RoleResponseDTO> getAllRoles() {
+        return roleList(entry -> true);
+    }
+
+    public List<RoleResponseDTO> getActiveRoles() {
+        return roleList(entry -> Boolean.TRUE.equals(entry.status()));
+    }
+
+    /**
+     * Roles cuyo nombre contiene el texto (sin distinguir mayúsculas)
+     */
+    public List<RoleResponseDTO> searchRoles(String name) {
+        String needle = name == null ? "" : name.toUpperCase();
+        return roleList(entry -> entry.name().toUpperCase().contains(needle));
+    }
+
+    public Optional<RoleResponseDTO> findRole(Integer roleId) {
+        RoleEntry entry = roleId == null ? null : roles().get(roleId);
+        return Optional.ofNullable(entry).map(this::toDTO);
+    }
+
+    public Optional<RoleResponseDTO> findRoleByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return roles().values().stream()
+                .filter(entry -> entry.name().equalsIgnoreCase(name))
+                .findFirst()
+                .map(this::toDTO);
+    }
+
+    /**
+     * Existe otro rol (distinto de excludedRoleId) con ese nombre
+     */
+    public boolean roleNameTaken(String name, Integer excludedRoleId) {
+        return roles().values().stream()
+                .anyMatch(entry -> entry.name().equalsIgnoreCase(name) && !entry.roleId().equals(excludedRoleId));
+    }
+
+    public long countUsersByRole(Integer roleId) {
+        AtomicLong counter = roleId == null ? null : usersByRole.get(roleId);
+        return counter != null ? counter.get() : 0L;
+    }
+
+    /**
+     * Publicar el rol guardado cuando se confirme la transacción
+     */
+    public void putRoleAfterCommit(Roles role) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (writeLock) {
+                Map<Integer, RoleEntry> updated = new HashMap<>(roles);
+                updated.put(role.getRoleId(), toEntry(role));
+                this.roles = Map.copyOf(updated);
+            }
+        });
+    }
+
+    public void removeRoleAfterCommit(Integer roleId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (writeLock) {
+                Map<Integer, RoleEntry> updated = new HashMap<>(roles);
+                updated.remove(roleId);
+                this.roles = Map.copyOf(updated);
+                usersByRole.remove(roleId);
+            }
+        });
+    }
+
+    // ========== CARGOS ==========
+
+    /**
+     * Todos los cargos ordenados por ID
+     */
+    public List<ChargeResponseDTO> getAllCharges() {
+        return chargeList(entry -> true);
+    }
+
+    public List<ChargeResponseDTO> getActiveCharges() {
+        return chargeList(entry -> Boolean.TRUE.equals(entry.status()));
+    }
+
+    /**
+     * Cargos cuyo nombre contiene el texto (sin distinguir mayúsculas)
+     */
+    public List<ChargeResponseDTO> searchCharges(String name) {
+        String needle = name == null ? "" : name.toLowerCase();
+        return chargeList(entry -> entry.nameCharge().toLowerCase().contains(needle));
+    }
+
+    public Optional<ChargeResponseDTO> findCharge(Integer chargeId) {
+        ChargeEntry entry = chargeId == null ? null : charges().get(chargeId);
+        return Optional.ofNullable(entry).map(this::toDTO);
+    }
+
+    public boolean chargeExists(Integer chargeId) {
+        return chargeId != null && charges().containsKey(chargeId);
+    }
+
+    /**
+     * Existe otro cargo (distinto de excludedChargeId) con exactamente ese nombre
+     */
+    public boolean chargeNameTaken(String nameCharge, Integer excludedChargeId) {
+        return charges().values().stream()
+                .anyMatch(entry -> entry.nameCharge().equals(nameCharge) && !entry.chargeId().equals(excludedChargeId));
+    }
+
+    public long countUsersByCharge(Integer chargeId) {
+        AtomicLong counter = chargeId == null ? null : usersByCharge.get(chargeId);
+        return counter != null ? counter.get() : 0L;
+    }
+
+    /**
+     * Publicar el cargo guardado cuando se confirme la transacción
+     * (las fechas de auditoría ya están asignadas en ese momento)
+     */
+    public void putChargeAfterCommit(Charge charge) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (writeLock) {
+                Map<Integer, ChargeEntry> updated = new HashMap<>(charges);
+                updated.put(charge.getChargeId(), toEntry(charge));
+                this.charges = Map.copyOf(updated);
+            }
+        });
+    }
+
+    // ========== CONTADORES DE USUARIOS ==========
+
+    /**
+     * Un usuario nuevo con ese rol y cargo (cualquiera puede ser null)
+     */
+    public void userAddedAfterCommit(Integer roleId, Integer chargeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            adjust(usersByRole, roleId, 1);
+            adjust(usersByCharge, chargeId, 1);
+        });
+    }
+
+    /**
+     * Un usuario cambió de rol y/o de cargo
+     */
+    public void userMovedAfterCommit(Integer oldRoleId, Integer newRoleId, Integer oldChargeId, Integer newChargeId) {
+        if (Objects.equals(oldRoleId, newRoleId) && Objects.equals(oldChargeId, newChargeId)) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            if (!Objects.equals(oldRoleId, newRoleId)) {
+                adjust(usersByRole, oldRoleId, -1);
+                adjust(usersByRole, newRoleId, 1);
+            }
+            if (!Objects.equals(oldChargeId, newChargeId)) {
+                adjust(usersByCharge, oldChargeId, -1);
+                adjust(usersByCharge, newChargeId, 1);
+            }
+        });
+    }
+
+    private static void adjust(Map<Integer, AtomicLong> counters, Integer id, int delta) {
+        if (id != null) {
+            counters.computeIfAbsent(id, key -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+
+    // ========== HELPERS ==========
+
+    private Map<Integer, RoleEntry> roles() {
+        ensureLoaded();
+        return roles;
+    }
+
+    private Map<Integer, ChargeEntry> charges() {
+        ensureLoaded();
+        return charges;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    private List<RoleResponseDTO> roleList(java.util.function.Predicate<RoleEntry> filter) {
+        return roles().values().stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(RoleEntry::name))
+                .map(this::toDTO)
+                .toList();
+    }
+
+    private List<ChargeResponseDTO> chargeList(java.util.function.Predicate<ChargeEntry> filter) {
+        return charges().values().stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(ChargeEntry::chargeId))
+                .map(this::toDTO)
+                .toList();
+    }
+
+    private RoleResponseDTO toDTO(RoleEntry entry) {
+        return RoleResponseDTO.builder()
+                .roleId(entry.roleId())
+                .name(entry.name())
+                .description(entry.description())
+                .status(entry.status())
+                .createdAt(entry.createdAt())
+                .userCount(countUsersByRole(entry.roleId()))
+                .build();
+    }
+
+    private ChargeResponseDTO toDTO(ChargeEntry entry) {
+        ChargeResponseDTO dto = new ChargeResponseDTO();
+        dto.setChargeId(entry.chargeId());
+        dto.setNameCharge(entry.nameCharge());
+        dto.setDescription(entry.description());
+        dto.setStatus(entry.status());
+        dto.setCreatedAt(entry.createdAt());
+        dto.setUpdatedAt(entry.updatedAt());
+        dto.setCreatedBy(entry.createdBy());
+        dto.setUpdatedBy(entry.updatedBy());
+        dto.setUserCount(countUsersByCharge(entry.chargeId()));
+        return dto;
+    }
+
+    private static RoleEntry toEntry(Roles role) {
+        return new RoleEntry(role.getRoleId(), role.getName(), role.getDescription(), role.getStatus(),
+                role.getCreatedAt());
+    }
+
+    private static ChargeEntry toEntry(Charge charge) {
+        return new ChargeEntry(charge.getChargeId(), charge.getNameCharge(), charge.getDescription(),
+                charge.getStatus(), charge.getCreatedAt(), charge.getUpdatedAt(),
+                charge.getCreatedBy(), charge.getUpdatedBy());
+    }
+}
@@ -15,7 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Servicio que maneja la lógica de negocio para los roles del sistema
@@ -26,6 +25,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RoleService {
     private final RolesRepository rolesRepository;
+    private final ReferencePayloadCache referencePayloadCache;
+    private final RoleChargeCache roleChargeCache;
+    private final PermissionService permissionService;
 
     // Roles del sistema que no se pueden eliminar
     private static final List<String> SYSTEM_ROLES = Arrays.asList("ADMIN", "USER");
@@ -43,7 +45,7 @@ public class RoleService {
 
         // Validar que el nombre no esté duplicado
         String roleName = dto.getName().toUpperCase();
-        if (rolesRepository.existsByName(roleName)) {
+        if (roleChargeCache.roleNameTaken(roleName, null)) {
             throw new RoleDuplicateException(roleName);
         }
 
@@ -56,6 +58,8 @@ public class RoleService {
 
         // Guardar en base de datos
         Roles savedRole = rolesRepository.save(role);
+        roleChargeCache.putRoleAfterCommit(savedRole);
+        referencePayloadCache.invalidateAfterCommit(ReferencePayloadCache.Group.ROLES);
         log.info("Rol creado exitosamente con ID: {}", savedRole.getRoleId());
 
         // Convertir a DTO de respuesta
@@ -64,25 +68,14 @@ public class RoleService {
 
     /**
      * Obtiene todos los roles del sistema
+     * Se sirven desde la caché en memoria, sin consultar la base de datos
      *
      * @return Lista de todos los roles con conteo de usuarios
      */
-    @Transactional(readOnly = true)
     public List<RoleResponseDTO> getAllRoles() {
         log.info("Obteniendo todos los roles");
 
-        List<RolesRepository.RoleProjection> projections = rolesRepository.findAllWithUserCount();
-
-        return projections.stream()
-                .map(proj -> RoleResponseDTO.builder()
-                        .roleId(proj.getRoleId())
-                        .name(proj.getName())
-                        .description(proj.getDescription())
-                        .status(proj.getStatus())
-                        .createdAt(proj.getCreatedAt())
-                        .userCount(proj.getUserCount())
-                        .build())
-                .collect(Collectors.toList());
+        return roleChargeCache.getAllRoles();
     }
 
     /**
@@ -90,18 +83,10 @@ public class RoleService {
      *
      * @return Lista de roles activos
      */
-    @Transactional(readOnly = true)
     public List<RoleResponseDTO> getActiveRoles() {
         log.info("Obteniendo roles activos");
 
-        List<Roles> roles = rolesRepository.findByStatus(true);
-
-        return roles.stream()
-                .map(role -> {
-                    Long userCount = rolesRepository.countUsersByRoleId(role.getRoleId());
-                    return convertToResponseDTO(role, userCount);
-                })
-                .collect(Collectors.toList());
+        return roleChargeCache.getActiveRoles();
     }
 
     /**
@@ -111,15 +96,11 @@ public class RoleService {
      * @return DTO con los datos del rol
      * @throws RoleNotFoundException Si no se encuentra el rol
      */
-    @Transactional(readOnly = true)
     public RoleResponseDTO getRoleById(Integer roleId) {
         log.info("Obteniendo rol con ID: {}", roleId);
 
-        Roles role = rolesRepository.findById(roleId)
+        return roleChargeCache.findRole(roleId)
                 .orElseThrow(() -> new RoleNotFoundException(roleId));
-
-        Long userCount = rolesRepository.countUsersByRoleId(roleId);
-        return convertToResponseDTO(role, userCount);
     }
 
     /**
@@ -129,15 +110,11 @@ public class RoleService {
      * @return DTO con los datos del rol
      * @throws RoleNotFoundException Si no se encuentra el rol
      */
-    @Transactional(readOnly = true)
     public RoleResponseDTO getRoleByName(String name) {
         log.info("Obteniendo rol con nombre: {}", name);
 
-        Roles role = rolesRepository.findByNameIgnoreCase(name)
+        return roleChargeCache.findRoleByName(name)
                 .orElseThrow(() -> new RoleNotFoundException(name, true));
-
-        Long userCount = rolesRepository.countUsersByRoleId(role.getRoleId());
-        return convertToResponseDTO(role, userCount);
     }
 
     /**
@@ -182,7 +159,7 @@ public class RoleService {
             String newName = dto.getName().toUpperCase();
 
             // Validar que el nuevo nombre no esté duplicado
-            if (!newName.equals(role.getName()) && rolesRepository.existsByNameAndRoleIdNot(newName, roleId)) {
+            if (!newName.equals(role.getName()) && roleChargeCache.roleNameTaken(newName, roleId)) {
                 throw new RoleDuplicateException(newName);
             }
 
@@ -201,10 +178,11 @@ public class RoleService {
 
         // Guardar cambios
         Roles updatedRole = rolesRepository.save(role);
+        roleChargeCache.putRoleAfterCommit(updatedRole);
+        referencePayloadCache.invalidateAfterCommit(ReferencePayloadCache.Group.ROLES);
         log.info("Rol ID: {} actualizado exitosamente", roleId);
 
-        Long userCount = rolesRepository.countUsersByRoleId(roleId);
-        return convertToResponseDTO(updatedRole, userCount);
+        return convertToResponseDTO(updatedRole, roleChargeCache.countUsersByRole(roleId));
     }
 
     /**
@@ -229,14 +207,17 @@ public class RoleService {
             throw new RoleOperationNotAllowedException("No se puede eliminar el rol del sistema: " + role.getName());
         }
 
-        // Verificar si está en uso
+        // Verificar si está en uso (conteo exacto de la base de datos, no el de la caché)
         Long userCount = rolesRepository.countUsersByRoleId(roleId);
         if (userCount > 0) {
             throw new RoleInUseException(role.getName(), userCount);
         }
 
-        // Eliminar rol
+        // Eliminar rol y sus permisos
+        permissionService.deleteRolePermissions(roleId);
         rolesRepository.delete(role);
+        roleChargeCache.removeRoleAfterCommit(roleId);
+        referencePayloadCache.invalidateAfterCommit(ReferencePayloadCache.Group.ROLES);
         log.info("Rol ID: {} eliminado exitosamente", roleId);
     }
 
@@ -263,11 +244,12 @@ public class RoleService {
 
         role.setStatus(status);
         Roles updatedRole = rolesRepository.save(role);
+        roleChargeCache.putRoleAfterCommit(updatedRole);
+        referencePayloadCache.invalidateAfterCommit(ReferencePayloadCache.Group.ROLES);
 
         log.info("Estado del rol ID: {} cambiado exitosamente", roleId);
 
-        Long userCount = rolesRepository.countUsersByRoleId(roleId);
-        return convertToResponseDTO(updatedRole, userCount);
+        return convertToResponseDTO(updatedRole, roleChargeCache.countUsersByRole(roleId));
     }
 
     /**
@@ -276,18 +258,10 @@ public class RoleService {
      * @param name Nombre parcial a buscar
      * @return Lista de roles que coinciden
      */
-    @Transactional(readOnly = true)
     public List<RoleResponseDTO> searchRolesByName(String name) {
         log.info("Buscando roles con nombre: {}", name);
 
-        List<Roles> roles = rolesRepository.searchByName(name);
-
-        return roles.stream()
-                .map(role -> {
-                    Long userCount = rolesRepository.countUsersByRoleId(role.getRoleId());
-                    return convertToResponseDTO(role, userCount);
-                })
-                .collect(Collectors.toList());
+        return roleChargeCache.searchRoles(name);
     }
 
     /**
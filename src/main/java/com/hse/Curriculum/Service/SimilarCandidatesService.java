@@ -0,0 +1,621 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.AsyncConfig;
+import com.hse.Curriculum.Converter.Matching.BoundedTopK;
+import com.hse.Curriculum.Converter.Search.SpanishSearchAnalyzer;
+import com.hse.Curriculum.Dto.MatchingDTO.SimilarCandidateDTO;
+import com.hse.Curriculum.Dto.MatchingDTO.SimilarityRebuildDTO;
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Exception.Users.UserNotFoundException;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Repository.WorkExperienceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Recomendador de candidatos similares ("más como este")
+ *
+ * Cada usuario se representa con un vector TF-IDF disperso (IDs de rasgo y pesos en arreglos
+ * primitivos, normalizado) sobre cinco grupos de rasgos: tipos de capacitación, palabras de los
+ * nombres de curso, niveles educativos, palabras de los títulos y palabras de los cargos
+ * desempeñados. Las palabras pasan por el mismo analizador en español del buscador.
+ *
+ * Un índice invertido rasgo -> usuarios poda los candidatos a quienes comparten al menos un
+ * rasgo poco común con el usuario consultado; sus cosenos se calculan en un ForkJoinPool propio
+ * con BoundedTopK, la misma selección acotada que usa el motor de candidatos por cargo.
+ *
+ * Cuando se confirma un cambio de hoja de vida solo se recalcula el vector del usuario (con el
+ * IDF vigente): su posición anterior queda marcada como libre y se compacta cuando las libres
+ * superan a las ocupadas. Una reconstrucción nocturna recalcula todos los pesos con el IDF actual.
+ */
+@Slf4j
+@Service
+public class SimilarCandidatesService {
+
+    /**
+     * Grupos de rasgos con su peso relativo dentro del vector
+     */
+    private enum FeatureGroup {
+        TRAINING_TYPE("Capacitación", 2.0),
+        COURSE("Curso", 1.0),
+        EDUCATION_LEVEL("Nivel educativo", 1.0),
+        DEGREE("Título", 1.5),
+        JOB_TITLE("Cargo desempeñado", 1.5);
+
+        private final String label;
+        private final double weight;
+
+        FeatureGroup(String label, double weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+    }
+
+    private static final int SPLIT_THRESHOLD = 4096;
+    private static final int SHARED_FEATURES = 5;
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    /**
+     * Un rasgo presente en más de esta fracción de usuarios no sirve para podar candidatos
+     */
+    private static final double PRUNING_MAX_DF_RATIO = 0.5;
+
+    private static final Comparator<Match> BEST_FIRST =
+            Comparator.comparingDouble(Match::similarity).reversed().thenComparingInt(Match::userId);
+
+    private final UsersRepository usersRepository;
+    private final EducationRepository educationRepository;
+    private final TrainingRepository trainingRepository;
+    private final WorkExperienceRepository workExperienceRepository;
+    private final ForkJoinPool scoringPool;
+    private final int maxResults;
+    private final Analyzer analyzer = new SpanishSearchAnalyzer();
+
+    /**
+     * Estado actual (null hasta la primera construcción)
+     */
+    private volatile SimilarityState state;
+    private final Object rebuildLock = new Object();
+
+    public SimilarCandidatesService(UsersRepository usersRepository,
+                                    EducationRepository educationRepository,
+                                    TrainingRepository trainingRepository,
+                                    WorkExperienceRepository workExperienceRepository,
+                                    @Value("${app.similarity.parallelism:4}") int parallelism,
+                                    @Value("${app.similarity.max-results:50}") int maxResults) {
+        this.usersRepository = usersRepository;
+        this.educationRepository = educationRepository;
+        this.trainingRepository = trainingRepository;
+        this.workExperienceRepository = workExperienceRepository;
+        this.scoringPool = new ForkJoinPool(Math.max(1, parallelism));
+        this.maxResults = Math.max(1, maxResults);
+    }
+
+    /**
+     * Rasgo sin internar: grupo y término normalizado
+     */
+    private record Feature(FeatureGroup group, String term) {
+    }
+
+    /**
+     * Vector inmutable de un usuario: IDs de rasgo ordenados y pesos normalizados (norma 1)
+     */
+    private record UserVector(int userId, int chargeId, boolean active, int[] features, float[] weights) {
+    }
+
+    private record Match(int userId, double similarity) {
+    }
+
+    private record Contribution(int feature, double value) {
+    }
+
+    /**
+     * Lista creciente de posiciones de usuario (lista de un rasgo en el índice invertido)
+     */
+    private static final class SlotList {
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+
+    /**
+     * Diccionario de rasgos, frecuencias de documento, vectores por posición e índice invertido
+     *
+     * Las consultas toman el candado de lectura y las actualizaciones el de escritura.
+     */
+    private static final class SimilarityState {
+        private final Map<String, Integer> featureIds = new HashMap<>();
+        private final List<Feature> features = new ArrayList<>();
+        private final List<SlotList> postings = new ArrayList<>();
+        private int[] documentFrequency = new int[1024];
+        private final List<UserVector> slots = new ArrayList<>();
+        private final Map<Integer, Integer> slotByUser = new HashMap<>();
+        private int freeSlots;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private int intern(Feature feature) {
+            String key = feature.group().ordinal() + ":" + feature.term();
+            Integer id = featureIds.get(key);
+            if (id != null) {
+                return id;
+            }
+            id = features.size();
+            featureIds.put(key, id);
+            features.add(feature);
+            postings.add(new SlotList());
+            if (id == documentFrequency.length) {
+                documentFrequency = Arrays.copyOf(documentFrequency, id * 2);
+            }
+            return id;
+        }
+
+        /**
+         * Conteo por rasgo interno de una lista de rasgos
+         */
+        private Map<Integer, Integer> count(List<Feature> userFeatures) {
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (Feature feature : userFeatures) {
+                counts.merge(intern(feature), 1, Integer::sum);
+            }
+            return counts;
+        }
+
+        private double idf(int feature, int users) {
+            return Math.log((users + 1.0) / (documentFrequency[feature] + 1.0)) + 1.0;
+        }
+
+        /**
+         * Pesos TF-IDF: peso del grupo × (1 + ln tf) × idf, normalizados a norma 1
+         */
+        private UserVector weigh(int userId, int chargeId, boolean active, Map<Integer, Integer> counts, int users) {
+            int[] ids = counts.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            float[] weights = new float[ids.length];
+            double norm = 0;
+            for (int i = 0; i < ids.length; i++) {
+                double weight = features.get(ids[i]).group().weight
+                        * (1.0 + Math.log(counts.get(ids[i])))
+                        * idf(ids[i], users);
+                weights[i] = (float) weight;
+                norm += weight * weight;
+            }
+            if (norm > 0) {
+                float inverse = (float) (1.0 / Math.sqrt(norm));
+                for (int i = 0; i < weights.length; i++) {
+                    weights[i] *= inverse;
+                }
+            }
+            return new UserVector(userId, chargeId, active, ids, weights);
+        }
+
+        private void put(UserVector vector) {
+            int slot = slots.size();
+            slots.add(vector);
+            slotByUser.put(vector.userId(), slot);
+            for (int feature : vector.features()) {
+                postings.get(feature).add(slot);
+            }
+        }
+
+        private void remove(int userId) {
+            Integer slot = slotByUser.remove(userId);
+            if (slot == null) {
+                return;
+            }
+            UserVector vector = slots.set(slot, null);
+            for (int feature : vector.features()) {
+                documentFrequency[feature]--;
+            }
+            freeSlots++;
+        }
+
+        /**
+         * Volver a numerar las posiciones sin huecos y reconstruir el índice invertido
+         */
+        private void compact() {
+            List<UserVector> live = slots.stream().filter(Objects::nonNull).toList();
+            slots.clear();
+            slotByUser.clear();
+            for (SlotList list : postings) {
+                list.size = 0;
+            }
+            live.forEach(this::put);
+            freeSlots = 0;
+        }
+    }
+
+    // ========== CONSTRUCCIÓN Y ACTUALIZACIÓN ==========
+
+    @PostConstruct
+    public void loadVectors() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible construir los vectores de hojas de vida al iniciar: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scoringPool.shutdownNow();
+    }
+
+    /**
+     * Reconstrucción nocturna (pesos con el IDF actual)
+     */
+    @Scheduled(cron = "${app.similarity.rebuild-cron:0 40 1 * * *}")
+    public void nightlyRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ Error en la reconstrucción nocturna de vectores de hojas de vida: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconstruir todos los vectores con una consulta por fuente de datos
+     */
+    public SimilarityRebuildDTO rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+
+            Map<Integer, List<Feature>> featuresByUser = new HashMap<>();
+            collectEducation(featuresByUser, educationRepository.findAllTypeTitleRows());
+            collectTrainings(featuresByUser, trainingRepository.findCompletedTypeCourseRows());
+            collectJobs(featuresByUser, workExperienceRepository.findAllJobTitleRows());
+
+            List<UsersRepository.WorkforceUserProjection> users = usersRepository.findWorkforceRows();
+
+            SimilarityState next = new SimilarityState();
+            Map<Integer, Map<Integer, Integer>> countsByUser = new HashMap<>();
+            for (UsersRepository.WorkforceUserProjection user : users) {
+                Map<Integer, Integer> counts = next.count(featuresByUser.getOrDefault(user.getUserId(), List.of()));
+                for (Integer feature : counts.keySet()) {
+                    next.documentFrequency[feature]++;
+                }
+                countsByUser.put(user.getUserId(), counts);
+            }
+            for (UsersRepository.WorkforceUserProjection user : users) {
+                next.put(next.weigh(user.getUserId(), chargeIdOf(user), Boolean.TRUE.equals(user.getStatus()),
+                        countsByUser.get(user.getUserId()), users.size()));
+            }
+
+            this.state = next;
+
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            log.info("✅ Vectores de hojas de vida construidos: {} usuarios, {} rasgos en {} ms",
+                    users.size(), next.features.size(), millis);
+
+            return SimilarityRebuildDTO.builder()
+                    .users(users.size())
+                    .features(next.features.size())
+                    .elapsedMillis(millis)
+                    .build();
+        }
+    }
+
+    /**
+     * Recalcular el vector del usuario cuando se confirma una escritura de su hoja de vida
+     */
+    @Async(AsyncConfig.INDEX_REFRESH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumChanged(CurriculumChangedEvent event) {
+        if (state == null || !affectsVectors(event.getSection())) {
+            return;
+        }
+        try {
+            refreshUsers(List.of(event.getUserId()));
+        } catch (Exception e) {
+            log.error("❌ Error actualizando el vector del usuario {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Después de una operación masiva se recalculan los vectores afectados por bloques
+     */
+    @Async(AsyncConfig.INDEX_REFRESH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumBulkChanged(CurriculumBulkChangedEvent event) {
+        if (state == null || !affectsVectors(event.getSection())) {
+            return;
+        }
+        List<Integer> userIds = new ArrayList<>(event.getUserIds());
+        for (int from = 0; from < userIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = userIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, userIds.size()));
+            try {
+                refreshUsers(chunk);
+            } catch (Exception e) {
+                log.error("❌ Error actualizando los vectores de {} usuarios: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean affectsVectors(CurriculumChangedEvent.Section section) {
+        return section == CurriculumChangedEvent.Section.USER
+                || section == CurriculumChangedEvent.Section.EDUCATION
+                || section == CurriculumChangedEvent.Section.TRAINING
+                || section == CurriculumChangedEvent.Section.WORK_EXPERIENCE;
+    }
+
+    private void refreshUsers(List<Integer> userIds) {
+        // La lectura va dentro del candado: una reconstrucción en curso no puede publicar
+        // después un estado leído antes de esta escritura
+        synchronized (rebuildLock) {
+            Map<Integer, List<Feature>> featuresByUser = new HashMap<>();
+            collectEducation(featuresByUser, educationRepository.findTypeTitleRowsByUserIds(userIds));
+            collectTrainings(featuresByUser, trainingRepository.findCompletedTypeCourseRowsByUserIds(userIds));
+            collectJobs(featuresByUser, workExperienceRepository.findJobTitleRowsByUserIds(userIds));
+
+            Map<Integer, UsersRepository.WorkforceUserProjection> users = usersRepository.findWorkforceRowsByUserIds(userIds)
+                    .stream()
+                    .collect(Collectors.toMap(UsersRepository.WorkforceUserProjection::getUserId, Function.identity()));
+
+            SimilarityState current = state;
+            current.lock.writeLock().lock();
+            try {
+                for (Integer userId : userIds) {
+                    current.remove(userId);
+                    UsersRepository.WorkforceUserProjection user = users.get(userId);
+                    if (user == null) {
+                        continue;
+                    }
+                    Map<Integer, Integer> counts = current.count(featuresByUser.getOrDefault(userId, List.of()));
+                    for (Integer feature : counts.keySet()) {
+                        current.documentFrequency[feature]++;
+                    }
+                    current.put(current.weigh(userId, chargeIdOf(user), Boolean.TRUE.equals(user.getStatus()),
+                            counts, current.slotByUser.size() + 1));
+                }
+                if (current.freeSlots > current.slotByUser.size()) {
+                    current.compact();
+                }
+            } finally {
+                current.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void collectEducation(Map<Integer, List<Feature>> featuresByUser, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            List<Feature> features = featuresByUser.computeIfAbsent((Integer) row[0], id -> new ArrayList<>());
+            if (row[1] != null) {
+                features.add(new Feature(FeatureGroup.EDUCATION_LEVEL, ((EducationTypeEnum) row[1]).name()));
+            }
+            addTokens(features, FeatureGroup.DEGREE, (String) row[2]);
+        }
+    }
+
+    private void collectTrainings(Map<Integer, List<Feature>> featuresByUser, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            List<Feature> features = featuresByUser.computeIfAbsent((Integer) row[0], id -> new ArrayList<>());
+            String type = (String) row[1];
+            if (type != null && !type.isBlank()) {
+                features.add(new Feature(FeatureGroup.TRAINING_TYPE, type.trim().toUpperCase(Locale.ROOT)));
+            }
+            addTokens(features, FeatureGroup.COURSE, (String) row[2]);
+        }
+    }
+
+    private void collectJobs(Map<Integer, List<Feature>> featuresByUser, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            addTokens(featuresByUser.computeIfAbsent((Integer) row[0], id -> new ArrayList<>()),
+                    FeatureGroup.JOB_TITLE, (String) row[1]);
+        }
+    }
+
+    /**
+     * Palabras de un texto libre con el analizador en español (sin palabras vacías, raíz y sin tildes)
+     */
+    private void addTokens(List<Feature> features, FeatureGroup group, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        try (TokenStream stream = analyzer.tokenStream(group.name(), text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                features.add(new Feature(group, term.toString()));
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int chargeIdOf(UsersRepository.WorkforceUserProjection user) {
+        return user.getChargeId() != null ? user.getChargeId() : -1;
+    }
+
+    // ========== CONSULTA ==========
+
+    /**
+     * Usuarios con la hoja de vida más parecida a la de un usuario
+     *
+     * @param userId Usuario de referencia
+     * @param limit Cantidad de resultados (máximo app.similarity.max-results)
+     * @param activeOnly Solo usuarios activos
+     * @param excludeChargeId Excluir a quienes ya tienen este cargo (null = no excluir)
+     */
+    public List<SimilarCandidateDTO> findSimilar(Integer userId, int limit, boolean activeOnly, Integer excludeChargeId) {
+        SimilarityState current = ensureLoaded();
+        int size = Math.min(Math.max(limit, 1), maxResults);
+
+        List<Match> top;
+        Map<Integer, List<String>> shared = new HashMap<>();
+        current.lock.readLock().lock();
+        try {
+            Integer slot = current.slotByUser.get(userId);
+            if (slot == null) {
+                throw new UserNotFoundException(userId);
+            }
+            UserVector query = current.slots.get(slot);
+            if (query.features().length == 0) {
+                return List.of();
+            }
+
+            int[] candidates = candidateSlots(current, query);
+            Filter filter = new Filter(userId, activeOnly, excludeChargeId != null ? excludeChargeId : Integer.MIN_VALUE);
+            List<UserVector> slots = current.slots;
+            top = BoundedTopK.select(scoringPool, candidates.length, size, SPLIT_THRESHOLD, BEST_FIRST,
+                    (from, to, sink) -> {
+                        for (int i = from; i < to; i++) {
+                            UserVector vector = slots.get(candidates[i]);
+                            if (filter.accepts(vector)) {
+                                double similarity = cosine(query, vector);
+                                if (similarity > 0) {
+                                    sink.accept(new Match(vector.userId(), similarity));
+                                }
+                            }
+                        }
+                    });
+            for (Match match : top) {
+                UserVector vector = current.slots.get(current.slotByUser.get(match.userId()));
+                shared.put(match.userId(), sharedFeatures(current, query, vector));
+            }
+        } finally {
+            current.lock.readLock().unlock();
+        }
+
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, UsersRepository.UserSummaryProjection> summaries = usersRepository
+                .findSummariesByUserIds(top.stream().map(Match::userId).toList()).stream()
+                .collect(Collectors.toMap(UsersRepository.UserSummaryProjection::getUserId, Function.identity()));
+
+        List<SimilarCandidateDTO> result = new ArrayList<>(top.size());
+        for (Match match : top) {
+            UsersRepository.UserSummaryProjection summary = summaries.get(match.userId());
+            result.add(SimilarCandidateDTO.builder()
+                    .rank(result.size() + 1)
+                    .userId(match.userId())
+                    .firstName(summary != null ? summary.getFirstName() : null)
+                    .lastName(summary != null ? summary.getLastName() : null)
+                    .email(summary != null ? summary.getEmail() : null)
+                    .similarity(Math.round(match.similarity() * 10000.0) / 10000.0)
+                    .sharedFeatures(shared.get(match.userId()))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * Posiciones de los usuarios que comparten algún rasgo poco común con el vector consultado
+     * (si todos sus rasgos son comunes se usan todos)
+     */
+    private static int[] candidateSlots(SimilarityState current, UserVector query) {
+        int maxDf = (int) Math.max(1, current.slotByUser.size() * PRUNING_MAX_DF_RATIO);
+        BitSet candidates = new BitSet(current.slots.size());
+        boolean pruned = false;
+        for (int feature : query.features()) {
+            if (current.documentFrequency[feature] > maxDf) {
+                pruned = true;
+                continue;
+            }
+            mark(candidates, current.postings.get(feature));
+        }
+        if (candidates.isEmpty() && pruned) {
+            for (int feature : query.features()) {
+                mark(candidates, current.postings.get(feature));
+            }
+        }
+        return candidates.stream().toArray();
+    }
+
+    private static void mark(BitSet candidates, SlotList list) {
+        for (int i = 0; i < list.size; i++) {
+            candidates.set(list.slots[i]);
+        }
+    }
+
+    /**
+     * Rasgos compartidos ordenados por su aporte al coseno
+     */
+    private static List<String> sharedFeatures(SimilarityState current, UserVector a, UserVector b) {
+        List<Contribution> contributions = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < a.features().length && j < b.features().length) {
+            if (a.features()[i] == b.features()[j]) {
+                contributions.add(new Contribution(a.features()[i], (double) a.weights()[i] * b.weights()[j]));
+                i++;
+                j++;
+            } else if (a.features()[i] < b.features()[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return contributions.stream()
+                .sorted(Comparator.comparingDouble(Contribution::value).reversed())
+                .limit(SHARED_FEATURES)
+                .map(contribution -> current.features.get(contribution.feature()))
+                .map(feature -> feature.group().label + ": " + feature.term())
+                .toList();
+    }
+
+    /**
+     * Producto punto de dos vectores normalizados (coseno), recorriendo ambos en orden
+     */
+    private static double cosine(UserVector a, UserVector b) {
+        int[] fa = a.features();
+        int[] fb = b.features();
+        double dot = 0;
+        int i = 0;
+        int j = 0;
+        while (i < fa.length && j < fb.length) {
+            if (fa[i] == fb[j]) {
+                dot += (double) a.weights()[i++] * b.weights()[j++];
+            } else if (fa[i] < fb[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return dot;
+    }
+
+    private record Filter(int userId, boolean activeOnly, int excludedChargeId) {
+
+        private boolean accepts(UserVector vector) {
+            return vector != null
+                    && vector.userId() != userId
+                    && (!activeOnly || vector.active())
+                    && vector.chargeId() != excludedChargeId;
+        }
+    }
+
+    private SimilarityState ensureLoaded() {
+        if (state == null) {
+            rebuild();
+        }
+        return state;
+    }
+}
@@ -0,0 +1,158 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.CacheConfig;
+import com.hse.Curriculum.Converter.Training.DurationNormalizer;
+import com.hse.Curriculum.Dto.TrainingHoursDTO.MonthlyTrainingHoursDTO;
+import com.hse.Curriculum.Dto.TrainingHoursDTO.TrainingHoursDTO;
+import com.hse.Curriculum.Enum.TrainingHoursGroupEnum;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Exception.Training.InvalidTrainingDataException;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Servicio de indicadores de horas de capacitación
+ *
+ * Las horas se suman con GROUP BY en la base de datos sobre la columna normalizada
+ * duration_minutes; los resultados se guardan en caché por (agrupación, rango) y la
+ * caché se invalida cuando se confirma cualquier escritura de capacitaciones.
+ * La caché está acotada en entradas y tiempo de vida (ver CacheConfig).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrainingHoursService {
+
+    private final TrainingRepository trainingRepository;
+
+    /**
+     * Horas de capacitación agrupadas por la dimensión indicada
+     *
+     * @param groupBy Dimensión de agrupación
+     * @param fromDate Fecha inicial (fecha de finalización de la capacitación)
+     * @param toDate Fecha final
+     */
+    @Cacheable(cacheNames = CacheConfig.TRAINING_HOURS_CACHE, key = "{#groupBy, #fromDate, #toDate}")
+    @Transactional(readOnly = true)
+    public List<TrainingHoursDTO> getHours(TrainingHoursGroupEnum groupBy, LocalDate fromDate, LocalDate toDate) {
+        validateRange(fromDate, toDate);
+
+        return switch (groupBy) {
+            case USER -> trainingRepository.sumHoursByUser(fromDate, toDate).stream()
+                    .map(row -> toDTO(row.getGroupId(), row.getGroupName(), row))
+                    .toList();
+            case CHARGE -> trainingRepository.sumHoursByCharge(fromDate, toDate).stream()
+                    .map(row -> toDTO(row.getGroupId(), row.getGroupName() != null ? row.getGroupName() : "Sin cargo", row))
+                    .toList();
+            case TRAINING_TYPE -> trainingRepository.sumHoursByTrainingType(fromDate, toDate).stream()
+                    .map(row -> toDTO(null, row.getGroupName(), row))
+                    .toList();
+            case INSTITUTION -> trainingRepository.sumHoursByInstitution(fromDate, toDate).stream()
+                    .map(row -> toDTO(null, row.getGroupName(), row))
+                    .toList();
+        };
+    }
+
+    /**
+     * Indicador mensual de horas de capacitación (una sola consulta agrupada)
+     */
+    @Cacheable(cacheNames = CacheConfig.TRAINING_HOURS_CACHE, key = "{'MONTHLY', #fromDate, #toDate}")
+    @Transactional(readOnly = true)
+    public List<MonthlyTrainingHoursDTO> getMonthlyIndicator(LocalDate fromDate, LocalDate toDate) {
+        validateRange(fromDate, toDate);
+
+        return trainingRepository.sumHoursByMonth(fromDate, toDate).stream()
+                .map(row -> MonthlyTrainingHoursDTO.builder()
+                        .year(row.getReportYear())
+                        .month(row.getReportMonth())
+                        .trainings(row.getTrainings())
+                        .participants(row.getParticipants())
+                        .totalHours(toHours(row.getTotalMinutes()))
+                        .hoursPerParticipant(perParticipant(row.getTotalMinutes(), row.getParticipants()))
+                        .unmeasuredTrainings(row.getUnmeasured())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Calcular duration_minutes para los registros existentes que aún no lo tienen
+     * Ejecuta una actualización por cada unidad distinta encontrada
+     *
+     * @return Registros normalizados
+     */
+    @CacheEvict(cacheNames = CacheConfig.TRAINING_HOURS_CACHE, allEntries = true)
+    @Transactional
+    public int backfillDurationMinutes() {
+        int updated = 0;
+        for (String unit : trainingRepository.findUnitsPendingNormalization()) {
+            Integer minutesPerUnit = DurationNormalizer.minutesPerUnit(unit);
+            if (minutesPerUnit == null) {
+                log.warn("⚠️ Unidad de duración no reconocida: '{}'", unit);
+                continue;
+            }
+            updated += trainingRepository.normalizeDurationByUnit(unit, minutesPerUnit);
+        }
+        log.info("✅ Duración normalizada en {} capacitaciones", updated);
+        return updated;
+    }
+
+    /**
+     * Invalidar la caché de horas cuando se confirma una escritura de capacitaciones
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+            condition = "#event.section == T(com.hse.Curriculum.Event.CurriculumChangedEvent$Section).TRAINING")
+    @CacheEvict(cacheNames = CacheConfig.TRAINING_HOURS_CACHE, allEntries = true)
+    public void onTrainingChanged(CurriculumChangedEvent event) {
+        log.debug("Caché de horas de capacitación invalidada por cambio del usuario {}", event.getUserId());
+    }
+
+    /**
+     * Invalidar la caché de horas después de una importación masiva de capacitaciones
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+            condition = "#event.section == T(com.hse.Curriculum.Event.CurriculumChangedEvent$Section).TRAINING")
+    @CacheEvict(cacheNames = CacheConfig.TRAINING_HOURS_CACHE, allEntries = true)
+    public void onTrainingBulkChanged(CurriculumBulkChangedEvent event) {
+        log.debug("Caché de horas de capacitación invalidada por cambio masivo de {} usuarios", event.getUserIds().size());
+    }
+
+    private void validateRange(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new InvalidTrainingDataException("La fecha inicial no puede ser posterior a la fecha final");
+        }
+    }
+
+    private TrainingHoursDTO toDTO(Integer groupId, String groupName, TrainingRepository.TrainingHoursTotals row) {
+        return TrainingHoursDTO.builder()
+                .groupId(groupId)
+                .groupName(groupName)
+                .trainings(row.getTrainings())
+                .participants(row.getParticipants())
+                .totalHours(toHours(row.getTotalMinutes()))
+                .hoursPerParticipant(perParticipant(row.getTotalMinutes(), row.getParticipants()))
+                .unmeasuredTrainings(row.getUnmeasured())
+                .build();
+    }
+
+    private static double toHours(Long minutes) {
+        return minutes == null ? 0.0 : Math.round(minutes / 6.0) / 10.0;
+    }
+
+    private static double perParticipant(Long minutes, Long participants) {
+        if (minutes == null || participants == null || participants == 0) {
+            return 0.0;
+        }
+        return Math.round(minutes / 6.0 / participants) / 10.0;
+    }
+}
@@ -0,0 +1,479 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Converter.Catalog.CatalogKeyNormalizer;
+import com.hse.Curriculum.Converter.Training.DurationNormalizer;
+import com.hse.Curriculum.Dto.ImportDTO.TrainingImportResultDTO;
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Exception.Import.ImportReportNotFoundException;
+import com.hse.Curriculum.Exception.Import.InvalidImportFileException;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Servicio de importación masiva de capacitaciones desde CSV
+ *
+ * Flujo (una sola conexión y una sola transacción):
+ * 1. COPY ... FROM STDIN del archivo a una tabla temporal de staging (CopyManager de PgJDBC)
+ * 2. Validación por conjuntos con sentencias UPDATE sobre el staging
+ *    (mismas reglas que TrainingService: datos obligatorios, finalización, duración y duplicados)
+ * 3. Resolución de institución, curso y tipo contra el diccionario de nombres: las claves se
+ *    calculan con CatalogKeyNormalizer una vez por valor distinto y las variantes nuevas se
+ *    crean por conjuntos
+ * 4. INSERT ... SELECT de las filas válidas en trainings, ya enlazadas a sus términos
+ * 5. COPY ... TO STDOUT de las filas rechazadas a un CSV descargable
+ *
+ * Columnas del CSV (con encabezado, en este orden):
+ * email, document_number, course_name, training_type, institution,
+ * is_completed, duration_value, duration_unit, completion_date
+ */
+@Slf4j
+@Service
+public class TrainingImportService {
+
+    private static final String STAGING = "training_import_staging";
+    private static final String TERM_KEYS = "training_import_terms";
+    private static final Set<Character> ALLOWED_DELIMITERS = Set.of(',', ';', '|', '\t');
+    private static final Pattern IMPORT_ID = Pattern.compile("^[0-9a-f\\-]{36}$");
+
+    private final DataSource dataSource;
+    private final CatalogService catalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path reportDirectory;
+    private final long retentionHours;
+
+    public TrainingImportService(DataSource dataSource,
+                                 CatalogService catalogService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.import.directory:${java.io.tmpdir}/training-imports}") String reportDirectory,
+                                 @Value("${app.import.retention-hours:24}") long retentionHours) {
+        this.dataSource = dataSource;
+        this.catalogService = catalogService;
+        this.eventPublisher = eventPublisher;
+        this.reportDirectory = Paths.get(reportDirectory);
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * Reglas de validación en el orden en que se aplican; cada fila conserva el primer error
+     */
+    private static final String[][] VALIDATIONS = {
+            {"NULLIF(TRIM(course_name), '') IS NULL OR LENGTH(TRIM(course_name)) NOT BETWEEN 3 AND 200",
+                    "El nombre del curso es obligatorio y debe tener entre 3 y 200 caracteres"},
+            {"NULLIF(TRIM(training_type), '') IS NULL OR LENGTH(TRIM(training_type)) > 100",
+                    "El tipo de capacitación es obligatorio y no puede exceder 100 caracteres"},
+            {"NULLIF(TRIM(institution), '') IS NULL OR LENGTH(TRIM(institution)) NOT BETWEEN 2 AND 200",
+                    "La institución es obligatoria y debe tener entre 2 y 200 caracteres"},
+            {"LENGTH(TRIM(duration_unit)) > 50",
+                    "La unidad de duración no puede exceder 50 caracteres"},
+            {"completed IS NULL",
+                    "Valor de finalizado inválido (use si/no, true/false o 1/0)"},
+            {"NULLIF(TRIM(duration_value), '') IS NOT NULL AND (duration IS NULL OR duration < 1)",
+                    "La duración debe ser un número entero entre 1 y 9999"},
+            {"duration IS NOT NULL AND NULLIF(TRIM(duration_unit), '') IS NULL",
+                    "Debe especificar la unidad de duración cuando proporciona un valor"},
+            {"NULLIF(TRIM(duration_unit), '') IS NOT NULL AND duration IS NULL",
+                    "Debe especificar el valor de duración cuando proporciona una unidad"},
+            {"NULLIF(TRIM(completion_date), '') IS NOT NULL AND completed_on IS NULL",
+                    "Fecha de finalización inválida (use yyyy-MM-dd o dd/MM/yyyy)"},
+            {"completed AND completed_on IS NULL",
+                    "Los cursos completados deben tener una fecha de finalización"},
+            {"completed_on > CURRENT_DATE",
+                    "La fecha de finalización no puede ser futura"},
+    };
+
+    /**
+     * Importar capacitaciones desde un CSV
+     *
+     * @param csv Contenido del archivo (se transmite a la base de datos sin cargarlo en memoria)
+     * @param delimiter Separador de columnas
+     * @return Resumen de la importación
+     */
+    public TrainingImportResultDTO importCsv(InputStream csv, char delimiter) {
+        if (!ALLOWED_DELIMITERS.contains(delimiter)) {
+            throw new InvalidImportFileException("Separador no permitido: use coma, punto y coma, barra o tabulador");
+        }
+
+        String importId = UUID.randomUUID().toString();
+        long start = System.nanoTime();
+        purgeExpiredReports();
+
+        long total;
+        long inserted;
+        int termsCreated;
+        List<Integer> userIds;
+        String rejectReportUrl = null;
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                createStaging(connection);
+
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                total = copyManager.copyIn(
+                        "COPY " + STAGING + " (email, document_number, course_name, training_type, institution, " +
+                                "is_completed, duration_value, duration_unit, completion_date) " +
+                                "FROM STDIN WITH (FORMAT csv, HEADER true, ENCODING 'UTF8', DELIMITER E'" +
+                                (delimiter == '\t' ? "\\t" : String.valueOf(delimiter)) + "')",
+                        csv);
+
+                parseAndValidate(connection);
+                normalizeDurations(connection);
+                termsCreated = resolveCatalogTerms(connection);
+                userIds = findAffectedUsers(connection);
+                inserted = merge(connection);
+
+                if (total > inserted) {
+                    writeRejectReport(copyManager, importId);
+                    rejectReportUrl = "/admin/trainings/import/" + importId + "/rejects";
+                }
+
+                connection.commit();
+            } catch (SQLException | IOException e) {
+                connection.rollback();
+                throw new InvalidImportFileException("No fue posible importar el archivo: " + e.getMessage(), e);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new InvalidImportFileException("Error de conexión durante la importación: " + e.getMessage(), e);
+        }
+
+        if (termsCreated > 0) {
+            // Los términos se crearon con SQL; el índice de autocompletado se recarga una vez
+            catalogService.rebuild();
+        }
+        if (!userIds.isEmpty()) {
+            eventPublisher.publishEvent(new CurriculumBulkChangedEvent(userIds, CurriculumChangedEvent.Section.TRAINING));
+        }
+
+        long durationMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("✅ Importación {}: {} filas, {} insertadas, {} rechazadas en {} ms",
+                importId, total, inserted, total - inserted, durationMs);
+
+        return TrainingImportResultDTO.builder()
+                .importId(importId)
+                .totalRows(total)
+                .insertedRows(inserted)
+                .rejectedRows(total - inserted)
+                .affectedUsers(userIds.size())
+                .durationMs(durationMs)
+                .rowsPerSecond(total * 1000 / durationMs)
+                .rejectReportUrl(rejectReportUrl)
+                .build();
+    }
+
+    /**
+     * Obtener el reporte de rechazos de una importación
+     */
+    public Path getRejectReport(String importId) {
+        if (importId == null || !IMPORT_ID.matcher(importId).matches()) {
+            throw new ImportReportNotFoundException(importId);
+        }
+        Path report = reportDirectory.resolve(importId + "-rechazos.csv");
+        if (!Files.exists(report)) {
+            throw new ImportReportNotFoundException(importId);
+        }
+        return report;
+    }
+
+    // ========== PASOS DE LA IMPORTACIÓN ==========
+
+    private void createStaging(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TEMP TABLE " + STAGING + " (" +
+                            "email TEXT, document_number TEXT, course_name TEXT, training_type TEXT, " +
+                            "institution TEXT, is_completed TEXT, duration_value TEXT, duration_unit TEXT, " +
+                            "completion_date TEXT, " +
+                            "line_no BIGSERIAL, user_id INTEGER, completed BOOLEAN, duration INTEGER, " +
+                            "minutes INTEGER, completed_on DATE, error TEXT" +
+                            ") ON COMMIT DROP");
+            statement.execute(
+                    "CREATE TEMP TABLE " + TERM_KEYS + " (" +
+                            "category TEXT, name TEXT, normalized_key TEXT, uses BIGINT" +
+                            ") ON COMMIT DROP");
+
+            // to_date lanza error con fechas imposibles (ej: 31/02); esta función devuelve NULL en su lugar
+            statement.execute(
+                    "CREATE OR REPLACE FUNCTION pg_temp.try_to_date(value TEXT, fmt TEXT) RETURNS DATE AS $$ " +
+                            "BEGIN RETURN to_date(value, fmt); EXCEPTION WHEN others THEN RETURN NULL; END " +
+                            "$$ LANGUAGE plpgsql IMMUTABLE");
+        }
+    }
+
+    private void parseAndValidate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            // Convertir los campos de texto a sus tipos
+            statement.executeUpdate(
+                    "UPDATE " + STAGING + " SET " +
+                            "completed = CASE LOWER(TRIM(is_completed)) " +
+                            "  WHEN 'si' THEN true WHEN 'sí' THEN true WHEN 'true' THEN true WHEN '1' THEN true " +
+                            "  WHEN 'no' THEN false WHEN 'false' THEN false WHEN '0' THEN false END, " +
+                            "duration = CASE WHEN TRIM(duration_value) ~ '^[0-9]{1,4}$' " +
+                            "  THEN CAST(TRIM(duration_value) AS INTEGER) END, " +
+                            "completed_on = CASE " +
+                            "  WHEN TRIM(completion_date) ~ '^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}$' " +
+                            "    THEN pg_temp.try_to_date(TRIM(completion_date), 'YYYY-MM-DD') " +
+                            "  WHEN TRIM(completion_date) ~ '^[0-9]{1,2}/[0-9]{1,2}/[0-9]{4}$' " +
+                            "    THEN pg_temp.try_to_date(TRIM(completion_date), 'DD/MM/YYYY') END");
+        }
+
+        for (String[] validation : VALIDATIONS) {
+            applyRule(connection, validation[0], validation[1]);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            // Resolver usuario por email y, si no hay, por número de documento
+            statement.executeUpdate(
+                    "UPDATE " + STAGING + " s SET user_id = u.user_id FROM users u " +
+                            "WHERE s.error IS NULL AND NULLIF(TRIM(s.email), '') IS NOT NULL " +
+                            "AND LOWER(u.email) = LOWER(TRIM(s.email))");
+            statement.executeUpdate(
+                    "UPDATE " + STAGING + " s SET user_id = p.user_id FROM profiles p " +
+                            "WHERE s.error IS NULL AND s.user_id IS NULL " +
+                            "AND NULLIF(TRIM(s.document_number), '') IS NOT NULL " +
+                            "AND p.document_number = TRIM(s.document_number)");
+        }
+        applyRule(connection, "user_id IS NULL", "Usuario no encontrado por email ni por número de documento");
+
+        // Duplicado contra lo ya registrado (misma semántica que existsByUserIdAndCourseName)
+        applyRule(connection,
+                "EXISTS (SELECT 1 FROM trainings t WHERE t.user_id = " + STAGING + ".user_id " +
+                        "AND LOWER(t.course_name) = LOWER(TRIM(" + STAGING + ".course_name)))",
+                "El usuario ya tiene registrada una capacitación con este nombre");
+
+        // Duplicado dentro del mismo archivo: se conserva la primera aparición
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + STAGING + " s SET error = ? FROM (" +
+                        "SELECT line_no, ROW_NUMBER() OVER (PARTITION BY user_id, LOWER(TRIM(course_name)) " +
+                        "ORDER BY line_no) AS rn FROM " + STAGING + " WHERE error IS NULL) d " +
+                        "WHERE s.line_no = d.line_no AND d.rn > 1")) {
+            statement.setString(1, "Fila duplicada dentro del archivo");
+            statement.executeUpdate();
+        }
+    }
+
+    private void applyRule(Connection connection, String condition, String message) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + STAGING + " SET error = ? WHERE error IS NULL AND (" + condition + ")")) {
+            statement.setString(1, message);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Calcular los minutos normalizados con una actualización por unidad distinta
+     */
+    private void normalizeDurations(Connection connection) throws SQLException {
+        List<String> units = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT DISTINCT TRIM(duration_unit) FROM " + STAGING +
+                             " WHERE error IS NULL AND duration IS NOT NULL")) {
+            while (rs.next()) {
+                units.add(rs.getString(1));
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + STAGING + " SET minutes = duration * ? " +
+                        "WHERE error IS NULL AND duration IS NOT NULL AND TRIM(duration_unit) = ?")) {
+            for (String unit : units) {
+                Integer minutesPerUnit = DurationNormalizer.minutesPerUnit(unit);
+                if (minutesPerUnit != null) {
+                    statement.setInt(1, minutesPerUnit);
+                    statement.setString(2, unit);
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Enlazar institución, curso y tipo con el diccionario de nombres
+     *
+     * La clave de cada valor distinto se calcula en Java con CatalogKeyNormalizer (la única
+     * implementación de la regla) y se guarda en una tabla temporal; las claves sin variante
+     * registrada se crean en una sola sentencia, usando como nombre canónico la variante más
+     * frecuente del archivo, igual que el agrupamiento nocturno.
+     *
+     * @return Cantidad de términos nuevos
+     */
+    private int resolveCatalogTerms(Connection connection) throws SQLException {
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery(
+                     "SELECT '" + CatalogCategoryEnum.INSTITUTION + "', TRIM(institution), COUNT(*) FROM " + STAGING +
+                             " WHERE error IS NULL GROUP BY TRIM(institution) " +
+                             "UNION ALL SELECT '" + CatalogCategoryEnum.COURSE + "', TRIM(course_name), COUNT(*) FROM " +
+                             STAGING + " WHERE error IS NULL GROUP BY TRIM(course_name) " +
+                             "UNION ALL SELECT '" + CatalogCategoryEnum.TRAINING_TYPE + "', TRIM(training_type), COUNT(*) FROM " +
+                             STAGING + " WHERE error IS NULL GROUP BY TRIM(training_type)");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO " + TERM_KEYS + " (category, name, normalized_key, uses) VALUES (?, ?, ?, ?)")) {
+            while (rs.next()) {
+                String key = CatalogKeyNormalizer.normalize(rs.getString(2));
+                if (!key.isEmpty()) {
+                    insert.setString(1, rs.getString(1));
+                    insert.setString(2, rs.getString(2));
+                    insert.setString(3, key);
+                    insert.setLong(4, rs.getLong(3));
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        // Un nombre determina su clave, así que (categoría, nombre) identifica la variante elegida
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(
+                    "WITH missing AS (" +
+                            "  SELECT DISTINCT ON (k.category, k.normalized_key) k.category, k.normalized_key, k.name " +
+                            "  FROM " + TERM_KEYS + " k " +
+                            "  WHERE NOT EXISTS (SELECT 1 FROM catalog_aliases a " +
+                            "    WHERE a.category = k.category AND a.normalized_key = k.normalized_key) " +
+                            "  ORDER BY k.category, k.normalized_key, k.uses DESC, k.name), " +
+                            "numbered AS (" +
+                            "  SELECT row_number() OVER (ORDER BY category, normalized_key) AS rn, " +
+                            "  category, normalized_key, name FROM missing), " +
+                            "created AS (" +
+                            "  INSERT INTO catalog_terms (term_id, category, canonical_name, created_at) " +
+                            "  SELECT i.id, n.category, n.name, now() FROM numbered n " +
+                            "  JOIN reserve_ids('catalog_terms_seq', (SELECT COUNT(*) FROM numbered)) i ON i.rn = n.rn " +
+                            "  RETURNING term_id, category, canonical_name) " +
+                            "INSERT INTO catalog_aliases (alias_id, term_id, category, alias, normalized_key) " +
+                            "SELECT i.id, c.term_id, c.category, c.canonical_name, n.normalized_key " +
+                            "FROM created c JOIN numbered n ON n.category = c.category AND n.name = c.canonical_name " +
+                            "JOIN reserve_ids('catalog_aliases_seq', (SELECT COUNT(*) FROM numbered)) i ON i.rn = n.rn " +
+                            "ON CONFLICT (category, normalized_key) DO NOTHING");
+        }
+    }
+
+    private List<Integer> findAffectedUsers(Connection connection) throws SQLException {
+        List<Integer> userIds = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT DISTINCT user_id FROM " + STAGING + " WHERE error IS NULL")) {
+            while (rs.next()) {
+                userIds.add(rs.getInt(1));
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * Insertar todas las filas válidas en una sola sentencia
+     * El vencimiento se calcula con la vigencia configurada para el tipo de capacitación
+     * y los términos del diccionario se toman de las claves resueltas en resolveCatalogTerms.
+     * Los IDs se reservan por bloques de la secuencia (reserve_ids) en lugar de un nextval por fila
+     */
+    private long merge(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(
+                    "WITH src AS (" +
+                            "SELECT row_number() OVER (ORDER BY s.line_no) AS rn, s.user_id, " +
+                            "TRIM(s.course_name) AS course_name, TRIM(s.training_type) AS training_type, " +
+                            "TRIM(s.institution) AS institution, s.completed, s.duration, " +
+                            "NULLIF(TRIM(s.duration_unit), '') AS duration_unit, s.minutes, s.completed_on, " +
+                            "CASE WHEN s.completed AND v.validity_months IS NOT NULL " +
+                            "  THEN CAST(s.completed_on + make_interval(months => v.validity_months) AS DATE) END AS expires_at, " +
+                            "ai.term_id AS institution_term_id, ac.term_id AS course_term_id, ay.term_id AS training_type_term_id " +
+                            "FROM " + STAGING + " s " +
+                            "LEFT JOIN training_validity v ON UPPER(v.training_type) = UPPER(TRIM(s.training_type)) " +
+                            termJoin("ki", "ai", CatalogCategoryEnum.INSTITUTION, "institution") +
+                            termJoin("kc", "ac", CatalogCategoryEnum.COURSE, "course_name") +
+                            termJoin("ky", "ay", CatalogCategoryEnum.TRAINING_TYPE, "training_type") +
+                            "WHERE s.error IS NULL) " +
+                            "INSERT INTO trainings (training_id, user_id, course_name, training_type, institution, is_completed, " +
+                            "duration_value, duration_unit, duration_minutes, completion_date, expires_at, " +
+                            "institution_term_id, course_term_id, training_type_term_id, created_at, updated_at) " +
+                            "SELECT i.id, src.user_id, src.course_name, src.training_type, src.institution, src.completed, " +
+                            "src.duration, src.duration_unit, src.minutes, src.completed_on, src.expires_at, " +
+                            "src.institution_term_id, src.course_term_id, src.training_type_term_id, now(), now() " +
+                            "FROM src JOIN reserve_ids('trainings_seq', (SELECT COUNT(*) FROM src)) i ON i.rn = src.rn " +
+                            "ORDER BY src.rn");
+        }
+    }
+
+    private String termJoin(String keyAlias, String aliasAlias, CatalogCategoryEnum category, String column) {
+        return "LEFT JOIN " + TERM_KEYS + " " + keyAlias + " ON " + keyAlias + ".category = '" + category + "' " +
+                "AND " + keyAlias + ".name = TRIM(s." + column + ") " +
+                "LEFT JOIN catalog_aliases " + aliasAlias + " ON " + aliasAlias + ".category = " + keyAlias + ".category " +
+                "AND " + aliasAlias + ".normalized_key = " + keyAlias + ".normalized_key ";
+    }
+
+    /**
+     * Escribir las filas rechazadas en un CSV con COPY ... TO STDOUT
+     */
+    private void writeRejectReport(CopyManager copyManager, String importId) throws SQLException, IOException {
+        Files.createDirectories(reportDirectory);
+        Path partial = reportDirectory.resolve(importId + "-rechazos.csv.part");
+        Path report = reportDirectory.resolve(importId + "-rechazos.csv");
+
+        try (OutputStream out = Files.newOutputStream(partial)) {
+            copyManager.copyOut(
+                    "COPY (SELECT line_no + 1 AS fila, email, document_number, course_name, training_type, " +
+                            "institution, is_completed, duration_value, duration_unit, completion_date, error " +
+                            "FROM " + STAGING + " WHERE error IS NOT NULL ORDER BY line_no) " +
+                            "TO STDOUT WITH (FORMAT csv, HEADER true, ENCODING 'UTF8')",
+                    out);
+        }
+        Files.move(partial, report, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Eliminar reportes de rechazos más antiguos que el tiempo de retención
+     */
+    private void purgeExpiredReports() {
+        if (!Files.isDirectory(reportDirectory)) {
+            return;
+        }
+        Instant limit = Instant.now().minus(retentionHours, ChronoUnit.HOURS);
+        try (Stream<Path> files = Files.list(reportDirectory)) {
+            files.filter(file -> {
+                try {
+                    return Files.getLastModifiedTime(file).toInstant().isBefore(limit);
+                } catch (IOException e) {
+                    return false;
+                }
+            }).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("⚠️ No fue posible eliminar el reporte {}: {}", file, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("⚠️ No fue posible limpiar los reportes de importación: {}", e.getMessage());
+        }
+    }
+}
@@ -1,4 +1,5 @@
 package com.hse.Curriculum.Service;
+import com.hse.Curriculum.Dto.CursorPageDTO;
 import com.hse.Curriculum.Dto.TrainingDTO.TrainingCreateDTO;
 import com.hse.Curriculum.Dto.TrainingDTO.TrainingResponseDTO;
 import com.hse.Curriculum.Dto.TrainingDTO.TrainingUpdateDTO;
@@ -9,12 +10,20 @@ import com.hse.Curriculum.Exception.Training.TrainingUnauthorizedAccessException
 import com.hse.Curriculum.Models.Training;
 import com.hse.Curriculum.Models.Users;
 import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Converter.Training.DurationNormalizer;
+import com.hse.Curriculum.Enum.CatalogCategoryEnum;
+import com.hse.Curriculum.Mapper.CurriculumProjectionMapper;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +37,18 @@ import java.util.stream.Collectors;
 public class TrainingService {
     private final TrainingRepository trainingRepository;
     private final UsersService usersService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TrainingValidityService trainingValidityService;
+    private final CatalogService catalogService;
+    private final CurriculumProjectionMapper curriculumProjectionMapper;
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Fecha con la que se ordenan las capacitaciones sin fecha de finalización (en curso),
+     * mayor que cualquier fecha válida para que aparezcan primero
+     */
+    private static final LocalDate OPEN_DATE = LocalDate.of(9999, 12, 31);
 
     /**
      * Crea un nuevo registro de capacitación
@@ -64,8 +85,19 @@ public class TrainingService {
                 .completionDate(dto.getCompletionDate())
                 .build();
 
+        // Asociar los nombres al diccionario
+        assignCatalogTerms(training);
+
+        // Normalizar duración a minutos
+        training.setDurationMinutes(DurationNormalizer.toMinutes(training.getDurationValue(), training.getDurationUnit()));
+
+        // Calcular vencimiento según la vigencia del tipo de capacitación
+        training.setExpiresAt(trainingValidityService.computeExpiresAt(
+                training.getTrainingType(), training.getIsCompleted(), training.getCompletionDate()));
+
         // Guardar en base de datos
         Training savedTraining = trainingRepository.save(training);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.TRAINING, CurriculumChangedEvent.ChangeType.CREATED));
         log.info("Registro de capacitación creado exitosamente con ID: {}", savedTraining.getTrainingId());
 
         // Convertir a DTO de respuesta
@@ -73,27 +105,82 @@ public class TrainingService {
     }
 
     /**
-     * Obtiene todos los registros de capacitación de un usuario
+     * Obtiene los registros de capacitación de un usuario (paginación por cursor)
+     * Las capacitaciones en curso (sin fecha) aparecen primero, luego por fecha de finalización descendente
+     *
+     * La existencia del usuario se verifica sin cargarlo y la página se obtiene con una
+     * proyección de las columnas del DTO en una sola consulta.
      *
      * @param userId ID del usuario
-     * @return Lista de capacitaciones del usuario
+     * @param completed Filtrar por estado de finalización (opcional)
+     * @param trainingType Tipo de capacitación, sin distinguir mayúsculas (opcional)
+     * @param institution Texto contenido en la institución, sin distinguir mayúsculas (opcional)
+     * @param fromDate Fecha de finalización desde (opcional)
+     * @param toDate Fecha de finalización hasta (opcional)
+     * @param cursor Cursor de la página anterior (null para la primera)
+     * @param size Tamaño de página
+     * @return Página de capacitaciones del usuario
      */
     @Transactional(readOnly = true)
-    public List<TrainingResponseDTO> getTrainingsByUserId(Integer userId) {
+    public CursorPageDTO<TrainingResponseDTO> getTrainingsByUserId(Integer userId,
+                                                                   Boolean completed,
+                                                                   String trainingType,
+                                                                   String institution,
+                                                                   LocalDate fromDate,
+                                                                   LocalDate toDate,
+                                                                   String cursor,
+                                                                   int size) {
         log.info("Obteniendo capacitaciones del usuario ID: {}", userId);
 
         // Verificar que el usuario existe
-        usersService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuario con ID " + userId + " no encontrado"));
+        if (!usersService.existsById(userId)) {
+            throw new RuntimeException("Usuario con ID " + userId + " no encontrado");
+        }
 
-        // Obtener capacitaciones
-        List<Training> trainings = trainingRepository.findByUserIdOrderByCompletionDateDesc(userId);
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new InvalidTrainingDataException("La fecha inicial no puede ser posterior a la fecha final");
+        }
 
-        log.info("Se encontraron {} capacitaciones para el usuario ID: {}", trainings.size(), userId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDate afterDate = OPEN_DATE;
+        int afterId = Integer.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int[] key = CursorCodec.decodeInts(cursor, 2);
+            afterDate = LocalDate.ofEpochDay(key[0]);
+            afterId = key[1];
+        }
 
-        return trainings.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        String type = trainingType == null || trainingType.isBlank() ? null : trainingType.trim();
+        String institutionPattern = institution == null || institution.isBlank()
+                ? null
+                : "%" + institution.trim().toLowerCase() + "%";
+
+        List<TrainingRepository.TrainingListProjection> rows = trainingRepository.findPageByUserId(
+                userId, completed, type, institutionPattern, fromDate, toDate,
+                OPEN_DATE, afterDate, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TrainingRepository.TrainingListProjection> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<TrainingResponseDTO> items = new ArrayList<>(page.size());
+        for (TrainingRepository.TrainingListProjection row : page) {
+            items.add(curriculumProjectionMapper.toTrainingResponseDTO(row));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            TrainingRepository.TrainingListProjection last = page.get(page.size() - 1);
+            LocalDate lastDate = last.getCompletionDate() != null ? last.getCompletionDate() : OPEN_DATE;
+            nextCursor = CursorCodec.encode(lastDate.toEpochDay(), last.getTrainingId());
+        }
+
+        log.info("Se devolvieron {} capacitaciones para el usuario ID: {}", items.size(), userId);
+
+        return CursorPageDTO.<TrainingResponseDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .size(items.size())
+                .build();
     }
 
     /**
@@ -197,8 +284,21 @@ public class TrainingService {
         // Validar datos de duración después de actualizar
         validateDurationData(training.getDurationValue(), training.getDurationUnit());
 
+        // Normalizar duración a minutos
+        training.setDurationMinutes(DurationNormalizer.toMinutes(training.getDurationValue(), training.getDurationUnit()));
+
+        // Asociar los nombres actualizados al diccionario
+        if (dto.getCourseName() != null || dto.getTrainingType() != null || dto.getInstitution() != null) {
+            assignCatalogTerms(training);
+        }
+
+        // Recalcular vencimiento con los datos actualizados
+        training.setExpiresAt(trainingValidityService.computeExpiresAt(
+                training.getTrainingType(), training.getIsCompleted(), training.getCompletionDate()));
+
         // Guardar cambios
         Training updatedTraining = trainingRepository.save(training);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(updatedTraining.getUser().getUserId(), CurriculumChangedEvent.Section.TRAINING, CurriculumChangedEvent.ChangeType.UPDATED));
         log.info("Capacitación ID: {} actualizada exitosamente", trainingId);
 
         return convertToResponseDTO(updatedTraining);
@@ -230,6 +330,7 @@ public class TrainingService {
 
         // Eliminar registro
         trainingRepository.delete(training);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(training.getUser().getUserId(), CurriculumChangedEvent.Section.TRAINING, CurriculumChangedEvent.ChangeType.DELETED));
         log.info("Capacitación ID: {} eliminada exitosamente", trainingId);
     }
 
@@ -302,6 +403,17 @@ public class TrainingService {
         }
     }
 
+    /**
+     * Asocia institución, curso y tipo con sus términos del diccionario de nombres
+     *
+     * @param training Capacitación a actualizar
+     */
+    private void assignCatalogTerms(Training training) {
+        training.setInstitutionTermId(catalogService.resolveTermId(CatalogCategoryEnum.INSTITUTION, training.getInstitution()));
+        training.setCourseTermId(catalogService.resolveTermId(CatalogCategoryEnum.COURSE, training.getCourseName()));
+        training.setTrainingTypeTermId(catalogService.resolveTermId(CatalogCategoryEnum.TRAINING_TYPE, training.getTrainingType()));
+    }
+
     /**
      * Convierte una entidad Training a TrainingResponseDTO
      *
@@ -312,10 +424,7 @@ public class TrainingService {
         Users user = training.getUser();
 
         // Formatear duración
-        String durationFormatted = null;
-        if (training.getDurationValue() != null && training.getDurationUnit() != null) {
-            durationFormatted = training.getDurationValue() + " " + training.getDurationUnit();
-        }
+        String durationFormatted = formatDuration(training.getDurationValue(), training.getDurationUnit());
 
         return TrainingResponseDTO.builder()
                 .trainingId(training.getTrainingId())
@@ -330,8 +439,19 @@ public class TrainingService {
                 .durationUnit(training.getDurationUnit())
                 .durationFormatted(durationFormatted)
                 .completionDate(training.getCompletionDate())
+                .expiresAt(training.getExpiresAt())
                 .createdAt(training.getCreatedAt())
                 .updatedAt(training.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * Formatea la duración como "valor unidad" (null si falta alguno)
+     */
+    private String formatDuration(Integer durationValue, String durationUnit) {
+        if (durationValue == null || durationUnit == null) {
+            return null;
+        }
+        return durationValue + " " + durationUnit;
+    }
 }
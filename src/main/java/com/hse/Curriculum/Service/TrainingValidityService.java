@@ -0,0 +1,133 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.TransactionCallbacks;
+import com.hse.Curriculum.Dto.CertificationDTO.TrainingValidityRequestDTO;
+import com.hse.Curriculum.Dto.CertificationDTO.TrainingValidityResponseDTO;
+import com.hse.Curriculum.Exception.Training.TrainingValidityNotFoundException;
+import com.hse.Curriculum.Models.TrainingValidity;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.TrainingValidityRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Servicio que administra la vigencia de cada tipo de capacitación
+ *
+ * Mantiene en memoria el mapa tipo -> meses de vigencia para calcular expires_at
+ * al guardar una capacitación sin consultar la base de datos. El mapa se actualiza
+ * solo cuando la transacción que cambió la vigencia se confirma.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrainingValidityService {
+
+    private static final int DEFAULT_WARNING_DAYS = 30;
+
+    private final TrainingValidityRepository trainingValidityRepository;
+    private final TrainingRepository trainingRepository;
+
+    /**
+     * Tipo de capacitación normalizado -> meses de vigencia
+     */
+    private final Map<String, Integer> validityMonthsByType = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void loadCache() {
+        try {
+            for (TrainingValidity validity : trainingValidityRepository.findAll()) {
+                validityMonthsByType.put(normalize(validity.getTrainingType()), validity.getValidityMonths());
+            }
+            log.info("✅ Vigencias de capacitación cargadas: {}", validityMonthsByType.size());
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible cargar las vigencias de capacitación: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Calcular la fecha de vencimiento de una capacitación
+     *
+     * @return Fecha de vencimiento o null si el tipo no vence o no está completada
+     */
+    public LocalDate computeExpiresAt(String trainingType, Boolean isCompleted, LocalDate completionDate) {
+        if (!Boolean.TRUE.equals(isCompleted) || completionDate == null || trainingType == null) {
+            return null;
+        }
+        Integer months = validityMonthsByType.get(normalize(trainingType));
+        return months != null ? completionDate.plusMonths(months) : null;
+    }
+
+    /**
+     * Listar las vigencias configuradas
+     */
+    @Transactional(readOnly = true)
+    public List<TrainingValidityResponseDTO> getAll() {
+        return trainingValidityRepository.findAllOrderByTrainingType().stream()
+                .map(validity -> toResponseDTO(validity, null))
+                .toList();
+    }
+
+    /**
+     * Crear o actualizar la vigencia de un tipo de capacitación
+     * Recalcula en una sola sentencia el vencimiento de las capacitaciones existentes del tipo
+     */
+    @Transactional
+    public TrainingValidityResponseDTO save(TrainingValidityRequestDTO dto) {
+        String trainingType = dto.getTrainingType().trim();
+
+        TrainingValidity validity = trainingValidityRepository.findByTrainingTypeIgnoreCase(trainingType)
+                .orElseGet(() -> TrainingValidity.builder().trainingType(trainingType).build());
+        validity.setValidityMonths(dto.getValidityMonths());
+        validity.setWarningDays(dto.getWarningDays() != null ? dto.getWarningDays() : DEFAULT_WARNING_DAYS);
+
+        TrainingValidity saved = trainingValidityRepository.save(validity);
+        int recalculated = trainingRepository.updateExpiresAtByTrainingType(trainingType, saved.getValidityMonths());
+
+        String key = normalize(trainingType);
+        Integer months = saved.getValidityMonths();
+        TransactionCallbacks.afterCommit(() -> validityMonthsByType.put(key, months));
+
+        log.info("✅ Vigencia de '{}' = {} meses; {} capacitaciones recalculadas", trainingType, months, recalculated);
+        return toResponseDTO(saved, recalculated);
+    }
+
+    /**
+     * Eliminar la vigencia de un tipo de capacitación (deja de vencer)
+     */
+    @Transactional
+    public TrainingValidityResponseDTO delete(Integer validityId) {
+        TrainingValidity validity = trainingValidityRepository.findById(validityId)
+                .orElseThrow(() -> new TrainingValidityNotFoundException(validityId));
+
+        trainingValidityRepository.delete(validity);
+        int recalculated = trainingRepository.clearExpiresAtByTrainingType(validity.getTrainingType());
+
+        String key = normalize(validity.getTrainingType());
+        TransactionCallbacks.afterCommit(() -> validityMonthsByType.remove(key));
+
+        return toResponseDTO(validity, recalculated);
+    }
+
+    private static String normalize(String trainingType) {
+        return trainingType.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private TrainingValidityResponseDTO toResponseDTO(TrainingValidity validity, Integer recalculated) {
+        return TrainingValidityResponseDTO.builder()
+                .validityId(validity.getValidityId())
+                .trainingType(validity.getTrainingType())
+                .validityMonths(validity.getValidityMonths())
+                .warningDays(validity.getWarningDays())
+                .recalculatedTrainings(recalculated)
+                .build();
+    }
+}
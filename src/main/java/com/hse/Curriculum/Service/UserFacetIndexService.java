@@ -0,0 +1,539 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Config.AsyncConfig;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Dto.FacetDTO.UserFacetCountDTO;
+import com.hse.Curriculum.Dto.FacetDTO.UserFacetQueryDTO;
+import com.hse.Curriculum.Dto.FacetDTO.UserFacetResultDTO;
+import com.hse.Curriculum.Dto.FacetDTO.UserFacetStatsDTO;
+import com.hse.Curriculum.Dto.FacetDTO.UserFacetUserDTO;
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Enum.GraduateStatusEnum;
+import com.hse.Curriculum.Enum.UserFacetEnum;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.TrainingRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Repository.WorkExperienceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Índice de facetas en memoria para filtrar usuarios (rol, cargo, estado, educación,
+ * capacitaciones, país y municipio de experiencia, completitud del perfil)
+ *
+ * Cada valor de faceta guarda un bitmap comprimido (Roaring) con los IDs de sus usuarios.
+ * Un filtro es un O entre los valores elegidos de cada faceta y un Y entre facetas; el conteo
+ * de cada valor es la cardinalidad de su intersección con el resultado de las demás facetas,
+ * así que ninguna consulta recorre usuarios. La página de usuarios se toma del bitmap
+ * resultado en orden de ID y solo esos usuarios se leen de la base de datos por llave primaria.
+ *
+ * Se construye al iniciar con una consulta por fuente y se mantiene al día moviendo los bits
+ * de los usuarios afectados cuando se confirma una escritura (las operaciones masivas por
+ * bloques, con una consulta por fuente y bloque). Una reconstrucción nocturna descarta las
+ * certificaciones vencidas y recoge los cambios de nombre de cargos, roles y municipios.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserFacetIndexService {
+
+    private static final UserFacetEnum[] FACETS = UserFacetEnum.values();
+
+    private static final String NONE_KEY = "NONE";
+    private static final String NONE_LABEL = "Sin dato";
+
+    /**
+     * Límites inferiores de las bandas de completitud (COMPLETO usa el umbral de perfil completo)
+     */
+    private static final int BAND_HIGH = 60;
+    private static final int BAND_MEDIUM = 40;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int DEFAULT_FACET_LIMIT = 20;
+    private static final int MAX_FACET_LIMIT = 200;
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    private final UsersRepository usersRepository;
+    private final EducationRepository educationRepository;
+    private final TrainingRepository trainingRepository;
+    private final WorkExperienceRepository workExperienceRepository;
+
+    /**
+     * Estado actual del índice (null hasta la primera construcción)
+     */
+    private volatile FacetState state;
+    private final Object rebuildLock = new Object();
+
+    /**
+     * Bitmaps por valor de faceta y valores de cada usuario (para quitarlo al actualizarlo)
+     *
+     * Los bitmaps no son seguros entre hilos: las consultas toman el candado de lectura y
+     * las actualizaciones incrementales el de escritura.
+     */
+    private static final class FacetState {
+        private final Map<UserFacetEnum, Map<String, RoaringBitmap>> postings = new EnumMap<>(UserFacetEnum.class);
+        private final Map<UserFacetEnum, Map<String, String>> labels = new EnumMap<>(UserFacetEnum.class);
+        private final Map<Integer, Map<UserFacetEnum, Set<String>>> userKeys = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private FacetState() {
+            for (UserFacetEnum facet : FACETS) {
+                postings.put(facet, new HashMap<>());
+                labels.put(facet, new HashMap<>());
+            }
+        }
+
+        private void add(int userId, UserValues values) {
+            Map<UserFacetEnum, Set<String>> keys = new EnumMap<>(UserFacetEnum.class);
+            for (UserFacetEnum facet : FACETS) {
+                Map<String, String> facetValues = values.of(facet);
+                for (Map.Entry<String, String> value : facetValues.entrySet()) {
+                    postings.get(facet).computeIfAbsent(value.getKey(), k -> new RoaringBitmap()).add(userId);
+                    labels.get(facet).put(value.getKey(), value.getValue());
+                }
+                keys.put(facet, facetValues.keySet());
+            }
+            userKeys.put(userId, keys);
+            all.add(userId);
+        }
+
+        private void remove(int userId) {
+            Map<UserFacetEnum, Set<String>> keys = userKeys.remove(userId);
+            if (keys == null) {
+                return;
+            }
+            for (Map.Entry<UserFacetEnum, Set<String>> facetKeys : keys.entrySet()) {
+                Map<String, RoaringBitmap> facetPostings = postings.get(facetKeys.getKey());
+                Map<String, String> facetLabels = labels.get(facetKeys.getKey());
+                for (String key : facetKeys.getValue()) {
+                    RoaringBitmap bitmap = facetPostings.get(key);
+                    if (bitmap != null) {
+                        bitmap.remove(userId);
+                        if (bitmap.isEmpty()) {
+                            facetPostings.remove(key);
+                            facetLabels.remove(key);
+                        }
+                    }
+                }
+            }
+            all.remove(userId);
+        }
+    }
+
+    /**
+     * Valores de faceta de un usuario: faceta -> (clave -> nombre para mostrar)
+     * Una faceta sin valores se registra como NONE
+     */
+    private static final class UserValues {
+        private final Map<UserFacetEnum, Map<String, String>> values = new EnumMap<>(UserFacetEnum.class);
+
+        private void put(UserFacetEnum facet, String key, String label) {
+            values.computeIfAbsent(facet, f -> new LinkedHashMap<>()).put(key, label);
+        }
+
+        private Map<String, String> of(UserFacetEnum facet) {
+            Map<String, String> facetValues = values.get(facet);
+            return facetValues == null || facetValues.isEmpty() ? Map.of(NONE_KEY, NONE_LABEL) : facetValues;
+        }
+    }
+
+    // ========== CONSTRUCCIÓN Y ACTUALIZACIÓN ==========
+
+    @PostConstruct
+    public void loadIndex() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible construir el índice de facetas al iniciar: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconstrucción nocturna (certificaciones vencidas y cambios de nombre)
+     */
+    @Scheduled(cron = "${app.facets.rebuild-cron:0 30 1 * * *}")
+    public void nightlyRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ Error en la reconstrucción nocturna del índice de facetas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconstruir el índice completo con una consulta por fuente de datos
+     */
+    public UserFacetStatsDTO rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+
+            Map<Integer, UserValues> valuesByUser = new HashMap<>();
+            Function<Integer, UserValues> values = userId -> valuesByUser.computeIfAbsent(userId, id -> new UserValues());
+
+            for (Object[] row : educationRepository.findAllTypeStatusRows()) {
+                addEducation(values.apply((Integer) row[0]), (EducationTypeEnum) row[1], (GraduateStatusEnum) row[2]);
+            }
+            for (Object[] row : trainingRepository.findHeldTrainingTypePairs(LocalDate.now())) {
+                addTrainingType(values.apply((Integer) row[0]), (String) row[1]);
+            }
+            for (WorkExperienceRepository.LocationFacetProjection row : workExperienceRepository.findLocationFacetRows()) {
+                addLocation(values.apply(row.getUserId()), row);
+            }
+
+            FacetState next = new FacetState();
+            for (UsersRepository.FacetUserProjection user : usersRepository.findFacetRows()) {
+                UserValues userValues = valuesByUser.getOrDefault(user.getUserId(), new UserValues());
+                addUser(userValues, user);
+                next.add(user.getUserId(), userValues);
+            }
+
+            int bitmaps = 0;
+            long bytes = 0;
+            for (Map<String, RoaringBitmap> facetPostings : next.postings.values()) {
+                for (RoaringBitmap bitmap : facetPostings.values()) {
+                    bitmap.runOptimize();
+                    bitmaps++;
+                    bytes += bitmap.getSizeInBytes();
+                }
+            }
+
+            this.state = next;
+
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            log.info("✅ Índice de facetas construido: {} usuarios, {} valores, {} KB en {} ms",
+                    next.userKeys.size(), bitmaps, bytes / 1024, millis);
+
+            return UserFacetStatsDTO.builder()
+                    .users(next.userKeys.size())
+                    .values(bitmaps)
+                    .sizeInBytes(bytes)
+                    .elapsedMillis(millis)
+                    .build();
+        }
+    }
+
+    /**
+     * Mover los bits del usuario cuando se confirma una escritura de su hoja de vida
+     */
+    @Async(AsyncConfig.INDEX_REFRESH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumChanged(CurriculumChangedEvent event) {
+        if (state == null) {
+            return;
+        }
+        try {
+            refreshUsers(List.of(event.getUserId()));
+        } catch (Exception e) {
+            log.error("❌ Error actualizando facetas del usuario {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Después de una operación masiva se mueven los bits de los usuarios afectados por bloques
+     */
+    @Async(AsyncConfig.INDEX_REFRESH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumBulkChanged(CurriculumBulkChangedEvent event) {
+        if (state == null) {
+            return;
+        }
+        List<Integer> userIds = new ArrayList<>(event.getUserIds());
+        for (int from = 0; from < userIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = userIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, userIds.size()));
+            try {
+                refreshUsers(chunk);
+            } catch (Exception e) {
+                log.error("❌ Error actualizando facetas de {} usuarios: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Leer los valores de un grupo de usuarios (una consulta por fuente) y mover sus bits
+     */
+    private void refreshUsers(List<Integer> userIds) {
+        // La lectura va dentro del candado: una reconstrucción en curso no puede publicar
+        // después un estado leído antes de esta escritura
+        synchronized (rebuildLock) {
+            Map<Integer, UserValues> valuesByUser = new HashMap<>();
+            for (UsersRepository.FacetUserProjection user : usersRepository.findFacetRowsByUserIds(userIds)) {
+                UserValues values = new UserValues();
+                addUser(values, user);
+                valuesByUser.put(user.getUserId(), values);
+            }
+            if (!valuesByUser.isEmpty()) {
+                for (Object[] row : educationRepository.findTypeStatusRowsByUserIds(valuesByUser.keySet())) {
+                    addEducation(valuesByUser.get((Integer) row[0]), (EducationTypeEnum) row[1], (GraduateStatusEnum) row[2]);
+                }
+                for (Object[] row : trainingRepository.findHeldTrainingTypePairsByUserIds(valuesByUser.keySet(), LocalDate.now())) {
+                    addTrainingType(valuesByUser.get((Integer) row[0]), (String) row[1]);
+                }
+                for (WorkExperienceRepository.LocationFacetProjection row
+                        : workExperienceRepository.findLocationFacetRowsByUserIds(valuesByUser.keySet())) {
+                    addLocation(valuesByUser.get(row.getUserId()), row);
+                }
+            }
+
+            FacetState current = state;
+            current.lock.writeLock().lock();
+            try {
+                for (Integer userId : userIds) {
+                    current.remove(userId);
+                    UserValues values = valuesByUser.get(userId);
+                    if (values != null) {
+                        current.add(userId, values);
+                    }
+                }
+            } finally {
+                current.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static void addUser(UserValues values, UsersRepository.FacetUserProjection user) {
+        if (user.getRoleId() != null) {
+            values.put(UserFacetEnum.ROLE, String.valueOf(user.getRoleId()), user.getRoleName());
+        }
+        if (user.getChargeId() != null) {
+            values.put(UserFacetEnum.CHARGE, String.valueOf(user.getChargeId()), user.getChargeName());
+        }
+        boolean active = Boolean.TRUE.equals(user.getStatus());
+        values.put(UserFacetEnum.STATUS, active ? "TRUE" : "FALSE", active ? "Activo" : "Inactivo");
+        if (user.getCompletenessScore() != null) {
+            int score = user.getCompletenessScore();
+            if (score >= ProfileCompletenessService.COMPLETE_THRESHOLD) {
+                values.put(UserFacetEnum.COMPLETENESS_BAND, "COMPLETO",
+                        "Completo (" + ProfileCompletenessService.COMPLETE_THRESHOLD + "-100)");
+            } else if (score >= BAND_HIGH) {
+                values.put(UserFacetEnum.COMPLETENESS_BAND, "ALTO",
+                        "Alto (" + BAND_HIGH + "-" + (ProfileCompletenessService.COMPLETE_THRESHOLD - 1) + ")");
+            } else if (score >= BAND_MEDIUM) {
+                values.put(UserFacetEnum.COMPLETENESS_BAND, "MEDIO", "Medio (" + BAND_MEDIUM + "-" + (BAND_HIGH - 1) + ")");
+            } else {
+                values.put(UserFacetEnum.COMPLETENESS_BAND, "BAJO", "Bajo (0-" + (BAND_MEDIUM - 1) + ")");
+            }
+        }
+    }
+
+    private static void addEducation(UserValues values, EducationTypeEnum type, GraduateStatusEnum status) {
+        if (type != null) {
+            values.put(UserFacetEnum.EDUCATION_TYPE, type.name(), type.getValue());
+        }
+        if (status != null) {
+            values.put(UserFacetEnum.GRADUATE_STATUS, status.name(), status.getValue());
+        }
+    }
+
+    private static void addTrainingType(UserValues values, String type) {
+        if (type != null && !type.isBlank()) {
+            values.put(UserFacetEnum.TRAINING_TYPE, type.trim().toUpperCase(Locale.ROOT), type.trim());
+        }
+    }
+
+    private static void addLocation(UserValues values, WorkExperienceRepository.LocationFacetProjection row) {
+        if (row.getCountryId() != null) {
+            values.put(UserFacetEnum.EXPERIENCE_COUNTRY, String.valueOf(row.getCountryId()), row.getCountryName());
+        }
+        if (row.getMunicipalityId() != null) {
+            values.put(UserFacetEnum.EXPERIENCE_MUNICIPALITY, String.valueOf(row.getMunicipalityId()), row.getMunicipalityName());
+        }
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * Filtrar usuarios por facetas y contar cada valor de faceta
+     *
+     * Los conteos de una faceta filtrada se calculan sin su propio filtro (solo con el de las
+     * demás), para que el cliente pueda mostrar cuántos usuarios sumaría cada opción.
+     */
+    public UserFacetResultDTO query(UserFacetQueryDTO dto) {
+        FacetState current = ensureLoaded();
+        int pageSize = dto.getSize() == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(dto.getSize(), 1), MAX_PAGE_SIZE);
+        int facetLimit = dto.getFacetLimit() == null
+                ? DEFAULT_FACET_LIMIT
+                : Math.min(Math.max(dto.getFacetLimit(), 1), MAX_FACET_LIMIT);
+        int afterId = dto.getCursor() != null ? CursorCodec.decodeInts(dto.getCursor(), 1)[0] : Integer.MIN_VALUE;
+
+        Map<UserFacetEnum, Set<String>> selected = normalizeFilters(dto.getFilters());
+
+        long start = System.nanoTime();
+        long total;
+        Map<UserFacetEnum, List<UserFacetCountDTO>> facets = new EnumMap<>(UserFacetEnum.class);
+        List<Integer> pageIds = new ArrayList<>(pageSize + 1);
+
+        current.lock.readLock().lock();
+        try {
+            // O entre los valores elegidos de cada faceta
+            Map<UserFacetEnum, RoaringBitmap> facetFilters = new EnumMap<>(UserFacetEnum.class);
+            for (Map.Entry<UserFacetEnum, Set<String>> filter : selected.entrySet()) {
+                Map<String, RoaringBitmap> facetPostings = current.postings.get(filter.getKey());
+                RoaringBitmap[] chosen = filter.getValue().stream()
+                        .map(facetPostings::get)
+                        .filter(Objects::nonNull)
+                        .toArray(RoaringBitmap[]::new);
+                facetFilters.put(filter.getKey(), chosen.length == 0 ? new RoaringBitmap() : FastAggregation.or(chosen));
+            }
+
+            // Y entre facetas
+            RoaringBitmap result = intersect(current.all, facetFilters.values());
+            total = result.getLongCardinality();
+
+            for (UserFacetEnum facet : FACETS) {
+                RoaringBitmap base = facetFilters.containsKey(facet)
+                        ? intersect(current.all, without(facetFilters, facet))
+                        : result;
+                facets.put(facet, count(current, facet, base, selected.getOrDefault(facet, Set.of()), facetLimit));
+            }
+
+            PeekableIntIterator ids = result.getIntIterator();
+            if (afterId != Integer.MIN_VALUE) {
+                ids.advanceIfNeeded(afterId + 1);
+            }
+            while (ids.hasNext() && pageIds.size() <= pageSize) {
+                pageIds.add(ids.next());
+            }
+        } finally {
+            current.lock.readLock().unlock();
+        }
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+
+        boolean hasMore = pageIds.size() > pageSize;
+        if (hasMore) {
+            pageIds = pageIds.subList(0, pageSize);
+        }
+
+        return UserFacetResultDTO.builder()
+                .total(total)
+                .facets(facets)
+                .users(CursorPageDTO.<UserFacetUserDTO>builder()
+                        .items(loadUsers(pageIds))
+                        .nextCursor(hasMore ? CursorCodec.encode(pageIds.get(pageIds.size() - 1)) : null)
+                        .size(pageIds.size())
+                        .build())
+                .elapsedMicros(elapsedMicros)
+                .build();
+    }
+
+    private static Map<UserFacetEnum, Set<String>> normalizeFilters(Map<UserFacetEnum, List<String>> filters) {
+        Map<UserFacetEnum, Set<String>> selected = new EnumMap<>(UserFacetEnum.class);
+        if (filters == null) {
+            return selected;
+        }
+        for (Map.Entry<UserFacetEnum, List<String>> filter : filters.entrySet()) {
+            if (filter.getKey() == null || filter.getValue() == null || filter.getValue().isEmpty()) {
+                continue;
+            }
+            selected.put(filter.getKey(), filter.getValue().stream()
+                    .filter(Objects::nonNull)
+                    .map(key -> key.trim().toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+        }
+        return selected;
+    }
+
+    private static Collection<RoaringBitmap> without(Map<UserFacetEnum, RoaringBitmap> facetFilters, UserFacetEnum excluded) {
+        List<RoaringBitmap> others = new ArrayList<>(facetFilters.size());
+        for (Map.Entry<UserFacetEnum, RoaringBitmap> filter : facetFilters.entrySet()) {
+            if (filter.getKey() != excluded) {
+                others.add(filter.getValue());
+            }
+        }
+        return others;
+    }
+
+    private static RoaringBitmap intersect(RoaringBitmap all, Collection<RoaringBitmap> filters) {
+        if (filters.isEmpty()) {
+            return all;
+        }
+        RoaringBitmap[] bitmaps = filters.toArray(new RoaringBitmap[0]);
+        return bitmaps.length == 1 ? bitmaps[0] : FastAggregation.and(bitmaps);
+    }
+
+    /**
+     * Conteo de cada valor de una faceta dentro de base (los seleccionados siempre se incluyen)
+     */
+    private static List<UserFacetCountDTO> count(FacetState current, UserFacetEnum facet, RoaringBitmap base,
+                                                 Set<String> selectedKeys, int limit) {
+        Map<String, String> labels = current.labels.get(facet);
+        List<UserFacetCountDTO> counts = new ArrayList<>();
+        for (Map.Entry<String, RoaringBitmap> value : current.postings.get(facet).entrySet()) {
+            long count = RoaringBitmap.andCardinality(base, value.getValue());
+            boolean isSelected = selectedKeys.contains(value.getKey());
+            if (count > 0 || isSelected) {
+                counts.add(UserFacetCountDTO.builder()
+                        .key(value.getKey())
+                        .label(labels.get(value.getKey()))
+                        .count(count)
+                        .selected(isSelected)
+                        .build());
+            }
+        }
+        counts.sort(Comparator.comparing(UserFacetCountDTO::getCount).reversed()
+                .thenComparing(UserFacetCountDTO::getKey));
+
+        if (counts.size() <= limit) {
+            return counts;
+        }
+        List<UserFacetCountDTO> top = new ArrayList<>(counts.subList(0, limit));
+        for (UserFacetCountDTO count : counts.subList(limit, counts.size())) {
+            if (count.getSelected()) {
+                top.add(count);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Datos básicos de la página de usuarios, en el orden de los IDs
+     */
+    private List<UserFacetUserDTO> loadUsers(List<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, UsersRepository.UserSummaryProjection> summaries = usersRepository.findSummariesByUserIds(userIds)
+                .stream()
+                .collect(Collectors.toMap(UsersRepository.UserSummaryProjection::getUserId, Function.identity()));
+
+        List<UserFacetUserDTO> users = new ArrayList<>(userIds.size());
+        for (Integer userId : userIds) {
+            UsersRepository.UserSummaryProjection summary = summaries.get(userId);
+            if (summary != null) {
+                users.add(UserFacetUserDTO.builder()
+                        .userId(summary.getUserId())
+                        .firstName(summary.getFirstName())
+                        .lastName(summary.getLastName())
+                        .email(summary.getEmail())
+                        .build());
+            }
+        }
+        return users;
+    }
+
+    private FacetState ensureLoaded() {
+        if (state == null) {
+            rebuild();
+        }
+        return state;
+    }
+}
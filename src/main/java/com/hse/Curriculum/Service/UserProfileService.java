@@ -13,6 +13,8 @@ import com.hse.Curriculum.Models.Profiles;
 import com.hse.Curriculum.Models.Users;
 import com.hse.Curriculum.Repository.ProfilesRepository;
 import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,11 +25,14 @@ import java.util.Objects;
 public class UserProfileService {
     private final UsersRepository usersRepository;
     private final ProfilesRepository profilesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserProfileService(UsersRepository usersRepository,
-                              ProfilesRepository profilesRepository) {
+                              ProfilesRepository profilesRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.usersRepository = usersRepository;
         this.profilesRepository = profilesRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -105,6 +110,7 @@ public class UserProfileService {
         profile.setBirthDate(updateDTO.getBirthDate());
 
         Profiles updatedProfile = profilesRepository.save(profile);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.PROFILE, CurriculumChangedEvent.ChangeType.UPDATED));
         System.out.println("✅ Perfil actualizado");
 
         // 3. Mapear a tu ProfileResponseDTO existente
@@ -166,6 +172,7 @@ public class UserProfileService {
 
 
         Profiles savedProfile = profilesRepository.save(profile);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(savedUser.getUserId(), CurriculumChangedEvent.Section.PROFILE, CurriculumChangedEvent.ChangeType.CREATED));
         System.out.println("✅ Perfil creado con ID: " + savedProfile.getProfilesId());
 
         // 5. Construir respuesta
@@ -237,6 +244,7 @@ public class UserProfileService {
         }
 
         profilesRepository.save(profile);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.PROFILE, CurriculumChangedEvent.ChangeType.UPDATED));
 
         ProfileResponseDTO response = new ProfileResponseDTO();
         response.setUserId(user.getUserId());
@@ -10,6 +10,8 @@ import com.hse.Curriculum.Repository.ChargeRepository;
 import com.hse.Curriculum.Repository.UsersRepository;
 import com.hse.Curriculum.Repository.RolesRepository;
 import com.hse.Curriculum.Repository.ProfilesRepository;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import com.hse.Curriculum.Dto.UserDTO.UserSignUpDTO;
 import com.hse.Curriculum.Dto.UserDTO.Admin.UserCreateByAdminDTO;
 import com.hse.Curriculum.Dto.UserDTO.Admin.UserUpdateByAdminDTO;
@@ -35,6 +37,8 @@ public class UsersService {
     private final PasswordEncoder passwordEncoder;
     private final ChargeRepository chargeRepository;
     private final ProfilesRepository profilesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoleChargeCache roleChargeCache;
 
     /**
      * Registro inicial - Solo datos básicos
@@ -71,7 +75,10 @@ public class UsersService {
         user.setRole(userRole);
 
         // 5. Guardar en la base de datos
-        return usersRepository.save(user);
+        Users savedUser = usersRepository.save(user);
+        roleChargeCache.userAddedAfterCommit(userRole.getRoleId(), null);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(savedUser.getUserId(), CurriculumChangedEvent.Section.USER, CurriculumChangedEvent.ChangeType.CREATED));
+        return savedUser;
     }
 
     /**
@@ -197,6 +204,8 @@ public class UsersService {
 
         // 10. Asociar perfil al usuario
         savedUser.setProfile(savedProfile);
+        roleChargeCache.userAddedAfterCommit(role.getRoleId(), charge != null ? charge.getChargeId() : null);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(savedUser.getUserId(), CurriculumChangedEvent.Section.USER, CurriculumChangedEvent.ChangeType.CREATED));
 
         System.out.println("✅ Usuario creado con ID: " + savedUser.getUserId());
         System.out.println("✅ Perfil creado con ID: " + savedProfile.getProfilesId());
@@ -248,6 +257,10 @@ public class UsersService {
         }
 
 
+        // Rol y cargo antes del cambio (para ajustar los conteos de la caché)
+        Integer previousRoleId = user.getRole() != null ? user.getRole().getRoleId() : null;
+        Integer previousChargeId = user.getCharge() != null ? user.getCharge().getChargeId() : null;
+
         // Actualizar rol
         if (updateDTO.getRoleId() != null) {
             Roles role = rolesRepository.findById(updateDTO.getRoleId())
@@ -274,6 +287,11 @@ public class UsersService {
             }
         }
 
+        roleChargeCache.userMovedAfterCommit(
+                previousRoleId, user.getRole() != null ? user.getRole().getRoleId() : null,
+                previousChargeId, user.getCharge() != null ? user.getCharge().getChargeId() : null
+        );
+
         // Actualizar estado
         if (updateDTO.getStatus() != null) {
             user.setStatus(updateDTO.getStatus());
@@ -316,6 +334,7 @@ public class UsersService {
 
         profilesRepository.save(profile);
         Users updatedUser = usersRepository.save(user);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.USER, CurriculumChangedEvent.ChangeType.UPDATED));
 
         System.out.println("✅ Usuario actualizado exitosamente");
         System.out.println("✅ Perfil actualizado exitosamente");
@@ -351,6 +370,7 @@ public class UsersService {
 
         user.setStatus(true);
         usersRepository.save(user);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.USER, CurriculumChangedEvent.ChangeType.UPDATED));
 
         System.out.println("✅ Usuario habilitado exitosamente");
     }
@@ -367,6 +387,7 @@ public class UsersService {
 
         user.setStatus(false);
         usersRepository.save(user);
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.USER, CurriculumChangedEvent.ChangeType.UPDATED));
 
         System.out.println("✅ Usuario deshabilitado exitosamente");
     }
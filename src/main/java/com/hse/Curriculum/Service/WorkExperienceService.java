@@ -0,0 +1,457 @@
+package com.hse.Curriculum.Service;
+import com.hse.Curriculum.Converter.WorkExperience.ExperienceIntervals;
+import com.hse.Curriculum.Dto.CountryDTO.CountryResponseDTO;
+import com.hse.Curriculum.Dto.CursorPageDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Department.DepartmentResponseDTO;
+import com.hse.Curriculum.Dto.GeoDTO.Municipality.MunicipalityResponseDTO;
+import com.hse.Curriculum.Dto.WorkExperienceDTO.*;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Exception.WorkExperience.InvalidWorkExperienceDateException;
+import com.hse.Curriculum.Exception.WorkExperience.InvalidWorkExperienceLocationException;
+import com.hse.Curriculum.Exception.WorkExperience.WorkExperienceNotFoundException;
+import com.hse.Curriculum.Mapper.CursorCodec;
+import com.hse.Curriculum.Models.Users;
+import com.hse.Curriculum.Models.WorkExperience;
+import com.hse.Curriculum.Repository.CountryRepository;
+import com.hse.Curriculum.Repository.DepartmentRepository;
+import com.hse.Curriculum.Repository.MunicipalityRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Repository.WorkExperienceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Servicio de experiencia laboral
+ *
+ * Además del CRUD, mantiene en users.experience_days el total de días de experiencia de
+ * cada usuario con los periodos solapados fusionados (ver ExperienceIntervals). El total se
+ * recalcula dentro de la misma transacción de cada escritura, así que filtrar y ordenar
+ * usuarios por experiencia es un recorrido del índice idx_users_experience.
+ *
+ * Los trabajos actuales suman un día cada día: una tarea nocturna recalcula solo a los
+ * usuarios con periodos abiertos.
+ */
+@Slf4j
+@Service
+public class WorkExperienceService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final WorkExperienceRepository workExperienceRepository;
+    private final UsersRepository usersRepository;
+    private final CountryRepository countryRepository;
+    private final DepartmentRepository departmentRepository;
+    private final MunicipalityRepository municipalityRepository;
+    private final GeoCatalog geoCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public WorkExperienceService(WorkExperienceRepository workExperienceRepository,
+                                 UsersRepository usersRepository,
+                                 CountryRepository countryRepository,
+                                 DepartmentRepository departmentRepository,
+                                 MunicipalityRepository municipalityRepository,
+                                 GeoCatalog geoCatalog,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.experience.recalculation-chunk-size:1000}") int chunkSize) {
+        this.workExperienceRepository = workExperienceRepository;
+        this.usersRepository = usersRepository;
+        this.countryRepository = countryRepository;
+        this.departmentRepository = departmentRepository;
+        this.municipalityRepository = municipalityRepository;
+        this.geoCatalog = geoCatalog;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // ========== CRUD ==========
+
+    /**
+     * Crear una experiencia laboral
+     */
+    @Transactional
+    public WorkExperienceResponseDTO createWorkExperience(Integer userId, WorkExperienceCreateDTO dto) {
+        Users user = usersRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+
+        boolean currentlyWorking = Boolean.TRUE.equals(dto.getCurrentlyWorking());
+        validateDates(dto.getStartDate(), dto.getEndDate(), currentlyWorking);
+
+        WorkExperience workExperience = WorkExperience.builder()
+                .user(user)
+                .companyName(dto.getCompanyName().trim())
+                .jobTitle(dto.getJobTitle().trim())
+                .functions(dto.getFunctions())
+                .startDate(dto.getStartDate())
+                .endDate(dto.getEndDate())
+                .currentlyWorking(currentlyWorking)
+                .build();
+        applyLocation(workExperience, countryIdByCode(dto.getCountryCode()), dto.getDepartmentId(), dto.getMunicipalityId());
+
+        WorkExperience saved = workExperienceRepository.saveAndFlush(workExperience);
+        recalculateExperience(userId);
+
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.WORK_EXPERIENCE, CurriculumChangedEvent.ChangeType.CREATED));
+        return mapToResponseDTO(saved);
+    }
+
+    /**
+     * Experiencias laborales de un usuario (trabajos actuales primero)
+     */
+    @Transactional(readOnly = true)
+    public List<WorkExperienceResponseDTO> getWorkExperiencesByUserId(Integer userId) {
+        if (!usersRepository.existsById(userId)) {
+            throw new RuntimeException("Usuario no encontrado");
+        }
+        return workExperienceRepository.findByUserIdOrdered(userId).stream()
+                .map(this::mapToResponseDTO)
+                .toList();
+    }
+
+    /**
+     * Obtener una experiencia laboral
+     */
+    @Transactional(readOnly = true)
+    public WorkExperienceResponseDTO getWorkExperienceById(Integer workExperienceId, Integer userId, boolean canAccessOthers) {
+        return mapToResponseDTO(findForAccess(workExperienceId, userId, canAccessOthers));
+    }
+
+    /**
+     * Actualizar una experiencia laboral (PATCH, solo el propietario)
+     */
+    @Transactional
+    public WorkExperienceResponseDTO updateWorkExperience(Integer workExperienceId, Integer userId, WorkExperienceUpdateDTO dto) {
+        WorkExperience workExperience = workExperienceRepository.findByIdAndUserId(workExperienceId, userId)
+                .orElseThrow(() -> new WorkExperienceNotFoundException("Experiencia laboral no encontrada o no autorizada"));
+
+        // Fechas resultantes: marcar el trabajo como actual elimina la fecha de fin,
+        // y enviar una fecha de fin lo deja de marcar como actual
+        boolean currentlyWorking = dto.getCurrentlyWorking() != null
+                ? dto.getCurrentlyWorking()
+                : dto.getEndDate() == null && Boolean.TRUE.equals(workExperience.getCurrentlyWorking());
+        LocalDate startDate = dto.getStartDate() != null ? dto.getStartDate() : workExperience.getStartDate();
+        LocalDate endDate = currentlyWorking && dto.getEndDate() == null
+                ? null
+                : dto.getEndDate() != null ? dto.getEndDate() : workExperience.getEndDate();
+        validateDates(startDate, endDate, currentlyWorking);
+
+        if (dto.getCompanyName() != null) {
+            workExperience.setCompanyName(dto.getCompanyName().trim());
+        }
+        if (dto.getJobTitle() != null) {
+            workExperience.setJobTitle(dto.getJobTitle().trim());
+        }
+        if (dto.getFunctions() != null) {
+            workExperience.setFunctions(dto.getFunctions());
+        }
+        workExperience.setStartDate(startDate);
+        workExperience.setEndDate(endDate);
+        workExperience.setCurrentlyWorking(currentlyWorking);
+
+        if (dto.getCountryCode() != null || dto.getDepartmentId() != null || dto.getMunicipalityId() != null) {
+            Integer countryId = dto.getCountryCode() != null
+                    ? countryIdByCode(dto.getCountryCode())
+                    : workExperience.getCountry().getCountryId();
+            // Un departamento nuevo sin municipio deja el municipio vacío; un municipio nuevo define su departamento
+            Integer departmentId = dto.getDepartmentId() != null || dto.getMunicipalityId() != null
+                    ? dto.getDepartmentId()
+                    : workExperience.getDepartment() != null ? workExperience.getDepartment().getDepartmentId() : null;
+            Integer municipalityId = dto.getMunicipalityId() != null || dto.getDepartmentId() != null
+                    ? dto.getMunicipalityId()
+                    : workExperience.getMunicipality() != null ? workExperience.getMunicipality().getMunicipalityId() : null;
+            applyLocation(workExperience, countryId, departmentId, municipalityId);
+        }
+
+        WorkExperience updated = workExperienceRepository.saveAndFlush(workExperience);
+        recalculateExperience(userId);
+
+        eventPublisher.publishEvent(new CurriculumChangedEvent(userId, CurriculumChangedEvent.Section.WORK_EXPERIENCE, CurriculumChangedEvent.ChangeType.UPDATED));
+        return mapToResponseDTO(updated);
+    }
+
+    /**
+     * Eliminar una experiencia laboral (propietario o permiso CURRICULUM_EDIT_ALL)
+     */
+    @Transactional
+    public void deleteWorkExperience(Integer workExperienceId, Integer userId, boolean canAccessOthers) {
+        WorkExperience workExperience = findForAccess(workExperienceId, userId, canAccessOthers);
+        Integer ownerId = workExperience.getUser().getUserId();
+
+        workExperienceRepository.delete(workExperience);
+        workExperienceRepository.flush();
+        recalculateExperience(ownerId);
+
+        eventPublisher.publishEvent(new CurriculumChangedEvent(ownerId, CurriculumChangedEvent.Section.WORK_EXPERIENCE, CurriculumChangedEvent.ChangeType.DELETED));
+    }
+
+    // ========== TOTAL DE EXPERIENCIA ==========
+
+    /**
+     * Total de experiencia de un usuario (leído de la columna precalculada)
+     */
+    @Transactional(readOnly = true)
+    public ExperienceSummaryDTO getExperienceSummary(Integer userId) {
+        Users user = usersRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        int days = user.getExperienceDays() != null ? user.getExperienceDays() : 0;
+
+        return ExperienceSummaryDTO.builder()
+                .userId(userId)
+                .jobs(workExperienceRepository.countByUser_UserId(userId))
+                .experienceDays(days)
+                .experienceYears(ExperienceIntervals.toYears(days))
+                .build();
+    }
+
+    /**
+     * Usuarios activos ordenados por experiencia (mayor primero), con filtro opcional de años
+     * y paginación por cursor sobre (experienceDays, userId)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ExperienceRankingDTO> getExperienceRanking(Double minYears, Double maxYears,
+                                                                    String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int minDays = minYears != null ? ExperienceIntervals.toDays(minYears) : 0;
+        int maxDays = maxYears != null ? ExperienceIntervals.toDays(maxYears) : Integer.MAX_VALUE;
+
+        int afterDays = Integer.MAX_VALUE;
+        int afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            int[] key = CursorCodec.decodeInts(cursor, 2);
+            afterDays = key[0];
+            afterId = key[1];
+        }
+
+        List<UsersRepository.ExperienceRankingProjection> rows = usersRepository.findExperienceRanking(
+                minDays, maxDays, afterDays, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<UsersRepository.ExperienceRankingProjection> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<ExperienceRankingDTO> items = new ArrayList<>(page.size());
+        for (UsersRepository.ExperienceRankingProjection row : page) {
+            items.add(ExperienceRankingDTO.builder()
+                    .userId(row.getUserId())
+                    .firstName(row.getFirstName())
+                    .lastName(row.getLastName())
+                    .email(row.getEmail())
+                    .nameCharge(row.getNameCharge())
+                    .experienceDays(row.getExperienceDays())
+                    .experienceYears(ExperienceIntervals.toYears(row.getExperienceDays()))
+                    .build());
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            UsersRepository.ExperienceRankingProjection last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getExperienceDays(), last.getUserId());
+        }
+
+        return CursorPageDTO.<ExperienceRankingDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .size(items.size())
+                .build();
+    }
+
+    /**
+     * Recalcular el total de todos los usuarios con experiencia registrada (backfill)
+     */
+    public ExperienceRecalculationDTO recalculateAll() {
+        long start = System.nanoTime();
+        List<Integer> userIds = workExperienceRepository.findAllUserIds();
+        log.info("🔄 Recalculando experiencia laboral de {} usuarios en bloques de {}", userIds.size(), chunkSize);
+
+        int updated = recalculateInChunks(userIds, LocalDate.now());
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("✅ Recálculo de experiencia laboral terminado: {} usuarios en {} ms", updated, millis);
+        return ExperienceRecalculationDTO.builder()
+                .users(updated)
+                .elapsedMillis(millis)
+                .build();
+    }
+
+    /**
+     * Recalcular cada noche a los usuarios cuyo total cambia con la fecha
+     * (trabajos actuales o periodos que empezaron o terminaron desde ayer)
+     */
+    @Scheduled(cron = "${app.experience.refresh-cron:0 5 0 * * *}")
+    public void refreshOpenIntervals() {
+        LocalDate today = LocalDate.now();
+        try {
+            List<Integer> userIds = workExperienceRepository.findUserIdsWithOpenIntervals(today.minusDays(1));
+            int updated = recalculateInChunks(userIds, today);
+            log.info("✅ Experiencia laboral actualizada para {} usuarios con trabajos abiertos", updated);
+        } catch (Exception e) {
+            log.error("❌ Error actualizando la experiencia laboral de trabajos abiertos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recalcular y guardar el total de un usuario dentro de la transacción actual
+     * (las escrituras pendientes deben estar sincronizadas con flush)
+     *
+     * La fila del usuario se bloquea antes de leer sus periodos: una escritura concurrente
+     * espera al commit de esta y su lectura (READ COMMITTED) ya incluye los periodos confirmados
+     */
+    private void recalculateExperience(Integer userId) {
+        usersRepository.lockForExperienceUpdate(userId);
+        ExperienceIntervals intervals = new ExperienceIntervals();
+        LocalDate today = LocalDate.now();
+        for (WorkExperienceRepository.WorkforceExperienceProjection row : workExperienceRepository.findWorkforceRowsByUserId(userId)) {
+            intervals.add(row.getStartDate(), row.getEndDate(), row.getCurrentlyWorking(), today);
+        }
+        usersRepository.updateExperienceDays(userId, (int) intervals.totalDays());
+    }
+
+    /**
+     * Recalcular un grupo de usuarios por bloques, cada bloque en su propia transacción
+     * con una sola consulta de fechas
+     */
+    private int recalculateInChunks(List<Integer> userIds, LocalDate today) {
+        int updated = 0;
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<Integer> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            Integer result = chunkTransaction.execute(status -> {
+                usersRepository.lockForExperienceUpdate(chunk);
+                Map<Integer, ExperienceIntervals> byUser = new HashMap<>(chunk.size() * 2);
+                for (WorkExperienceRepository.WorkforceExperienceProjection row : workExperienceRepository.findWorkforceRowsByUserIds(chunk)) {
+                    byUser.computeIfAbsent(row.getUserId(), id -> new ExperienceIntervals())
+                            .add(row.getStartDate(), row.getEndDate(), row.getCurrentlyWorking(), today);
+                }
+                int count = 0;
+                for (Integer userId : chunk) {
+                    ExperienceIntervals intervals = byUser.get(userId);
+                    count += usersRepository.updateExperienceDays(userId, intervals != null ? (int) intervals.totalDays() : 0);
+                }
+                return count;
+            });
+            updated += result != null ? result : 0;
+        }
+        return updated;
+    }
+
+    // ========== HELPERS ==========
+
+    private WorkExperience findForAccess(Integer workExperienceId, Integer userId, boolean canAccessOthers) {
+        if (canAccessOthers) {
+            // Admin puede acceder a cualquier registro
+            return workExperienceRepository.findById(workExperienceId)
+                    .orElseThrow(() -> new WorkExperienceNotFoundException("Experiencia laboral no encontrada"));
+        }
+        // Usuario normal solo puede acceder a sus propios registros
+        return workExperienceRepository.findByIdAndUserId(workExperienceId, userId)
+                .orElseThrow(() -> new WorkExperienceNotFoundException("Experiencia laboral no encontrada o no autorizada"));
+    }
+
+    /**
+     * Validar fechas: inicio no futuro, fin no anterior al inicio ni futuro,
+     * y fecha de fin obligatoria salvo en el trabajo actual
+     */
+    private void validateDates(LocalDate startDate, LocalDate endDate, boolean currentlyWorking) {
+        LocalDate today = LocalDate.now();
+        if (startDate == null) {
+            throw new InvalidWorkExperienceDateException("La fecha de inicio es obligatoria");
+        }
+        if (startDate.isAfter(today)) {
+            throw new InvalidWorkExperienceDateException("La fecha de inicio no puede ser futura");
+        }
+        if (currentlyWorking) {
+            if (endDate != null) {
+                throw new InvalidWorkExperienceDateException("Un trabajo actual no puede tener fecha de fin");
+            }
+            return;
+        }
+        if (endDate == null) {
+            throw new InvalidWorkExperienceDateException("La fecha de fin es obligatoria si no es el trabajo actual");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidWorkExperienceDateException("La fecha de fin no puede ser anterior a la fecha de inicio");
+        }
+        if (endDate.isAfter(today)) {
+            throw new InvalidWorkExperienceDateException("La fecha de fin no puede ser futura");
+        }
+    }
+
+    private Integer countryIdByCode(Integer countryCode) {
+        return geoCatalog.findCountryByCode(countryCode)
+                .orElseThrow(() -> new InvalidWorkExperienceLocationException("País con código " + countryCode + " no encontrado"))
+                .getCountryId();
+    }
+
+    /**
+     * Validar la jerarquía país / departamento / municipio contra el catálogo en memoria
+     * y asignar las referencias sin consultar la base de datos
+     */
+    private void applyLocation(WorkExperience workExperience, Integer countryId, Integer departmentId, Integer municipalityId) {
+        if (municipalityId != null) {
+            MunicipalityResponseDTO municipality = geoCatalog.findMunicipalityById(municipalityId)
+                    .orElseThrow(() -> new InvalidWorkExperienceLocationException("Municipio con ID " + municipalityId + " no encontrado"));
+            if (departmentId == null) {
+                departmentId = municipality.getDepartmentId();
+            } else if (!departmentId.equals(municipality.getDepartmentId())) {
+                throw new InvalidWorkExperienceLocationException("El municipio " + municipalityId + " no pertenece al departamento " + departmentId);
+            }
+        }
+        if (departmentId != null) {
+            Integer id = departmentId;
+            DepartmentResponseDTO department = geoCatalog.findDepartmentById(id)
+                    .orElseThrow(() -> new InvalidWorkExperienceLocationException("Departamento con ID " + id + " no encontrado"));
+            if (!department.getCountryId().equals(countryId)) {
+                throw new InvalidWorkExperienceLocationException("El departamento " + id + " no pertenece al país indicado");
+            }
+        }
+
+        workExperience.setCountry(countryRepository.getReferenceById(countryId));
+        workExperience.setDepartment(departmentId != null ? departmentRepository.getReferenceById(departmentId) : null);
+        workExperience.setMunicipality(municipalityId != null ? municipalityRepository.getReferenceById(municipalityId) : null);
+    }
+
+    /**
+     * Mapear entidad a DTO de respuesta
+     * Los nombres se toman del catálogo en memoria para no inicializar las referencias perezosas
+     */
+    private WorkExperienceResponseDTO mapToResponseDTO(WorkExperience workExperience) {
+        CountryResponseDTO country = workExperience.getCountry() != null
+                ? geoCatalog.findCountryById(workExperience.getCountry().getCountryId()).orElse(null)
+                : null;
+        DepartmentResponseDTO department = workExperience.getDepartment() != null
+                ? geoCatalog.findDepartmentById(workExperience.getDepartment().getDepartmentId()).orElse(null)
+                : null;
+        MunicipalityResponseDTO municipality = workExperience.getMunicipality() != null
+                ? geoCatalog.findMunicipalityById(workExperience.getMunicipality().getMunicipalityId()).orElse(null)
+                : null;
+
+        return WorkExperienceResponseDTO.builder()
+                .workExperienceId(workExperience.getWorkExperienceId())
+                .userId(workExperience.getUser().getUserId())
+                .companyName(workExperience.getCompanyName())
+                .jobTitle(workExperience.getJobTitle())
+                .countryCode(country != null ? country.getCountryCode() : null)
+                .countryName(country != null ? country.getCountryName() : null)
+                .departmentId(department != null ? department.getDepartmentId() : null)
+                .departmentName(department != null ? department.getName() : null)
+                .municipalityId(municipality != null ? municipality.getMunicipalityId() : null)
+                .municipalityName(municipality != null ? municipality.getName() : null)
+                .functions(workExperience.getFunctions())
+                .startDate(workExperience.getStartDate())
+                .endDate(workExperience.getEndDate())
+                .currentlyWorking(workExperience.getCurrentlyWorking())
+                .build();
+    }
+}
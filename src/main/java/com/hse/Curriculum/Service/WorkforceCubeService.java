@@ -0,0 +1,460 @@
+package com.hse.Curriculum.Service;
+
+import com.hse.Curriculum.Dto.AnalyticsDTO.WorkforceCubeCellDTO;
+import com.hse.Curriculum.Dto.AnalyticsDTO.WorkforceCubeMemberDTO;
+import com.hse.Curriculum.Dto.AnalyticsDTO.WorkforceCubeQueryDTO;
+import com.hse.Curriculum.Dto.AnalyticsDTO.WorkforceCubeResultDTO;
+import com.hse.Curriculum.Enum.EducationTypeEnum;
+import com.hse.Curriculum.Enum.GraduateStatusEnum;
+import com.hse.Curriculum.Enum.WorkforceDimensionEnum;
+import com.hse.Curriculum.Event.CurriculumBulkChangedEvent;
+import com.hse.Curriculum.Event.CurriculumChangedEvent;
+import com.hse.Curriculum.Repository.EducationRepository;
+import com.hse.Curriculum.Repository.UsersRepository;
+import com.hse.Curriculum.Repository.WorkExperienceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cubo OLAP en memoria para cruces de personal (nivel educativo × cargo × rol × municipio × estado)
+ *
+ * Cada usuario se reduce a una celda: los valores de sus seis dimensiones codificados con un
+ * diccionario por dimensión y empaquetados en un long. El cubo guarda solo el conteo por celda,
+ * así que una consulta recorre las celdas ocupadas (no los usuarios), aplica los filtros sobre
+ * los códigos y suma por la máscara de las dimensiones agrupadas, sin consultar la base de datos.
+ *
+ * Se construye al iniciar con una consulta por fuente (usuarios, educación, experiencia) y se
+ * mantiene al día moviendo de celda a los usuarios afectados cuando se confirma una escritura
+ * (las operaciones masivas por bloques). Una
+ * reconstrucción nocturna recoge los cambios de nombre de cargos, roles y municipios.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkforceCubeService {
+
+    private static final WorkforceDimensionEnum[] DIMENSIONS = WorkforceDimensionEnum.values();
+
+    /**
+     * Bits reservados para el código de cada dimensión (en el orden del enum)
+     */
+    private static final int[] BITS = {3, 3, 16, 12, 16, 2};
+    private static final int[] SHIFTS = new int[DIMENSIONS.length];
+    private static final long[] MASKS = new long[DIMENSIONS.length];
+
+    static {
+        int shift = 0;
+        for (int d = 0; d < DIMENSIONS.length; d++) {
+            SHIFTS[d] = shift;
+            MASKS[d] = ((1L << BITS[d]) - 1) << shift;
+            shift += BITS[d];
+        }
+    }
+
+    /**
+     * Código 0 de cada dimensión: el usuario no tiene dato
+     */
+    private static final int NONE = 0;
+    private static final String NONE_KEY = "NONE";
+    private static final String NONE_LABEL = "Sin dato";
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    private final UsersRepository usersRepository;
+    private final EducationRepository educationRepository;
+    private final WorkExperienceRepository workExperienceRepository;
+
+    /**
+     * Estado actual del cubo (null hasta la primera construcción)
+     */
+    private volatile CubeState state;
+    private final Object rebuildLock = new Object();
+
+    /**
+     * Diccionario clave -> código de una dimensión, con el nombre para mostrar de cada código
+     */
+    private static final class Dictionary {
+        private final int capacity;
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<String> labels = new ArrayList<>();
+
+        private Dictionary(int bits) {
+            this.capacity = 1 << bits;
+            intern(NONE_KEY, NONE_LABEL);
+        }
+
+        /**
+         * Obtener el código de la clave (creándolo si no existe) y actualizar su nombre
+         */
+        private synchronized int intern(String key, String label) {
+            Integer code = codes.get(key);
+            if (code == null) {
+                if (keys.size() >= capacity) {
+                    log.warn("⚠️ Dimensión del cubo llena ({} valores); '{}' se cuenta como sin dato", capacity, key);
+                    return NONE;
+                }
+                code = keys.size();
+                codes.put(key, code);
+                keys.add(key);
+                labels.add(label);
+            } else if (label != null) {
+                labels.set(code, label);
+            }
+            return code;
+        }
+
+        private synchronized Integer codeOf(String key) {
+            return codes.get(key);
+        }
+
+        private synchronized WorkforceCubeMemberDTO member(WorkforceDimensionEnum dimension, int code) {
+            return WorkforceCubeMemberDTO.builder()
+                    .dimension(dimension)
+                    .key(keys.get(code))
+                    .label(labels.get(code))
+                    .build();
+        }
+
+        private synchronized List<WorkforceCubeMemberDTO> members(WorkforceDimensionEnum dimension) {
+            List<WorkforceCubeMemberDTO> result = new ArrayList<>(keys.size());
+            for (int code = 0; code < keys.size(); code++) {
+                result.add(WorkforceCubeMemberDTO.builder()
+                        .dimension(dimension)
+                        .key(keys.get(code))
+                        .label(labels.get(code))
+                        .build());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Diccionarios, conteo por celda y celda de cada usuario
+     */
+    private static final class CubeState {
+        private final Dictionary[] dictionaries = new Dictionary[DIMENSIONS.length];
+        private final Map<Long, Integer> cells = new ConcurrentHashMap<>();
+        private final Map<Integer, Long> userCells = new HashMap<>();
+
+        private CubeState() {
+            for (int d = 0; d < DIMENSIONS.length; d++) {
+                dictionaries[d] = new Dictionary(BITS[d]);
+            }
+            // Los valores de enums se registran primero para que sus códigos sean estables
+            for (EducationTypeEnum type : EducationTypeEnum.values()) {
+                dictionaries[WorkforceDimensionEnum.EDUCATION_TYPE.ordinal()].intern(type.name(), type.getValue());
+            }
+            for (GraduateStatusEnum status : GraduateStatusEnum.values()) {
+                dictionaries[WorkforceDimensionEnum.GRADUATE_STATUS.ordinal()].intern(status.name(), status.getValue());
+            }
+            dictionaries[WorkforceDimensionEnum.ACTIVE.ordinal()].intern("TRUE", "Activo");
+            dictionaries[WorkforceDimensionEnum.ACTIVE.ordinal()].intern("FALSE", "Inactivo");
+        }
+    }
+
+    /**
+     * Nivel educativo más alto de un usuario: tipo y mejor estado de graduación en ese tipo
+     */
+    private static final class EducationLevel {
+        private EducationTypeEnum type;
+        private GraduateStatusEnum status;
+
+        private void add(EducationTypeEnum newType, GraduateStatusEnum newStatus) {
+            if (newType == null) {
+                return;
+            }
+            if (type == null || newType.ordinal() > type.ordinal()) {
+                type = newType;
+                status = newStatus;
+            } else if (newType == type && newStatus != null
+                    && (status == null || newStatus.ordinal() > status.ordinal())) {
+                status = newStatus;
+            }
+        }
+    }
+
+    // ========== CONSTRUCCIÓN Y ACTUALIZACIÓN ==========
+
+    @PostConstruct
+    public void loadCube() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("⚠️ No fue posible construir el cubo de analítica al iniciar: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconstruir el cubo completo con una consulta por fuente de datos
+     */
+    @Scheduled(cron = "${app.analytics.cube-rebuild-cron:0 0 1 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+
+            Map<Integer, EducationLevel> educationByUser = new HashMap<>();
+            for (Object[] row : educationRepository.findAllTypeStatusRows()) {
+                educationByUser.computeIfAbsent((Integer) row[0], id -> new EducationLevel())
+                        .add((EducationTypeEnum) row[1], (GraduateStatusEnum) row[2]);
+            }
+
+            Map<Integer, WorkExperienceRepository.WorkforceExperienceProjection> jobByUser = new HashMap<>();
+            for (WorkExperienceRepository.WorkforceExperienceProjection row : workExperienceRepository.findWorkforceRows()) {
+                jobByUser.merge(row.getUserId(), row, WorkforceCubeService::mostRecent);
+            }
+
+            CubeState next = new CubeState();
+            for (UsersRepository.WorkforceUserProjection user : usersRepository.findWorkforceRows()) {
+                long cell = encode(next, user, educationByUser.get(user.getUserId()), jobByUser.get(user.getUserId()));
+                next.userCells.put(user.getUserId(), cell);
+                next.cells.merge(cell, 1, Integer::sum);
+            }
+
+            this.state = next;
+
+            log.info("✅ Cubo de analítica construido: {} usuarios en {} celdas en {} ms",
+                    next.userCells.size(), next.cells.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Mover al usuario de celda cuando se confirma una escritura que afecta sus dimensiones
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumChanged(CurriculumChangedEvent event) {
+        if (state == null || !affectsCube(event.getSection())) {
+            return;
+        }
+        try {
+            refreshUsers(List.of(event.getUserId()));
+        } catch (Exception e) {
+            log.error("❌ Error actualizando el cubo para el usuario {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Después de una operación masiva se mueven de celda los usuarios afectados por bloques
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurriculumBulkChanged(CurriculumBulkChangedEvent event) {
+        if (state == null || !affectsCube(event.getSection())) {
+            return;
+        }
+        List<Integer> userIds = new ArrayList<>(event.getUserIds());
+        for (int from = 0; from < userIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = userIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, userIds.size()));
+            try {
+                refreshUsers(chunk);
+            } catch (Exception e) {
+                log.error("❌ Error actualizando el cubo para {} usuarios: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean affectsCube(CurriculumChangedEvent.Section section) {
+        return section == CurriculumChangedEvent.Section.USER
+                || section == CurriculumChangedEvent.Section.EDUCATION
+                || section == CurriculumChangedEvent.Section.WORK_EXPERIENCE;
+    }
+
+    /**
+     * Leer las dimensiones de un grupo de usuarios (una consulta por fuente) y moverlos de celda
+     */
+    private void refreshUsers(List<Integer> userIds) {
+        // La lectura va dentro del candado: una reconstrucción en curso no puede publicar
+        // después un estado leído antes de esta escritura
+        synchronized (rebuildLock) {
+            Map<Integer, UsersRepository.WorkforceUserProjection> users = new HashMap<>();
+            for (UsersRepository.WorkforceUserProjection user : usersRepository.findWorkforceRowsByUserIds(userIds)) {
+                users.put(user.getUserId(), user);
+            }
+
+            Map<Integer, EducationLevel> educationByUser = new HashMap<>();
+            Map<Integer, WorkExperienceRepository.WorkforceExperienceProjection> jobByUser = new HashMap<>();
+            if (!users.isEmpty()) {
+                for (Object[] row : educationRepository.findTypeStatusRowsByUserIds(users.keySet())) {
+                    educationByUser.computeIfAbsent((Integer) row[0], id -> new EducationLevel())
+                            .add((EducationTypeEnum) row[1], (GraduateStatusEnum) row[2]);
+                }
+                for (WorkExperienceRepository.WorkforceExperienceProjection row : workExperienceRepository.findWorkforceRowsByUserIds(users.keySet())) {
+                    jobByUser.merge(row.getUserId(), row, WorkforceCubeService::mostRecent);
+                }
+            }
+
+            CubeState current = state;
+            for (Integer userId : userIds) {
+                Long previous = current.userCells.remove(userId);
+                if (previous != null) {
+                    current.cells.computeIfPresent(previous, (cell, count) -> count == 1 ? null : count - 1);
+                }
+                UsersRepository.WorkforceUserProjection user = users.get(userId);
+                if (user != null) {
+                    long cell = encode(current, user, educationByUser.get(userId), jobByUser.get(userId));
+                    current.userCells.put(userId, cell);
+                    current.cells.merge(cell, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Trabajo actual o, si no hay, el que terminó (o empezó) más recientemente
+     */
+    private static WorkExperienceRepository.WorkforceExperienceProjection mostRecent(
+            WorkExperienceRepository.WorkforceExperienceProjection a,
+            WorkExperienceRepository.WorkforceExperienceProjection b) {
+        return recency(b).isAfter(recency(a)) ? b : a;
+    }
+
+    private static LocalDate recency(WorkExperienceRepository.WorkforceExperienceProjection job) {
+        if (Boolean.TRUE.equals(job.getCurrentlyWorking())) {
+            return LocalDate.MAX;
+        }
+        if (job.getEndDate() != null) {
+            return job.getEndDate();
+        }
+        return job.getStartDate() != null ? job.getStartDate() : LocalDate.MIN;
+    }
+
+    private static long encode(CubeState cube,
+                               UsersRepository.WorkforceUserProjection user,
+                               EducationLevel education,
+                               WorkExperienceRepository.WorkforceExperienceProjection job) {
+        int[] codes = new int[DIMENSIONS.length];
+
+        if (education != null && education.type != null) {
+            codes[WorkforceDimensionEnum.EDUCATION_TYPE.ordinal()] =
+                    dictionary(cube, WorkforceDimensionEnum.EDUCATION_TYPE).intern(education.type.name(), null);
+            if (education.status != null) {
+                codes[WorkforceDimensionEnum.GRADUATE_STATUS.ordinal()] =
+                        dictionary(cube, WorkforceDimensionEnum.GRADUATE_STATUS).intern(education.status.name(), null);
+            }
+        }
+        if (user.getChargeId() != null) {
+            codes[WorkforceDimensionEnum.CHARGE.ordinal()] = dictionary(cube, WorkforceDimensionEnum.CHARGE)
+                    .intern(String.valueOf(user.getChargeId()), user.getChargeName());
+        }
+        if (user.getRoleId() != null) {
+            codes[WorkforceDimensionEnum.ROLE.ordinal()] = dictionary(cube, WorkforceDimensionEnum.ROLE)
+                    .intern(String.valueOf(user.getRoleId()), user.getRoleName());
+        }
+        if (job != null && job.getMunicipalityId() != null) {
+            codes[WorkforceDimensionEnum.MUNICIPALITY.ordinal()] = dictionary(cube, WorkforceDimensionEnum.MUNICIPALITY)
+                    .intern(String.valueOf(job.getMunicipalityId()), job.getMunicipalityName());
+        }
+        codes[WorkforceDimensionEnum.ACTIVE.ordinal()] = dictionary(cube, WorkforceDimensionEnum.ACTIVE)
+                .intern(Boolean.TRUE.equals(user.getStatus()) ? "TRUE" : "FALSE", null);
+
+        long cell = 0L;
+        for (int d = 0; d < DIMENSIONS.length; d++) {
+            cell |= (long) codes[d] << SHIFTS[d];
+        }
+        return cell;
+    }
+
+    private static Dictionary dictionary(CubeState cube, WorkforceDimensionEnum dimension) {
+        return cube.dictionaries[dimension.ordinal()];
+    }
+
+    private static int code(long cell, int dimension) {
+        return (int) ((cell & MASKS[dimension]) >>> SHIFTS[dimension]);
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * Agrupar y filtrar por cualquier combinación de dimensiones
+     */
+    public WorkforceCubeResultDTO query(WorkforceCubeQueryDTO dto) {
+        CubeState cube = ensureLoaded();
+        long start = System.nanoTime();
+
+        List<WorkforceDimensionEnum> groupBy = dto.getGroupBy() == null
+                ? List.of()
+                : dto.getGroupBy().stream().filter(Objects::nonNull).distinct().toList();
+
+        long groupMask = 0L;
+        for (WorkforceDimensionEnum dimension : groupBy) {
+            groupMask |= MASKS[dimension.ordinal()];
+        }
+
+        // Códigos permitidos por dimensión filtrada (null = sin filtro)
+        BitSet[] allowed = new BitSet[DIMENSIONS.length];
+        if (dto.getFilters() != null) {
+            for (Map.Entry<WorkforceDimensionEnum, List<String>> filter : dto.getFilters().entrySet()) {
+                if (filter.getKey() == null || filter.getValue() == null) {
+                    continue;
+                }
+                BitSet codes = new BitSet();
+                Dictionary dictionary = dictionary(cube, filter.getKey());
+                for (String key : filter.getValue()) {
+                    Integer code = key == null ? null : dictionary.codeOf(key.trim().toUpperCase());
+                    if (code != null) {
+                        codes.set(code);
+                    }
+                }
+                allowed[filter.getKey().ordinal()] = codes;
+            }
+        }
+
+        Map<Long, long[]> groups = new HashMap<>();
+        long total = 0;
+        for (Map.Entry<Long, Integer> entry : cube.cells.entrySet()) {
+            long cell = entry.getKey();
+            if (!matches(cell, allowed)) {
+                continue;
+            }
+            total += entry.getValue();
+            groups.computeIfAbsent(cell & groupMask, key -> new long[1])[0] += entry.getValue();
+        }
+
+        List<WorkforceCubeCellDTO> cells = new ArrayList<>(groups.size());
+        for (Map.Entry<Long, long[]> group : groups.entrySet()) {
+            List<WorkforceCubeMemberDTO> members = new ArrayList<>(groupBy.size());
+            for (WorkforceDimensionEnum dimension : groupBy) {
+                members.add(dictionary(cube, dimension).member(dimension, code(group.getKey(), dimension.ordinal())));
+            }
+            cells.add(WorkforceCubeCellDTO.builder().members(members).count(group.getValue()[0]).build());
+        }
+        cells.sort(Comparator.comparing(WorkforceCubeCellDTO::getCount).reversed());
+
+        return WorkforceCubeResultDTO.builder()
+                .groupBy(groupBy)
+                .total(total)
+                .cells(cells)
+                .elapsedMicros((System.nanoTime() - start) / 1_000)
+                .build();
+    }
+
+    /**
+     * Valores conocidos de una dimensión (claves para los filtros)
+     */
+    public List<WorkforceCubeMemberDTO> getMembers(WorkforceDimensionEnum dimension) {
+        return dictionary(ensureLoaded(), dimension).members(dimension);
+    }
+
+    private static boolean matches(long cell, BitSet[] allowed) {
+        for (int d = 0; d < allowed.length; d++) {
+            if (allowed[d] != null && !allowed[d].get(code(cell, d))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CubeState ensureLoaded() {
+        if (state == null) {
+            rebuild();
+        }
+        return state;
+    }
+}